@@ -16,8 +16,12 @@
 
 package com.io7m.jspiel.api;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * A builder for RIFF chunks.
@@ -116,4 +120,84 @@ public interface RiffChunkBuilderType extends AutoCloseable
   RiffChunkBuilderType addSubChunk(
     RiffChunkID id)
     throws IllegalStateException;
+
+  /**
+   * Add a copy of a parsed chunk as a subchunk. The copy has the same ID and form as the parsed
+   * chunk. If the parsed chunk has a form, its subchunks are copied recursively. Otherwise, the
+   * data of the copy is produced by the writer returned by {@code data}, and is expected to be
+   * the same size as the data of the parsed chunk. Typically, {@code data} returns writers
+   * created with {@link RiffChunkDataCopiersType#createForChunk(java.nio.channels.FileChannel,
+   * RiffChunkType)}.
+   *
+   * @param chunk   The parsed chunk
+   * @param include A predicate that selects the chunks (at any depth) that will be copied
+   * @param data    A function that returns writers for the data of chunks without forms
+   *
+   * @return The current builder
+   *
+   * @throws IllegalStateException If {@link #setDataWriter(RiffChunkDataWriterType)} has already
+   *                               been called for this chunk
+   */
+
+  default RiffChunkBuilderType addSubChunkFrom(
+    final RiffChunkType chunk,
+    final Predicate<RiffChunkType> include,
+    final Function<RiffChunkType, RiffChunkDataWriterType> data)
+    throws IllegalStateException
+  {
+    if (!include.test(chunk)) {
+      return this;
+    }
+
+    try (var builder = this.addSubChunk(chunk.name())) {
+      final var form = chunk.formType();
+      if (form.isPresent()) {
+        if (chunk.subChunks().stream().anyMatch(include)) {
+          builder.setForm(form);
+          builder.addSubChunksFrom(chunk, include, data);
+        } else {
+          final var form_bytes = form.get().getBytes(StandardCharsets.US_ASCII);
+          builder.setSize((long) form_bytes.length);
+          builder.setDataWriter(channel -> channel.write(ByteBuffer.wrap(form_bytes)));
+        }
+        return this;
+      }
+
+      final var size = chunk.dataSizeExcludingForm().sizeUnpadded();
+      if (size > 0L) {
+        builder.setSize(size);
+        builder.setDataWriter(data.apply(chunk));
+      } else {
+        builder.setDataWriter(channel -> {
+        });
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Add copies of the subchunks of a parsed chunk as subchunks of this chunk.
+   *
+   * @param chunk   The parsed chunk
+   * @param include A predicate that selects the chunks (at any depth) that will be copied
+   * @param data    A function that returns writers for the data of chunks without forms
+   *
+   * @return The current builder
+   *
+   * @throws IllegalStateException If {@link #setDataWriter(RiffChunkDataWriterType)} has already
+   *                               been called for this chunk
+   * @see #addSubChunkFrom(RiffChunkType, Predicate, Function)
+   */
+
+  default RiffChunkBuilderType addSubChunksFrom(
+    final RiffChunkType chunk,
+    final Predicate<RiffChunkType> include,
+    final Function<RiffChunkType, RiffChunkDataWriterType> data)
+    throws IllegalStateException
+  {
+    for (final var subchunk : chunk.subChunks()) {
+      this.addSubChunkFrom(subchunk, include, data);
+    }
+    return this;
+  }
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.api;
+
+import java.nio.channels.FileChannel;
+
+/**
+ * A provider of data writers that copy data from existing files. The data is transferred
+ * between channels with {@link FileChannel#transferTo(long, long,
+ * java.nio.channels.WritableByteChannel)} and so, when the output of the writer is also a file,
+ * the data is typically copied by the operating system without passing through the Java heap.
+ * The data is copied verbatim: No attempt is made to change the byte order of the contents of
+ * chunks.
+ */
+
+public interface RiffChunkDataCopiersType
+{
+  /**
+   * Create a data writer that copies a range of the given channel.
+   *
+   * @param source The source channel
+   * @param offset The offset of the start of the range
+   * @param size   The size of the range
+   *
+   * @return A data writer
+   */
+
+  RiffChunkDataWriterType createForRange(
+    FileChannel source,
+    long offset,
+    long size);
+
+  /**
+   * Create a data writer that copies the data of the given chunk, excluding any form.
+   *
+   * @param source The channel of the file from which the chunk was parsed
+   * @param chunk  The chunk
+   *
+   * @return A data writer
+   */
+
+  default RiffChunkDataWriterType createForChunk(
+    final FileChannel source,
+    final RiffChunkType chunk)
+  {
+    return this.createForRange(
+      source,
+      chunk.dataOffsetAfterForm(),
+      chunk.dataSizeExcludingForm().sizeUnpadded());
+  }
+}
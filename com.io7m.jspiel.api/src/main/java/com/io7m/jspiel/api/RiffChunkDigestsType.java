@@ -0,0 +1,117 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.api;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * <p>A provider of digests of chunk data.</p>
+ *
+ * <p>The digest of a chunk covers the data of the chunk, excluding the chunk header, any form
+ * type, and any padding octet. Digests of several chunks of a file are computed with one pass over
+ * each chunk, so that, for example, the audio data and the metadata of a file can be digested
+ * separately without reading the file twice.</p>
+ */
+
+public interface RiffChunkDigestsType
+{
+  /**
+   * Digest the given chunks, reading the data from a channel in large blocks. If an executor
+   * other than one that runs tasks on the calling thread is supplied, the chunks are digested
+   * in parallel.
+   *
+   * @param source    The channel of the file from which the chunks were parsed
+   * @param chunks    The chunks
+   * @param algorithm The digest algorithm
+   * @param executor  The executor used to digest chunks
+   *
+   * @return The digest of each chunk, in the order in which the chunks were given
+   *
+   * @throws IOException On I/O errors
+   */
+
+  Map<RiffChunkType, RiffChunkDigest> digestChannel(
+    FileChannel source,
+    List<RiffChunkType> chunks,
+    RiffDigestAlgorithm algorithm,
+    Executor executor)
+    throws IOException;
+
+  /**
+   * Digest the given chunks, reading the data from a byte buffer such as a memory mapping of the
+   * file. If an executor other than one that runs tasks on the calling thread is supplied, the
+   * chunks are digested in parallel.
+   *
+   * @param source    The buffer from which the chunks were parsed
+   * @param chunks    The chunks
+   * @param algorithm The digest algorithm
+   * @param executor  The executor used to digest chunks
+   *
+   * @return The digest of each chunk, in the order in which the chunks were given
+   */
+
+  Map<RiffChunkType, RiffChunkDigest> digestBuffer(
+    ByteBuffer source,
+    List<RiffChunkType> chunks,
+    RiffDigestAlgorithm algorithm,
+    Executor executor);
+
+  /**
+   * Digest the given chunks on the calling thread, reading the data from a channel.
+   *
+   * @param source    The channel of the file from which the chunks were parsed
+   * @param chunks    The chunks
+   * @param algorithm The digest algorithm
+   *
+   * @return The digest of each chunk, in the order in which the chunks were given
+   *
+   * @throws IOException On I/O errors
+   */
+
+  default Map<RiffChunkType, RiffChunkDigest> digestChannel(
+    final FileChannel source,
+    final List<RiffChunkType> chunks,
+    final RiffDigestAlgorithm algorithm)
+    throws IOException
+  {
+    return this.digestChannel(source, chunks, algorithm, Runnable::run);
+  }
+
+  /**
+   * Digest the given chunks on the calling thread, reading the data from a byte buffer.
+   *
+   * @param source    The buffer from which the chunks were parsed
+   * @param chunks    The chunks
+   * @param algorithm The digest algorithm
+   *
+   * @return The digest of each chunk, in the order in which the chunks were given
+   */
+
+  default Map<RiffChunkType, RiffChunkDigest> digestBuffer(
+    final ByteBuffer source,
+    final List<RiffChunkType> chunks,
+    final RiffDigestAlgorithm algorithm)
+  {
+    return this.digestBuffer(source, chunks, algorithm, Runnable::run);
+  }
+}
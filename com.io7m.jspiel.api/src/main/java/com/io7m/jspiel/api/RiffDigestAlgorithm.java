@@ -0,0 +1,43 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.api;
+
+/**
+ * The algorithms with which chunk data may be digested.
+ */
+
+public enum RiffDigestAlgorithm
+{
+  /**
+   * The CRC-32C (Castagnoli) checksum. Digests are 4 octets.
+   */
+
+  CRC32C,
+
+  /**
+   * The xxHash64 hash with a seed of {@code 0}. Digests are 8 octets.
+   */
+
+  XXHASH64,
+
+  /**
+   * The SHA-256 cryptographic hash. Digests are 32 octets.
+   */
+
+  SHA256
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.api;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+import java.util.List;
+
+/**
+ * A plan that describes how an edited file is produced from an original file. Unchanged spans
+ * of the original file are copied, new data is written, and the sizes of the chunks that
+ * enclose edited chunks are patched.
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface RiffEditPlanType
+{
+  /**
+   * @return The size of the original file
+   */
+
+  long sizeBefore();
+
+  /**
+   * @return The size of the edited file
+   */
+
+  long sizeAfter();
+
+  /**
+   * @return The steps of the plan, in the order in which they are applied
+   */
+
+  List<RiffEditStep> steps();
+
+  /**
+   * @return The number of unchanged octets that are copied to a different offset
+   */
+
+  default long octetsMoved()
+  {
+    return this.steps()
+      .stream()
+      .filter(RiffEditStepType::isMove)
+      .mapToLong(RiffEditStepType::size)
+      .sum();
+  }
+
+  /**
+   * @return The number of unchanged octets that are copied to their original offset
+   */
+
+  default long octetsUnmoved()
+  {
+    return this.steps()
+      .stream()
+      .filter(step -> step.kind() == RiffEditStepKind.COPY && !step.isMove())
+      .mapToLong(RiffEditStepType::size)
+      .sum();
+  }
+
+  /**
+   * @return The number of new octets written, including patched size fields
+   */
+
+  default long octetsWritten()
+  {
+    return this.steps()
+      .stream()
+      .filter(step -> step.kind() != RiffEditStepKind.COPY)
+      .mapToLong(RiffEditStepType::size)
+      .sum();
+  }
+}
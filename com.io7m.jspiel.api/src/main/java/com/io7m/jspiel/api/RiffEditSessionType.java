@@ -0,0 +1,148 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.api;
+
+/**
+ * An edit session over an existing file. Edits are accumulated and do not touch the file until
+ * {@link #commit()} is called. The chunks passed to the methods of this interface must be chunks
+ * of the parsed file over which the session was created.
+ */
+
+public interface RiffEditSessionType
+{
+  /**
+   * Delete a chunk.
+   *
+   * @param chunk The chunk
+   *
+   * @return The current session
+   */
+
+  RiffEditSessionType delete(RiffChunkType chunk);
+
+  /**
+   * Replace the data of a chunk. The chunk retains its ID. If the chunk has a form, the new
+   * data replaces the form and the subchunks.
+   *
+   * @param chunk  The chunk
+   * @param size   The size of the new data
+   * @param writer A writer that produces the new data
+   *
+   * @return The current session
+   */
+
+  RiffEditSessionType replace(
+    RiffChunkType chunk,
+    long size,
+    RiffChunkDataWriterType writer);
+
+  /**
+   * Change the size of the data of a chunk that has no form. The data is truncated, or extended
+   * with zero octets.
+   *
+   * @param chunk The chunk
+   * @param size  The new size of the data
+   *
+   * @return The current session
+   */
+
+  RiffEditSessionType resize(
+    RiffChunkType chunk,
+    long size);
+
+  /**
+   * Insert a new chunk directly before an existing chunk.
+   *
+   * @param chunk  The existing chunk
+   * @param id     The ID of the new chunk
+   * @param size   The size of the data of the new chunk
+   * @param writer A writer that produces the data of the new chunk
+   *
+   * @return The current session
+   */
+
+  RiffEditSessionType insertBefore(
+    RiffChunkType chunk,
+    RiffChunkID id,
+    long size,
+    RiffChunkDataWriterType writer);
+
+  /**
+   * Insert a new chunk directly after an existing chunk.
+   *
+   * @param chunk  The existing chunk
+   * @param id     The ID of the new chunk
+   * @param size   The size of the data of the new chunk
+   * @param writer A writer that produces the data of the new chunk
+   *
+   * @return The current session
+   */
+
+  RiffEditSessionType insertAfter(
+    RiffChunkType chunk,
+    RiffChunkID id,
+    long size,
+    RiffChunkDataWriterType writer);
+
+  /**
+   * Append a new chunk to the end of the subchunks of an existing chunk that has a form.
+   *
+   * @param parent The existing chunk
+   * @param id     The ID of the new chunk
+   * @param size   The size of the data of the new chunk
+   * @param writer A writer that produces the data of the new chunk
+   *
+   * @return The current session
+   */
+
+  RiffEditSessionType append(
+    RiffChunkType parent,
+    RiffChunkID id,
+    long size,
+    RiffChunkDataWriterType writer);
+
+  /**
+   * Compute the plan for the current edits without modifying the file.
+   *
+   * @return The plan
+   *
+   * @throws RiffWriteException On errors
+   */
+
+  RiffEditPlan plan()
+    throws RiffWriteException;
+
+  /**
+   * Apply the current edits. The edited file is written to a temporary file in the same
+   * directory as the original file, and then atomically renamed over the original file. The
+   * whole file is written, including any octets that precede the first edit, and the
+   * permissions and access control lists of the original file are carried over to the new file.
+   * The owner and group of the original file are carried over where the file system allows it:
+   * a user that can write to a file owned by someone else cannot usually give the new file that
+   * owner, and in that case the new file is owned by the user. The parsed file over which the
+   * session was created does not describe the edited file, and so the session cannot be used
+   * after this method returns.
+   *
+   * @return The plan that was applied
+   *
+   * @throws RiffWriteException On errors
+   */
+
+  RiffEditPlan commit()
+    throws RiffWriteException;
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.api;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+import java.util.OptionalLong;
+
+/**
+ * A single step in an edit plan.
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface RiffEditStepType
+{
+  /**
+   * @return The kind of step
+   */
+
+  @Value.Parameter
+  RiffEditStepKind kind();
+
+  /**
+   * @return The offset in the original file from which octets are copied, for {@link
+   * RiffEditStepKind#COPY} steps
+   */
+
+  @Value.Parameter
+  OptionalLong sourceOffset();
+
+  /**
+   * @return The offset in the edited file at which octets are written
+   */
+
+  @Value.Parameter
+  long targetOffset();
+
+  /**
+   * @return The number of octets written by this step
+   */
+
+  @Value.Parameter
+  long size();
+
+  /**
+   * @return {@code true} if this step copies octets to an offset that differs from their
+   * offset in the original file
+   */
+
+  default boolean isMove()
+  {
+    final var source = this.sourceOffset();
+    return source.isPresent() && source.getAsLong() != this.targetOffset();
+  }
+}
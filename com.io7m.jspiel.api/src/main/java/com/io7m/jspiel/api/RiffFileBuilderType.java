@@ -16,7 +16,11 @@
 
 package com.io7m.jspiel.api;
 
+import com.io7m.jaffirm.core.Preconditions;
+
 import java.nio.ByteOrder;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * A builder for RIFF files.
@@ -47,6 +51,33 @@ public interface RiffFileBuilderType
     RiffChunkID id,
     String form);
 
+  /**
+   * Set the root chunk for the file to a copy of a parsed chunk. The root chunk has the same ID,
+   * form, and (selected) subchunks as the parsed chunk. The returned builder is not closed, so
+   * further subchunks can be added to it.
+   *
+   * @param root    The parsed root chunk
+   * @param include A predicate that selects the subchunks (at any depth) that will be copied
+   * @param data    A function that returns writers for the data of chunks without forms
+   *
+   * @return A builder for the root chunk
+   *
+   * @see RiffChunkBuilderType#addSubChunkFrom(RiffChunkType, Predicate, Function)
+   */
+
+  default RiffChunkBuilderType setRootChunkFrom(
+    final RiffChunkType root,
+    final Predicate<RiffChunkType> include,
+    final Function<RiffChunkType, RiffChunkDataWriterType> data)
+  {
+    Preconditions.checkPrecondition(
+      root.formType().isPresent(), "Root chunk must have a form");
+
+    final var builder = this.setRootChunk(root.name(), root.formType().get());
+    builder.addSubChunksFrom(root, include, data);
+    return builder;
+  }
+
   /**
    * Build a file description using all of the information provided so far.
    *
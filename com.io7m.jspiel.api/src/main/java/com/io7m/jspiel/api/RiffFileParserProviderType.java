@@ -16,8 +16,10 @@
 
 package com.io7m.jspiel.api;
 
+import java.io.IOException;
 import java.net.URI;
 import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
 
 /**
  * The type of parser providers.
@@ -37,4 +39,47 @@ public interface RiffFileParserProviderType
   RiffFileParserType createForByteBuffer(
     URI source,
     ByteBuffer data);
+
+  /**
+   * Create a parser from the data in the given channel. Parsing begins at the current position
+   * of the channel. Implementations should read only the chunk headers from the channel, so
+   * that files larger than the largest possible byte buffer can be parsed.
+   *
+   * The default implementation reads the entire channel into memory and then behaves as
+   * {@link #createForByteBuffer(URI, ByteBuffer)}, and so fails for channels larger than
+   * {@code 2^31 - 1} octets.
+   *
+   * @param source  The URI of the source
+   * @param channel The input channel
+   *
+   * @return A new parser
+   */
+
+  default RiffFileParserType createForChannel(
+    final URI source,
+    final SeekableByteChannel channel)
+  {
+    return () -> {
+      final long size;
+      final ByteBuffer data;
+      try {
+        size = channel.size() - channel.position();
+        if (size > (long) Integer.MAX_VALUE) {
+          throw new RiffParseException(
+            "File is too large to be read into memory by this parser provider.",
+            source,
+            channel.position());
+        }
+        data = ByteBuffer.allocate((int) size);
+        while (data.hasRemaining()) {
+          if (channel.read(data) < 0) {
+            break;
+          }
+        }
+      } catch (final IOException e) {
+        throw new RiffParseException(e, source, 0L);
+      }
+      return this.createForByteBuffer(source, data.flip()).parse();
+    };
+  }
 }
@@ -32,4 +32,22 @@ public interface RiffFileParserType
 
   RiffFileType parse()
     throws RiffParseException;
+
+  /**
+   * Open a reader that parses the top-level chunks one at a time. The byte order of the file
+   * is determined from the first chunk when the reader is opened.
+   *
+   * The default implementation parses the entire file with {@link #parse()} and then yields
+   * the resulting chunks; implementations should override it to parse incrementally.
+   *
+   * @return A reader of top-level chunks
+   *
+   * @throws RiffParseException On parse errors
+   */
+
+  default RiffTopLevelChunkReaderType openReader()
+    throws RiffParseException
+  {
+    return new RiffParsedChunkReader(this.parse());
+  }
 }
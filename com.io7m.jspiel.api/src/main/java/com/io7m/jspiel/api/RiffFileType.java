@@ -18,6 +18,7 @@ package com.io7m.jspiel.api;
 
 import java.nio.ByteOrder;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 /**
@@ -38,6 +39,15 @@ public interface RiffFileType
 
   ByteOrder byteOrder();
 
+  /**
+   * @return The data, if any, that follows the last top-level chunk
+   */
+
+  default Optional<RiffTrailingData> trailingData()
+  {
+    return Optional.empty();
+  }
+
   /**
    * @return The list of chunks in (depth-first) order
    */
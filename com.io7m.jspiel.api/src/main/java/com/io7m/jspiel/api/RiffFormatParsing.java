@@ -0,0 +1,138 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.api;
+
+import java.net.URI;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Functions shared by parsers of specific RIFF-based formats.
+ */
+
+public final class RiffFormatParsing
+{
+  private RiffFormatParsing()
+  {
+
+  }
+
+  /**
+   * Find the first top-level chunk with the given form.
+   *
+   * @param source      The source of the file, for error messages
+   * @param file        The parsed file
+   * @param form        The required form
+   * @param description A description of the format, such as "a WAVE file"
+   *
+   * @return The root chunk
+   *
+   * @throws RiffParseException If no top-level chunk has the given form
+   */
+
+  public static RiffChunkType findRootWithForm(
+    final URI source,
+    final RiffFileType file,
+    final String form,
+    final String description)
+    throws RiffParseException
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(file, "file");
+    Objects.requireNonNull(form, "form");
+    Objects.requireNonNull(description, "description");
+
+    for (final var chunk : file.chunks()) {
+      if (Objects.equals(chunk.formType(), Optional.of(form))) {
+        return chunk;
+      }
+    }
+
+    final var separator = System.lineSeparator();
+    throw new RiffParseException(
+      new StringBuilder(128)
+        .append("File is not ")
+        .append(description)
+        .append('.')
+        .append(separator)
+        .append("  Expected: A root chunk with form ")
+        .append(form)
+        .append(separator)
+        .append("  Received: ")
+        .append(file.chunks()
+                  .stream()
+                  .map(c -> c.name().value() + c.formType().map(f -> "(" + f + ")").orElse(""))
+                  .toList())
+        .append(separator)
+        .toString(),
+      source,
+      0L);
+  }
+
+  /**
+   * Find a required direct subchunk of the given chunk.
+   *
+   * @param source The source of the file, for error messages
+   * @param parent The parent chunk
+   * @param name   The name of the required chunk
+   *
+   * @return The chunk
+   *
+   * @throws RiffParseException If no such chunk exists
+   */
+
+  public static RiffChunkType requireSubChunk(
+    final URI source,
+    final RiffChunkType parent,
+    final String name)
+    throws RiffParseException
+  {
+    try {
+      return parent.findRequiredSubChunk(name);
+    } catch (final RiffRequiredChunkMissingException e) {
+      throw new RiffParseException(e.getMessage(), e, source, parent.offset());
+    }
+  }
+
+  /**
+   * Find a required direct subchunk of the given chunk that has the given form.
+   *
+   * @param source The source of the file, for error messages
+   * @param parent The parent chunk
+   * @param name   The name of the required chunk
+   * @param form   The form of the required chunk
+   *
+   * @return The chunk
+   *
+   * @throws RiffParseException If no such chunk exists
+   */
+
+  public static RiffChunkType requireSubChunkWithForm(
+    final URI source,
+    final RiffChunkType parent,
+    final String name,
+    final String form)
+    throws RiffParseException
+  {
+    try {
+      return parent.findRequiredSubChunkWithForm(name, form);
+    } catch (final RiffRequiredChunkMissingException e) {
+      throw new RiffParseException(e.getMessage(), e, source, parent.offset());
+    }
+  }
+}
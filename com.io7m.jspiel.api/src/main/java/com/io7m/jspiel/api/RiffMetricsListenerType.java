@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.api;
+
+/**
+ * <p>A receiver of metrics from parsers and writers.</p>
+ *
+ * <p>Parsers and writers consult {@link #isEnabled()} once per operation, and do not collect
+ * metrics at all if the listener is disabled.</p>
+ */
+
+public interface RiffMetricsListenerType
+{
+  /**
+   * @return {@code true} if metrics should be collected and delivered to this listener
+   */
+
+  default boolean isEnabled()
+  {
+    return true;
+  }
+
+  /**
+   * Called when a parser has parsed all of the chunks in a file. Parsers that fail with an
+   * exception do not call this method.
+   *
+   * @param metrics The metrics
+   */
+
+  default void onParseCompleted(
+    final RiffParseMetrics metrics)
+  {
+
+  }
+
+  /**
+   * Called when a writer has written a file. Writers that fail with an exception do not call
+   * this method.
+   *
+   * @param metrics The metrics
+   */
+
+  default void onWriteCompleted(
+    final RiffWriteMetrics metrics)
+  {
+
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.api;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * Metrics collected whilst parsing a file.
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface RiffParseMetricsType
+{
+  /**
+   * @return The source of the parsed data
+   */
+
+  URI source();
+
+  /**
+   * @return The number of chunks parsed, at any depth
+   */
+
+  long chunks();
+
+  /**
+   * @return The number of octets occupied by the parsed top-level chunks
+   */
+
+  long octetsScanned();
+
+  /**
+   * @return The greatest depth at which a chunk was parsed (top-level chunks are at depth 0)
+   */
+
+  int maximumDepth();
+
+  /**
+   * @return The time spent identifying the file and reading any {@code ds64} chunk
+   */
+
+  Duration headerTime();
+
+  /**
+   * @return The time spent parsing chunks
+   */
+
+  Duration chunkTime();
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.api;
+
+import java.nio.ByteOrder;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A top-level chunk reader over an already parsed file.
+ */
+
+final class RiffParsedChunkReader implements RiffTopLevelChunkReaderType
+{
+  private final RiffFileType file;
+  private int index;
+
+  RiffParsedChunkReader(
+    final RiffFileType in_file)
+  {
+    this.file = Objects.requireNonNull(in_file, "file");
+  }
+
+  @Override
+  public ByteOrder byteOrder()
+  {
+    return this.file.byteOrder();
+  }
+
+  @Override
+  public Optional<RiffChunkType> next()
+  {
+    final var chunks = this.file.chunks();
+    if (this.index >= chunks.size()) {
+      return Optional.empty();
+    }
+    final var chunk = chunks.get(this.index);
+    ++this.index;
+    return Optional.of(chunk);
+  }
+
+  @Override
+  public Optional<RiffTrailingData> trailingData()
+  {
+    return this.file.trailingData();
+  }
+}
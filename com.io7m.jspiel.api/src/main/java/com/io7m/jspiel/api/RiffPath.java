@@ -0,0 +1,364 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.regex.Pattern;
+
+/**
+ * <p>A compiled chunk path query.</p>
+ *
+ * <p>A path consists of steps separated by {@code /} or {@code //}. A step separated by
+ * {@code /} matches the subchunks of the chunks matched by the previous step, whilst a step
+ * separated by {@code //} matches chunks at any depth below them. The first step matches
+ * top-level chunks, or chunks at any depth if the path begins with {@code //}. A leading
+ * {@code /} is permitted and has no effect.</p>
+ *
+ * <p>Each step consists of a chunk name, optionally followed by a form type in parentheses,
+ * optionally followed by a zero-based index in square brackets. Names and form types shorter
+ * than four characters are padded with spaces. A name of {@code *} matches any name, and a form
+ * type of {@code *} matches any chunk that has a form type. An index selects the chunk with the
+ * given ordinal among the siblings matching the step. For example,
+ * {@code RIFF(sfbk)/LIST(pdta)/shdr}, {@code RIFF(WAVE)/fmt}, {@code //LIST(INFO)/*}, and
+ * {@code RIFF(AVI )/LIST(movi)//00dc[0]}.</p>
+ *
+ * <p>Paths are evaluated in a single traversal of the chunk tree, and matching chunks are
+ * returned in document order without duplicates.</p>
+ */
+
+public final class RiffPath
+{
+  private static final String NAME = "\\*|[\\x20-\\x7e&&[^()\\[\\]/*]]{1,4}";
+
+  private static final Pattern STEP =
+    Pattern.compile(
+      "(" + NAME + ")(?:\\((" + NAME + ")\\))?(?:\\[(0|[1-9][0-9]{0,8})])?");
+
+  private final String text;
+  private final List<Step> steps;
+  private final boolean has_indices;
+
+  private RiffPath(
+    final String in_text,
+    final List<Step> in_steps)
+  {
+    this.text = in_text;
+    this.steps = in_steps;
+    this.has_indices = in_steps.stream().anyMatch(s -> s.index.isPresent());
+  }
+
+  /**
+   * Compile a path.
+   *
+   * @param text The path text
+   *
+   * @return A compiled path
+   *
+   * @throws IllegalArgumentException If the path is malformed
+   */
+
+  public static RiffPath compile(
+    final String text)
+    throws IllegalArgumentException
+  {
+    Objects.requireNonNull(text, "text");
+
+    var position = 0;
+    var descendant = false;
+    if (text.startsWith("//")) {
+      descendant = true;
+      position = 2;
+    } else if (text.startsWith("/")) {
+      position = 1;
+    }
+
+    final var steps = new ArrayList<Step>();
+    while (true) {
+      var end = text.indexOf('/', position);
+      if (end < 0) {
+        end = text.length();
+      }
+
+      steps.add(step(text, text.substring(position, end), descendant));
+      if (end == text.length()) {
+        break;
+      }
+
+      descendant = text.startsWith("//", end);
+      position = descendant ? end + 2 : end + 1;
+    }
+
+    if (steps.size() > Long.SIZE) {
+      throw malformed(text, "", "At most " + Long.SIZE + " steps");
+    }
+    return new RiffPath(text, List.copyOf(steps));
+  }
+
+  private static Step step(
+    final String text,
+    final String step,
+    final boolean descendant)
+  {
+    final var matcher = STEP.matcher(step);
+    if (!matcher.matches()) {
+      throw malformed(text, step, "NAME, NAME(FORM), or NAME(FORM)[INDEX]");
+    }
+
+    final var name = matcher.group(1);
+    final var form = Optional.ofNullable(matcher.group(2));
+    final var index = matcher.group(3);
+    return new Step(
+      descendant,
+      Optional.of(name).filter(n -> !"*".equals(n)).map(RiffPath::padded),
+      form.isPresent(),
+      form.filter(f -> !"*".equals(f)).map(RiffPath::padded),
+      index == null ? OptionalInt.empty() : OptionalInt.of(Integer.parseInt(index)));
+  }
+
+  private static String padded(
+    final String name)
+  {
+    return String.format("%-4s", name);
+  }
+
+  private static IllegalArgumentException malformed(
+    final String text,
+    final String step,
+    final String expected)
+  {
+    final var separator = System.lineSeparator();
+    return new IllegalArgumentException(
+      new StringBuilder(128)
+        .append("Malformed chunk path.")
+        .append(separator)
+        .append("  Path: ")
+        .append(text)
+        .append(separator)
+        .append("  Step: ")
+        .append(step)
+        .append(separator)
+        .append("  Expected: ")
+        .append(expected)
+        .append(separator)
+        .toString());
+  }
+
+  /**
+   * @return The text from which the path was compiled
+   */
+
+  public String text()
+  {
+    return this.text;
+  }
+
+  /**
+   * Evaluate the path against the given file.
+   *
+   * @param file The file
+   *
+   * @return The matching chunks in document order
+   */
+
+  public List<RiffChunkType> select(
+    final RiffFileType file)
+  {
+    Objects.requireNonNull(file, "file");
+    return this.select(file.chunks());
+  }
+
+  /**
+   * Evaluate the path against the given chunks, treating them as top-level chunks. To evaluate
+   * a path relative to a chunk, pass the subchunks of that chunk.
+   *
+   * @param chunks The chunks
+   *
+   * @return The matching chunks in document order
+   */
+
+  public List<RiffChunkType> select(
+    final List<RiffChunkType> chunks)
+  {
+    Objects.requireNonNull(chunks, "chunks");
+    final var results = new ArrayList<RiffChunkType>();
+    this.evaluate(chunks, 1L, results);
+    return results;
+  }
+
+  /**
+   * Evaluate the path against the given file, returning the first match.
+   *
+   * @param file The file
+   *
+   * @return The first matching chunk in document order, if any
+   */
+
+  public Optional<RiffChunkType> selectFirst(
+    final RiffFileType file)
+  {
+    return this.select(file).stream().findFirst();
+  }
+
+  /**
+   * Evaluate the path against the given file, requiring at least one match.
+   *
+   * @param file The file
+   *
+   * @return The first matching chunk in document order
+   *
+   * @throws RiffRequiredChunkMissingException If no chunk matches
+   */
+
+  public RiffChunkType selectRequired(
+    final RiffFileType file)
+    throws RiffRequiredChunkMissingException
+  {
+    return this.selectFirst(file)
+      .orElseThrow(() -> new RiffRequiredChunkMissingException(
+        "No chunk matches the path " + this.text));
+  }
+
+  /**
+   * Evaluate the path against a list of sibling chunks. The bit {@code i} of {@code active}
+   * is set if step {@code i} is to be matched against the siblings.
+   */
+
+  private void evaluate(
+    final List<RiffChunkType> chunks,
+    final long active,
+    final List<RiffChunkType> results)
+  {
+    final var last = this.steps.size() - 1;
+    final var counts = this.has_indices ? new int[this.steps.size()] : null;
+
+    for (final var chunk : chunks) {
+      var next = 0L;
+      var selected = false;
+
+      for (var index = 0; index <= last; ++index) {
+        if ((active & (1L << index)) == 0L) {
+          continue;
+        }
+
+        final var step = this.steps.get(index);
+        if (step.matches(chunk) && step.indexMatches(counts, index)) {
+          if (index == last) {
+            selected = true;
+          } else {
+            next |= 1L << (index + 1);
+          }
+        }
+
+        if (step.descendant) {
+          next |= 1L << index;
+        }
+      }
+
+      if (selected) {
+        results.add(chunk);
+      }
+      if (next != 0L) {
+        this.evaluate(chunk.subChunks(), next, results);
+      }
+    }
+  }
+
+  @Override
+  public boolean equals(
+    final Object other)
+  {
+    if (this == other) {
+      return true;
+    }
+    if (other == null || !Objects.equals(this.getClass(), other.getClass())) {
+      return false;
+    }
+    final var that = (RiffPath) other;
+    return this.text.equals(that.text);
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return this.text.hashCode();
+  }
+
+  @Override
+  public String toString()
+  {
+    return this.text;
+  }
+
+  private static final class Step
+  {
+    private final boolean descendant;
+    private final Optional<String> name;
+    private final boolean form_required;
+    private final Optional<String> form;
+    private final OptionalInt index;
+
+    Step(
+      final boolean in_descendant,
+      final Optional<String> in_name,
+      final boolean in_form_required,
+      final Optional<String> in_form,
+      final OptionalInt in_index)
+    {
+      this.descendant = in_descendant;
+      this.name = in_name;
+      this.form_required = in_form_required;
+      this.form = in_form;
+      this.index = in_index;
+    }
+
+    boolean matches(
+      final RiffChunkType chunk)
+    {
+      if (this.name.isPresent() && !this.name.get().equals(chunk.name().value())) {
+        return false;
+      }
+
+      final var chunk_form = chunk.formType();
+      if (this.form.isPresent()) {
+        return this.form.equals(chunk_form);
+      }
+      return !this.form_required || chunk_form.isPresent();
+    }
+
+    /**
+     * Count a chunk that matches this step, and determine if its ordinal satisfies the index
+     * of this step.
+     */
+
+    boolean indexMatches(
+      final int[] counts,
+      final int step)
+    {
+      if (this.index.isEmpty()) {
+        return true;
+      }
+      final var ordinal = counts[step];
+      counts[step] = ordinal + 1;
+      return ordinal == this.index.getAsInt();
+    }
+  }
+}
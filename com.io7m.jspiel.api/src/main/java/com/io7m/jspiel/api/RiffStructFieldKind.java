@@ -0,0 +1,115 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.api;
+
+/**
+ * The kinds of fields that may appear in a struct.
+ */
+
+public enum RiffStructFieldKind
+{
+  /**
+   * An unsigned 8-bit integer.
+   */
+
+  U8(1),
+
+  /**
+   * A signed 8-bit integer.
+   */
+
+  S8(1),
+
+  /**
+   * An unsigned 16-bit integer.
+   */
+
+  U16(2),
+
+  /**
+   * A signed 16-bit integer.
+   */
+
+  S16(2),
+
+  /**
+   * An unsigned 32-bit integer.
+   */
+
+  U32(4),
+
+  /**
+   * A signed 32-bit integer.
+   */
+
+  S32(4),
+
+  /**
+   * A signed 64-bit integer.
+   */
+
+  S64(8),
+
+  /**
+   * A 32-bit IEEE 754 floating point value.
+   */
+
+  F32(4),
+
+  /**
+   * A 64-bit IEEE 754 floating point value.
+   */
+
+  F64(8),
+
+  /**
+   * A four-character code, stored as four octets in the same order regardless of the byte order
+   * of the file.
+   */
+
+  FOURCC(4);
+
+  private final int size;
+
+  RiffStructFieldKind(
+    final int in_size)
+  {
+    this.size = in_size;
+  }
+
+  /**
+   * @return The size of the field in octets
+   */
+
+  public int size()
+  {
+    return this.size;
+  }
+
+  /**
+   * @return {@code true} if the field is an integer field
+   */
+
+  public boolean isInteger()
+  {
+    return switch (this) {
+      case U8, S8, U16, S16, U32, S32, S64 -> true;
+      case F32, F64, FOURCC -> false;
+    };
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.api;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import com.io7m.jaffirm.core.Preconditions;
+import org.immutables.value.Value;
+
+/**
+ * A named field within a struct.
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface RiffStructFieldType
+{
+  /**
+   * @return The name of the field
+   */
+
+  @Value.Parameter
+  String name();
+
+  /**
+   * @return The kind of the field
+   */
+
+  @Value.Parameter
+  RiffStructFieldKind kind();
+
+  /**
+   * @return The offset in octets of the field from the start of the struct
+   */
+
+  @Value.Parameter
+  int offset();
+
+  /**
+   * @return The offset in octets of the first octet after the field
+   */
+
+  default int end()
+  {
+    return this.offset() + this.kind().size();
+  }
+
+  /**
+   * Check preconditions for the type.
+   */
+
+  @Value.Check
+  default void checkPreconditions()
+  {
+    Preconditions.checkPreconditionI(
+      this.offset(),
+      this.offset() >= 0,
+      x -> "Field offset must be non-negative");
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.api;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import com.io7m.jaffirm.core.Preconditions;
+import org.immutables.value.Value;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>A declarative description of a fixed-size struct stored in chunk data, such as the header of
+ * a chunk or one record of a table of records.</p>
+ *
+ * <p>A schema is typically declared once as a constant, the fields of interest resolved once with
+ * {@link #field(String)}, and the data then accessed through a reusable {@link RiffStructView}.
+ * The byte order of the data is not part of the schema; it is supplied when a view is positioned,
+ * and is typically {@link RiffFileType#byteOrder()}.</p>
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface RiffStructSchemaType
+{
+  /**
+   * @return The fields of the struct
+   */
+
+  List<RiffStructField> fields();
+
+  /**
+   * The size of the struct. By default, this is the offset of the end of the last field, but a
+   * larger size may be specified for structs that have trailing reserved octets.
+   *
+   * @return The size of the struct in octets
+   */
+
+  @Value.Default
+  default int size()
+  {
+    var size = 0;
+    for (final var field : this.fields()) {
+      size = Math.max(size, field.end());
+    }
+    return size;
+  }
+
+  /**
+   * Find the field with the given name.
+   *
+   * @param name The field name
+   *
+   * @return The field
+   *
+   * @throws IllegalArgumentException If no field has the given name
+   */
+
+  default RiffStructField field(
+    final String name)
+    throws IllegalArgumentException
+  {
+    Objects.requireNonNull(name, "name");
+    for (final var field : this.fields()) {
+      if (field.name().equals(name)) {
+        return field;
+      }
+    }
+    throw new IllegalArgumentException("No such field: " + name);
+  }
+
+  /**
+   * @param chunk A chunk holding a table of records described by this schema
+   *
+   * @return The number of complete records in the chunk
+   */
+
+  default int recordCount(
+    final RiffChunkType chunk)
+  {
+    Objects.requireNonNull(chunk, "chunk");
+    final var data_size = chunk.dataSizeExcludingForm().sizeUnpadded();
+    return Math.toIntExact(data_size / (long) this.size());
+  }
+
+  /**
+   * Check preconditions for the type.
+   */
+
+  @Value.Check
+  default void checkPreconditions()
+  {
+    final var names = new HashSet<String>(this.fields().size());
+    for (final var field : this.fields()) {
+      Preconditions.checkPrecondition(
+        field.name(),
+        names.add(field.name()),
+        x -> "Field names must be unique");
+      Preconditions.checkPreconditionI(
+        this.size(),
+        this.size() >= field.end(),
+        x -> "Struct size must be large enough to hold field " + field.name());
+    }
+    Preconditions.checkPreconditionI(
+      this.size(),
+      this.size() > 0,
+      x -> "Struct size must be positive");
+  }
+}
@@ -0,0 +1,370 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.api;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+/**
+ * <p>A reusable, mutable view of a struct stored in a byte buffer.</p>
+ *
+ * <p>A view is positioned at a struct with one of the {@code wrap} methods, and the fields of the
+ * struct are then read and written directly in the underlying buffer. Neither positioning a view
+ * nor reading or writing numeric fields allocates, so a single view may be used to iterate over
+ * tables of many records. The byte order given when positioning the view takes precedence over
+ * the byte order of the buffer, so buffers do not need to be duplicated in order to be read.</p>
+ *
+ * <p>Views are not thread-safe.</p>
+ */
+
+public final class RiffStructView
+{
+  private final RiffStructSchema schema;
+  private ByteBuffer buffer;
+  private int base;
+  private boolean swap;
+
+  /**
+   * Construct a view. The view must be positioned before use.
+   *
+   * @param in_schema The schema of the struct
+   */
+
+  public RiffStructView(
+    final RiffStructSchema in_schema)
+  {
+    this.schema = Objects.requireNonNull(in_schema, "schema");
+    this.buffer = ByteBuffer.allocate(0);
+  }
+
+  private static IllegalArgumentException wrongKind(
+    final RiffStructField field,
+    final String expected)
+  {
+    return new IllegalArgumentException(
+      new StringBuilder(64)
+        .append("Field ")
+        .append(field.name())
+        .append(" of kind ")
+        .append(field.kind())
+        .append(" is not ")
+        .append(expected)
+        .toString());
+  }
+
+  /**
+   * @return The schema of the struct
+   */
+
+  public RiffStructSchema schema()
+  {
+    return this.schema;
+  }
+
+  /**
+   * @return The offset in the buffer of the struct at which the view is positioned
+   */
+
+  public int offset()
+  {
+    return this.base;
+  }
+
+  /**
+   * Position the view at the struct at the given offset in the given buffer.
+   *
+   * @param in_buffer The buffer
+   * @param order     The byte order of the data
+   * @param offset    The offset of the struct in the buffer
+   *
+   * @return {@code this}
+   *
+   * @throws RiffOutOfBoundsException If the struct does not lie entirely within the buffer
+   */
+
+  public RiffStructView wrap(
+    final ByteBuffer in_buffer,
+    final ByteOrder order,
+    final int offset)
+    throws RiffOutOfBoundsException
+  {
+    Objects.requireNonNull(in_buffer, "buffer");
+    Objects.requireNonNull(order, "order");
+
+    final var size = this.schema.size();
+    if (offset < 0 || offset > in_buffer.limit() - size) {
+      final var separator = System.lineSeparator();
+      throw new RiffOutOfBoundsException(
+        new StringBuilder(128)
+          .append("Struct does not lie within the bounds of the buffer.")
+          .append(separator)
+          .append("  Struct range: [")
+          .append(offset)
+          .append(", ")
+          .append((long) offset + (long) size)
+          .append(')')
+          .append(separator)
+          .append("  Buffer range: [0, ")
+          .append(in_buffer.limit())
+          .append(')')
+          .append(separator)
+          .toString());
+    }
+
+    this.buffer = in_buffer;
+    this.base = offset;
+    this.swap = in_buffer.order() != order;
+    return this;
+  }
+
+  /**
+   * Position the view at a record in a chunk that holds a table of records.
+   *
+   * @param in_buffer The buffer from which the chunk was parsed
+   * @param order     The byte order of the data, typically {@link RiffFileType#byteOrder()}
+   * @param chunk     The chunk
+   * @param index     The index of the record
+   *
+   * @return {@code this}
+   *
+   * @throws IndexOutOfBoundsException If the chunk does not hold a record with the given index
+   * @see RiffStructSchemaType#recordCount(RiffChunkType)
+   */
+
+  public RiffStructView wrapRecord(
+    final ByteBuffer in_buffer,
+    final ByteOrder order,
+    final RiffChunkType chunk,
+    final int index)
+    throws IndexOutOfBoundsException
+  {
+    Objects.checkIndex(index, this.schema.recordCount(chunk));
+    final var offset = chunk.dataOffset() + (long) index * (long) this.schema.size();
+    return this.wrap(in_buffer, order, Math.toIntExact(offset));
+  }
+
+  /**
+   * Read an integer field. Unsigned fields are zero-extended, and signed fields are
+   * sign-extended.
+   *
+   * @param field The field
+   *
+   * @return The value of the field
+   *
+   * @throws IllegalArgumentException If the field is not an integer field
+   */
+
+  public long getLong(
+    final RiffStructField field)
+    throws IllegalArgumentException
+  {
+    final var at = this.base + field.offset();
+    return switch (field.kind()) {
+      case U8 -> Byte.toUnsignedLong(this.buffer.get(at));
+      case S8 -> this.buffer.get(at);
+      case U16 -> Short.toUnsignedLong(this.getShort(at));
+      case S16 -> this.getShort(at);
+      case U32 -> Integer.toUnsignedLong(this.getInt(at));
+      case S32 -> this.getInt(at);
+      case S64 -> this.getLong(at);
+      case F32, F64, FOURCC -> throw wrongKind(field, "an integer field");
+    };
+  }
+
+  /**
+   * Read a floating point field.
+   *
+   * @param field The field
+   *
+   * @return The value of the field
+   *
+   * @throws IllegalArgumentException If the field is not a floating point field
+   */
+
+  public double getDouble(
+    final RiffStructField field)
+    throws IllegalArgumentException
+  {
+    final var at = this.base + field.offset();
+    return switch (field.kind()) {
+      case F32 -> Float.intBitsToFloat(this.getInt(at));
+      case F64 -> Double.longBitsToDouble(this.getLong(at));
+      case U8, S8, U16, S16, U32, S32, S64, FOURCC ->
+        throw wrongKind(field, "a floating point field");
+    };
+  }
+
+  /**
+   * Read a four-character code field.
+   *
+   * @param field The field
+   *
+   * @return The value of the field
+   *
+   * @throws IllegalArgumentException If the field is not a four-character code field
+   */
+
+  public String getFourCC(
+    final RiffStructField field)
+    throws IllegalArgumentException
+  {
+    if (field.kind() != RiffStructFieldKind.FOURCC) {
+      throw wrongKind(field, "a four-character code field");
+    }
+    final var bytes = new byte[4];
+    this.buffer.get(this.base + field.offset(), bytes);
+    // CHECKSTYLE:OFF
+    return new String(bytes, US_ASCII);
+    // CHECKSTYLE:ON
+  }
+
+  /**
+   * Write an integer field. The value is truncated to the size of the field.
+   *
+   * @param field The field
+   * @param value The value
+   *
+   * @return {@code this}
+   *
+   * @throws IllegalArgumentException If the field is not an integer field
+   */
+
+  public RiffStructView putLong(
+    final RiffStructField field,
+    final long value)
+    throws IllegalArgumentException
+  {
+    if (!field.kind().isInteger()) {
+      throw wrongKind(field, "an integer field");
+    }
+    final var at = this.base + field.offset();
+    switch (field.kind().size()) {
+      case 1 -> this.buffer.put(at, (byte) value);
+      case 2 -> this.putShort(at, (short) value);
+      case 4 -> this.putInt(at, (int) value);
+      default -> this.putLong(at, value);
+    }
+    return this;
+  }
+
+  /**
+   * Write a floating point field.
+   *
+   * @param field The field
+   * @param value The value
+   *
+   * @return {@code this}
+   *
+   * @throws IllegalArgumentException If the field is not a floating point field
+   */
+
+  public RiffStructView putDouble(
+    final RiffStructField field,
+    final double value)
+    throws IllegalArgumentException
+  {
+    final var at = this.base + field.offset();
+    switch (field.kind()) {
+      case F32 -> this.putInt(at, Float.floatToRawIntBits((float) value));
+      case F64 -> this.putLong(at, Double.doubleToRawLongBits(value));
+      default -> throw wrongKind(field, "a floating point field");
+    }
+    return this;
+  }
+
+  /**
+   * Write a four-character code field.
+   *
+   * @param field The field
+   * @param value The value, which must consist of four ASCII characters
+   *
+   * @return {@code this}
+   *
+   * @throws IllegalArgumentException If the field is not a four-character code field
+   */
+
+  public RiffStructView putFourCC(
+    final RiffStructField field,
+    final String value)
+    throws IllegalArgumentException
+  {
+    if (field.kind() != RiffStructFieldKind.FOURCC) {
+      throw wrongKind(field, "a four-character code field");
+    }
+    final var bytes = RiffChunkID.of(value).value().getBytes(US_ASCII);
+    this.buffer.put(this.base + field.offset(), bytes);
+    return this;
+  }
+
+  private short getShort(
+    final int at)
+  {
+    final var value = this.buffer.getShort(at);
+    return this.swap ? Short.reverseBytes(value) : value;
+  }
+
+  private int getInt(
+    final int at)
+  {
+    final var value = this.buffer.getInt(at);
+    return this.swap ? Integer.reverseBytes(value) : value;
+  }
+
+  private long getLong(
+    final int at)
+  {
+    final var value = this.buffer.getLong(at);
+    return this.swap ? Long.reverseBytes(value) : value;
+  }
+
+  private void putShort(
+    final int at,
+    final short value)
+  {
+    this.buffer.putShort(at, this.swap ? Short.reverseBytes(value) : value);
+  }
+
+  private void putInt(
+    final int at,
+    final int value)
+  {
+    this.buffer.putInt(at, this.swap ? Integer.reverseBytes(value) : value);
+  }
+
+  private void putLong(
+    final int at,
+    final long value)
+  {
+    this.buffer.putLong(at, this.swap ? Long.reverseBytes(value) : value);
+  }
+
+  @Override
+  public String toString()
+  {
+    return new StringBuilder(64)
+      .append("[RiffStructView ")
+      .append(this.schema.size())
+      .append(" octets at ")
+      .append(this.base)
+      .append(']')
+      .toString();
+  }
+}
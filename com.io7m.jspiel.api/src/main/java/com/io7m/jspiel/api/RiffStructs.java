@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.api;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * Functions to encode structs.
+ */
+
+public final class RiffStructs
+{
+  private RiffStructs()
+  {
+
+  }
+
+  /**
+   * @param schema The schema of the records
+   * @param count  The number of records
+   *
+   * @return The size in octets of a table of {@code count} records
+   */
+
+  public static long sizeOf(
+    final RiffStructSchema schema,
+    final int count)
+  {
+    Objects.requireNonNull(schema, "schema");
+    return Math.multiplyExact((long) schema.size(), (long) count);
+  }
+
+  /**
+   * Create a data writer that writes a table of {@code count} records, the fields of which are
+   * filled in by the given encoder. The chunk should be declared with a size of
+   * {@link #sizeOf(RiffStructSchema, int)}.
+   *
+   * @param schema  The schema of the records
+   * @param order   The byte order of the file
+   * @param count   The number of records
+   * @param encoder The encoder
+   *
+   * @return A data writer
+   */
+
+  public static RiffChunkDataWriterType dataWriter(
+    final RiffStructSchema schema,
+    final ByteOrder order,
+    final int count,
+    final RiffStructEncoderType encoder)
+  {
+    Objects.requireNonNull(schema, "schema");
+    Objects.requireNonNull(order, "order");
+    Objects.requireNonNull(encoder, "encoder");
+
+    final var size = Math.toIntExact(sizeOf(schema, count));
+    return channel -> {
+      final var buffer = ByteBuffer.allocate(size).order(order);
+      final var view = new RiffStructView(schema);
+      for (var index = 0; index < count; ++index) {
+        encoder.encode(index, view.wrap(buffer, order, index * schema.size()));
+      }
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+    };
+  }
+}
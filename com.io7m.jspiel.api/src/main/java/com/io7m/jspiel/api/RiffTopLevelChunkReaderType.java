@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.api;
+
+import java.nio.ByteOrder;
+import java.util.Optional;
+
+/**
+ * <p>A reader that yields the top-level chunks of a file one at a time.</p>
+ *
+ * <p>Each top-level chunk is fully parsed before it is returned, but chunks that have not yet been
+ * requested are not examined. This allows files consisting of many consecutive top-level chunks
+ * to be processed without holding the whole chunk tree in memory.</p>
+ */
+
+public interface RiffTopLevelChunkReaderType
+{
+  /**
+   * @return The byte order of the underlying file
+   */
+
+  ByteOrder byteOrder();
+
+  /**
+   * Parse the next top-level chunk.
+   *
+   * @return The next chunk, or nothing if no chunks remain
+   *
+   * @throws RiffParseException On parse errors
+   */
+
+  Optional<RiffChunkType> next()
+    throws RiffParseException;
+
+  /**
+   * The trailing data, if any, that follows the last top-level chunk. The value is only
+   * meaningful once {@link #next()} has returned nothing.
+   *
+   * @return The trailing data, if any
+   */
+
+  Optional<RiffTrailingData> trailingData();
+}
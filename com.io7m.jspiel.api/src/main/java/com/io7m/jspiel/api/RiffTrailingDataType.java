@@ -0,0 +1,46 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.api;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+/**
+ * Data that follows the last top-level RIFF chunk of a file, but that is not itself a
+ * well-formed RIFF chunk of the same byte order as the first chunk. Trailing data is typically
+ * left behind by truncated writes or by tools that append metadata to existing files.
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface RiffTrailingDataType
+{
+  /**
+   * @return The absolute offset of the start of the trailing data
+   */
+
+  @Value.Parameter
+  long offset();
+
+  /**
+   * @return The size of the trailing data in octets
+   */
+
+  @Value.Parameter
+  long size();
+}
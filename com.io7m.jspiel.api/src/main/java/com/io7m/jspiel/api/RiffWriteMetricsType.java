@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.api;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * Metrics collected whilst writing a file.
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface RiffWriteMetricsType
+{
+  /**
+   * @return The target of the written data
+   */
+
+  URI source();
+
+  /**
+   * @return The number of chunks written, at any depth
+   */
+
+  long chunks();
+
+  /**
+   * @return The number of octets written, including chunk headers, chunk data, padding, and
+   * the chunk sizes written once all chunks have been written
+   */
+
+  long octetsWritten();
+
+  /**
+   * @return The number of times the position of the channel was set
+   */
+
+  long seeks();
+
+  /**
+   * @return The number of writes that had to be retried because the channel accepted fewer
+   * octets than requested
+   */
+
+  long shortWriteRetries();
+
+  /**
+   * @return The time spent writing chunk headers and data
+   */
+
+  Duration dataTime();
+
+  /**
+   * @return The time spent writing the chunk sizes once all chunks have been written
+   */
+
+  Duration sizeTime();
+}
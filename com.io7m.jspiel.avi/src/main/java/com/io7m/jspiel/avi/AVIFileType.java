@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.avi;
+
+import com.io7m.jspiel.api.RiffChunkType;
+import com.io7m.jspiel.api.RiffFileType;
+import com.io7m.jspiel.api.RiffSeekableByteChannelsType;
+
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>A parsed AVI file.</p>
+ *
+ * <p>Files larger than one gigabyte are typically written as a {@code RIFF(AVI )} chunk followed
+ * by any number of {@code RIFF(AVIX)} extension chunks, each holding a {@code LIST(movi)} chunk.
+ * The stream indexes cover the data in all of them.</p>
+ */
+
+public interface AVIFileType
+{
+  /**
+   * @return The underlying RIFF file
+   */
+
+  RiffFileType riff();
+
+  /**
+   * @return The root {@code RIFF(AVI )} chunk
+   */
+
+  RiffChunkType rootChunk();
+
+  /**
+   * @return The {@code RIFF(AVIX)} extension chunks, in file order
+   */
+
+  List<RiffChunkType> extensionChunks();
+
+  /**
+   * @return The main header from the {@code avih} chunk
+   */
+
+  AVIMainHeader mainHeader();
+
+  /**
+   * @return The stream headers, in stream order
+   */
+
+  List<AVIStreamHeader> streamHeaders();
+
+  /**
+   * @return The source from which the stream indexes were loaded
+   */
+
+  AVIIndexKind indexKind();
+
+  /**
+   * @param stream The stream number
+   *
+   * @return The index of the given stream
+   */
+
+  AVIStreamIndex index(int stream);
+
+  /**
+   * Retrieve the data of chunk {@code index} of the given stream. If the file was parsed from a
+   * byte buffer, the returned buffer is a read-only view over that buffer. If the file was parsed
+   * from a channel, the data is read from the channel into a new buffer.
+   *
+   * @param stream The stream number
+   * @param index  The chunk index
+   *
+   * @return The data of the chunk
+   *
+   * @throws UncheckedIOException If the data cannot be read from the channel
+   */
+
+  ByteBuffer frame(
+    int stream,
+    int index);
+
+  /**
+   * Create a channel that exposes the data of chunk {@code index} of the given stream in the
+   * file underlying the given channel. The channel is a view of the given channel (no data is
+   * copied), and so can be used to transfer frames of any size without reading them into
+   * memory.
+   *
+   * @param channels A provider of seekable byte channels
+   * @param file     A channel that provides access to the file that was parsed
+   * @param stream   The stream number
+   * @param index    The chunk index
+   *
+   * @return A channel that exposes the data of the chunk
+   */
+
+  default SeekableByteChannel frameChannel(
+    final RiffSeekableByteChannelsType channels,
+    final SeekableByteChannel file,
+    final int stream,
+    final int index)
+  {
+    Objects.requireNonNull(channels, "channels");
+    Objects.requireNonNull(file, "file");
+
+    final var stream_index = this.index(stream);
+    final var lower = stream_index.offset(index);
+    final var upper = Math.addExact(lower, (long) stream_index.chunkSize(index));
+    return channels.createFromChannel(file, lower, upper);
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.avi;
+
+/**
+ * The source from which the stream indexes of an AVI file were loaded.
+ */
+
+public enum AVIIndexKind
+{
+  /**
+   * The indexes were loaded from OpenDML {@code indx} super indexes and the {@code ix##}
+   * standard indexes to which they refer.
+   */
+
+  OPENDML,
+
+  /**
+   * The indexes were loaded from the legacy {@code idx1} chunk.
+   */
+
+  IDX1,
+
+  /**
+   * The file has no index, and the indexes were built from the {@code movi} chunks. No key frame
+   * information is available, and so every chunk is treated as a key frame.
+   */
+
+  SCANNED
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.avi;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+/**
+ * The main AVI header held in the {@code avih} chunk.
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface AVIMainHeaderType
+{
+  /**
+   * @return The number of microseconds between frames
+   */
+
+  long microSecondsPerFrame();
+
+  /**
+   * @return The approximate maximum data rate of the file
+   */
+
+  long maxBytesPerSecond();
+
+  /**
+   * @return The alignment of data in the file
+   */
+
+  long paddingGranularity();
+
+  /**
+   * @return The {@code AVIF_*} flags
+   */
+
+  long flags();
+
+  /**
+   * @return The number of frames in the first {@code RIFF(AVI )} chunk
+   */
+
+  long totalFrames();
+
+  /**
+   * @return The initial frame for interleaved files
+   */
+
+  long initialFrames();
+
+  /**
+   * @return The number of streams declared by the header
+   */
+
+  long streams();
+
+  /**
+   * @return The suggested buffer size for reading the file
+   */
+
+  long suggestedBufferSize();
+
+  /**
+   * @return The width of the video in pixels
+   */
+
+  long width();
+
+  /**
+   * @return The height of the video in pixels
+   */
+
+  long height();
+}
@@ -0,0 +1,1031 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.avi;
+
+import com.io7m.jspiel.api.RiffChunkType;
+import com.io7m.jspiel.api.RiffFileParserProviderType;
+import com.io7m.jspiel.api.RiffFileType;
+import com.io7m.jspiel.api.RiffFormatParsing;
+import com.io7m.jspiel.api.RiffParseException;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+/**
+ * The default implementation of the {@link AVIFileParserProviderType} interface.
+ */
+
+public final class AVIParsers implements AVIFileParserProviderType
+{
+  private static final String FORM_AVI = "AVI ";
+  private static final String FORM_AVIX = "AVIX";
+  private static final String FORM_HDRL = "hdrl";
+  private static final String FORM_STRL = "strl";
+  private static final String FORM_MOVI = "movi";
+  private static final String FORM_REC = "rec ";
+  private static final String ID_LIST = "LIST";
+  private static final String ID_AVIH = "avih";
+  private static final String ID_STRH = "strh";
+  private static final String ID_INDX = "indx";
+  private static final String ID_IDX1 = "idx1";
+
+  private static final int AVIH_SIZE = 40;
+  private static final int STRH_SIZE = 48;
+  private static final int IDX1_ENTRY_SIZE = 16;
+  private static final int INDEX_HEADER_SIZE = 24;
+  private static final int SUPER_INDEX_ENTRY_SIZE = 16;
+  private static final int AVI_INDEX_OF_INDEXES = 0x0;
+  private static final int AVI_INDEX_OF_CHUNKS = 0x1;
+  private static final long AVIIF_KEYFRAME = 0x10L;
+  private static final long AVI_INDEX_DELTA_FRAME = 0x8000_0000L;
+
+  private final RiffFileParserProviderType parsers;
+
+  /**
+   * Construct an AVI parser provider using the first available RIFF parser provider.
+   */
+
+  public AVIParsers()
+  {
+    this(
+      ServiceLoader.load(RiffFileParserProviderType.class)
+        .findFirst()
+        .orElseThrow(() -> new IllegalStateException("No RIFF file parser service available")));
+  }
+
+  /**
+   * Construct an AVI parser provider.
+   *
+   * @param in_parsers A provider of RIFF parsers
+   */
+
+  public AVIParsers(
+    final RiffFileParserProviderType in_parsers)
+  {
+    this.parsers = Objects.requireNonNull(in_parsers, "parsers");
+  }
+
+  @Override
+  public AVIFileParserType createForByteBuffer(
+    final URI source,
+    final ByteBuffer data)
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(data, "data");
+    return new Parser(this.parsers, source, Optional.empty(), new BufferInput(data));
+  }
+
+  @Override
+  public AVIFileParserType createForChannel(
+    final URI source,
+    final SeekableByteChannel channel)
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(channel, "channel");
+    return new Parser(this.parsers, source, Optional.empty(), new ChannelInput(channel));
+  }
+
+  @Override
+  public AVIFileParserType createForRiffFile(
+    final URI source,
+    final RiffFileType file,
+    final ByteBuffer data)
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(file, "file");
+    Objects.requireNonNull(data, "data");
+    return new Parser(this.parsers, source, Optional.of(file), new BufferInput(data));
+  }
+
+  /**
+   * A growable set of primitive arrays from which a stream index is built.
+   */
+
+  private static final class IndexBuilder
+  {
+    private long[] offsets;
+    private int[] sizes;
+    private boolean[] key_frames;
+    private int count;
+    private int key_frame_count;
+
+    IndexBuilder()
+    {
+      this.offsets = new long[64];
+      this.sizes = new int[64];
+      this.key_frames = new boolean[64];
+    }
+
+    void add(
+      final long offset,
+      final int size,
+      final boolean key_frame)
+    {
+      if (this.count == this.offsets.length) {
+        final var capacity = this.count * 2;
+        this.offsets = Arrays.copyOf(this.offsets, capacity);
+        this.sizes = Arrays.copyOf(this.sizes, capacity);
+        this.key_frames = Arrays.copyOf(this.key_frames, capacity);
+      }
+
+      this.offsets[this.count] = offset;
+      this.sizes[this.count] = size;
+      this.key_frames[this.count] = key_frame;
+      ++this.count;
+      if (key_frame) {
+        ++this.key_frame_count;
+      }
+    }
+
+    AVIStreamIndex build()
+    {
+      final var key_frame_indices = new int[this.key_frame_count];
+      var key_index = 0;
+      for (var index = 0; index < this.count; ++index) {
+        if (this.key_frames[index]) {
+          key_frame_indices[key_index] = index;
+          ++key_index;
+        }
+      }
+
+      return new AVIStreamIndex(
+        Arrays.copyOf(this.offsets, this.count),
+        Arrays.copyOf(this.sizes, this.count),
+        Arrays.copyOf(this.key_frames, this.count),
+        key_frame_indices,
+        this.count);
+    }
+  }
+
+  /**
+   * The data from which an AVI file is parsed, and from which its frames are read.
+   */
+
+  private interface InputType
+  {
+    /**
+     * Parse the underlying RIFF file.
+     *
+     * @param parsers The RIFF parser provider
+     * @param source  The URI of the source
+     *
+     * @return The parsed RIFF file
+     *
+     * @throws RiffParseException On errors
+     */
+
+    RiffFileType parse(
+      RiffFileParserProviderType parsers,
+      URI source)
+      throws RiffParseException;
+
+    /**
+     * @return The size of the input
+     *
+     * @throws IOException On I/O errors
+     */
+
+    long size()
+      throws IOException;
+
+    /**
+     * Read data from the input. The range is assumed to lie within the input.
+     *
+     * @param offset The absolute offset of the data
+     * @param size   The size of the data
+     *
+     * @return A little-endian buffer holding exactly the requested data
+     *
+     * @throws IOException On I/O errors
+     */
+
+    ByteBuffer read(
+      long offset,
+      int size)
+      throws IOException;
+  }
+
+  /**
+   * An input over a byte buffer. Reads return read-only views of the buffer.
+   */
+
+  private static final class BufferInput implements InputType
+  {
+    private final ByteBuffer view;
+
+    BufferInput(
+      final ByteBuffer in_data)
+    {
+      this.view = in_data.asReadOnlyBuffer().order(LITTLE_ENDIAN);
+    }
+
+    @Override
+    public RiffFileType parse(
+      final RiffFileParserProviderType parsers,
+      final URI source)
+      throws RiffParseException
+    {
+      return parsers.createForByteBuffer(source, this.view.duplicate()).parse();
+    }
+
+    @Override
+    public long size()
+    {
+      return this.view.limit();
+    }
+
+    @Override
+    public ByteBuffer read(
+      final long offset,
+      final int size)
+    {
+      return this.view.slice(Math.toIntExact(offset), size).order(LITTLE_ENDIAN);
+    }
+  }
+
+  /**
+   * An input over a channel. Reads copy the requested data into new buffers, using positional
+   * reads if the channel is a {@link FileChannel}.
+   */
+
+  private static final class ChannelInput implements InputType
+  {
+    private final SeekableByteChannel channel;
+
+    ChannelInput(
+      final SeekableByteChannel in_channel)
+    {
+      this.channel = in_channel;
+    }
+
+    @Override
+    public RiffFileType parse(
+      final RiffFileParserProviderType parsers,
+      final URI source)
+      throws RiffParseException
+    {
+      try {
+        this.channel.position(0L);
+      } catch (final IOException e) {
+        throw new RiffParseException(e, source, 0L);
+      }
+      return parsers.createForChannel(source, this.channel).parse();
+    }
+
+    @Override
+    public long size()
+      throws IOException
+    {
+      return this.channel.size();
+    }
+
+    @Override
+    public ByteBuffer read(
+      final long offset,
+      final int size)
+      throws IOException
+    {
+      final var buffer = ByteBuffer.allocate(size).order(LITTLE_ENDIAN);
+      if (this.channel instanceof final FileChannel file) {
+        while (buffer.hasRemaining()) {
+          if (file.read(buffer, offset + (long) buffer.position()) < 0) {
+            throw this.unexpectedEOF(offset, buffer);
+          }
+        }
+      } else {
+        this.channel.position(offset);
+        while (buffer.hasRemaining()) {
+          if (this.channel.read(buffer) < 0) {
+            throw this.unexpectedEOF(offset, buffer);
+          }
+        }
+      }
+      return buffer.flip();
+    }
+
+    private EOFException unexpectedEOF(
+      final long offset,
+      final ByteBuffer buffer)
+    {
+      return new EOFException(
+        "Unexpected end of file at offset 0x"
+          + Long.toUnsignedString(offset + (long) buffer.position(), 16));
+    }
+  }
+
+  private static final class Parser implements AVIFileParserType
+  {
+    private final RiffFileParserProviderType parsers;
+    private final URI source;
+    private final Optional<RiffFileType> file_given;
+    private final InputType input;
+    private long input_size;
+
+    Parser(
+      final RiffFileParserProviderType in_parsers,
+      final URI in_source,
+      final Optional<RiffFileType> in_file,
+      final InputType in_input)
+    {
+      this.parsers = Objects.requireNonNull(in_parsers, "parsers");
+      this.source = Objects.requireNonNull(in_source, "source");
+      this.file_given = Objects.requireNonNull(in_file, "file");
+      this.input = Objects.requireNonNull(in_input, "input");
+    }
+
+    private static int streamNumber(
+      final String name)
+    {
+      final var high = Character.digit(name.charAt(0), 16);
+      final var low = Character.digit(name.charAt(1), 16);
+      if (high < 0 || low < 0) {
+        return -1;
+      }
+      return high * 16 + low;
+    }
+
+    private static List<RiffChunkType> withForm(
+      final List<RiffChunkType> chunks,
+      final String form)
+    {
+      final var results = new ArrayList<RiffChunkType>();
+      for (final var chunk : chunks) {
+        if (Objects.equals(chunk.formType(), Optional.of(form))) {
+          results.add(chunk);
+        }
+      }
+      return results;
+    }
+
+    private static String fourCC(
+      final ByteBuffer data,
+      final int offset)
+    {
+      final var bytes = new byte[4];
+      data.get(offset, bytes);
+      // CHECKSTYLE:OFF
+      return new String(bytes, US_ASCII);
+      // CHECKSTYLE:ON
+    }
+
+    private static long u32(
+      final ByteBuffer data,
+      final int offset)
+    {
+      return Integer.toUnsignedLong(data.getInt(offset));
+    }
+
+    private static int u16(
+      final ByteBuffer data,
+      final int offset)
+    {
+      return Short.toUnsignedInt(data.getShort(offset));
+    }
+
+    @Override
+    public AVIFileType parse()
+      throws RiffParseException
+    {
+      final RiffFileType file;
+      if (this.file_given.isPresent()) {
+        file = this.file_given.get();
+      } else {
+        file = this.input.parse(this.parsers, this.source);
+      }
+
+      try {
+        this.input_size = this.input.size();
+      } catch (final IOException e) {
+        throw new RiffParseException(e, this.source, 0L);
+      }
+
+      final var root = this.findRoot(file);
+      final var extensions = withForm(file.chunks(), FORM_AVIX);
+      final var hdrl = this.requiredWithForm(root, FORM_HDRL);
+      final var main_header = this.parseMainHeader(this.required(hdrl, ID_AVIH));
+      final var stream_lists = withForm(hdrl.subChunks(), FORM_STRL);
+
+      final var stream_headers = new ArrayList<AVIStreamHeader>(stream_lists.size());
+      for (final var stream_list : stream_lists) {
+        stream_headers.add(this.parseStreamHeader(this.required(stream_list, ID_STRH)));
+      }
+
+      final var movi_chunks = new ArrayList<RiffChunkType>();
+      movi_chunks.add(this.requiredWithForm(root, FORM_MOVI));
+      for (final var extension : extensions) {
+        extension.findOptionalSubChunkWithForm(ID_LIST, FORM_MOVI).ifPresent(movi_chunks::add);
+      }
+
+      final var streams = stream_lists.size();
+      final var builders = new IndexBuilder[streams];
+      for (var index = 0; index < streams; ++index) {
+        builders[index] = new IndexBuilder();
+      }
+
+      final var kind = this.loadIndexes(root, stream_lists, movi_chunks, builders);
+      final var indexes = new ArrayList<AVIStreamIndex>(streams);
+      for (final var builder : builders) {
+        indexes.add(builder.build());
+      }
+
+      return new AVIFile(
+        file,
+        root,
+        List.copyOf(extensions),
+        main_header,
+        List.copyOf(stream_headers),
+        kind,
+        List.copyOf(indexes),
+        this.input);
+    }
+
+    /**
+     * Load the stream indexes. OpenDML indexes are preferred when every stream has one, as they
+     * cover any {@code RIFF(AVIX)} extension chunks; the {@code idx1} chunk only covers the
+     * first {@code movi} chunk.
+     */
+
+    private AVIIndexKind loadIndexes(
+      final RiffChunkType root,
+      final List<RiffChunkType> stream_lists,
+      final List<RiffChunkType> movi_chunks,
+      final IndexBuilder[] builders)
+      throws RiffParseException
+    {
+      final var indx_chunks = new ArrayList<RiffChunkType>(stream_lists.size());
+      for (final var stream_list : stream_lists) {
+        stream_list.findOptionalSubChunk(ID_INDX).ifPresent(indx_chunks::add);
+      }
+
+      if (!indx_chunks.isEmpty() && indx_chunks.size() == stream_lists.size()) {
+        for (var index = 0; index < builders.length; ++index) {
+          this.loadOpenDMLIndex(indx_chunks.get(index), builders[index]);
+        }
+        return AVIIndexKind.OPENDML;
+      }
+
+      final var idx1 = root.findOptionalSubChunk(ID_IDX1);
+      if (idx1.isPresent()) {
+        this.loadIDX1(idx1.get(), movi_chunks.get(0), builders);
+        return AVIIndexKind.IDX1;
+      }
+
+      for (final var movi : movi_chunks) {
+        this.scanMovi(movi, builders);
+      }
+      return AVIIndexKind.SCANNED;
+    }
+
+    private void scanMovi(
+      final RiffChunkType movi,
+      final IndexBuilder[] builders)
+      throws RiffParseException
+    {
+      for (final var chunk : movi.subChunks()) {
+        if (Objects.equals(chunk.formType(), Optional.of(FORM_REC))) {
+          this.scanMovi(chunk, builders);
+          continue;
+        }
+
+        final var stream = streamNumber(chunk.name().value());
+        if (stream >= 0 && stream < builders.length) {
+          builders[stream].add(
+            chunk.dataOffset(),
+            this.bufferSize(chunk, chunk.dataSizeExcludingForm().sizeUnpadded()),
+            true);
+        }
+      }
+    }
+
+    /**
+     * Load the legacy {@code idx1} index. Offsets in the index are, by convention, relative to
+     * the {@code movi} form type, but some writers produce absolute offsets. The first entry that
+     * names a known stream is used to determine which convention the file uses.
+     */
+
+    private void loadIDX1(
+      final RiffChunkType idx1,
+      final RiffChunkType movi,
+      final IndexBuilder[] builders)
+      throws RiffParseException
+    {
+      final var entries_size =
+        idx1.dataSizeExcludingForm().sizeUnpadded() / (long) IDX1_ENTRY_SIZE * IDX1_ENTRY_SIZE;
+      final var data = this.read(idx1, idx1.dataOffset(), entries_size);
+      final var entries = data.capacity() / IDX1_ENTRY_SIZE;
+
+      var offset_base = -1L;
+      for (var index = 0; index < entries; ++index) {
+        final var entry = index * IDX1_ENTRY_SIZE;
+        final var name = fourCC(data, entry);
+        final var stream = streamNumber(name);
+        if (stream < 0 || stream >= builders.length) {
+          continue;
+        }
+
+        final var flags = u32(data, entry + 4);
+        final var offset = u32(data, entry + 8);
+        final var size = u32(data, entry + 12);
+
+        if (offset_base < 0L) {
+          offset_base = this.idx1OffsetBase(idx1, movi, name, offset);
+        }
+
+        final var data_offset = offset_base + offset + 8L;
+        this.checkRange(idx1, data_offset, size);
+        builders[stream].add(
+          data_offset,
+          this.bufferSize(idx1, size),
+          (flags & AVIIF_KEYFRAME) != 0L);
+      }
+    }
+
+    private long idx1OffsetBase(
+      final RiffChunkType idx1,
+      final RiffChunkType movi,
+      final String name,
+      final long offset)
+      throws RiffParseException
+    {
+      final var relative_base = movi.dataOffset();
+      if (this.hasChunkAt(idx1, relative_base + offset, name)) {
+        return relative_base;
+      }
+      if (this.hasChunkAt(idx1, offset, name)) {
+        return 0L;
+      }
+
+      final var separator = System.lineSeparator();
+      throw new RiffParseException(
+        new StringBuilder(128)
+          .append("Index entries do not refer to chunks in the file.")
+          .append(separator)
+          .append("  Chunk offset: 0x")
+          .append(Long.toUnsignedString(idx1.offset(), 16))
+          .append(separator)
+          .append("  Expected: A chunk ")
+          .append(name)
+          .append(" at offset 0x")
+          .append(Long.toUnsignedString(relative_base + offset, 16))
+          .append(" or 0x")
+          .append(Long.toUnsignedString(offset, 16))
+          .append(separator)
+          .toString(),
+        this.source,
+        idx1.offset());
+    }
+
+    private boolean hasChunkAt(
+      final RiffChunkType idx1,
+      final long offset,
+      final String name)
+      throws RiffParseException
+    {
+      if (offset < 0L || offset + 8L > this.input_size) {
+        return false;
+      }
+      return Objects.equals(fourCC(this.read(idx1, offset, 4L), 0), name);
+    }
+
+    /**
+     * Load an OpenDML {@code indx} chunk. This is normally a super index whose entries refer to
+     * {@code ix##} standard index chunks, but files are permitted to place a standard index
+     * directly in the {@code indx} chunk.
+     */
+
+    private void loadOpenDMLIndex(
+      final RiffChunkType indx,
+      final IndexBuilder builder)
+      throws RiffParseException
+    {
+      final var size = indx.dataSizeExcludingForm().sizeUnpadded();
+      this.checkIndexHeader(indx, size);
+
+      final var data = this.read(indx, indx.dataOffset(), size);
+      final var index_type = Byte.toUnsignedInt(data.get(3));
+      switch (index_type) {
+        case AVI_INDEX_OF_INDEXES: {
+          final var entries = u32(data, 4);
+          this.checkEntries(indx, size, entries, SUPER_INDEX_ENTRY_SIZE);
+
+          for (var index = 0; index < entries; ++index) {
+            final var entry = INDEX_HEADER_SIZE + index * SUPER_INDEX_ENTRY_SIZE;
+            final var chunk_offset = data.getLong(entry);
+            final var chunk_size = u32(this.read(indx, chunk_offset, 8L), 4);
+            this.loadStandardIndex(indx, this.read(indx, chunk_offset + 8L, chunk_size), builder);
+          }
+          break;
+        }
+        case AVI_INDEX_OF_CHUNKS: {
+          this.loadStandardIndex(indx, data, builder);
+          break;
+        }
+        default: {
+          throw this.unsupportedIndexType(indx, index_type);
+        }
+      }
+    }
+
+    private void loadStandardIndex(
+      final RiffChunkType indx,
+      final ByteBuffer data,
+      final IndexBuilder builder)
+      throws RiffParseException
+    {
+      final var size = (long) data.capacity();
+      this.checkIndexHeader(indx, size);
+
+      final var index_type = Byte.toUnsignedInt(data.get(3));
+      if (index_type != AVI_INDEX_OF_CHUNKS) {
+        throw this.unsupportedIndexType(indx, index_type);
+      }
+
+      final var longs_per_entry = u16(data, 0);
+      final var entry_size = Math.max(2, longs_per_entry) * 4;
+      final var entries = u32(data, 4);
+      this.checkEntries(indx, size, entries, entry_size);
+
+      final var base_offset = data.getLong(12);
+      for (var index = 0; index < entries; ++index) {
+        final var entry = INDEX_HEADER_SIZE + index * entry_size;
+        final var data_offset = base_offset + u32(data, entry);
+        final var data_size = u32(data, entry + 4);
+        final var chunk_size = data_size & ~AVI_INDEX_DELTA_FRAME;
+        this.checkRange(indx, data_offset, chunk_size);
+        builder.add(
+          data_offset,
+          this.bufferSize(indx, chunk_size),
+          (data_size & AVI_INDEX_DELTA_FRAME) == 0L);
+      }
+    }
+
+    private void checkIndexHeader(
+      final RiffChunkType indx,
+      final long size)
+      throws RiffParseException
+    {
+      if (size < (long) INDEX_HEADER_SIZE) {
+        throw this.tooSmall(indx, INDEX_HEADER_SIZE, size);
+      }
+    }
+
+    private void checkEntries(
+      final RiffChunkType indx,
+      final long size,
+      final long entries,
+      final int entry_size)
+      throws RiffParseException
+    {
+      final var required = (long) INDEX_HEADER_SIZE + entries * (long) entry_size;
+      if (size < required) {
+        throw this.tooSmall(indx, required, size);
+      }
+    }
+
+    /**
+     * Read data that a chunk refers to, after checking that it lies within the input.
+     */
+
+    private ByteBuffer read(
+      final RiffChunkType chunk,
+      final long offset,
+      final long size)
+      throws RiffParseException
+    {
+      this.checkRange(chunk, offset, size);
+
+      try {
+        return this.input.read(offset, this.bufferSize(chunk, size));
+      } catch (final IOException e) {
+        throw new RiffParseException(e, this.source, offset);
+      }
+    }
+
+    private int bufferSize(
+      final RiffChunkType chunk,
+      final long size)
+      throws RiffParseException
+    {
+      if (size <= (long) Integer.MAX_VALUE) {
+        return (int) size;
+      }
+
+      final var separator = System.lineSeparator();
+      throw new RiffParseException(
+        new StringBuilder(128)
+          .append("Data is too large to be held in a byte buffer.")
+          .append(separator)
+          .append("  Chunk name: ")
+          .append(chunk.name().value())
+          .append(separator)
+          .append("  Chunk offset: 0x")
+          .append(Long.toUnsignedString(chunk.offset(), 16))
+          .append(separator)
+          .append("  Expected: At most ")
+          .append(Integer.MAX_VALUE)
+          .append(" octets")
+          .append(separator)
+          .append("  Received: ")
+          .append(Long.toUnsignedString(size))
+          .append(" octets")
+          .append(separator)
+          .toString(),
+        this.source,
+        chunk.offset());
+    }
+
+    private void checkRange(
+      final RiffChunkType chunk,
+      final long offset,
+      final long size)
+      throws RiffParseException
+    {
+      final var limit = this.input_size;
+      if (offset >= 0L && offset <= limit && size <= limit - offset) {
+        return;
+      }
+      final var separator = System.lineSeparator();
+      throw new RiffParseException(
+        new StringBuilder(128)
+          .append("Index entry refers to data outside of the file.")
+          .append(separator)
+          .append("  Chunk name: ")
+          .append(chunk.name().value())
+          .append(separator)
+          .append("  Chunk offset: 0x")
+          .append(Long.toUnsignedString(chunk.offset(), 16))
+          .append(separator)
+          .append("  Expected: A range within [0, 0x")
+          .append(Long.toUnsignedString(limit, 16))
+          .append(")")
+          .append(separator)
+          .append("  Received: Offset 0x")
+          .append(Long.toUnsignedString(offset, 16))
+          .append(", size ")
+          .append(Long.toUnsignedString(size))
+          .append(separator)
+          .toString(),
+        this.source,
+        chunk.offset());
+    }
+
+    private RiffParseException unsupportedIndexType(
+      final RiffChunkType indx,
+      final int index_type)
+    {
+      final var separator = System.lineSeparator();
+      return new RiffParseException(
+        new StringBuilder(128)
+          .append("Unsupported OpenDML index type.")
+          .append(separator)
+          .append("  Chunk offset: 0x")
+          .append(Long.toUnsignedString(indx.offset(), 16))
+          .append(separator)
+          .append("  Expected: One of ")
+          .append(AVI_INDEX_OF_INDEXES)
+          .append("|")
+          .append(AVI_INDEX_OF_CHUNKS)
+          .append(separator)
+          .append("  Received: ")
+          .append(index_type)
+          .append(separator)
+          .toString(),
+        this.source,
+        indx.offset());
+    }
+
+    private RiffParseException tooSmall(
+      final RiffChunkType chunk,
+      final long expected,
+      final long received)
+    {
+      final var separator = System.lineSeparator();
+      return new RiffParseException(
+        new StringBuilder(128)
+          .append("Chunk is too small to hold the required structure.")
+          .append(separator)
+          .append("  Chunk name: ")
+          .append(chunk.name().value())
+          .append(separator)
+          .append("  Chunk offset: 0x")
+          .append(Long.toUnsignedString(chunk.offset(), 16))
+          .append(separator)
+          .append("  Expected: At least ")
+          .append(Long.toUnsignedString(expected))
+          .append(" octets")
+          .append(separator)
+          .append("  Received: ")
+          .append(Long.toUnsignedString(received))
+          .append(" octets")
+          .append(separator)
+          .toString(),
+        this.source,
+        chunk.offset());
+    }
+
+    private AVIMainHeader parseMainHeader(
+      final RiffChunkType chunk)
+      throws RiffParseException
+    {
+      final var size = chunk.dataSizeExcludingForm().sizeUnpadded();
+      if (size < (long) AVIH_SIZE) {
+        throw this.tooSmall(chunk, AVIH_SIZE, size);
+      }
+
+      final var data = this.read(chunk, chunk.dataOffset(), AVIH_SIZE);
+      return AVIMainHeader.builder()
+        .setMicroSecondsPerFrame(u32(data, 0))
+        .setMaxBytesPerSecond(u32(data, 4))
+        .setPaddingGranularity(u32(data, 8))
+        .setFlags(u32(data, 12))
+        .setTotalFrames(u32(data, 16))
+        .setInitialFrames(u32(data, 20))
+        .setStreams(u32(data, 24))
+        .setSuggestedBufferSize(u32(data, 28))
+        .setWidth(u32(data, 32))
+        .setHeight(u32(data, 36))
+        .build();
+    }
+
+    private AVIStreamHeader parseStreamHeader(
+      final RiffChunkType chunk)
+      throws RiffParseException
+    {
+      final var size = chunk.dataSizeExcludingForm().sizeUnpadded();
+      if (size < (long) STRH_SIZE) {
+        throw this.tooSmall(chunk, STRH_SIZE, size);
+      }
+
+      final var data = this.read(chunk, chunk.dataOffset(), STRH_SIZE);
+      return AVIStreamHeader.builder()
+        .setType(fourCC(data, 0))
+        .setHandler(fourCC(data, 4))
+        .setFlags(u32(data, 8))
+        .setPriority(u16(data, 12))
+        .setLanguage(u16(data, 14))
+        .setInitialFrames(u32(data, 16))
+        .setScale(u32(data, 20))
+        .setRate(u32(data, 24))
+        .setStart(u32(data, 28))
+        .setLength(u32(data, 32))
+        .setSuggestedBufferSize(u32(data, 36))
+        .setQuality(u32(data, 40))
+        .setSampleSize(u32(data, 44))
+        .build();
+    }
+
+    private RiffChunkType findRoot(
+      final RiffFileType file)
+      throws RiffParseException
+    {
+      return RiffFormatParsing.findRootWithForm(this.source, file, FORM_AVI, "an AVI file");
+    }
+
+    private RiffChunkType required(
+      final RiffChunkType parent,
+      final String name)
+      throws RiffParseException
+    {
+      return RiffFormatParsing.requireSubChunk(this.source, parent, name);
+    }
+
+    private RiffChunkType requiredWithForm(
+      final RiffChunkType parent,
+      final String form)
+      throws RiffParseException
+    {
+      return RiffFormatParsing.requireSubChunkWithForm(this.source, parent, ID_LIST, form);
+    }
+  }
+
+  private static final class AVIFile implements AVIFileType
+  {
+    private final RiffFileType riff;
+    private final RiffChunkType root;
+    private final List<RiffChunkType> extensions;
+    private final AVIMainHeader main_header;
+    private final List<AVIStreamHeader> stream_headers;
+    private final AVIIndexKind index_kind;
+    private final List<AVIStreamIndex> indexes;
+    private final InputType input;
+
+    AVIFile(
+      final RiffFileType in_riff,
+      final RiffChunkType in_root,
+      final List<RiffChunkType> in_extensions,
+      final AVIMainHeader in_main_header,
+      final List<AVIStreamHeader> in_stream_headers,
+      final AVIIndexKind in_index_kind,
+      final List<AVIStreamIndex> in_indexes,
+      final InputType in_input)
+    {
+      this.riff = Objects.requireNonNull(in_riff, "riff");
+      this.root = Objects.requireNonNull(in_root, "root");
+      this.extensions = Objects.requireNonNull(in_extensions, "extensions");
+      this.main_header = Objects.requireNonNull(in_main_header, "main_header");
+      this.stream_headers = Objects.requireNonNull(in_stream_headers, "stream_headers");
+      this.index_kind = Objects.requireNonNull(in_index_kind, "index_kind");
+      this.indexes = Objects.requireNonNull(in_indexes, "indexes");
+      this.input = Objects.requireNonNull(in_input, "input");
+    }
+
+    @Override
+    public String toString()
+    {
+      return new StringBuilder(128)
+        .append("[AVIFile ")
+        .append(this.stream_headers.size())
+        .append(" streams, ")
+        .append(this.extensions.size())
+        .append(" extensions, ")
+        .append(this.index_kind)
+        .append("]")
+        .toString();
+    }
+
+    @Override
+    public RiffFileType riff()
+    {
+      return this.riff;
+    }
+
+    @Override
+    public RiffChunkType rootChunk()
+    {
+      return this.root;
+    }
+
+    @Override
+    public List<RiffChunkType> extensionChunks()
+    {
+      return this.extensions;
+    }
+
+    @Override
+    public AVIMainHeader mainHeader()
+    {
+      return this.main_header;
+    }
+
+    @Override
+    public List<AVIStreamHeader> streamHeaders()
+    {
+      return this.stream_headers;
+    }
+
+    @Override
+    public AVIIndexKind indexKind()
+    {
+      return this.index_kind;
+    }
+
+    @Override
+    public AVIStreamIndex index(
+      final int stream)
+    {
+      return this.indexes.get(stream);
+    }
+
+    @Override
+    public ByteBuffer frame(
+      final int stream,
+      final int index)
+    {
+      final var stream_index = this.index(stream);
+      try {
+        return this.input.read(stream_index.offset(index), stream_index.chunkSize(index));
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+}
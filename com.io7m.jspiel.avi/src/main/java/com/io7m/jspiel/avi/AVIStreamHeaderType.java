@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.avi;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+/**
+ * A stream header held in the {@code strh} chunk of a {@code LIST(strl)} chunk.
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface AVIStreamHeaderType
+{
+  /**
+   * @return The stream type, such as {@code vids} or {@code auds}
+   */
+
+  String type();
+
+  /**
+   * @return The FourCC of the preferred handler for the stream
+   */
+
+  String handler();
+
+  /**
+   * @return The {@code AVISF_*} flags
+   */
+
+  long flags();
+
+  /**
+   * @return The priority of the stream
+   */
+
+  int priority();
+
+  /**
+   * @return The language of the stream
+   */
+
+  int language();
+
+  /**
+   * @return The initial frame for interleaved files
+   */
+
+  long initialFrames();
+
+  /**
+   * @return The time scale; {@code rate() / scale()} gives samples per second
+   */
+
+  long scale();
+
+  /**
+   * @return The rate; {@code rate() / scale()} gives samples per second
+   */
+
+  long rate();
+
+  /**
+   * @return The starting time of the stream in units of {@code scale() / rate()}
+   */
+
+  long start();
+
+  /**
+   * @return The length of the stream in units of {@code scale() / rate()}
+   */
+
+  long length();
+
+  /**
+   * @return The suggested buffer size for reading the stream
+   */
+
+  long suggestedBufferSize();
+
+  /**
+   * @return The quality indicator of the stream
+   */
+
+  long quality();
+
+  /**
+   * @return The size of a single sample, or {@code 0} if samples vary in size
+   */
+
+  long sampleSize();
+}
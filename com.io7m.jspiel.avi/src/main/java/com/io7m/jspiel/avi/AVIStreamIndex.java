@@ -0,0 +1,135 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.avi;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.OptionalInt;
+
+/**
+ * <p>The index of a single AVI stream.</p>
+ *
+ * <p>The index is held in primitive arrays, so locating the data of chunk {@code n} of a stream
+ * is a constant-time operation and does not require scanning the {@code movi} chunks.</p>
+ */
+
+public final class AVIStreamIndex
+{
+  private final long[] offsets;
+  private final int[] sizes;
+  private final boolean[] key_frames;
+  private final int[] key_frame_indices;
+  private final int count;
+
+  AVIStreamIndex(
+    final long[] in_offsets,
+    final int[] in_sizes,
+    final boolean[] in_key_frames,
+    final int[] in_key_frame_indices,
+    final int in_count)
+  {
+    this.offsets = Objects.requireNonNull(in_offsets, "offsets");
+    this.sizes = Objects.requireNonNull(in_sizes, "sizes");
+    this.key_frames = Objects.requireNonNull(in_key_frames, "key_frames");
+    this.key_frame_indices = Objects.requireNonNull(in_key_frame_indices, "key_frame_indices");
+    this.count = in_count;
+  }
+
+  /**
+   * @return The number of chunks in the stream
+   */
+
+  public int size()
+  {
+    return this.count;
+  }
+
+  /**
+   * @param index The chunk index
+   *
+   * @return The absolute offset of the data of the given chunk
+   */
+
+  public long offset(
+    final int index)
+  {
+    return this.offsets[Objects.checkIndex(index, this.count)];
+  }
+
+  /**
+   * @param index The chunk index
+   *
+   * @return The size of the data of the given chunk, excluding the chunk header
+   */
+
+  public int chunkSize(
+    final int index)
+  {
+    return this.sizes[Objects.checkIndex(index, this.count)];
+  }
+
+  /**
+   * @param index The chunk index
+   *
+   * @return {@code true} if the given chunk is a key frame
+   */
+
+  public boolean isKeyFrame(
+    final int index)
+  {
+    return this.key_frames[Objects.checkIndex(index, this.count)];
+  }
+
+  /**
+   * Find the nearest key frame at or before the given chunk. This is the chunk from which
+   * decoding must start in order to display the given chunk.
+   *
+   * @param index The chunk index
+   *
+   * @return The index of the key frame, if any
+   */
+
+  public OptionalInt keyFrameAtOrBefore(
+    final int index)
+  {
+    Objects.checkIndex(index, this.count);
+
+    final var found = Arrays.binarySearch(this.key_frame_indices, index);
+    if (found >= 0) {
+      return OptionalInt.of(index);
+    }
+
+    final var insertion = -(found + 1);
+    if (insertion == 0) {
+      return OptionalInt.empty();
+    }
+    return OptionalInt.of(this.key_frame_indices[insertion - 1]);
+  }
+
+  @Override
+  public String toString()
+  {
+    return new StringBuilder(64)
+      .append("[AVIStreamIndex ")
+      .append(this.count)
+      .append(" chunks, ")
+      .append(this.key_frame_indices.length)
+      .append(" key frames]")
+      .toString();
+  }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.benchmarks;
+
+import com.io7m.jspiel.api.RiffChunkID;
+import com.io7m.jspiel.api.RiffFileWriterDescriptionType;
+import com.io7m.jspiel.vanilla.RiffFileBuilders;
+import com.io7m.jspiel.vanilla.RiffParsers;
+import com.io7m.jspiel.vanilla.RiffWriters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Measure the per-chunk cost of parsing and writing a file with many small chunks. Run with
+ * {@code -prof gc} to obtain the allocation per chunk ({@code gc.alloc.rate.norm}); with logging
+ * disabled, the only allocations are the chunk model objects themselves, and the figure does not
+ * depend on the configuration of the logger.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RiffParsersBenchmark
+{
+  private static final int LISTS = 64;
+  private static final int CHUNKS_PER_LIST = 64;
+  private static final int CHUNKS = 1 + LISTS + LISTS * CHUNKS_PER_LIST;
+  private static final int PAYLOAD_SIZE = 16;
+
+  private static final URI SOURCE = URI.create("urn:benchmark");
+
+  private ByteBuffer payload;
+  private RiffFileWriterDescriptionType description;
+  private RiffParsers parsers;
+  private RiffWriters writers;
+  private ByteBuffer data;
+  private Path file;
+  private FileChannel channel;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public RiffParsersBenchmark()
+  {
+
+  }
+
+  /**
+   * Generate the file description and write the file.
+   *
+   * @throws Exception On errors
+   */
+
+  @Setup
+  public void setup()
+    throws Exception
+  {
+    this.payload = ByteBuffer.allocate(PAYLOAD_SIZE);
+    this.parsers = new RiffParsers();
+    this.writers = new RiffWriters();
+
+    final var builder = new RiffFileBuilders().create(LITTLE_ENDIAN);
+    try (var root = builder.setRootChunk(RiffChunkID.of("RIFF"), "BNCH")) {
+      for (var list = 0; list < LISTS; ++list) {
+        try (var c = root.addSubChunk(RiffChunkID.of("LIST"))) {
+          c.setForm("data");
+          for (var index = 0; index < CHUNKS_PER_LIST; ++index) {
+            try (var d = c.addSubChunk(RiffChunkID.of("item"))) {
+              d.setSize((long) PAYLOAD_SIZE);
+              d.setDataWriter(output -> {
+                this.payload.clear();
+                output.write(this.payload);
+              });
+            }
+          }
+        }
+      }
+    }
+    this.description = builder.build();
+
+    this.file = Files.createTempFile("jspiel-parsers-", ".riff");
+    this.channel = FileChannel.open(this.file, TRUNCATE_EXISTING, WRITE, CREATE, READ);
+    this.writers.createForChannel(SOURCE, this.description, this.channel).write();
+
+    final var size = Math.toIntExact(this.channel.size());
+    this.data = ByteBuffer.allocate(size);
+    this.channel.read(this.data, 0L);
+    this.data.flip();
+  }
+
+  /**
+   * Delete the file.
+   *
+   * @throws Exception On errors
+   */
+
+  @TearDown
+  public void tearDown()
+    throws Exception
+  {
+    this.channel.close();
+    Files.deleteIfExists(this.file);
+  }
+
+  /**
+   * Parse a file held in a heap buffer.
+   *
+   * @param hole The blackhole
+   *
+   * @throws Exception On errors
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(CHUNKS)
+  public void parse(
+    final Blackhole hole)
+    throws Exception
+  {
+    hole.consume(this.parsers.createForByteBuffer(SOURCE, this.data.duplicate()).parse());
+  }
+
+  /**
+   * Write a file over the top of an existing file of the same size.
+   *
+   * @throws Exception On errors
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(CHUNKS)
+  public void write()
+    throws Exception
+  {
+    this.writers.createForChannel(SOURCE, this.description, this.channel).write();
+  }
+}
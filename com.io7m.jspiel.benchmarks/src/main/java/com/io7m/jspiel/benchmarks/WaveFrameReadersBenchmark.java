@@ -0,0 +1,183 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.benchmarks;
+
+import com.io7m.jspiel.wave.WaveFormat;
+import com.io7m.jspiel.wave.WaveFormatTags;
+import com.io7m.jspiel.wave.WaveFrameReaderType;
+import com.io7m.jspiel.wave.WaveFrameReaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare bulk frame decoding against a naive per-sample decoding loop.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WaveFrameReadersBenchmark
+{
+  private static final int CHANNELS = 2;
+  private static final int FRAMES = 1 << 20;
+  private static final int BLOCK_FRAMES = 4096;
+
+  /**
+   * The number of bits per sample.
+   */
+
+  // CHECKSTYLE:OFF
+  @Param({"16", "24"})
+  public int bits;
+  // CHECKSTYLE:ON
+
+  /**
+   * The byte order of the data.
+   */
+
+  // CHECKSTYLE:OFF
+  @Param({"LITTLE_ENDIAN", "BIG_ENDIAN"})
+  public String order;
+  // CHECKSTYLE:ON
+
+  private ByteBuffer data;
+  private WaveFrameReaderType reader;
+  private float[] output;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public WaveFrameReadersBenchmark()
+  {
+
+  }
+
+  /**
+   * Generate the audio data.
+   *
+   * @throws Exception On errors
+   */
+
+  @Setup
+  public void setup()
+    throws Exception
+  {
+    final var byte_order =
+      "BIG_ENDIAN".equals(this.order) ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN;
+    final var block_align = CHANNELS * (this.bits / 8);
+    final var bytes = new byte[FRAMES * block_align];
+    new Random(0x5eedL).nextBytes(bytes);
+
+    this.data = ByteBuffer.wrap(bytes).order(byte_order);
+    this.reader =
+      WaveFrameReaders.create(
+        WaveFormat.builder()
+          .setFormatTag(WaveFormatTags.WAVE_FORMAT_PCM)
+          .setChannels(CHANNELS)
+          .setSamplesPerSecond(48000L)
+          .setAverageBytesPerSecond(48000L * (long) block_align)
+          .setBlockAlign(block_align)
+          .setBitsPerSample(this.bits)
+          .build(),
+        this.data);
+    this.output = new float[BLOCK_FRAMES * CHANNELS];
+  }
+
+  /**
+   * Decode the whole stream using the bulk frame reader.
+   *
+   * @param hole The blackhole
+   */
+
+  @Benchmark
+  public void bulkReader(
+    final Blackhole hole)
+  {
+    final var out = this.output;
+    this.reader.seek(0L);
+    while (this.reader.read(out, 0, BLOCK_FRAMES) > 0) {
+      hole.consume(out);
+    }
+  }
+
+  /**
+   * Decode the whole stream one sample at a time using absolute gets on
+   * the byte buffer; this is the baseline that the bulk reader replaces.
+   *
+   * @param hole The blackhole
+   */
+
+  @Benchmark
+  public void perSampleBaseline(
+    final Blackhole hole)
+  {
+    final var out = this.output;
+    final var buffer = this.data;
+    final var samples = FRAMES * CHANNELS;
+    final var big = buffer.order() == ByteOrder.BIG_ENDIAN;
+
+    var index = 0;
+    var out_index = 0;
+    for (var sample = 0; sample < samples; ++sample) {
+      final float value;
+      if (this.bits == 16) {
+        value = (float) buffer.getShort(index) / 32768.0f;
+        index += 2;
+      } else {
+        final var b0 = buffer.get(index);
+        final var b1 = buffer.get(index + 1);
+        final var b2 = buffer.get(index + 2);
+        final var middle = (b1 & 0xff) << 8;
+        final int raw;
+        if (big) {
+          raw = (b0 << 16) | middle | (b2 & 0xff);
+        } else {
+          raw = (b2 << 16) | middle | (b0 & 0xff);
+        }
+        value = (float) raw / 8388608.0f;
+        index += 3;
+      }
+      out[out_index] = value;
+      ++out_index;
+      if (out_index == out.length) {
+        hole.consume(out);
+        out_index = 0;
+      }
+    }
+    hole.consume(out);
+  }
+}
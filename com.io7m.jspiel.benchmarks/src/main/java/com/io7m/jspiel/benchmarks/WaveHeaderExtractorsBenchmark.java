@@ -0,0 +1,239 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.benchmarks;
+
+import com.io7m.jspiel.vanilla.RiffParsers;
+import com.io7m.jspiel.wave.WaveHeaderExtractorProviderType;
+import com.io7m.jspiel.wave.WaveHeaderExtractors;
+import com.io7m.jspiel.wave.WaveParsers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Measure the number of files per second from which sampler metadata can be extracted, comparing
+ * the channel-based header extractor against mapping and fully parsing each file.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class WaveHeaderExtractorsBenchmark
+{
+  private static final int FILES = 10_000;
+
+  /**
+   * The size of the audio data in each file.
+   */
+
+  // CHECKSTYLE:OFF
+  @Param({"4096", "32768"})
+  public int audioSize;
+  // CHECKSTYLE:ON
+
+  private Path directory;
+  private List<Path> files;
+  private WaveHeaderExtractorProviderType extractors;
+  private WaveParsers parsers;
+
+  private static byte[] chunk(
+    final String id,
+    final byte[] data)
+  {
+    final var padded = data.length + (data.length & 1);
+    final var buffer = ByteBuffer.allocate(8 + padded).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.put(id.getBytes(US_ASCII));
+    buffer.putInt(data.length);
+    buffer.put(data);
+    return buffer.array();
+  }
+
+  private static byte[] wave(
+    final Random random,
+    final int audio_size)
+  {
+    final var format = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN);
+    format.putShort((short) 1).putShort((short) 2).putInt(44100).putInt(44100 * 4);
+    format.putShort((short) 4).putShort((short) 16);
+
+    final var acid = ByteBuffer.allocate(24).order(ByteOrder.LITTLE_ENDIAN);
+    acid.putInt(0x02).putShort((short) (36 + random.nextInt(48))).putShort((short) 0);
+    acid.putFloat(0.0f).putInt(4 + random.nextInt(28)).putShort((short) 4).putShort((short) 4);
+    acid.putFloat(60.0f + (float) random.nextInt(120));
+
+    final var sampler = ByteBuffer.allocate(60).order(ByteOrder.LITTLE_ENDIAN);
+    sampler.putInt(0).putInt(0).putInt(22675).putInt(60).putInt(0).putInt(0).putInt(0);
+    sampler.putInt(1).putInt(0);
+    sampler.putInt(0).putInt(0).putInt(0).putInt(audio_size / 4 - 1).putInt(0).putInt(0);
+
+    final var cues = ByteBuffer.allocate(4 + 8 * 24).order(ByteOrder.LITTLE_ENDIAN);
+    cues.putInt(8);
+    for (var index = 0; index < 8; ++index) {
+      final var position = index * (audio_size / 32);
+      cues.putInt(index).putInt(position).put("data".getBytes(US_ASCII));
+      cues.putInt(0).putInt(0).putInt(position);
+    }
+
+    final var info = new ByteArrayOutputStream();
+    info.writeBytes("INFO".getBytes(US_ASCII));
+    info.writeBytes(chunk("INAM", ("Loop " + random.nextInt() + "\0").getBytes(US_ASCII)));
+    info.writeBytes(chunk("IGNR", "Drums\0".getBytes(US_ASCII)));
+
+    final var audio = new byte[audio_size];
+    random.nextBytes(audio);
+
+    final var body = new ByteArrayOutputStream();
+    body.writeBytes("WAVE".getBytes(US_ASCII));
+    body.writeBytes(chunk("fmt ", format.array()));
+    body.writeBytes(chunk("acid", acid.array()));
+    body.writeBytes(chunk("data", audio));
+    body.writeBytes(chunk("smpl", sampler.array()));
+    body.writeBytes(chunk("inst", new byte[]{60, 0, 0, 0, 127, 0, 127}));
+    body.writeBytes(chunk("cue ", cues.array()));
+    body.writeBytes(chunk("LIST", info.toByteArray()));
+    return chunk("RIFF", body.toByteArray());
+  }
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public WaveHeaderExtractorsBenchmark()
+  {
+
+  }
+
+  /**
+   * Generate the corpus of files.
+   *
+   * @throws Exception On errors
+   */
+
+  @Setup
+  public void setup()
+    throws Exception
+  {
+    this.directory = Files.createTempDirectory("jspiel-wave-corpus-");
+    this.files = new ArrayList<>(FILES);
+
+    final var random = new Random(0x5eedL);
+    for (var index = 0; index < FILES; ++index) {
+      final var path = this.directory.resolve(String.format("%05d.wav", Integer.valueOf(index)));
+      Files.write(path, wave(random, this.audioSize));
+      this.files.add(path);
+    }
+
+    this.extractors = new WaveHeaderExtractors();
+    this.parsers = new WaveParsers(new RiffParsers());
+  }
+
+  /**
+   * Delete the corpus of files.
+   *
+   * @throws Exception On errors
+   */
+
+  @TearDown
+  public void tearDown()
+    throws Exception
+  {
+    try (Stream<Path> paths = Files.walk(this.directory)) {
+      for (final var path : paths.sorted(Comparator.reverseOrder()).toList()) {
+        Files.deleteIfExists(path);
+      }
+    }
+  }
+
+  /**
+   * Extract the metadata of every file in the corpus using the header extractor.
+   *
+   * @param hole The blackhole
+   *
+   * @throws Exception On errors
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(FILES)
+  public void extractHeaders(
+    final Blackhole hole)
+    throws Exception
+  {
+    for (final var path : this.files) {
+      try (var channel = FileChannel.open(path, READ)) {
+        hole.consume(this.extractors.createForChannel(path.toUri(), channel).extract());
+      }
+    }
+  }
+
+  /**
+   * Extract the metadata of every file in the corpus by mapping and parsing the whole file;
+   * this is the baseline that the header extractor replaces.
+   *
+   * @param hole The blackhole
+   *
+   * @throws Exception On errors
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(FILES)
+  public void parseMapped(
+    final Blackhole hole)
+    throws Exception
+  {
+    for (final var path : this.files) {
+      try (var channel = FileChannel.open(path, READ)) {
+        final var map = channel.map(READ_ONLY, 0L, channel.size());
+        final var file = this.parsers.createForByteBuffer(path.toUri(), map).parse();
+        hole.consume(file.sampler());
+        hole.consume(file.cuePoints());
+        hole.consume(file.info());
+      }
+    }
+  }
+}
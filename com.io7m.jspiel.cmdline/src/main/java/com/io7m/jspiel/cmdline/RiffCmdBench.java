@@ -0,0 +1,548 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.cmdline;
+
+import com.io7m.jspiel.api.RiffChunkBuilderType;
+import com.io7m.jspiel.api.RiffChunkID;
+import com.io7m.jspiel.api.RiffFileBuilderProviderType;
+import com.io7m.jspiel.api.RiffFileParserProviderType;
+import com.io7m.jspiel.api.RiffFileWriterDescriptionType;
+import com.io7m.jspiel.api.RiffFileWriterProviderType;
+import com.io7m.quarrel.core.QCommandContextType;
+import com.io7m.quarrel.core.QCommandMetadata;
+import com.io7m.quarrel.core.QCommandStatus;
+import com.io7m.quarrel.core.QCommandType;
+import com.io7m.quarrel.core.QParameterNamed01;
+import com.io7m.quarrel.core.QParameterNamed0N;
+import com.io7m.quarrel.core.QParameterNamed1;
+import com.io7m.quarrel.core.QParameterNamedType;
+import com.io7m.quarrel.core.QStringType;
+import com.io7m.quarrel.ext.logback.QLogback;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * The "bench" command.
+ */
+
+public final class RiffCmdBench implements QCommandType
+{
+  private static final long CHUNK_LIMIT = 10_000_000L;
+
+  private static final QParameterNamed1<Integer> DEPTH =
+    new QParameterNamed1<>(
+      "--depth",
+      List.of(),
+      new QStringType.QConstant("The number of levels of chunks below the root chunk."),
+      Optional.of(Integer.valueOf(2)),
+      Integer.class
+    );
+
+  private static final QParameterNamed1<Integer> FAN_OUT =
+    new QParameterNamed1<>(
+      "--fan-out",
+      List.of(),
+      new QStringType.QConstant("The number of subchunks of each chunk with a form."),
+      Optional.of(Integer.valueOf(16)),
+      Integer.class
+    );
+
+  private static final QParameterNamed1<Integer> PAYLOAD_SIZE =
+    new QParameterNamed1<>(
+      "--payload-size",
+      List.of(),
+      new QStringType.QConstant("The size in octets of the data of each leaf chunk."),
+      Optional.of(Integer.valueOf(4096)),
+      Integer.class
+    );
+
+  private static final QParameterNamed0N<Integer> THREADS =
+    new QParameterNamed0N<>(
+      "--threads",
+      List.of(),
+      new QStringType.QConstant("A number of threads with which to run each benchmark."),
+      List.of(Integer.valueOf(1), Integer.valueOf(4)),
+      Integer.class
+    );
+
+  private static final QParameterNamed1<Integer> ITERATIONS =
+    new QParameterNamed1<>(
+      "--iterations",
+      List.of(),
+      new QStringType.QConstant("The number of measured operations per thread."),
+      Optional.of(Integer.valueOf(200)),
+      Integer.class
+    );
+
+  private static final QParameterNamed1<Integer> WARMUP =
+    new QParameterNamed1<>(
+      "--warmup",
+      List.of(),
+      new QStringType.QConstant("The number of unmeasured operations per thread."),
+      Optional.of(Integer.valueOf(20)),
+      Integer.class
+    );
+
+  private static final QParameterNamed01<Path> DIRECTORY =
+    new QParameterNamed01<>(
+      "--directory",
+      List.of(),
+      new QStringType.QConstant(
+        "The directory in which to create files (a temporary directory if not specified)."),
+      Optional.empty(),
+      Path.class
+    );
+
+  private final QCommandMetadata metadata;
+
+  /**
+   * Construct a command.
+   */
+
+  public RiffCmdBench()
+  {
+    this.metadata = new QCommandMetadata(
+      "bench",
+      new QStringType.QConstant("Measure parsing and writing throughput on synthetic files."),
+      Optional.empty()
+    );
+  }
+
+  private static int positive(
+    final QCommandContextType context,
+    final QParameterNamed1<Integer> parameter)
+  {
+    final var value = context.parameterValue(parameter).intValue();
+    if (value < 1) {
+      throw new IllegalArgumentException(parameter.name() + " must be at least 1");
+    }
+    return value;
+  }
+
+  private static int nonNegative(
+    final QCommandContextType context,
+    final QParameterNamed1<Integer> parameter)
+  {
+    final var value = context.parameterValue(parameter).intValue();
+    if (value < 0) {
+      throw new IllegalArgumentException(parameter.name() + " must not be negative");
+    }
+    return value;
+  }
+
+  private static long chunkCount(
+    final int depth,
+    final int fan_out)
+  {
+    var level = 1L;
+    var total = 1L;
+    for (var index = 0; index < depth; ++index) {
+      level = Math.multiplyExact(level, (long) fan_out);
+      total = Math.addExact(total, level);
+      if (total > CHUNK_LIMIT) {
+        throw new IllegalArgumentException(
+          "The requested shape would produce more than " + CHUNK_LIMIT + " chunks");
+      }
+    }
+    return total;
+  }
+
+  private static void describe(
+    final RiffChunkBuilderType parent,
+    final int depth,
+    final int fan_out,
+    final ByteBuffer payload)
+  {
+    for (var index = 0; index < fan_out; ++index) {
+      if (depth > 1) {
+        try (var list = parent.addSubChunk(RiffChunkID.of("LIST"))) {
+          list.setForm("NODE");
+          describe(list, depth - 1, fan_out, payload);
+        }
+      } else {
+        try (var data = parent.addSubChunk(RiffChunkID.of("data"))) {
+          data.setSize((long) payload.capacity());
+          data.setDataWriter(channel -> {
+            final var source = payload.duplicate();
+            while (source.hasRemaining()) {
+              channel.write(source);
+            }
+          });
+        }
+      }
+    }
+  }
+
+  @Override
+  public List<QParameterNamedType<?>> onListNamedParameters()
+  {
+    return QLogback.plusParameters(
+      List.of(DEPTH, FAN_OUT, PAYLOAD_SIZE, THREADS, ITERATIONS, WARMUP, DIRECTORY));
+  }
+
+  @Override
+  public QCommandStatus onExecute(
+    final QCommandContextType context)
+    throws Exception
+  {
+    QLogback.configure(context);
+
+    final var depth = positive(context, DEPTH);
+    final var fan_out = positive(context, FAN_OUT);
+    final var payload_size = positive(context, PAYLOAD_SIZE);
+    final var chunks = chunkCount(depth, fan_out);
+
+    final var threads = context.parameterValues(THREADS);
+    for (final var count : threads) {
+      if (count.intValue() < 1) {
+        throw new IllegalArgumentException(THREADS.name() + " must be at least 1");
+      }
+    }
+
+    final var builders =
+      ServiceLoader.load(RiffFileBuilderProviderType.class)
+        .findFirst()
+        .orElseThrow(() -> new IllegalStateException("No RIFF file builder service available"));
+
+    final var builder = builders.create(LITTLE_ENDIAN);
+    try (var root = builder.setRootChunk(RiffChunkID.of("RIFF"), "BNCH")) {
+      describe(root, depth, fan_out, ByteBuffer.allocate(payload_size));
+    }
+
+    final var created = context.parameterValue(DIRECTORY).isEmpty();
+    final var directory =
+      context.parameterValue(DIRECTORY)
+        .orElseGet(RiffCmdBench::temporaryDirectory);
+
+    final var bench =
+      new Bench(
+        directory,
+        builder.build(),
+        nonNegative(context, WARMUP),
+        positive(context, ITERATIONS));
+
+    try {
+      final var size = bench.prepare();
+      System.out.printf(
+        "Shape: depth %d, fan-out %d, payload %d octets (%d chunks, %d octets per file)\n\n",
+        Integer.valueOf(depth),
+        Integer.valueOf(fan_out),
+        Integer.valueOf(payload_size),
+        Long.valueOf(chunks),
+        Long.valueOf(size));
+
+      System.out.printf(
+        "%-14s %7s %12s %10s %10s %10s %10s\n",
+        "Benchmark", "Threads", "ops/s", "MB/s", "mean us", "p50 us", "p99 us");
+
+      for (final var count : threads) {
+        for (final var kind : Kind.values()) {
+          if (kind.buffered && size > (long) Integer.MAX_VALUE) {
+            System.out.printf(
+              "%-14s %7d skipped: the file is larger than the largest possible byte buffer\n",
+              kind.label,
+              Integer.valueOf(count.intValue()));
+            continue;
+          }
+          bench.run(kind, count.intValue()).show(kind, count.intValue(), size);
+        }
+      }
+    } finally {
+      bench.delete(created);
+    }
+
+    return QCommandStatus.SUCCESS;
+  }
+
+  private static Path temporaryDirectory()
+  {
+    try {
+      return Files.createTempDirectory("jspiel-bench-");
+    } catch (final IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @Override
+  public QCommandMetadata metadata()
+  {
+    return this.metadata;
+  }
+
+  private enum Kind
+  {
+    PARSE_MAPPED("parse-mapped", true),
+    PARSE_HEAP("parse-heap", true),
+    PARSE_DIRECT("parse-direct", true),
+    PARSE_CHANNEL("parse-channel", false),
+    WRITE("write", false);
+
+    private final String label;
+    private final boolean buffered;
+
+    Kind(
+      final String in_label,
+      final boolean in_buffered)
+    {
+      this.label = in_label;
+      this.buffered = in_buffered;
+    }
+  }
+
+  private static final class Bench
+  {
+    private final Path directory;
+    private final RiffFileWriterDescriptionType description;
+    private final int warmup;
+    private final int iterations;
+    private final Path source;
+    private final RiffFileParserProviderType parsers;
+    private final RiffFileWriterProviderType writers;
+    private final Set<Path> written;
+
+    Bench(
+      final Path in_directory,
+      final RiffFileWriterDescriptionType in_description,
+      final int in_warmup,
+      final int in_iterations)
+    {
+      this.directory = in_directory;
+      this.description = in_description;
+      this.warmup = in_warmup;
+      this.iterations = in_iterations;
+      this.source = in_directory.resolve("bench-source.riff");
+      this.written = new HashSet<>();
+
+      this.parsers =
+        ServiceLoader.load(RiffFileParserProviderType.class)
+          .findFirst()
+          .orElseThrow(() -> new IllegalStateException("No RIFF file parser service available"));
+      this.writers =
+        ServiceLoader.load(RiffFileWriterProviderType.class)
+          .findFirst()
+          .orElseThrow(() -> new IllegalStateException("No RIFF file writer service available"));
+    }
+
+    long prepare()
+      throws Exception
+    {
+      this.write(this.source);
+      return Files.size(this.source);
+    }
+
+    void delete(
+      final boolean directory_too)
+      throws IOException
+    {
+      Files.deleteIfExists(this.source);
+      for (final var path : this.written) {
+        Files.deleteIfExists(path);
+      }
+      if (directory_too) {
+        Files.deleteIfExists(this.directory);
+      }
+    }
+
+    private void write(
+      final Path path)
+      throws Exception
+    {
+      try (var channel = FileChannel.open(path, CREATE, TRUNCATE_EXISTING, WRITE)) {
+        this.writers.createForChannel(path.toUri(), this.description, channel).write();
+      }
+    }
+
+    private void parse(
+      final Kind kind,
+      final ByteBuffer buffer)
+      throws Exception
+    {
+      try (var channel = FileChannel.open(this.source, READ)) {
+        if (kind == Kind.PARSE_CHANNEL) {
+          this.parsers.createForChannel(this.source.toUri(), channel).parse();
+          return;
+        }
+
+        final ByteBuffer data;
+        if (kind == Kind.PARSE_MAPPED) {
+          data = channel.map(READ_ONLY, 0L, channel.size());
+        } else {
+          buffer.clear();
+          while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+              throw new IOException("Unexpected end of file");
+            }
+          }
+          data = buffer.flip();
+        }
+        this.parsers.createForByteBuffer(this.source.toUri(), data).parse();
+      }
+    }
+
+    private void operation(
+      final Kind kind,
+      final Path target,
+      final ByteBuffer buffer)
+      throws Exception
+    {
+      if (kind == Kind.WRITE) {
+        this.write(target);
+      } else {
+        this.parse(kind, buffer);
+      }
+    }
+
+    /**
+     * Wait for all tasks, in the order in which they complete. A task that fails during warmup
+     * never reaches the barrier, so the first failure cancels (and interrupts) all of the
+     * remaining tasks rather than leaving them waiting at the barrier forever.
+     */
+
+    private static void awaitAll(
+      final CompletionService<Object> completion,
+      final List<Future<Object>> futures)
+      throws Exception
+    {
+      try {
+        for (var index = 0; index < futures.size(); ++index) {
+          completion.take().get();
+        }
+      } catch (final Exception e) {
+        for (final var future : futures) {
+          future.cancel(true);
+        }
+        throw e;
+      }
+    }
+
+    Result run(
+      final Kind kind,
+      final int threads)
+      throws Exception
+    {
+      final var size = Files.size(this.source);
+      final var latencies = new long[threads * this.iterations];
+      final var starts = new long[threads];
+      final var ends = new long[threads];
+      final var barrier = new CyclicBarrier(threads);
+
+      try (var executor = Executors.newFixedThreadPool(threads)) {
+        final var completion = new ExecutorCompletionService<Object>(executor);
+        final var futures = new ArrayList<Future<Object>>(threads);
+        for (var thread = 0; thread < threads; ++thread) {
+          final var index = thread;
+          final var target = this.directory.resolve("bench-write-" + index + ".riff");
+          this.written.add(target);
+          final var buffer = switch (kind) {
+            case PARSE_HEAP -> ByteBuffer.allocate(Math.toIntExact(size));
+            case PARSE_DIRECT -> ByteBuffer.allocateDirect(Math.toIntExact(size));
+            case PARSE_MAPPED, PARSE_CHANNEL, WRITE -> ByteBuffer.allocate(0);
+          };
+
+          futures.add(completion.submit(() -> {
+            for (var iteration = 0; iteration < this.warmup; ++iteration) {
+              this.operation(kind, target, buffer);
+            }
+            barrier.await();
+            starts[index] = System.nanoTime();
+            for (var iteration = 0; iteration < this.iterations; ++iteration) {
+              final var time_then = System.nanoTime();
+              this.operation(kind, target, buffer);
+              latencies[index * this.iterations + iteration] = System.nanoTime() - time_then;
+            }
+            ends[index] = System.nanoTime();
+            return null;
+          }));
+        }
+
+        awaitAll(completion, futures);
+      }
+
+      final var elapsed =
+        Arrays.stream(ends).max().orElseThrow() - Arrays.stream(starts).min().orElseThrow();
+      return new Result(latencies, elapsed);
+    }
+  }
+
+  private static final class Result
+  {
+    private final long[] latencies;
+    private final long elapsed;
+
+    Result(
+      final long[] in_latencies,
+      final long in_elapsed)
+    {
+      this.latencies = in_latencies;
+      this.elapsed = in_elapsed;
+      Arrays.sort(this.latencies);
+    }
+
+    private double percentileMicros(
+      final double percentile)
+    {
+      final var index =
+        Math.min(this.latencies.length - 1, (int) (percentile * (double) this.latencies.length));
+      return (double) this.latencies[index] / 1000.0;
+    }
+
+    void show(
+      final Kind kind,
+      final int threads,
+      final long size)
+    {
+      final var seconds = Math.max((double) this.elapsed / 1.0e9, 1.0e-9);
+      final var operations = (double) this.latencies.length;
+      final var mean =
+        (double) Arrays.stream(this.latencies).sum() / operations / 1000.0;
+
+      System.out.printf(
+        "%-14s %7d %12.1f %10.1f %10.1f %10.1f %10.1f\n",
+        kind.label,
+        Integer.valueOf(threads),
+        Double.valueOf(operations / seconds),
+        Double.valueOf(operations * (double) size / 1.0e6 / seconds),
+        Double.valueOf(mean),
+        Double.valueOf(this.percentileMicros(0.5)),
+        Double.valueOf(this.percentileMicros(0.99)));
+    }
+  }
+}
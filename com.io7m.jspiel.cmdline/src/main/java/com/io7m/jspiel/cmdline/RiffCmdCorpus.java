@@ -0,0 +1,150 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.cmdline;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Functions to process many files concurrently.
+ */
+
+final class RiffCmdCorpus
+{
+  private RiffCmdCorpus()
+  {
+
+  }
+
+  /**
+   * Process the given files, and all regular files in the given directory trees. Each file is
+   * processed on a virtual thread, and at most {@code parallelism} files are processed at any
+   * one time. The method returns when all files have been processed.
+   *
+   * @param files       The individual files
+   * @param directories The directory trees
+   * @param parallelism The maximum number of files processed concurrently
+   * @param processor   The file processor
+   * @param failed      A receiver of errors encountered while walking directories
+   *
+   * @throws IOException On I/O errors
+   */
+
+  static void process(
+    final List<Path> files,
+    final List<Path> directories,
+    final int parallelism,
+    final Consumer<Path> processor,
+    final BiConsumer<Path, IOException> failed)
+    throws IOException
+  {
+    Objects.requireNonNull(files, "files");
+    Objects.requireNonNull(directories, "directories");
+    Objects.requireNonNull(processor, "processor");
+    Objects.requireNonNull(failed, "failed");
+
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Parallelism must be at least 1");
+    }
+    for (final var directory : directories) {
+      if (!Files.isDirectory(directory)) {
+        throw new IOException("Not a directory: " + directory);
+      }
+    }
+
+    /*
+     * The semaphore bounds the number of files open at any one time; submission blocks
+     * until a permit becomes available.
+     */
+
+    final var permits = new Semaphore(parallelism);
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      final var walker = new Walker(processor, failed, permits, executor);
+      for (final var file : files) {
+        walker.submit(file);
+      }
+      for (final var directory : directories) {
+        Files.walkFileTree(directory, walker);
+      }
+    }
+  }
+
+  private static final class Walker extends SimpleFileVisitor<Path>
+  {
+    private final Consumer<Path> processor;
+    private final BiConsumer<Path, IOException> failed;
+    private final Semaphore permits;
+    private final Executor executor;
+
+    Walker(
+      final Consumer<Path> in_processor,
+      final BiConsumer<Path, IOException> in_failed,
+      final Semaphore in_permits,
+      final Executor in_executor)
+    {
+      this.processor = in_processor;
+      this.failed = in_failed;
+      this.permits = in_permits;
+      this.executor = in_executor;
+    }
+
+    void submit(
+      final Path file)
+    {
+      this.permits.acquireUninterruptibly();
+      this.executor.execute(() -> {
+        try {
+          this.processor.accept(file);
+        } finally {
+          this.permits.release();
+        }
+      });
+    }
+
+    @Override
+    public FileVisitResult visitFile(
+      final Path file,
+      final BasicFileAttributes attributes)
+    {
+      if (attributes.isRegularFile()) {
+        this.submit(file);
+      }
+      return FileVisitResult.CONTINUE;
+    }
+
+    @Override
+    public FileVisitResult visitFileFailed(
+      final Path file,
+      final IOException exception)
+    {
+      this.failed.accept(file, exception);
+      return FileVisitResult.CONTINUE;
+    }
+  }
+}
@@ -0,0 +1,311 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.cmdline;
+
+import com.io7m.jspiel.api.RiffChunkDigestsType;
+import com.io7m.jspiel.api.RiffChunkType;
+import com.io7m.jspiel.api.RiffDigestAlgorithm;
+import com.io7m.jspiel.api.RiffFileParserProviderType;
+import com.io7m.jspiel.api.RiffFileType;
+import com.io7m.quarrel.core.QCommandContextType;
+import com.io7m.quarrel.core.QCommandMetadata;
+import com.io7m.quarrel.core.QCommandStatus;
+import com.io7m.quarrel.core.QCommandType;
+import com.io7m.quarrel.core.QParameterNamed01;
+import com.io7m.quarrel.core.QParameterNamed1;
+import com.io7m.quarrel.core.QParameterNamedType;
+import com.io7m.quarrel.core.QStringType;
+import com.io7m.quarrel.ext.logback.QLogback;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * The "diff" command.
+ */
+
+public final class RiffCmdDiff implements QCommandType
+{
+  private static final QParameterNamed1<Path> LEFT =
+    new QParameterNamed1<>(
+      "--left",
+      List.of(),
+      new QStringType.QConstant("The original RIFF file."),
+      Optional.empty(),
+      Path.class
+    );
+
+  private static final QParameterNamed1<Path> RIGHT =
+    new QParameterNamed1<>(
+      "--right",
+      List.of(),
+      new QStringType.QConstant("The modified RIFF file."),
+      Optional.empty(),
+      Path.class
+    );
+
+  private static final QParameterNamed01<String> HASH =
+    new QParameterNamed01<>(
+      "--hash",
+      List.of(),
+      new QStringType.QConstant(
+        "Also compare the data of chunks using the given digest (crc32c, xxhash64, or sha256)."),
+      Optional.empty(),
+      String.class
+    );
+
+  private final QCommandMetadata metadata;
+
+  /**
+   * Construct a command.
+   */
+
+  public RiffCmdDiff()
+  {
+    this.metadata = new QCommandMetadata(
+      "diff",
+      new QStringType.QConstant("Compare the structure of two RIFF files."),
+      Optional.empty()
+    );
+  }
+
+  /**
+   * Index every chunk in the given file by a path consisting of the name, form type, and
+   * ordinal of the chunk and each of its ancestors. The ordinal of a chunk is the number of
+   * preceding siblings with the same name and form type.
+   */
+
+  private static Map<String, RiffChunkType> index(
+    final RiffFileType file)
+  {
+    final var results = new LinkedHashMap<String, RiffChunkType>();
+    index("", file.chunks(), results);
+    return results;
+  }
+
+  private static void index(
+    final String prefix,
+    final List<RiffChunkType> chunks,
+    final Map<String, RiffChunkType> results)
+  {
+    final var ordinals = new HashMap<String, Integer>();
+    for (final var chunk : chunks) {
+      final var key =
+        chunk.formType()
+          .map(form -> chunk.name().value() + "(" + form + ")")
+          .orElseGet(() -> chunk.name().value());
+      final var ordinal =
+        ordinals.merge(key, Integer.valueOf(0), (x, y) -> Integer.valueOf(x.intValue() + 1));
+      final var path =
+        prefix + "/" + key + "[" + ordinal + "]";
+
+      results.put(path, chunk);
+      index(path, chunk.subChunks(), results);
+    }
+  }
+
+  private static long sizeOf(
+    final RiffChunkType chunk)
+  {
+    return chunk.dataSizeExcludingForm().sizeUnpadded();
+  }
+
+  private static RiffDigestAlgorithm algorithmOf(
+    final String name)
+  {
+    try {
+      return RiffDigestAlgorithm.valueOf(name.toUpperCase(Locale.ROOT));
+    } catch (final IllegalArgumentException e) {
+      throw new IllegalArgumentException(
+        new StringBuilder(128)
+          .append("Unrecognized digest algorithm.")
+          .append(System.lineSeparator())
+          .append("  Expected: One of crc32c, xxhash64, sha256")
+          .append(System.lineSeparator())
+          .append("  Received: ")
+          .append(name)
+          .append(System.lineSeparator())
+          .toString(),
+        e);
+    }
+  }
+
+  @Override
+  public List<QParameterNamedType<?>> onListNamedParameters()
+  {
+    return QLogback.plusParameters(List.of(LEFT, RIGHT, HASH));
+  }
+
+  @Override
+  public QCommandStatus onExecute(
+    final QCommandContextType context)
+    throws Exception
+  {
+    QLogback.configure(context);
+
+    final var algorithm =
+      context.parameterValue(HASH).map(RiffCmdDiff::algorithmOf);
+
+    final var parsers =
+      ServiceLoader.load(RiffFileParserProviderType.class)
+        .findFirst()
+        .orElseThrow(() -> new IllegalStateException("No RIFF file parser service available"));
+
+    final var left_path = context.parameterValue(LEFT);
+    final var right_path = context.parameterValue(RIGHT);
+
+    try (var left_channel = FileChannel.open(left_path, READ);
+         var right_channel = FileChannel.open(right_path, READ)) {
+      final var left =
+        index(parsers.createForChannel(left_path.toUri(), left_channel).parse());
+      final var right =
+        index(parsers.createForChannel(right_path.toUri(), right_channel).parse());
+
+      final var writer =
+        new BufferedWriter(new OutputStreamWriter(System.out, UTF_8), 65536);
+      final var differences =
+        compare(writer, left, right);
+
+      if (algorithm.isPresent()) {
+        differences.addAll(
+          compareData(writer, algorithm.get(), left_channel, left, right_channel, right));
+      }
+      writer.flush();
+
+      if (!differences.isEmpty()) {
+        return QCommandStatus.FAILURE;
+      }
+    }
+
+    return QCommandStatus.SUCCESS;
+  }
+
+  private static List<String> compare(
+    final Writer writer,
+    final Map<String, RiffChunkType> left,
+    final Map<String, RiffChunkType> right)
+    throws IOException
+  {
+    final var differences = new ArrayList<String>();
+    for (final var entry : left.entrySet()) {
+      final var path = entry.getKey();
+      final var left_chunk = entry.getValue();
+      final var right_chunk = right.get(path);
+      if (right_chunk == null) {
+        differences.add(path);
+        writer.write(String.format("- %s (size %d)\n", path, Long.valueOf(sizeOf(left_chunk))));
+      } else if (sizeOf(left_chunk) != sizeOf(right_chunk)) {
+        differences.add(path);
+        writer.write(String.format(
+          "~ %s (size %d -> %d)\n",
+          path,
+          Long.valueOf(sizeOf(left_chunk)),
+          Long.valueOf(sizeOf(right_chunk))));
+      }
+    }
+
+    for (final var entry : right.entrySet()) {
+      final var path = entry.getKey();
+      if (!left.containsKey(path)) {
+        differences.add(path);
+        writer.write(String.format(
+          "+ %s (size %d)\n", path, Long.valueOf(sizeOf(entry.getValue()))));
+      }
+    }
+    return differences;
+  }
+
+  /**
+   * Compare the data of all chunks that are present with the same size in both files. Only
+   * chunks without form types are compared; the data of a chunk with a form type consists of
+   * its subchunks, and differences in those are reported for the subchunks themselves.
+   */
+
+  private static List<String> compareData(
+    final Writer writer,
+    final RiffDigestAlgorithm algorithm,
+    final FileChannel left_channel,
+    final Map<String, RiffChunkType> left,
+    final FileChannel right_channel,
+    final Map<String, RiffChunkType> right)
+    throws IOException
+  {
+    final var digests =
+      ServiceLoader.load(RiffChunkDigestsType.class)
+        .findFirst()
+        .orElseThrow(() -> new IllegalStateException("No RIFF chunk digest service available"));
+
+    final var paths = new ArrayList<String>();
+    final var left_chunks = new ArrayList<RiffChunkType>();
+    final var right_chunks = new ArrayList<RiffChunkType>();
+    for (final var entry : left.entrySet()) {
+      final var left_chunk = entry.getValue();
+      final var right_chunk = right.get(entry.getKey());
+      if (right_chunk != null
+        && left_chunk.formType().isEmpty()
+        && sizeOf(left_chunk) == sizeOf(right_chunk)) {
+        paths.add(entry.getKey());
+        left_chunks.add(left_chunk);
+        right_chunks.add(right_chunk);
+      }
+    }
+
+    final var left_digests =
+      digests.digestChannel(left_channel, left_chunks, algorithm);
+    final var right_digests =
+      digests.digestChannel(right_channel, right_chunks, algorithm);
+
+    final var differences = new ArrayList<String>();
+    for (var index = 0; index < paths.size(); ++index) {
+      final var left_digest = left_digests.get(left_chunks.get(index));
+      final var right_digest = right_digests.get(right_chunks.get(index));
+      if (!left_digest.equals(right_digest)) {
+        final var path = paths.get(index);
+        differences.add(path);
+        writer.write(String.format(
+          "~ %s (%s %s -> %s)\n",
+          path,
+          algorithm.name().toLowerCase(Locale.ROOT),
+          left_digest.value(),
+          right_digest.value()));
+      }
+    }
+    return differences;
+  }
+
+  @Override
+  public QCommandMetadata metadata()
+  {
+    return this.metadata;
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.cmdline;
+
+import com.io7m.jspiel.api.RiffChunkType;
+import com.io7m.jspiel.api.RiffFileParserProviderType;
+import com.io7m.jspiel.api.RiffPath;
+import com.io7m.quarrel.core.QCommandContextType;
+import com.io7m.quarrel.core.QCommandMetadata;
+import com.io7m.quarrel.core.QCommandStatus;
+import com.io7m.quarrel.core.QCommandType;
+import com.io7m.quarrel.core.QParameterNamed01;
+import com.io7m.quarrel.core.QParameterNamed1;
+import com.io7m.quarrel.core.QParameterNamedType;
+import com.io7m.quarrel.core.QStringType;
+import com.io7m.quarrel.ext.logback.QLogback;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * The "extract" command.
+ */
+
+public final class RiffCmdExtract implements QCommandType
+{
+  private static final Logger LOG =
+    LoggerFactory.getLogger(RiffCmdExtract.class);
+
+  private static final QParameterNamed1<Path> FILE =
+    new QParameterNamed1<>(
+      "--file",
+      List.of(),
+      new QStringType.QConstant("The RIFF file."),
+      Optional.empty(),
+      Path.class
+    );
+
+  private static final QParameterNamed1<String> PATH =
+    new QParameterNamed1<>(
+      "--path",
+      List.of(),
+      new QStringType.QConstant(
+        "The path of the chunks to extract (such as RIFF(sfbk)/LIST(sdta)/smpl or //data)."),
+      Optional.empty(),
+      String.class
+    );
+
+  private static final QParameterNamed01<Path> OUTPUT =
+    new QParameterNamed01<>(
+      "--output",
+      List.of(),
+      new QStringType.QConstant("The output file (standard output if not specified)."),
+      Optional.empty(),
+      Path.class
+    );
+
+  private final QCommandMetadata metadata;
+
+  /**
+   * Construct a command.
+   */
+
+  public RiffCmdExtract()
+  {
+    this.metadata = new QCommandMetadata(
+      "extract",
+      new QStringType.QConstant("Extract the data of chunks from the given RIFF file."),
+      Optional.empty()
+    );
+  }
+
+  private static void transfer(
+    final FileChannel source,
+    final RiffChunkType chunk,
+    final FileChannel target)
+    throws IOException
+  {
+    var position = chunk.dataOffsetAfterForm();
+    var remaining = chunk.dataSizeExcludingForm().sizeUnpadded();
+
+    if (LOG.isDebugEnabled()) {
+      LOG.debug(
+        "extract {}: 0x{} ({} octets)",
+        chunk.name().value(),
+        Long.toUnsignedString(position, 16),
+        Long.valueOf(remaining));
+    }
+
+    while (remaining > 0L) {
+      final var count = source.transferTo(position, remaining, target);
+      if (count <= 0L) {
+        throw new IOException(
+          "Unexpected end of file at offset 0x" + Long.toUnsignedString(position, 16));
+      }
+      position += count;
+      remaining -= count;
+    }
+  }
+
+  @Override
+  public List<QParameterNamedType<?>> onListNamedParameters()
+  {
+    return QLogback.plusParameters(List.of(FILE, PATH, OUTPUT));
+  }
+
+  @Override
+  public QCommandStatus onExecute(
+    final QCommandContextType context)
+    throws Exception
+  {
+    QLogback.configure(context);
+
+    final var file =
+      context.parameterValue(FILE);
+    final var path =
+      RiffPath.compile(context.parameterValue(PATH));
+    final var output =
+      context.parameterValue(OUTPUT);
+
+    final var parsers =
+      ServiceLoader.load(RiffFileParserProviderType.class)
+        .findFirst()
+        .orElseThrow(() -> new IllegalStateException("No RIFF file parser service available"));
+
+    try (var channel = FileChannel.open(file, READ)) {
+      final var riff =
+        parsers.createForChannel(file.toUri(), channel).parse();
+
+      final var selected = path.select(riff);
+      if (selected.isEmpty()) {
+        throw new IOException("No chunks match the path " + path);
+      }
+
+      if (output.isPresent()) {
+        try (var target = FileChannel.open(output.get(), CREATE, TRUNCATE_EXISTING, WRITE)) {
+          for (final var chunk : selected) {
+            transfer(channel, chunk, target);
+          }
+        }
+      } else {
+        this.transferToStandardOutput(channel, selected);
+      }
+    }
+
+    return QCommandStatus.SUCCESS;
+  }
+
+  private void transferToStandardOutput(
+    final FileChannel channel,
+    final List<RiffChunkType> selected)
+    throws IOException
+  {
+    /*
+     * The channel of the standard output descriptor allows the JDK to use sendfile(2) or
+     * similar when standard output is a file or pipe. The channel is deliberately not closed,
+     * as closing it would close the descriptor.
+     */
+
+    System.out.flush();
+    final var target = new FileOutputStream(FileDescriptor.out).getChannel();
+    for (final var chunk : selected) {
+      transfer(channel, chunk, target);
+    }
+  }
+
+  @Override
+  public QCommandMetadata metadata()
+  {
+    return this.metadata;
+  }
+
+}
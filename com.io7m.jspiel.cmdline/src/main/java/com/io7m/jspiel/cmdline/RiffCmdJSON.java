@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.cmdline;
+
+/**
+ * Functions to produce JSON text.
+ */
+
+final class RiffCmdJSON
+{
+  private RiffCmdJSON()
+  {
+
+  }
+
+  /**
+   * Append the given text to the given builder as a quoted JSON string.
+   *
+   * @param builder The output
+   * @param text    The text
+   *
+   * @return {@code builder}
+   */
+
+  static StringBuilder string(
+    final StringBuilder builder,
+    final String text)
+  {
+    builder.append('"');
+    for (var index = 0; index < text.length(); ++index) {
+      final var c = text.charAt(index);
+      switch (c) {
+        case '"' -> builder.append("\\\"");
+        case '\\' -> builder.append("\\\\");
+        case '\n' -> builder.append("\\n");
+        case '\r' -> builder.append("\\r");
+        case '\t' -> builder.append("\\t");
+        default -> {
+          if (c < 0x20) {
+            builder.append(String.format("\\u%04x", Integer.valueOf(c)));
+          } else {
+            builder.append(c);
+          }
+        }
+      }
+    }
+    return builder.append('"');
+  }
+
+  /**
+   * Append a string-valued field to the given builder. A separating comma is written if the
+   * builder does not end with an opening brace.
+   *
+   * @param builder The output
+   * @param name    The field name
+   * @param value   The field value
+   *
+   * @return {@code builder}
+   */
+
+  static StringBuilder field(
+    final StringBuilder builder,
+    final String name,
+    final String value)
+  {
+    return string(separate(builder), name).append(':').append(quoteOf(value));
+  }
+
+  /**
+   * Append a number-valued field to the given builder. A separating comma is written if the
+   * builder does not end with an opening brace.
+   *
+   * @param builder The output
+   * @param name    The field name
+   * @param value   The field value
+   *
+   * @return {@code builder}
+   */
+
+  static StringBuilder field(
+    final StringBuilder builder,
+    final String name,
+    final long value)
+  {
+    return string(separate(builder), name).append(':').append(value);
+  }
+
+  private static String quoteOf(
+    final String value)
+  {
+    return string(new StringBuilder(value.length() + 2), value).toString();
+  }
+
+  private static StringBuilder separate(
+    final StringBuilder builder)
+  {
+    final var length = builder.length();
+    if (length > 0) {
+      final var last = builder.charAt(length - 1);
+      if (last != '{' && last != '[') {
+        builder.append(',');
+      }
+    }
+    return builder;
+  }
+}
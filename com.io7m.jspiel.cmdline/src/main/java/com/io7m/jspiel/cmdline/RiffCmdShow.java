@@ -14,7 +14,6 @@
  * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
  */
 
-
 package com.io7m.jspiel.cmdline;
 
 import com.io7m.jspiel.api.RiffChunkType;
@@ -23,18 +22,26 @@ import com.io7m.quarrel.core.QCommandContextType;
 import com.io7m.quarrel.core.QCommandMetadata;
 import com.io7m.quarrel.core.QCommandStatus;
 import com.io7m.quarrel.core.QCommandType;
+import com.io7m.quarrel.core.QParameterNamed01;
+import com.io7m.quarrel.core.QParameterNamed0N;
 import com.io7m.quarrel.core.QParameterNamed1;
 import com.io7m.quarrel.core.QParameterNamedType;
 import com.io7m.quarrel.core.QStringType;
 import com.io7m.quarrel.ext.logback.QLogback;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.stream.Collectors;
 
-import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.nio.file.StandardOpenOption.READ;
 
 /**
@@ -54,6 +61,33 @@ public final class RiffCmdShow implements QCommandType
       Path.class
     );
 
+  private static final QParameterNamed1<String> FORMAT =
+    new QParameterNamed1<>(
+      "--format",
+      List.of(),
+      new QStringType.QConstant("The output format (text, json, or csv)."),
+      Optional.of("text"),
+      String.class
+    );
+
+  private static final QParameterNamed01<Integer> MAX_DEPTH =
+    new QParameterNamed01<>(
+      "--max-depth",
+      List.of(),
+      new QStringType.QConstant("The maximum depth of chunks to show (top-level chunks are at depth 0)."),
+      Optional.empty(),
+      Integer.class
+    );
+
+  private static final QParameterNamed0N<String> FILTER =
+    new QParameterNamed0N<>(
+      "--filter",
+      List.of(),
+      new QStringType.QConstant("Show only chunks with the given ID."),
+      List.of(),
+      String.class
+    );
+
   /**
    * Construct a command.
    */
@@ -70,7 +104,7 @@ public final class RiffCmdShow implements QCommandType
   @Override
   public List<QParameterNamedType<?>> onListNamedParameters()
   {
-    return QLogback.plusParameters(List.of(FILE));
+    return QLogback.plusParameters(List.of(FILE, FORMAT, MAX_DEPTH, FILTER));
   }
 
   @Override
@@ -82,6 +116,13 @@ public final class RiffCmdShow implements QCommandType
 
     final var file =
       context.parameterValue(FILE);
+    final var max_depth =
+      context.parameterValue(MAX_DEPTH).orElse(Integer.valueOf(Integer.MAX_VALUE)).intValue();
+    final var filter =
+      context.parameterValues(FILTER)
+        .stream()
+        .map(name -> String.format("%-4s", name))
+        .collect(Collectors.toUnmodifiableSet());
 
     final var parsers =
       ServiceLoader.load(RiffFileParserProviderType.class)
@@ -89,43 +130,70 @@ public final class RiffCmdShow implements QCommandType
         .orElseThrow(() -> new IllegalStateException("No RIFF file parser service available"));
 
     try (var channel = FileChannel.open(file, READ)) {
-      final var map =
-        channel.map(READ_ONLY, 0L, channel.size());
       final var parser =
-        parsers.createForByteBuffer(file.toUri(), map);
+        parsers.createForChannel(file.toUri(), channel);
       final var riff =
         parser.parse();
 
+      /*
+       * The output is written through a large buffer and is deliberately not closed, as
+       * closing it would close the standard output stream.
+       */
+
+      final var writer =
+        new BufferedWriter(new OutputStreamWriter(System.out, UTF_8), 65536);
+      final var formatter =
+        formatterFor(context.parameterValue(FORMAT), writer);
+
+      formatter.start();
       for (final var chunk : riff.chunks()) {
-        showChunk(chunk, 0);
+        showChunk(formatter, filter, max_depth, chunk, 0);
       }
+      writer.flush();
     }
 
     return QCommandStatus.SUCCESS;
   }
 
+  private static FormatterType formatterFor(
+    final String format,
+    final Writer writer)
+  {
+    return switch (format) {
+      case "text" -> new TextFormatter(writer);
+      case "json" -> new JSONFormatter(writer);
+      case "csv" -> new CSVFormatter(writer);
+      default -> throw new IllegalArgumentException(
+        new StringBuilder(128)
+          .append("Unrecognized output format.")
+          .append(System.lineSeparator())
+          .append("  Expected: One of text, json, csv")
+          .append(System.lineSeparator())
+          .append("  Received: ")
+          .append(format)
+          .append(System.lineSeparator())
+          .toString());
+    };
+  }
+
   private static void showChunk(
+    final FormatterType formatter,
+    final Set<String> filter,
+    final int max_depth,
     final RiffChunkType chunk,
     final int depth)
+    throws IOException
   {
-    for (var i = 0; i < depth; ++i) {
-      System.out.print("  ");
+    if (depth > max_depth) {
+      return;
     }
 
-    chunk.formType()
-      .ifPresentOrElse(
-        formType -> System.out.printf(
-          "%s(%s) (size %d)\n",
-          chunk.name().value(),
-          formType,
-          Long.valueOf(chunk.dataSizeExcludingForm().sizeUnpadded())),
-        () -> System.out.printf(
-          "%s (size %d)\n",
-          chunk.name().value(),
-          Long.valueOf(chunk.dataSizeExcludingForm().sizeUnpadded())));
+    if (filter.isEmpty() || filter.contains(chunk.name().value())) {
+      formatter.chunk(chunk, depth);
+    }
 
     for (final var sub_chunk : chunk.subChunks()) {
-      showChunk(sub_chunk, depth + 1);
+      showChunk(formatter, filter, max_depth, sub_chunk, depth + 1);
     }
   }
 
@@ -134,4 +202,157 @@ public final class RiffCmdShow implements QCommandType
   {
     return this.metadata;
   }
+
+  private interface FormatterType
+  {
+    void start()
+      throws IOException;
+
+    void chunk(
+      RiffChunkType chunk,
+      int depth)
+      throws IOException;
+  }
+
+  private static final class TextFormatter implements FormatterType
+  {
+    private final Writer writer;
+
+    TextFormatter(
+      final Writer in_writer)
+    {
+      this.writer = in_writer;
+    }
+
+    @Override
+    public void start()
+    {
+
+    }
+
+    @Override
+    public void chunk(
+      final RiffChunkType chunk,
+      final int depth)
+      throws IOException
+    {
+      for (var i = 0; i < depth; ++i) {
+        this.writer.write("  ");
+      }
+
+      this.writer.write(chunk.name().value());
+      final var form = chunk.formType();
+      if (form.isPresent()) {
+        this.writer.write('(');
+        this.writer.write(form.get());
+        this.writer.write(')');
+      }
+
+      final var size = chunk.dataSizeExcludingForm();
+      this.writer.write(" (offset 0x");
+      this.writer.write(Long.toUnsignedString(chunk.offset(), 16));
+      this.writer.write(") (size ");
+      this.writer.write(Long.toUnsignedString(size.sizeUnpadded()));
+      this.writer.write(')');
+      if (size.isPadded()) {
+        this.writer.write(" (padded)");
+      }
+      this.writer.write('\n');
+    }
+  }
+
+  private static final class JSONFormatter implements FormatterType
+  {
+    private final Writer writer;
+    private final StringBuilder line;
+
+    JSONFormatter(
+      final Writer in_writer)
+    {
+      this.writer = in_writer;
+      this.line = new StringBuilder(128);
+    }
+
+    @Override
+    public void start()
+    {
+
+    }
+
+    @Override
+    public void chunk(
+      final RiffChunkType chunk,
+      final int depth)
+      throws IOException
+    {
+      final var size = chunk.dataSizeExcludingForm();
+      this.line.setLength(0);
+      this.line.append('{');
+      RiffCmdJSON.field(this.line, "depth", depth);
+      RiffCmdJSON.field(this.line, "id", chunk.name().value());
+      final var form = chunk.formType();
+      if (form.isPresent()) {
+        RiffCmdJSON.field(this.line, "form", form.get());
+      }
+      RiffCmdJSON.field(this.line, "offset", chunk.offset());
+      RiffCmdJSON.field(this.line, "size", size.sizeUnpadded());
+      this.line.append(",\"padded\":").append(size.isPadded());
+      this.line.append('}').append('\n');
+      this.writer.append(this.line);
+    }
+  }
+
+  private static final class CSVFormatter implements FormatterType
+  {
+    private final Writer writer;
+
+    CSVFormatter(
+      final Writer in_writer)
+    {
+      this.writer = in_writer;
+    }
+
+    private void text(
+      final String text)
+      throws IOException
+    {
+      if (text.indexOf(',') >= 0
+        || text.indexOf('"') >= 0
+        || text.indexOf('\n') >= 0) {
+        this.writer.write('"');
+        this.writer.write(text.replace("\"", "\"\""));
+        this.writer.write('"');
+      } else {
+        this.writer.write(text);
+      }
+    }
+
+    @Override
+    public void start()
+      throws IOException
+    {
+      this.writer.write("depth,id,form,offset,size,padded\n");
+    }
+
+    @Override
+    public void chunk(
+      final RiffChunkType chunk,
+      final int depth)
+      throws IOException
+    {
+      final var size = chunk.dataSizeExcludingForm();
+      this.writer.write(Integer.toString(depth));
+      this.writer.write(',');
+      this.text(chunk.name().value());
+      this.writer.write(',');
+      this.text(chunk.formType().orElse(""));
+      this.writer.write(',');
+      this.writer.write(Long.toUnsignedString(chunk.offset()));
+      this.writer.write(',');
+      this.writer.write(Long.toUnsignedString(size.sizeUnpadded()));
+      this.writer.write(',');
+      this.writer.write(Boolean.toString(size.isPadded()));
+      this.writer.write('\n');
+    }
+  }
 }
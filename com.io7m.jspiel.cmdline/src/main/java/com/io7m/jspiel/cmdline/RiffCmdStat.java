@@ -0,0 +1,313 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.cmdline;
+
+import com.io7m.jspiel.api.RiffChunkType;
+import com.io7m.jspiel.api.RiffFileParserProviderType;
+import com.io7m.quarrel.core.QCommandContextType;
+import com.io7m.quarrel.core.QCommandMetadata;
+import com.io7m.quarrel.core.QCommandStatus;
+import com.io7m.quarrel.core.QCommandType;
+import com.io7m.quarrel.core.QParameterNamed1;
+import com.io7m.quarrel.core.QParameterNamedType;
+import com.io7m.quarrel.core.QStringType;
+import com.io7m.quarrel.ext.logback.QLogback;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * The "stat" command.
+ */
+
+public final class RiffCmdStat implements QCommandType
+{
+  private static final Logger LOG =
+    LoggerFactory.getLogger(RiffCmdStat.class);
+
+  private static final QParameterNamed1<Path> DIRECTORY =
+    new QParameterNamed1<>(
+      "--directory",
+      List.of(),
+      new QStringType.QConstant("The directory containing RIFF files."),
+      Optional.empty(),
+      Path.class
+    );
+
+  private static final QParameterNamed1<Integer> PARALLELISM =
+    new QParameterNamed1<>(
+      "--parallelism",
+      List.of(),
+      new QStringType.QConstant("The maximum number of files parsed concurrently."),
+      Optional.of(Integer.valueOf(64)),
+      Integer.class
+    );
+
+  private final QCommandMetadata metadata;
+
+  /**
+   * Construct a command.
+   */
+
+  public RiffCmdStat()
+  {
+    this.metadata = new QCommandMetadata(
+      "stat",
+      new QStringType.QConstant("Show statistics for all RIFF files in a directory tree."),
+      Optional.empty()
+    );
+  }
+
+  @Override
+  public List<QParameterNamedType<?>> onListNamedParameters()
+  {
+    return QLogback.plusParameters(List.of(DIRECTORY, PARALLELISM));
+  }
+
+  @Override
+  public QCommandStatus onExecute(
+    final QCommandContextType context)
+    throws Exception
+  {
+    QLogback.configure(context);
+
+    final var directory =
+      context.parameterValue(DIRECTORY);
+    final var parallelism =
+      context.parameterValue(PARALLELISM).intValue();
+
+    final var parsers =
+      ServiceLoader.load(RiffFileParserProviderType.class)
+        .findFirst()
+        .orElseThrow(() -> new IllegalStateException("No RIFF file parser service available"));
+
+    final var statistics = new Statistics(parsers);
+    final var time_start = System.nanoTime();
+
+    RiffCmdCorpus.process(
+      List.of(), List.of(directory), parallelism, statistics::process, statistics::failed);
+
+    statistics.show(System.nanoTime() - time_start);
+    return QCommandStatus.SUCCESS;
+  }
+
+  @Override
+  public QCommandMetadata metadata()
+  {
+    return this.metadata;
+  }
+
+  private static final class Statistics
+  {
+    private final RiffFileParserProviderType parsers;
+    private final LongAdder files;
+    private final LongAdder bytes;
+    private final LongAdder failures;
+    private final LongAdder chunks;
+    private final Map<String, LongAdder> roots;
+    private final Map<String, LongAdder> chunk_ids;
+    private final Map<String, LongAdder> failure_types;
+    private final AtomicLongArray file_sizes;
+    private final AtomicLongArray chunk_sizes;
+
+    Statistics(
+      final RiffFileParserProviderType in_parsers)
+    {
+      this.parsers = in_parsers;
+      this.files = new LongAdder();
+      this.bytes = new LongAdder();
+      this.failures = new LongAdder();
+      this.chunks = new LongAdder();
+      this.roots = new ConcurrentHashMap<>();
+      this.chunk_ids = new ConcurrentHashMap<>();
+      this.failure_types = new ConcurrentHashMap<>();
+      this.file_sizes = new AtomicLongArray(Long.SIZE);
+      this.chunk_sizes = new AtomicLongArray(Long.SIZE);
+    }
+
+    private static int bucket(
+      final long size)
+    {
+      return Long.SIZE - Long.numberOfLeadingZeros(size);
+    }
+
+    private static String bucketName(
+      final int bucket)
+    {
+      if (bucket == 0) {
+        return "0";
+      }
+      return String.format(
+        "[%s, %s)",
+        Long.toUnsignedString(1L << (bucket - 1)),
+        Long.toUnsignedString(1L << bucket));
+    }
+
+    private static void count(
+      final Map<String, LongAdder> counts,
+      final String key)
+    {
+      counts.computeIfAbsent(key, k -> new LongAdder()).increment();
+    }
+
+    private static void showCounts(
+      final BufferedWriter writer,
+      final String title,
+      final Map<String, LongAdder> counts)
+      throws IOException
+    {
+      writer.write(String.format("%s:\n", title));
+
+      final var sorted =
+        counts.entrySet()
+          .stream()
+          .sorted(Comparator.<Map.Entry<String, LongAdder>>comparingLong(e -> e.getValue().sum())
+                    .reversed()
+                    .thenComparing(Map.Entry::getKey))
+          .toList();
+
+      for (final var entry : sorted) {
+        writer.write(String.format(
+          "  %-24s %d\n", entry.getKey(), Long.valueOf(entry.getValue().sum())));
+      }
+    }
+
+    private static void showHistogram(
+      final BufferedWriter writer,
+      final String title,
+      final AtomicLongArray histogram)
+      throws IOException
+    {
+      writer.write(String.format("%s:\n", title));
+      for (var index = 0; index < histogram.length(); ++index) {
+        final var count = histogram.get(index);
+        if (count != 0L) {
+          writer.write(String.format("  %-24s %d\n", bucketName(index), Long.valueOf(count)));
+        }
+      }
+    }
+
+    void process(
+      final Path file)
+    {
+      try (var channel = FileChannel.open(file, READ)) {
+        final var size = channel.size();
+        this.bytes.add(size);
+        this.file_sizes.incrementAndGet(bucket(size));
+
+        /*
+         * The channel parser reads only the chunk headers; chunk data is never read, and
+         * files of any size can be walked.
+         */
+
+        final var reader = this.parsers.createForChannel(file.toUri(), channel).openReader();
+        while (true) {
+          final var next = reader.next();
+          if (next.isEmpty()) {
+            break;
+          }
+          final var root = next.get();
+          count(this.roots, name(root));
+          this.chunk(root);
+        }
+        this.files.increment();
+      } catch (final Exception e) {
+        this.failed(file, e);
+      }
+    }
+
+    private static String name(
+      final RiffChunkType chunk)
+    {
+      return chunk.formType()
+        .map(form -> chunk.name().value() + "(" + form + ")")
+        .orElseGet(() -> chunk.name().value());
+    }
+
+    private void chunk(
+      final RiffChunkType chunk)
+    {
+      this.chunks.increment();
+      count(this.chunk_ids, chunk.name().value());
+      this.chunk_sizes.incrementAndGet(bucket(chunk.dataSizeExcludingForm().sizeUnpadded()));
+      for (final var sub_chunk : chunk.subChunks()) {
+        this.chunk(sub_chunk);
+      }
+    }
+
+    void failed(
+      final Path file,
+      final Exception exception)
+    {
+      LOG.debug("{}: {}", file, exception.getMessage());
+      this.failures.increment();
+      count(this.failure_types, exception.getClass().getSimpleName());
+    }
+
+    void show(
+      final long elapsed_nanos)
+      throws IOException
+    {
+      final var files_sum = this.files.sum();
+      final var failures_sum = this.failures.sum();
+      final var bytes_sum = this.bytes.sum();
+      final var seconds = Math.max((double) elapsed_nanos / 1.0e9, 1.0e-9);
+
+      /*
+       * The output is written through a large buffer and is deliberately not closed, as
+       * closing it would close the standard output stream.
+       */
+
+      final var writer =
+        new BufferedWriter(new OutputStreamWriter(System.out, UTF_8), 65536);
+
+      writer.write(String.format("Files parsed:             %d\n", Long.valueOf(files_sum)));
+      writer.write(String.format("Files failed:             %d\n", Long.valueOf(failures_sum)));
+      writer.write(String.format("Chunks:                   %d\n", Long.valueOf(this.chunks.sum())));
+      writer.write(String.format("Bytes:                    %d\n", Long.valueOf(bytes_sum)));
+      writer.write(String.format("Elapsed:                  %.3f s\n", Double.valueOf(seconds)));
+      writer.write(String.format(
+        "Throughput:               %.2f files/s, %.2f MB/s\n",
+        Double.valueOf((double) (files_sum + failures_sum) / seconds),
+        Double.valueOf((double) bytes_sum / 1.0e6 / seconds)));
+
+      showCounts(writer, "Root forms", this.roots);
+      showCounts(writer, "Chunk IDs", this.chunk_ids);
+      showHistogram(writer, "File sizes", this.file_sizes);
+      showHistogram(writer, "Chunk sizes", this.chunk_sizes);
+      showCounts(writer, "Failures", this.failure_types);
+      writer.flush();
+    }
+  }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.cmdline;
+
+import com.io7m.jspiel.api.RiffChunkType;
+import com.io7m.jspiel.api.RiffFileParserProviderType;
+import com.io7m.jspiel.api.RiffParseException;
+import com.io7m.quarrel.core.QCommandContextType;
+import com.io7m.quarrel.core.QCommandMetadata;
+import com.io7m.quarrel.core.QCommandStatus;
+import com.io7m.quarrel.core.QCommandType;
+import com.io7m.quarrel.core.QParameterNamed0N;
+import com.io7m.quarrel.core.QParameterNamed1;
+import com.io7m.quarrel.core.QParameterNamedType;
+import com.io7m.quarrel.core.QStringType;
+import com.io7m.quarrel.ext.logback.QLogback;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * The "validate" command.
+ */
+
+public final class RiffCmdValidate implements QCommandType
+{
+  private static final QParameterNamed0N<Path> FILES =
+    new QParameterNamed0N<>(
+      "--file",
+      List.of(),
+      new QStringType.QConstant("A RIFF file to validate."),
+      List.of(),
+      Path.class
+    );
+
+  private static final QParameterNamed0N<Path> DIRECTORIES =
+    new QParameterNamed0N<>(
+      "--directory",
+      List.of(),
+      new QStringType.QConstant("A directory tree containing RIFF files to validate."),
+      List.of(),
+      Path.class
+    );
+
+  private static final QParameterNamed1<Integer> PARALLELISM =
+    new QParameterNamed1<>(
+      "--parallelism",
+      List.of(),
+      new QStringType.QConstant("The maximum number of files validated concurrently."),
+      Optional.of(Integer.valueOf(64)),
+      Integer.class
+    );
+
+  private static final QParameterNamed1<Boolean> ALLOW_TRAILING_DATA =
+    new QParameterNamed1<>(
+      "--allow-trailing-data",
+      List.of(),
+      new QStringType.QConstant("Do not treat data following the last chunk as an error."),
+      Optional.of(Boolean.FALSE),
+      Boolean.class
+    );
+
+  private final QCommandMetadata metadata;
+
+  /**
+   * Construct a command.
+   */
+
+  public RiffCmdValidate()
+  {
+    this.metadata = new QCommandMetadata(
+      "validate",
+      new QStringType.QConstant(
+        "Validate the structure of RIFF files, writing one JSON object per file."),
+      Optional.empty()
+    );
+  }
+
+  @Override
+  public List<QParameterNamedType<?>> onListNamedParameters()
+  {
+    return QLogback.plusParameters(
+      List.of(FILES, DIRECTORIES, PARALLELISM, ALLOW_TRAILING_DATA));
+  }
+
+  @Override
+  public QCommandStatus onExecute(
+    final QCommandContextType context)
+    throws Exception
+  {
+    QLogback.configure(context);
+
+    final var files =
+      context.parameterValues(FILES);
+    final var directories =
+      context.parameterValues(DIRECTORIES);
+
+    if (files.isEmpty() && directories.isEmpty()) {
+      throw new IllegalArgumentException("At least one --file or --directory is required");
+    }
+
+    final var parsers =
+      ServiceLoader.load(RiffFileParserProviderType.class)
+        .findFirst()
+        .orElseThrow(() -> new IllegalStateException("No RIFF file parser service available"));
+
+    final var validator =
+      new Validator(parsers, context.parameterValue(ALLOW_TRAILING_DATA).booleanValue());
+
+    RiffCmdCorpus.process(
+      files,
+      directories,
+      context.parameterValue(PARALLELISM).intValue(),
+      validator::validate,
+      validator::failed);
+
+    if (validator.failures.sum() > 0L) {
+      return QCommandStatus.FAILURE;
+    }
+    return QCommandStatus.SUCCESS;
+  }
+
+  @Override
+  public QCommandMetadata metadata()
+  {
+    return this.metadata;
+  }
+
+  private static final class Validator
+  {
+    private final RiffFileParserProviderType parsers;
+    private final boolean allow_trailing;
+    private final LongAdder failures;
+
+    Validator(
+      final RiffFileParserProviderType in_parsers,
+      final boolean in_allow_trailing)
+    {
+      this.parsers = in_parsers;
+      this.allow_trailing = in_allow_trailing;
+      this.failures = new LongAdder();
+    }
+
+    private static long count(
+      final RiffChunkType chunk)
+    {
+      var count = 1L;
+      for (final var sub_chunk : chunk.subChunks()) {
+        count += count(sub_chunk);
+      }
+      return count;
+    }
+
+    private static String message(
+      final Exception exception)
+    {
+      return Optional.ofNullable(exception.getMessage())
+        .orElseGet(() -> exception.getClass().getName());
+    }
+
+    void validate(
+      final Path file)
+    {
+      final var time_start = System.nanoTime();
+      final var line = new StringBuilder(256).append('{');
+      RiffCmdJSON.field(line, "file", file.toString());
+
+      try (var channel = FileChannel.open(file, READ)) {
+        final var reader = this.parsers.createForChannel(file.toUri(), channel).openReader();
+
+        var chunks = 0L;
+        while (true) {
+          final var next = reader.next();
+          if (next.isEmpty()) {
+            break;
+          }
+          chunks += count(next.get());
+        }
+
+        final var trailing = reader.trailingData();
+        if (trailing.isPresent() && !this.allow_trailing) {
+          final var data = trailing.get();
+          this.invalid(line, "invalid");
+          RiffCmdJSON.field(line, "offset", data.offset());
+          RiffCmdJSON.field(
+            line,
+            "error",
+            "File contains " + data.size() + " octets of trailing data at offset 0x"
+              + Long.toUnsignedString(data.offset(), 16));
+        } else {
+          RiffCmdJSON.field(line, "status", "valid");
+        }
+
+        RiffCmdJSON.field(line, "chunks", chunks);
+        if (trailing.isPresent()) {
+          RiffCmdJSON.field(line, "trailing_offset", trailing.get().offset());
+          RiffCmdJSON.field(line, "trailing_size", trailing.get().size());
+        }
+      } catch (final RiffParseException e) {
+        this.invalid(line, "invalid");
+        RiffCmdJSON.field(line, "offset", e.offset());
+        RiffCmdJSON.field(line, "error", message(e));
+      } catch (final IOException e) {
+        this.invalid(line, "error");
+        RiffCmdJSON.field(line, "error", message(e));
+      } catch (final Exception e) {
+        this.invalid(line, "invalid");
+        RiffCmdJSON.field(line, "error", message(e));
+      }
+
+      RiffCmdJSON.field(line, "elapsed_ns", System.nanoTime() - time_start);
+      System.out.println(line.append('}'));
+    }
+
+    private void invalid(
+      final StringBuilder line,
+      final String status)
+    {
+      this.failures.increment();
+      RiffCmdJSON.field(line, "status", status);
+    }
+
+    void failed(
+      final Path file,
+      final IOException exception)
+    {
+      final var line = new StringBuilder(256).append('{');
+      RiffCmdJSON.field(line, "file", file.toString());
+      this.invalid(line, "error");
+      RiffCmdJSON.field(line, "error", message(exception));
+      System.out.println(line.append('}'));
+    }
+  }
+}
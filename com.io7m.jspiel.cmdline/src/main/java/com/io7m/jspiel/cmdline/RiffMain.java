@@ -64,6 +64,11 @@ public final class RiffMain implements Runnable
 
     final var builder = QApplication.builder(metadata);
     builder.addCommand(new RiffCmdShow());
+    builder.addCommand(new RiffCmdStat());
+    builder.addCommand(new RiffCmdBench());
+    builder.addCommand(new RiffCmdDiff());
+    builder.addCommand(new RiffCmdExtract());
+    builder.addCommand(new RiffCmdValidate());
 
     this.application = builder.build();
     this.exitCode = 0;
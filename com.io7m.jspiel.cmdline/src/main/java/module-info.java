@@ -31,6 +31,7 @@ module com.io7m.jspiel.cmdline
   requires com.io7m.quarrel.ext.logback;
   requires org.slf4j;
 
+  uses com.io7m.jspiel.api.RiffChunkDigestsType;
   uses com.io7m.jspiel.api.RiffFileBuilderProviderType;
   uses com.io7m.jspiel.api.RiffFileWriterProviderType;
   uses com.io7m.jspiel.api.RiffFileParserProviderType;
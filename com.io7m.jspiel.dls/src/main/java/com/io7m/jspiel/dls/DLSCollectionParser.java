@@ -0,0 +1,625 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.dls;
+
+import com.io7m.jspiel.api.RiffChunkType;
+import com.io7m.jspiel.api.RiffFileType;
+import com.io7m.jspiel.api.RiffFormatParsing;
+import com.io7m.jspiel.api.RiffParseException;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+
+/**
+ * The parser for the contents of a {@code DLS } form. The parser is shared between DLS files and
+ * RMID files with embedded collections.
+ */
+
+final class DLSCollectionParser
+{
+  static final String ID_LIST = "LIST";
+  static final String FORM_INFO = "INFO";
+
+  private static final String FORM_LINS = "lins";
+  private static final String FORM_INS = "ins ";
+  private static final String FORM_LRGN = "lrgn";
+  private static final String FORM_RGN = "rgn ";
+  private static final String FORM_RGN2 = "rgn2";
+  private static final String FORM_WVPL = "wvpl";
+  private static final String FORM_WAVE = "wave";
+  private static final String ID_COLH = "colh";
+  private static final String ID_VERS = "vers";
+  private static final String ID_PTBL = "ptbl";
+  private static final String ID_INSH = "insh";
+  private static final String ID_RGNH = "rgnh";
+  private static final String ID_WLNK = "wlnk";
+  private static final String ID_WSMP = "wsmp";
+  private static final String ID_FMT = "fmt ";
+  private static final String ID_DATA = "data";
+  private static final String ID_INAM = "INAM";
+
+  private final URI source;
+  private final RiffFileType file;
+  private final ByteBuffer view;
+
+  DLSCollectionParser(
+    final URI in_source,
+    final RiffFileType in_file,
+    final ByteBuffer in_data)
+  {
+    this.source = Objects.requireNonNull(in_source, "source");
+    this.file = Objects.requireNonNull(in_file, "file");
+    this.view =
+      Objects.requireNonNull(in_data, "data")
+        .duplicate()
+        .order(in_file.byteOrder());
+  }
+
+  DLSFileType parse(
+    final RiffChunkType root)
+    throws RiffParseException
+  {
+    final var colh = this.required(root, ID_COLH);
+    this.checkSize(colh, 4L);
+    final var declared = DLSRecords.u32(this.view, base(colh));
+
+    final var wvpl = this.requiredWithForm(root, FORM_WVPL);
+    final var waves = this.parseWaves(wvpl);
+    final var pool = this.parsePoolTable(this.required(root, ID_PTBL), wvpl, waves);
+
+    final var lins = this.requiredWithForm(root, FORM_LINS);
+    final var instrument_lists =
+      lins.findOptionalSubChunksWithForm(ID_LIST, FORM_INS)
+        .collect(Collectors.toList());
+
+    if ((long) instrument_lists.size() != declared) {
+      throw this.countMismatch(colh, "instruments", declared, instrument_lists.size());
+    }
+
+    final var region_lists = new HashMap<RiffChunkType, List<RiffChunkType>>();
+    var region_count = 0;
+    for (final var ins : instrument_lists) {
+      final var lrgn = this.requiredWithForm(ins, FORM_LRGN);
+      final var regions =
+        lrgn.subChunks()
+          .stream()
+          .filter(c -> c.matchesWithForm(ID_LIST, FORM_RGN) || c.matchesWithForm(ID_LIST, FORM_RGN2))
+          .collect(Collectors.toList());
+      region_lists.put(ins, regions);
+      region_count = Math.addExact(region_count, regions.size());
+    }
+
+    final var instruments = new DLSInstruments(instrument_lists.size());
+    final var regions = new DLSRegions(region_count);
+    var region = 0;
+    for (var index = 0; index < instrument_lists.size(); ++index) {
+      final var ins = instrument_lists.get(index);
+      final var lists = region_lists.get(ins);
+      this.parseInstrument(instruments, index, ins, region, lists.size());
+      for (final var rgn : lists) {
+        this.parseRegion(regions, region, index, rgn, pool);
+        ++region;
+      }
+    }
+    instruments.index();
+
+    final var builder = new DLSFile.Builder();
+    builder.riff = this.file;
+    builder.root = root;
+    builder.version = this.parseVersion(root);
+    builder.info = this.info(root);
+    builder.instruments = instruments;
+    builder.regions = regions;
+    builder.pool = pool;
+    builder.waves = waves;
+    builder.view = this.view;
+    return new DLSFile(builder);
+  }
+
+  private static int base(
+    final RiffChunkType chunk)
+  {
+    return Math.toIntExact(chunk.dataOffset());
+  }
+
+  private static long size(
+    final RiffChunkType chunk)
+  {
+    return chunk.dataSizeExcludingForm().sizeUnpadded();
+  }
+
+  private Optional<DLSVersion> parseVersion(
+    final RiffChunkType root)
+    throws RiffParseException
+  {
+    final var vers = root.findOptionalSubChunk(ID_VERS);
+    if (vers.isEmpty()) {
+      return Optional.empty();
+    }
+
+    final var chunk = vers.get();
+    this.checkSize(chunk, 8L);
+    final var offset = base(chunk);
+    return Optional.of(DLSVersion.of(
+      DLSRecords.u16(this.view, offset + 2),
+      DLSRecords.u16(this.view, offset),
+      DLSRecords.u16(this.view, offset + 6),
+      DLSRecords.u16(this.view, offset + 4)));
+  }
+
+  private void parseInstrument(
+    final DLSInstruments instruments,
+    final int index,
+    final RiffChunkType ins,
+    final int first_region,
+    final int region_count)
+    throws RiffParseException
+  {
+    final var insh = this.required(ins, ID_INSH);
+    this.checkSize(insh, 12L);
+
+    final var offset = base(insh);
+    final var declared = DLSRecords.u32(this.view, offset);
+    if (declared != (long) region_count) {
+      throw this.countMismatch(insh, "regions", declared, region_count);
+    }
+
+    instruments.set(
+      index,
+      DLSRecords.s32(this.view, offset + 4),
+      DLSRecords.s32(this.view, offset + 8),
+      first_region,
+      region_count,
+      this.info(ins).getOrDefault(ID_INAM, ""));
+  }
+
+  private void parseRegion(
+    final DLSRegions regions,
+    final int index,
+    final int instrument,
+    final RiffChunkType rgn,
+    final DLSPoolTable pool)
+    throws RiffParseException
+  {
+    final var rgnh = this.required(rgn, ID_RGNH);
+    this.checkSize(rgnh, 12L);
+
+    final var header = base(rgnh);
+    final var layer = size(rgnh) >= 14L ? DLSRecords.u16(this.view, header + 12) : 0;
+    regions.setHeader(
+      index,
+      instrument,
+      DLSRecords.u16(this.view, header),
+      DLSRecords.u16(this.view, header + 2),
+      DLSRecords.u16(this.view, header + 4),
+      DLSRecords.u16(this.view, header + 6),
+      DLSRecords.u16(this.view, header + 8),
+      DLSRecords.u16(this.view, header + 10),
+      layer);
+
+    final var wlnk = this.required(rgn, ID_WLNK);
+    this.checkSize(wlnk, 12L);
+
+    final var link = base(wlnk);
+    final var table_index = DLSRecords.u32(this.view, link + 8);
+    if (table_index >= (long) pool.size()) {
+      final var separator = System.lineSeparator();
+      throw new RiffParseException(
+        new StringBuilder(128)
+          .append("Wave link refers to a nonexistent pool table entry.")
+          .append(separator)
+          .append("  Chunk offset: 0x")
+          .append(Long.toUnsignedString(wlnk.offset(), 16))
+          .append(separator)
+          .append("  Expected: A table index less than ")
+          .append(pool.size())
+          .append(separator)
+          .append("  Received: ")
+          .append(table_index)
+          .append(separator)
+          .toString(),
+        this.source,
+        wlnk.offset());
+    }
+
+    regions.setLink(
+      index,
+      DLSRecords.u16(this.view, link),
+      DLSRecords.u16(this.view, link + 2),
+      DLSRecords.u32(this.view, link + 4),
+      (int) table_index);
+
+    final var wsmp = rgn.findOptionalSubChunk(ID_WSMP);
+    if (wsmp.isPresent()) {
+      this.parseSampleParameters(regions.sampleParameters(), index, wsmp.get());
+    }
+  }
+
+  private DLSWaves parseWaves(
+    final RiffChunkType wvpl)
+    throws RiffParseException
+  {
+    final var lists =
+      wvpl.findOptionalSubChunksWithForm(ID_LIST, FORM_WAVE)
+        .collect(Collectors.toList());
+
+    final var waves = new DLSWaves(lists.size());
+    for (var index = 0; index < lists.size(); ++index) {
+      final var wave = lists.get(index);
+      waves.setOffset(index, wave.offset());
+
+      final var fmt = this.required(wave, ID_FMT);
+      this.checkSize(fmt, 16L);
+      final var format = base(fmt);
+      waves.setFormat(
+        index,
+        DLSRecords.u16(this.view, format),
+        DLSRecords.u16(this.view, format + 2),
+        DLSRecords.u32(this.view, format + 4),
+        DLSRecords.u32(this.view, format + 8),
+        DLSRecords.u16(this.view, format + 12),
+        DLSRecords.u16(this.view, format + 14));
+
+      final var data = this.required(wave, ID_DATA);
+      waves.setData(index, data.dataOffset(), size(data));
+
+      final var wsmp = wave.findOptionalSubChunk(ID_WSMP);
+      if (wsmp.isPresent()) {
+        this.parseSampleParameters(waves.sampleParameters(), index, wsmp.get());
+      }
+    }
+    return waves;
+  }
+
+  private void parseSampleParameters(
+    final DLSSampleParameters parameters,
+    final int index,
+    final RiffChunkType wsmp)
+    throws RiffParseException
+  {
+    this.checkSize(wsmp, 20L);
+
+    final var offset = base(wsmp);
+    final var structure_size = DLSRecords.u32(this.view, offset);
+    final var loops = DLSRecords.u32(this.view, offset + 16);
+    this.checkSize(wsmp, loops > 0L ? structure_size + 16L : structure_size);
+
+    parameters.set(
+      index,
+      DLSRecords.u16(this.view, offset + 4),
+      DLSRecords.s16(this.view, offset + 6),
+      DLSRecords.s32(this.view, offset + 8),
+      DLSRecords.u32(this.view, offset + 12));
+
+    if (loops > 0L) {
+      final var loop = offset + (int) structure_size;
+      parameters.setLoop(
+        index,
+        DLSRecords.u32(this.view, loop + 4),
+        DLSRecords.u32(this.view, loop + 8),
+        DLSRecords.u32(this.view, loop + 12));
+    }
+  }
+
+  /**
+   * Parse the pool table and resolve each cue to a wave. Cue offsets are specified relative to
+   * the start of the wave pool data; some writers measure from the start of the {@code wvpl}
+   * form type rather than the end of it, and so both interpretations are attempted.
+   */
+
+  private DLSPoolTable parsePoolTable(
+    final RiffChunkType ptbl,
+    final RiffChunkType wvpl,
+    final DLSWaves waves)
+    throws RiffParseException
+  {
+    this.checkSize(ptbl, 8L);
+    final var offset = base(ptbl);
+    final var structure_size = DLSRecords.u32(this.view, offset);
+    final var cues = DLSRecords.u32(this.view, offset + 4);
+    this.checkSize(ptbl, Math.max(8L, structure_size) + cues * 4L);
+
+    final var count = (int) cues;
+    final var offsets = new long[count];
+    for (var index = 0; index < count; ++index) {
+      offsets[index] = DLSRecords.u32(this.view, offset + (int) structure_size + index * 4);
+    }
+
+    final var by_offset = new HashMap<Long, Integer>(waves.size());
+    for (var index = 0; index < waves.size(); ++index) {
+      by_offset.put(Long.valueOf(waves.offset(index)), Integer.valueOf(index));
+    }
+
+    final var resolved = new int[count];
+    final var after_form = resolve(offsets, wvpl.dataOffsetAfterForm(), by_offset, resolved);
+    if (after_form < 0 || resolve(offsets, wvpl.dataOffset(), by_offset, resolved) < 0) {
+      return new DLSPoolTable(offsets, resolved);
+    }
+
+    final var separator = System.lineSeparator();
+    throw new RiffParseException(
+      new StringBuilder(128)
+        .append("Pool table entry does not refer to a wave.")
+        .append(separator)
+        .append("  Chunk offset: 0x")
+        .append(Long.toUnsignedString(ptbl.offset(), 16))
+        .append(separator)
+        .append("  Entry: ")
+        .append(after_form)
+        .append(separator)
+        .append("  Expected: The offset of a wave list in the wave pool")
+        .append(separator)
+        .append("  Received: ")
+        .append(offsets[after_form])
+        .append(separator)
+        .toString(),
+      this.source,
+      ptbl.offset());
+  }
+
+  /**
+   * @return The index of the first cue that could not be resolved, or {@code -1}
+   */
+
+  private static int resolve(
+    final long[] offsets,
+    final long base,
+    final Map<Long, Integer> by_offset,
+    final int[] resolved)
+  {
+    for (var index = 0; index < offsets.length; ++index) {
+      final var wave = by_offset.get(Long.valueOf(base + offsets[index]));
+      if (wave == null) {
+        return index;
+      }
+      resolved[index] = wave.intValue();
+    }
+    return -1;
+  }
+
+  Map<String, String> info(
+    final RiffChunkType parent)
+  {
+    final var results = new LinkedHashMap<String, String>();
+    final var lists =
+      parent.findOptionalSubChunksWithForm(ID_LIST, FORM_INFO)
+        .collect(Collectors.toList());
+
+    for (final var list : lists) {
+      for (final var sub_chunk : list.subChunks()) {
+        final var offset = base(sub_chunk);
+        final var size = Math.toIntExact(size(sub_chunk));
+
+        var length = 0;
+        while (length < size && this.view.get(offset + length) != 0) {
+          ++length;
+        }
+
+        results.put(sub_chunk.name().value(), ISO_8859_1.decode(this.view.slice(offset, length)).toString());
+      }
+    }
+    return Collections.unmodifiableMap(results);
+  }
+
+  RiffChunkType required(
+    final RiffChunkType parent,
+    final String name)
+    throws RiffParseException
+  {
+    return RiffFormatParsing.requireSubChunk(this.source, parent, name);
+  }
+
+  private RiffChunkType requiredWithForm(
+    final RiffChunkType parent,
+    final String form)
+    throws RiffParseException
+  {
+    return RiffFormatParsing.requireSubChunkWithForm(this.source, parent, ID_LIST, form);
+  }
+
+  private void checkSize(
+    final RiffChunkType chunk,
+    final long minimum)
+    throws RiffParseException
+  {
+    final var size = size(chunk);
+    if (size < minimum) {
+      final var separator = System.lineSeparator();
+      throw new RiffParseException(
+        new StringBuilder(128)
+          .append("Chunk is too small to hold the required structure.")
+          .append(separator)
+          .append("  Chunk name: ")
+          .append(chunk.name().value())
+          .append(separator)
+          .append("  Chunk offset: 0x")
+          .append(Long.toUnsignedString(chunk.offset(), 16))
+          .append(separator)
+          .append("  Expected: At least ")
+          .append(Long.toUnsignedString(minimum))
+          .append(" octets")
+          .append(separator)
+          .append("  Received: ")
+          .append(Long.toUnsignedString(size))
+          .append(" octets")
+          .append(separator)
+          .toString(),
+        this.source,
+        chunk.offset());
+    }
+  }
+
+  private RiffParseException countMismatch(
+    final RiffChunkType chunk,
+    final String what,
+    final long declared,
+    final int received)
+  {
+    final var separator = System.lineSeparator();
+    return new RiffParseException(
+      new StringBuilder(128)
+        .append("Declared number of ")
+        .append(what)
+        .append(" does not match the number present.")
+        .append(separator)
+        .append("  Chunk name: ")
+        .append(chunk.name().value())
+        .append(separator)
+        .append("  Chunk offset: 0x")
+        .append(Long.toUnsignedString(chunk.offset(), 16))
+        .append(separator)
+        .append("  Expected: ")
+        .append(Long.toUnsignedString(declared))
+        .append(separator)
+        .append("  Received: ")
+        .append(received)
+        .append(separator)
+        .toString(),
+      this.source,
+      chunk.offset());
+  }
+
+  private static final class DLSFile implements DLSFileType
+  {
+    private final RiffFileType riff;
+    private final RiffChunkType root;
+    private final Optional<DLSVersion> version;
+    private final Map<String, String> info;
+    private final DLSInstruments instruments;
+    private final DLSRegions regions;
+    private final DLSPoolTable pool;
+    private final DLSWaves waves;
+    private final ByteBuffer view;
+
+    DLSFile(
+      final Builder builder)
+    {
+      this.riff = Objects.requireNonNull(builder.riff, "riff");
+      this.root = Objects.requireNonNull(builder.root, "root");
+      this.version = Objects.requireNonNull(builder.version, "version");
+      this.info = Objects.requireNonNull(builder.info, "info");
+      this.instruments = Objects.requireNonNull(builder.instruments, "instruments");
+      this.regions = Objects.requireNonNull(builder.regions, "regions");
+      this.pool = Objects.requireNonNull(builder.pool, "pool");
+      this.waves = Objects.requireNonNull(builder.waves, "waves");
+      this.view = Objects.requireNonNull(builder.view, "view");
+    }
+
+    @Override
+    public String toString()
+    {
+      return new StringBuilder(128)
+        .append("[DLSFile ")
+        .append(this.instruments.size())
+        .append(" instruments, ")
+        .append(this.regions.size())
+        .append(" regions, ")
+        .append(this.waves.size())
+        .append(" waves]")
+        .toString();
+    }
+
+    @Override
+    public RiffFileType riff()
+    {
+      return this.riff;
+    }
+
+    @Override
+    public RiffChunkType rootChunk()
+    {
+      return this.root;
+    }
+
+    @Override
+    public Optional<DLSVersion> version()
+    {
+      return this.version;
+    }
+
+    @Override
+    public Map<String, String> info()
+    {
+      return this.info;
+    }
+
+    @Override
+    public DLSInstruments instruments()
+    {
+      return this.instruments;
+    }
+
+    @Override
+    public DLSRegions regions()
+    {
+      return this.regions;
+    }
+
+    @Override
+    public DLSPoolTable poolTable()
+    {
+      return this.pool;
+    }
+
+    @Override
+    public DLSWaves waves()
+    {
+      return this.waves;
+    }
+
+    @Override
+    public ByteBuffer waveData(
+      final int wave)
+    {
+      return this.view.slice(
+          Math.toIntExact(this.waves.dataOffset(wave)),
+          Math.toIntExact(this.waves.dataSize(wave)))
+        .asReadOnlyBuffer()
+        .order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static final class Builder
+    {
+      private RiffFileType riff;
+      private RiffChunkType root;
+      private Optional<DLSVersion> version;
+      private Map<String, String> info;
+      private DLSInstruments instruments;
+      private DLSRegions regions;
+      private DLSPoolTable pool;
+      private DLSWaves waves;
+      private ByteBuffer view;
+
+      Builder()
+      {
+
+      }
+    }
+  }
+}
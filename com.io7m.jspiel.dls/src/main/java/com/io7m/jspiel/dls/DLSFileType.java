@@ -0,0 +1,132 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.dls;
+
+import com.io7m.jspiel.api.RiffChunkType;
+import com.io7m.jspiel.api.RiffFileType;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * <p>A parsed DLS (Downloadable Sounds) Level 1 or Level 2 collection.</p>
+ *
+ * <p>The instruments, regions, pool table and waves are decoded into indexed primitive tables
+ * when the collection is parsed. Wave data is not copied; it is exposed as views over the buffer
+ * from which the collection was parsed. Articulation chunks are not decoded.</p>
+ */
+
+public interface DLSFileType
+{
+  /**
+   * @return The underlying RIFF file
+   */
+
+  RiffFileType riff();
+
+  /**
+   * @return The {@code RIFF(DLS )} chunk that holds the collection
+   */
+
+  RiffChunkType rootChunk();
+
+  /**
+   * @return The version of the collection from the {@code vers} chunk, if one is present
+   */
+
+  Optional<DLSVersion> version();
+
+  /**
+   * @return The textual {@code INFO} entries of the collection, in file order, keyed by chunk ID
+   */
+
+  Map<String, String> info();
+
+  /**
+   * @return The instruments
+   */
+
+  DLSInstruments instruments();
+
+  /**
+   * @return The regions of all instruments
+   */
+
+  DLSRegions regions();
+
+  /**
+   * @return The pool table
+   */
+
+  DLSPoolTable poolTable();
+
+  /**
+   * @return The waves
+   */
+
+  DLSWaves waves();
+
+  /**
+   * @param wave The wave index
+   *
+   * @return A read-only, little-endian view of the contents of the wave's {@code data} chunk
+   */
+
+  ByteBuffer waveData(int wave);
+
+  /**
+   * Find the first region of the given instrument that covers the given key and velocity.
+   *
+   * @param instrument The instrument index
+   * @param key        The MIDI key
+   * @param velocity   The velocity
+   *
+   * @return The region index, if any
+   */
+
+  default OptionalInt findRegion(
+    final int instrument,
+    final int key,
+    final int velocity)
+  {
+    final var instruments = this.instruments();
+    final var regions = this.regions();
+    final var first = instruments.firstRegion(instrument);
+    final var last = first + instruments.regionCount(instrument);
+    for (var region = first; region < last; ++region) {
+      if (regions.covers(region, key, velocity)) {
+        return OptionalInt.of(region);
+      }
+    }
+    return OptionalInt.empty();
+  }
+
+  /**
+   * @param region The region index
+   *
+   * @return The index of the wave played by the given region
+   */
+
+  default int waveOfRegion(
+    final int region)
+  {
+    return this.poolTable().wave(this.regions().tableIndex(region));
+  }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.dls;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.stream.IntStream;
+
+/**
+ * <p>The instruments held in the {@code lins} list of a DLS collection.</p>
+ *
+ * <p>The instruments are held in primitive arrays in file order. The regions of instrument
+ * {@code i} are the {@link #regionCount(int)} consecutive entries of the region table starting
+ * at {@link #firstRegion(int)}. Instruments can be located by MIDI bank and program in
+ * logarithmic time.</p>
+ */
+
+public final class DLSInstruments
+{
+  /**
+   * The bit of the {@code ulBank} field that marks an instrument as a drum instrument.
+   */
+
+  public static final int F_INSTRUMENT_DRUMS = 0x8000_0000;
+
+  private final int[] banks;
+  private final int[] programs;
+  private final int[] first_regions;
+  private final int[] region_counts;
+  private final String[] names;
+  private long[] sorted_keys;
+  private int[] sorted_indices;
+
+  DLSInstruments(
+    final int count)
+  {
+    this.banks = new int[count];
+    this.programs = new int[count];
+    this.first_regions = new int[count];
+    this.region_counts = new int[count];
+    this.names = new String[count];
+    this.sorted_keys = new long[0];
+    this.sorted_indices = new int[0];
+  }
+
+  private static long key(
+    final int bank,
+    final int program)
+  {
+    return (Integer.toUnsignedLong(bank) << 32) | Integer.toUnsignedLong(program);
+  }
+
+  void set(
+    final int index,
+    final int bank,
+    final int program,
+    final int first_region,
+    final int region_count,
+    final String name)
+  {
+    this.banks[index] = bank;
+    this.programs[index] = program;
+    this.first_regions[index] = first_region;
+    this.region_counts[index] = region_count;
+    this.names[index] = Objects.requireNonNull(name, "name");
+  }
+
+  /**
+   * Build the bank/program lookup table. Must be called once all instruments are set.
+   */
+
+  void index()
+  {
+    final var keys = new long[this.banks.length];
+    for (var index = 0; index < keys.length; ++index) {
+      keys[index] = key(
+        this.banks[index] & (F_INSTRUMENT_DRUMS | 0x7f7f),
+        this.programs[index] & 0x7f);
+    }
+
+    this.sorted_indices =
+      IntStream.range(0, keys.length)
+        .boxed()
+        .sorted(Comparator.comparingLong(i -> keys[i.intValue()]))
+        .mapToInt(Integer::intValue)
+        .toArray();
+
+    this.sorted_keys = new long[keys.length];
+    for (var index = 0; index < keys.length; ++index) {
+      this.sorted_keys[index] = keys[this.sorted_indices[index]];
+    }
+  }
+
+  /**
+   * @return The number of instruments
+   */
+
+  public int size()
+  {
+    return this.banks.length;
+  }
+
+  /**
+   * @param index The instrument index
+   *
+   * @return The raw {@code ulBank} field
+   */
+
+  public int bank(
+    final int index)
+  {
+    return this.banks[Objects.checkIndex(index, this.banks.length)];
+  }
+
+  /**
+   * @param index The instrument index
+   *
+   * @return The bank select MSB (MIDI controller 0)
+   */
+
+  public int bankMSB(
+    final int index)
+  {
+    return (this.bank(index) >>> 8) & 0x7f;
+  }
+
+  /**
+   * @param index The instrument index
+   *
+   * @return The bank select LSB (MIDI controller 32)
+   */
+
+  public int bankLSB(
+    final int index)
+  {
+    return this.bank(index) & 0x7f;
+  }
+
+  /**
+   * @param index The instrument index
+   *
+   * @return {@code true} if the instrument is a drum instrument
+   */
+
+  public boolean isDrum(
+    final int index)
+  {
+    return (this.bank(index) & F_INSTRUMENT_DRUMS) != 0;
+  }
+
+  /**
+   * @param index The instrument index
+   *
+   * @return The MIDI program number
+   */
+
+  public int program(
+    final int index)
+  {
+    return this.programs[Objects.checkIndex(index, this.programs.length)] & 0x7f;
+  }
+
+  /**
+   * @param index The instrument index
+   *
+   * @return The name of the instrument from its {@code INAM} chunk, or the empty string
+   */
+
+  public String name(
+    final int index)
+  {
+    return this.names[Objects.checkIndex(index, this.names.length)];
+  }
+
+  /**
+   * @param index The instrument index
+   *
+   * @return The index of the first region of the instrument in the region table
+   */
+
+  public int firstRegion(
+    final int index)
+  {
+    return this.first_regions[Objects.checkIndex(index, this.first_regions.length)];
+  }
+
+  /**
+   * @param index The instrument index
+   *
+   * @return The number of regions of the instrument
+   */
+
+  public int regionCount(
+    final int index)
+  {
+    return this.region_counts[Objects.checkIndex(index, this.region_counts.length)];
+  }
+
+  /**
+   * Find the first instrument, in file order, with the given bank and program.
+   *
+   * @param bank_msb The bank select MSB
+   * @param bank_lsb The bank select LSB
+   * @param program  The program number
+   * @param drum     {@code true} if a drum instrument is required
+   *
+   * @return The instrument index, if any
+   */
+
+  public OptionalInt find(
+    final int bank_msb,
+    final int bank_lsb,
+    final int program,
+    final boolean drum)
+  {
+    final var select = ((bank_msb & 0x7f) << 8) | (bank_lsb & 0x7f);
+    final var bank = drum ? F_INSTRUMENT_DRUMS | select : select;
+    final var target = key(bank, program & 0x7f);
+
+    var found = Arrays.binarySearch(this.sorted_keys, target);
+    if (found < 0) {
+      return OptionalInt.empty();
+    }
+    while (found > 0 && this.sorted_keys[found - 1] == target) {
+      --found;
+    }
+    return OptionalInt.of(this.sorted_indices[found]);
+  }
+
+  @Override
+  public String toString()
+  {
+    return new StringBuilder(32)
+      .append("[DLSInstruments ")
+      .append(this.banks.length)
+      .append(']')
+      .toString();
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.dls;
+
+import com.io7m.jspiel.api.RiffChunkType;
+import com.io7m.jspiel.api.RiffFileParserProviderType;
+import com.io7m.jspiel.api.RiffFileType;
+import com.io7m.jspiel.api.RiffFormatParsing;
+import com.io7m.jspiel.api.RiffParseException;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+/**
+ * The default implementation of the {@link DLSFileParserProviderType} interface.
+ */
+
+public final class DLSParsers implements DLSFileParserProviderType
+{
+  static final String FORM_DLS = "DLS ";
+
+  private final RiffFileParserProviderType parsers;
+
+  /**
+   * Construct a DLS parser provider using the first available RIFF parser provider.
+   */
+
+  public DLSParsers()
+  {
+    this(
+      ServiceLoader.load(RiffFileParserProviderType.class)
+        .findFirst()
+        .orElseThrow(() -> new IllegalStateException("No RIFF file parser service available")));
+  }
+
+  /**
+   * Construct a DLS parser provider.
+   *
+   * @param in_parsers A provider of RIFF parsers
+   */
+
+  public DLSParsers(
+    final RiffFileParserProviderType in_parsers)
+  {
+    this.parsers = Objects.requireNonNull(in_parsers, "parsers");
+  }
+
+  @Override
+  public DLSFileParserType createForByteBuffer(
+    final URI source,
+    final ByteBuffer data)
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(data, "data");
+    return new Parser(this.parsers, source, Optional.empty(), data);
+  }
+
+  @Override
+  public DLSFileParserType createForRiffFile(
+    final URI source,
+    final RiffFileType file,
+    final ByteBuffer data)
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(file, "file");
+    Objects.requireNonNull(data, "data");
+    return new Parser(this.parsers, source, Optional.of(file), data);
+  }
+
+  private static final class Parser implements DLSFileParserType
+  {
+    private final RiffFileParserProviderType parsers;
+    private final URI source;
+    private final Optional<RiffFileType> file_given;
+    private final ByteBuffer data;
+
+    Parser(
+      final RiffFileParserProviderType in_parsers,
+      final URI in_source,
+      final Optional<RiffFileType> in_file,
+      final ByteBuffer in_data)
+    {
+      this.parsers = Objects.requireNonNull(in_parsers, "parsers");
+      this.source = Objects.requireNonNull(in_source, "source");
+      this.file_given = Objects.requireNonNull(in_file, "file");
+      this.data = Objects.requireNonNull(in_data, "data");
+    }
+
+    @Override
+    public DLSFileType parse()
+      throws RiffParseException
+    {
+      final RiffFileType file;
+      if (this.file_given.isPresent()) {
+        file = this.file_given.get();
+      } else {
+        file = this.parsers.createForByteBuffer(this.source, this.data.duplicate()).parse();
+      }
+
+      return new DLSCollectionParser(this.source, file, this.data)
+        .parse(this.findRoot(file));
+    }
+
+    private RiffChunkType findRoot(
+      final RiffFileType file)
+      throws RiffParseException
+    {
+      return RiffFormatParsing.findRootWithForm(this.source, file, FORM_DLS, "a DLS file");
+    }
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.dls;
+
+import java.util.Objects;
+
+/**
+ * <p>The pool table held in the {@code ptbl} chunk of a DLS collection.</p>
+ *
+ * <p>Regions refer to waves indirectly through the pool table. Each cue in the table holds the
+ * offset of a wave in the wave pool; the parser resolves each offset to the index of the wave
+ * in the wave table once, so that resolving a region's wave is a pair of array lookups.</p>
+ */
+
+public final class DLSPoolTable
+{
+  private final long[] offsets;
+  private final int[] waves;
+
+  DLSPoolTable(
+    final long[] in_offsets,
+    final int[] in_waves)
+  {
+    this.offsets = Objects.requireNonNull(in_offsets, "offsets");
+    this.waves = Objects.requireNonNull(in_waves, "waves");
+  }
+
+  /**
+   * @return The number of cues
+   */
+
+  public int size()
+  {
+    return this.offsets.length;
+  }
+
+  /**
+   * @param index The cue index
+   *
+   * @return The offset of the wave in the wave pool, as declared in the file
+   */
+
+  public long offset(
+    final int index)
+  {
+    return this.offsets[Objects.checkIndex(index, this.offsets.length)];
+  }
+
+  /**
+   * @param index The cue index
+   *
+   * @return The index of the wave in the wave table
+   */
+
+  public int wave(
+    final int index)
+  {
+    return this.waves[Objects.checkIndex(index, this.waves.length)];
+  }
+
+  @Override
+  public String toString()
+  {
+    return new StringBuilder(32)
+      .append("[DLSPoolTable ")
+      .append(this.offsets.length)
+      .append(']')
+      .toString();
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.dls;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Functions to decode fields of DLS structures.
+ */
+
+final class DLSRecords
+{
+  private DLSRecords()
+  {
+
+  }
+
+  static int u16(
+    final ByteBuffer buffer,
+    final int offset)
+  {
+    return Short.toUnsignedInt(buffer.getShort(offset));
+  }
+
+  static int s16(
+    final ByteBuffer buffer,
+    final int offset)
+  {
+    return buffer.getShort(offset);
+  }
+
+  static long u32(
+    final ByteBuffer buffer,
+    final int offset)
+  {
+    return Integer.toUnsignedLong(buffer.getInt(offset));
+  }
+
+  static int s32(
+    final ByteBuffer buffer,
+    final int offset)
+  {
+    return buffer.getInt(offset);
+  }
+}
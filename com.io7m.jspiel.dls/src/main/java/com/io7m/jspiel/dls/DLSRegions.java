@@ -0,0 +1,296 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.dls;
+
+import java.util.Objects;
+
+/**
+ * <p>The regions of all of the instruments of a DLS collection.</p>
+ *
+ * <p>The regions are held in primitive arrays in file order, with the regions of each instrument
+ * stored consecutively. The table combines the {@code rgnh} (region header) and {@code wlnk}
+ * (wave link) chunks of each {@code rgn } or {@code rgn2} list, and the region's {@code wsmp}
+ * chunk is held in {@link #sampleParameters()}.</p>
+ */
+
+public final class DLSRegions
+{
+  private final int[] instruments;
+  private final int[] key_lows;
+  private final int[] key_highs;
+  private final int[] velocity_lows;
+  private final int[] velocity_highs;
+  private final int[] options;
+  private final int[] key_groups;
+  private final int[] layers;
+  private final int[] link_options;
+  private final int[] phase_groups;
+  private final long[] channels;
+  private final int[] table_indices;
+  private final DLSSampleParameters sample_parameters;
+
+  DLSRegions(
+    final int count)
+  {
+    this.instruments = new int[count];
+    this.key_lows = new int[count];
+    this.key_highs = new int[count];
+    this.velocity_lows = new int[count];
+    this.velocity_highs = new int[count];
+    this.options = new int[count];
+    this.key_groups = new int[count];
+    this.layers = new int[count];
+    this.link_options = new int[count];
+    this.phase_groups = new int[count];
+    this.channels = new long[count];
+    this.table_indices = new int[count];
+    this.sample_parameters = new DLSSampleParameters(count);
+  }
+
+  void setHeader(
+    final int index,
+    final int instrument,
+    final int key_low,
+    final int key_high,
+    final int velocity_low,
+    final int velocity_high,
+    final int in_options,
+    final int key_group,
+    final int layer)
+  {
+    this.instruments[index] = instrument;
+    this.key_lows[index] = key_low;
+    this.key_highs[index] = key_high;
+    this.velocity_lows[index] = velocity_low;
+    this.velocity_highs[index] = velocity_high;
+    this.options[index] = in_options;
+    this.key_groups[index] = key_group;
+    this.layers[index] = layer;
+  }
+
+  void setLink(
+    final int index,
+    final int in_options,
+    final int phase_group,
+    final long channel,
+    final int table_index)
+  {
+    this.link_options[index] = in_options;
+    this.phase_groups[index] = phase_group;
+    this.channels[index] = channel;
+    this.table_indices[index] = table_index;
+  }
+
+  /**
+   * @return The number of regions
+   */
+
+  public int size()
+  {
+    return this.instruments.length;
+  }
+
+  private int check(
+    final int index)
+  {
+    return Objects.checkIndex(index, this.instruments.length);
+  }
+
+  /**
+   * @param index The region index
+   *
+   * @return The index of the instrument to which the region belongs
+   */
+
+  public int instrument(
+    final int index)
+  {
+    return this.instruments[this.check(index)];
+  }
+
+  /**
+   * @param index The region index
+   *
+   * @return The lowest MIDI key of the region
+   */
+
+  public int keyLow(
+    final int index)
+  {
+    return this.key_lows[this.check(index)];
+  }
+
+  /**
+   * @param index The region index
+   *
+   * @return The highest MIDI key of the region
+   */
+
+  public int keyHigh(
+    final int index)
+  {
+    return this.key_highs[this.check(index)];
+  }
+
+  /**
+   * @param index The region index
+   *
+   * @return The lowest velocity of the region
+   */
+
+  public int velocityLow(
+    final int index)
+  {
+    return this.velocity_lows[this.check(index)];
+  }
+
+  /**
+   * @param index The region index
+   *
+   * @return The highest velocity of the region
+   */
+
+  public int velocityHigh(
+    final int index)
+  {
+    return this.velocity_highs[this.check(index)];
+  }
+
+  /**
+   * @param index The region index
+   *
+   * @return The {@code fusOptions} flags of the region header
+   */
+
+  public int options(
+    final int index)
+  {
+    return this.options[this.check(index)];
+  }
+
+  /**
+   * @param index The region index
+   *
+   * @return The key group of the region ({@code 0} if the region is not in a key group)
+   */
+
+  public int keyGroup(
+    final int index)
+  {
+    return this.key_groups[this.check(index)];
+  }
+
+  /**
+   * @param index The region index
+   *
+   * @return The layer of the region ({@code 0} for DLS Level 1 regions)
+   */
+
+  public int layer(
+    final int index)
+  {
+    return this.layers[this.check(index)];
+  }
+
+  /**
+   * @param index The region index
+   *
+   * @return The {@code fusOptions} flags of the wave link
+   */
+
+  public int linkOptions(
+    final int index)
+  {
+    return this.link_options[this.check(index)];
+  }
+
+  /**
+   * @param index The region index
+   *
+   * @return The phase group of the wave link
+   */
+
+  public int phaseGroup(
+    final int index)
+  {
+    return this.phase_groups[this.check(index)];
+  }
+
+  /**
+   * @param index The region index
+   *
+   * @return The channel flags of the wave link
+   */
+
+  public long channel(
+    final int index)
+  {
+    return this.channels[this.check(index)];
+  }
+
+  /**
+   * @param index The region index
+   *
+   * @return The index of the region's wave in the pool table
+   */
+
+  public int tableIndex(
+    final int index)
+  {
+    return this.table_indices[this.check(index)];
+  }
+
+  /**
+   * @param index    The region index
+   * @param key      The MIDI key
+   * @param velocity The velocity
+   *
+   * @return {@code true} if the region covers the given key and velocity
+   */
+
+  public boolean covers(
+    final int index,
+    final int key,
+    final int velocity)
+  {
+    final var i = this.check(index);
+    return key >= this.key_lows[i]
+      && key <= this.key_highs[i]
+      && velocity >= this.velocity_lows[i]
+      && velocity <= this.velocity_highs[i];
+  }
+
+  /**
+   * @return The {@code wsmp} parameters of the regions
+   */
+
+  public DLSSampleParameters sampleParameters()
+  {
+    return this.sample_parameters;
+  }
+
+  @Override
+  public String toString()
+  {
+    return new StringBuilder(32)
+      .append("[DLSRegions ")
+      .append(this.instruments.length)
+      .append(']')
+      .toString();
+  }
+}
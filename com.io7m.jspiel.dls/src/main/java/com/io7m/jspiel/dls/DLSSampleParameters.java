@@ -0,0 +1,199 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.dls;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * <p>A table of the {@code wsmp} (wave sample) parameters of a set of regions or waves.</p>
+ *
+ * <p>Entry {@code i} of the table belongs to region (or wave) {@code i}. Regions and waves are
+ * not required to have {@code wsmp} chunks, and so every entry is marked as present or absent.
+ * Only the first loop of each entry is recorded; DLS Level 1 and 2 permit at most one loop.</p>
+ */
+
+public final class DLSSampleParameters
+{
+  private final boolean[] present;
+  private final int[] unity_notes;
+  private final int[] fine_tunes;
+  private final int[] attenuations;
+  private final long[] options;
+  private final long[] loop_types;
+  private final long[] loop_starts;
+  private final long[] loop_lengths;
+
+  DLSSampleParameters(
+    final int count)
+  {
+    this.present = new boolean[count];
+    this.unity_notes = new int[count];
+    this.fine_tunes = new int[count];
+    this.attenuations = new int[count];
+    this.options = new long[count];
+    this.loop_types = new long[count];
+    this.loop_starts = new long[count];
+    this.loop_lengths = new long[count];
+    Arrays.fill(this.loop_types, -1L);
+  }
+
+  void set(
+    final int index,
+    final int unity_note,
+    final int fine_tune,
+    final int attenuation,
+    final long in_options)
+  {
+    this.present[index] = true;
+    this.unity_notes[index] = unity_note;
+    this.fine_tunes[index] = fine_tune;
+    this.attenuations[index] = attenuation;
+    this.options[index] = in_options;
+    this.loop_types[index] = -1L;
+  }
+
+  void setLoop(
+    final int index,
+    final long type,
+    final long start,
+    final long length)
+  {
+    this.loop_types[index] = type;
+    this.loop_starts[index] = start;
+    this.loop_lengths[index] = length;
+  }
+
+  /**
+   * @return The number of entries
+   */
+
+  public int size()
+  {
+    return this.present.length;
+  }
+
+  /**
+   * @param index The entry index
+   *
+   * @return {@code true} if the region or wave has a {@code wsmp} chunk
+   */
+
+  public boolean isPresent(
+    final int index)
+  {
+    return this.present[Objects.checkIndex(index, this.present.length)];
+  }
+
+  /**
+   * @param index The entry index
+   *
+   * @return The MIDI note at which the sample plays at its original pitch
+   */
+
+  public int unityNote(
+    final int index)
+  {
+    return this.unity_notes[Objects.checkIndex(index, this.present.length)];
+  }
+
+  /**
+   * @param index The entry index
+   *
+   * @return The fine tuning, in relative pitch units
+   */
+
+  public int fineTune(
+    final int index)
+  {
+    return this.fine_tunes[Objects.checkIndex(index, this.present.length)];
+  }
+
+  /**
+   * @param index The entry index
+   *
+   * @return The attenuation, in relative gain units
+   */
+
+  public int attenuation(
+    final int index)
+  {
+    return this.attenuations[Objects.checkIndex(index, this.present.length)];
+  }
+
+  /**
+   * @param index The entry index
+   *
+   * @return The {@code fulOptions} flags
+   */
+
+  public long options(
+    final int index)
+  {
+    return this.options[Objects.checkIndex(index, this.present.length)];
+  }
+
+  /**
+   * @param index The entry index
+   *
+   * @return {@code true} if the entry has a loop
+   */
+
+  public boolean hasLoop(
+    final int index)
+  {
+    return this.loop_types[Objects.checkIndex(index, this.present.length)] >= 0L;
+  }
+
+  /**
+   * @param index The entry index
+   *
+   * @return The loop type ({@code 0} for forward loops, {@code 1} for loop-and-release), or
+   * {@code -1} if the entry has no loop
+   */
+
+  public long loopType(
+    final int index)
+  {
+    return this.loop_types[Objects.checkIndex(index, this.present.length)];
+  }
+
+  /**
+   * @param index The entry index
+   *
+   * @return The offset of the start of the loop, in sample frames
+   */
+
+  public long loopStart(
+    final int index)
+  {
+    return this.loop_starts[Objects.checkIndex(index, this.present.length)];
+  }
+
+  /**
+   * @param index The entry index
+   *
+   * @return The length of the loop, in sample frames
+   */
+
+  public long loopLength(
+    final int index)
+  {
+    return this.loop_lengths[Objects.checkIndex(index, this.present.length)];
+  }
+}
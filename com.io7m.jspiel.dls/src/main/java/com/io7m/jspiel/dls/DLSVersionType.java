@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.dls;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+/**
+ * The version of a DLS collection held in a {@code vers} chunk.
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface DLSVersionType
+{
+  /**
+   * @return The major version (the high word of {@code dwVersionMS})
+   */
+
+  @Value.Parameter
+  int major();
+
+  /**
+   * @return The minor version (the low word of {@code dwVersionMS})
+   */
+
+  @Value.Parameter
+  int minor();
+
+  /**
+   * @return The release number (the high word of {@code dwVersionLS})
+   */
+
+  @Value.Parameter
+  int release();
+
+  /**
+   * @return The build number (the low word of {@code dwVersionLS})
+   */
+
+  @Value.Parameter
+  int build();
+}
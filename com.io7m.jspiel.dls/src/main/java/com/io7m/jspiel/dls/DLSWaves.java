@@ -0,0 +1,232 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.dls;
+
+import java.util.Objects;
+
+/**
+ * <p>The waves held in the {@code wvpl} (wave pool) list of a DLS collection.</p>
+ *
+ * <p>The waves are held in primitive arrays in file order. The table records the {@code fmt }
+ * chunk of each wave, and the location of its {@code data} chunk; the sample data itself is not
+ * copied and is accessed through {@link DLSFileType#waveData(int)}.</p>
+ */
+
+public final class DLSWaves
+{
+  private final long[] offsets;
+  private final int[] format_tags;
+  private final int[] channels;
+  private final long[] sample_rates;
+  private final long[] byte_rates;
+  private final int[] block_aligns;
+  private final int[] bits_per_samples;
+  private final long[] data_offsets;
+  private final long[] data_sizes;
+  private final DLSSampleParameters sample_parameters;
+
+  DLSWaves(
+    final int count)
+  {
+    this.offsets = new long[count];
+    this.format_tags = new int[count];
+    this.channels = new int[count];
+    this.sample_rates = new long[count];
+    this.byte_rates = new long[count];
+    this.block_aligns = new int[count];
+    this.bits_per_samples = new int[count];
+    this.data_offsets = new long[count];
+    this.data_sizes = new long[count];
+    this.sample_parameters = new DLSSampleParameters(count);
+  }
+
+  void setOffset(
+    final int index,
+    final long offset)
+  {
+    this.offsets[index] = offset;
+  }
+
+  void setFormat(
+    final int index,
+    final int format_tag,
+    final int in_channels,
+    final long sample_rate,
+    final long byte_rate,
+    final int block_align,
+    final int bits_per_sample)
+  {
+    this.format_tags[index] = format_tag;
+    this.channels[index] = in_channels;
+    this.sample_rates[index] = sample_rate;
+    this.byte_rates[index] = byte_rate;
+    this.block_aligns[index] = block_align;
+    this.bits_per_samples[index] = bits_per_sample;
+  }
+
+  void setData(
+    final int index,
+    final long offset,
+    final long size)
+  {
+    this.data_offsets[index] = offset;
+    this.data_sizes[index] = size;
+  }
+
+  /**
+   * @return The number of waves
+   */
+
+  public int size()
+  {
+    return this.offsets.length;
+  }
+
+  private int check(
+    final int index)
+  {
+    return Objects.checkIndex(index, this.offsets.length);
+  }
+
+  /**
+   * @param index The wave index
+   *
+   * @return The absolute offset of the wave's {@code LIST(wave)} chunk
+   */
+
+  public long offset(
+    final int index)
+  {
+    return this.offsets[this.check(index)];
+  }
+
+  /**
+   * @param index The wave index
+   *
+   * @return The format tag ({@code 1} for PCM)
+   */
+
+  public int formatTag(
+    final int index)
+  {
+    return this.format_tags[this.check(index)];
+  }
+
+  /**
+   * @param index The wave index
+   *
+   * @return The number of channels
+   */
+
+  public int channels(
+    final int index)
+  {
+    return this.channels[this.check(index)];
+  }
+
+  /**
+   * @param index The wave index
+   *
+   * @return The sample rate in frames per second
+   */
+
+  public long sampleRate(
+    final int index)
+  {
+    return this.sample_rates[this.check(index)];
+  }
+
+  /**
+   * @param index The wave index
+   *
+   * @return The average number of bytes per second
+   */
+
+  public long byteRate(
+    final int index)
+  {
+    return this.byte_rates[this.check(index)];
+  }
+
+  /**
+   * @param index The wave index
+   *
+   * @return The size of a frame in bytes
+   */
+
+  public int blockAlign(
+    final int index)
+  {
+    return this.block_aligns[this.check(index)];
+  }
+
+  /**
+   * @param index The wave index
+   *
+   * @return The number of bits per sample
+   */
+
+  public int bitsPerSample(
+    final int index)
+  {
+    return this.bits_per_samples[this.check(index)];
+  }
+
+  /**
+   * @param index The wave index
+   *
+   * @return The absolute offset of the contents of the wave's {@code data} chunk
+   */
+
+  public long dataOffset(
+    final int index)
+  {
+    return this.data_offsets[this.check(index)];
+  }
+
+  /**
+   * @param index The wave index
+   *
+   * @return The size of the contents of the wave's {@code data} chunk
+   */
+
+  public long dataSize(
+    final int index)
+  {
+    return this.data_sizes[this.check(index)];
+  }
+
+  /**
+   * @return The {@code wsmp} parameters of the waves
+   */
+
+  public DLSSampleParameters sampleParameters()
+  {
+    return this.sample_parameters;
+  }
+
+  @Override
+  public String toString()
+  {
+    return new StringBuilder(32)
+      .append("[DLSWaves ")
+      .append(this.offsets.length)
+      .append(']')
+      .toString();
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.dls;
+
+import com.io7m.jspiel.api.RiffChunkType;
+import com.io7m.jspiel.api.RiffFileType;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A parsed RIFF MIDI (RMID) file: a standard MIDI file wrapped in a RIFF chunk, optionally
+ * accompanied by an embedded DLS collection.
+ */
+
+public interface RMIDFileType
+{
+  /**
+   * @return The underlying RIFF file
+   */
+
+  RiffFileType riff();
+
+  /**
+   * @return The {@code RIFF(RMID)} chunk
+   */
+
+  RiffChunkType rootChunk();
+
+  /**
+   * @return The textual {@code INFO} entries, in file order, keyed by chunk ID
+   */
+
+  Map<String, String> info();
+
+  /**
+   * @return A read-only view of the standard MIDI file held in the {@code data} chunk
+   */
+
+  ByteBuffer midiData();
+
+  /**
+   * @return The embedded DLS collection, if one is present
+   */
+
+  Optional<DLSFileType> collection();
+}
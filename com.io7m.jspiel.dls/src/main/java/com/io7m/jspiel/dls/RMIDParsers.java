@@ -0,0 +1,220 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.dls;
+
+import com.io7m.jspiel.api.RiffChunkType;
+import com.io7m.jspiel.api.RiffFileParserProviderType;
+import com.io7m.jspiel.api.RiffFileType;
+import com.io7m.jspiel.api.RiffFormatParsing;
+import com.io7m.jspiel.api.RiffParseException;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+/**
+ * The default implementation of the {@link RMIDFileParserProviderType} interface.
+ */
+
+public final class RMIDParsers implements RMIDFileParserProviderType
+{
+  private static final String FORM_RMID = "RMID";
+  private static final String ID_RIFF = "RIFF";
+  private static final String ID_DATA = "data";
+
+  private final RiffFileParserProviderType parsers;
+
+  /**
+   * Construct an RMID parser provider using the first available RIFF parser provider.
+   */
+
+  public RMIDParsers()
+  {
+    this(
+      ServiceLoader.load(RiffFileParserProviderType.class)
+        .findFirst()
+        .orElseThrow(() -> new IllegalStateException("No RIFF file parser service available")));
+  }
+
+  /**
+   * Construct an RMID parser provider.
+   *
+   * @param in_parsers A provider of RIFF parsers
+   */
+
+  public RMIDParsers(
+    final RiffFileParserProviderType in_parsers)
+  {
+    this.parsers = Objects.requireNonNull(in_parsers, "parsers");
+  }
+
+  @Override
+  public RMIDFileParserType createForByteBuffer(
+    final URI source,
+    final ByteBuffer data)
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(data, "data");
+    return new Parser(this.parsers, source, Optional.empty(), data);
+  }
+
+  @Override
+  public RMIDFileParserType createForRiffFile(
+    final URI source,
+    final RiffFileType file,
+    final ByteBuffer data)
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(file, "file");
+    Objects.requireNonNull(data, "data");
+    return new Parser(this.parsers, source, Optional.of(file), data);
+  }
+
+  private static final class Parser implements RMIDFileParserType
+  {
+    private final RiffFileParserProviderType parsers;
+    private final URI source;
+    private final Optional<RiffFileType> file_given;
+    private final ByteBuffer data;
+
+    Parser(
+      final RiffFileParserProviderType in_parsers,
+      final URI in_source,
+      final Optional<RiffFileType> in_file,
+      final ByteBuffer in_data)
+    {
+      this.parsers = Objects.requireNonNull(in_parsers, "parsers");
+      this.source = Objects.requireNonNull(in_source, "source");
+      this.file_given = Objects.requireNonNull(in_file, "file");
+      this.data = Objects.requireNonNull(in_data, "data");
+    }
+
+    @Override
+    public RMIDFileType parse()
+      throws RiffParseException
+    {
+      final RiffFileType file;
+      if (this.file_given.isPresent()) {
+        file = this.file_given.get();
+      } else {
+        file = this.parsers.createForByteBuffer(this.source, this.data.duplicate()).parse();
+      }
+
+      final var collections = new DLSCollectionParser(this.source, file, this.data);
+      final var root = this.findRoot(file);
+      final var midi = collections.required(root, ID_DATA);
+
+      final var embedded =
+        root.subChunks()
+          .stream()
+          .filter(c -> Objects.equals(c.formType(), Optional.of(DLSParsers.FORM_DLS)))
+          .filter(c -> ID_RIFF.equals(c.name().value())
+            || DLSCollectionParser.ID_LIST.equals(c.name().value()))
+          .findFirst();
+
+      Optional<DLSFileType> collection = Optional.empty();
+      if (embedded.isPresent()) {
+        collection = Optional.of(collections.parse(embedded.get()));
+      }
+
+      final var view = this.data.duplicate().order(file.byteOrder());
+      final var midi_data =
+        view.slice(
+            Math.toIntExact(midi.dataOffset()),
+            Math.toIntExact(midi.dataSizeExcludingForm().sizeUnpadded()))
+          .asReadOnlyBuffer();
+
+      return new RMIDFile(file, root, collections.info(root), midi_data, collection);
+    }
+
+    private RiffChunkType findRoot(
+      final RiffFileType file)
+      throws RiffParseException
+    {
+      return RiffFormatParsing.findRootWithForm(this.source, file, FORM_RMID, "an RMID file");
+    }
+  }
+
+  private static final class RMIDFile implements RMIDFileType
+  {
+    private final RiffFileType riff;
+    private final RiffChunkType root;
+    private final Map<String, String> info;
+    private final ByteBuffer midi_data;
+    private final Optional<DLSFileType> collection;
+
+    RMIDFile(
+      final RiffFileType in_riff,
+      final RiffChunkType in_root,
+      final Map<String, String> in_info,
+      final ByteBuffer in_midi_data,
+      final Optional<DLSFileType> in_collection)
+    {
+      this.riff = Objects.requireNonNull(in_riff, "riff");
+      this.root = Objects.requireNonNull(in_root, "root");
+      this.info = Objects.requireNonNull(in_info, "info");
+      this.midi_data = Objects.requireNonNull(in_midi_data, "midi_data");
+      this.collection = Objects.requireNonNull(in_collection, "collection");
+    }
+
+    @Override
+    public String toString()
+    {
+      return new StringBuilder(64)
+        .append("[RMIDFile ")
+        .append(this.midi_data.capacity())
+        .append(" octets of MIDI data, ")
+        .append(this.collection.isPresent() ? "with" : "without")
+        .append(" collection]")
+        .toString();
+    }
+
+    @Override
+    public RiffFileType riff()
+    {
+      return this.riff;
+    }
+
+    @Override
+    public RiffChunkType rootChunk()
+    {
+      return this.root;
+    }
+
+    @Override
+    public Map<String, String> info()
+    {
+      return this.info;
+    }
+
+    @Override
+    public ByteBuffer midiData()
+    {
+      return this.midi_data.duplicate();
+    }
+
+    @Override
+    public Optional<DLSFileType> collection()
+    {
+      return this.collection;
+    }
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.sf2;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A description of a SoundFont 2 bank to be written.
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface SF2BankDescriptionType
+{
+  /**
+   * @return The SoundFont specification version written to the {@code ifil} chunk
+   */
+
+  @Value.Default
+  default SF2Version version()
+  {
+    return SF2Version.of(2, 1);
+  }
+
+  /**
+   * @return The target sound engine written to the {@code isng} chunk
+   */
+
+  @Value.Default
+  default String soundEngine()
+  {
+    return "EMU8000";
+  }
+
+  /**
+   * @return The bank name written to the {@code INAM} chunk
+   */
+
+  String name();
+
+  /**
+   * @return Additional textual {@code INFO} entries, keyed by chunk ID, written in order
+   */
+
+  Map<String, String> info();
+
+  /**
+   * @return The presets
+   */
+
+  List<SF2PresetDescription> presets();
+
+  /**
+   * @return The instruments
+   */
+
+  List<SF2InstrumentDescription> instruments();
+
+  /**
+   * @return The samples
+   */
+
+  List<SF2SampleDescription> samples();
+
+  /**
+   * Check preconditions for the type.
+   */
+
+  @Value.Check
+  default void checkPreconditions()
+  {
+    for (final var key : this.info().keySet()) {
+      if (key.length() != 4) {
+        throw new IllegalArgumentException("INFO keys must be four characters");
+      }
+    }
+  }
+}
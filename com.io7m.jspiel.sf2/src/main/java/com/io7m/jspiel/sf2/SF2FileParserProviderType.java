@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.sf2;
+
+import com.io7m.jspiel.api.RiffFileType;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+
+/**
+ * The type of SoundFont 2 parser providers.
+ */
+
+public interface SF2FileParserProviderType
+{
+  /**
+   * Create a parser from the data in the given byte buffer. The buffer is typically a memory
+   * mapping of the file, in which case the resulting tables and sample views refer directly to
+   * the mapped file.
+   *
+   * @param source The URI of the source
+   * @param data   The input data
+   *
+   * @return A new parser
+   */
+
+  SF2FileParserType createForByteBuffer(
+    URI source,
+    ByteBuffer data);
+
+  /**
+   * Create a parser for a RIFF file that has already been parsed from the given byte buffer.
+   *
+   * @param source The URI of the source
+   * @param file   The parsed RIFF file
+   * @param data   The input data from which {@code file} was parsed
+   *
+   * @return A new parser
+   */
+
+  SF2FileParserType createForRiffFile(
+    URI source,
+    RiffFileType file,
+    ByteBuffer data);
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.sf2;
+
+import com.io7m.jspiel.api.RiffChunkType;
+import com.io7m.jspiel.api.RiffFileType;
+
+import java.nio.ByteBuffer;
+import java.nio.ShortBuffer;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * <p>A parsed SoundFont 2 file.</p>
+ *
+ * <p>The record tables and sample data are views over the buffer from which the file was
+ * parsed; no records or samples are copied.</p>
+ */
+
+public interface SF2FileType
+{
+  /**
+   * @return The underlying RIFF file
+   */
+
+  RiffFileType riff();
+
+  /**
+   * @return The root {@code RIFF(sfbk)} chunk
+   */
+
+  RiffChunkType rootChunk();
+
+  /**
+   * @return The SoundFont specification version from the {@code ifil} chunk
+   */
+
+  SF2Version version();
+
+  /**
+   * @return The textual {@code INFO} entries, in file order, keyed by chunk ID
+   */
+
+  Map<String, String> info();
+
+  /**
+   * @return The preset headers from the {@code phdr} chunk
+   */
+
+  SF2PresetHeaders presetHeaders();
+
+  /**
+   * @return The preset zones from the {@code pbag} chunk
+   */
+
+  SF2Bags presetBags();
+
+  /**
+   * @return The preset modulators from the {@code pmod} chunk
+   */
+
+  SF2Modulators presetModulators();
+
+  /**
+   * @return The preset generators from the {@code pgen} chunk
+   */
+
+  SF2Generators presetGenerators();
+
+  /**
+   * @return The instruments from the {@code inst} chunk
+   */
+
+  SF2Instruments instruments();
+
+  /**
+   * @return The instrument zones from the {@code ibag} chunk
+   */
+
+  SF2Bags instrumentBags();
+
+  /**
+   * @return The instrument modulators from the {@code imod} chunk
+   */
+
+  SF2Modulators instrumentModulators();
+
+  /**
+   * @return The instrument generators from the {@code igen} chunk
+   */
+
+  SF2Generators instrumentGenerators();
+
+  /**
+   * @return The sample headers from the {@code shdr} chunk
+   */
+
+  SF2SampleHeaders sampleHeaders();
+
+  /**
+   * @return A read-only view, in the file's byte order, of the contents of the {@code smpl} chunk, or an
+   * empty buffer if the file has no sample data
+   */
+
+  ByteBuffer sampleData();
+
+  /**
+   * @return A read-only view of the contents of the {@code sm24} chunk, if one is present
+   */
+
+  Optional<ByteBuffer> sampleData24();
+
+  /**
+   * @return A read-only view of the 16-bit sample points in the {@code smpl} chunk
+   */
+
+  default ShortBuffer samples()
+  {
+    return this.sampleData().asShortBuffer();
+  }
+
+  /**
+   * Obtain a view of the sample points of the sample with the given header index.
+   *
+   * @param sample The index of the sample header
+   *
+   * @return A read-only view of the sample points in the range {@code [start, end)}
+   *
+   * @throws IndexOutOfBoundsException If the sample index or the sample's range is out of bounds
+   */
+
+  default ShortBuffer samplesOf(
+    final int sample)
+    throws IndexOutOfBoundsException
+  {
+    final var headers = this.sampleHeaders();
+    final var start = headers.start(sample);
+    final var end = headers.end(sample);
+    final var all = this.samples();
+    if (end < start || end > (long) all.capacity()) {
+      throw new IndexOutOfBoundsException(
+        new StringBuilder(64)
+          .append("Sample range [")
+          .append(start)
+          .append(", ")
+          .append(end)
+          .append(") is out of bounds [0, ")
+          .append(all.capacity())
+          .append(')')
+          .toString());
+    }
+    return all.slice((int) start, (int) (end - start));
+  }
+}
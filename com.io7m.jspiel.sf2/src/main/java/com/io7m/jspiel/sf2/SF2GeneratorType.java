@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.sf2;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+/**
+ * A generator in a preset or instrument zone.
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface SF2GeneratorType
+{
+  /**
+   * @return The generator operator
+   */
+
+  @Value.Parameter
+  int operator();
+
+  /**
+   * @return The raw 16-bit generator amount
+   */
+
+  @Value.Parameter
+  int amount();
+
+  /**
+   * Create a generator that specifies a range, such as a key or velocity range.
+   *
+   * @param operator The generator operator
+   * @param low      The low end of the range
+   * @param high     The high end of the range
+   *
+   * @return A generator
+   */
+
+  static SF2Generator ofRange(
+    final int operator,
+    final int low,
+    final int high)
+  {
+    return SF2Generator.of(operator, ((high & 0xff) << 8) | (low & 0xff));
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.sf2;
+
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * <p>The generators held in a {@code pgen} or {@code igen} chunk.</p>
+ *
+ * <p>The table is a view over the underlying file data; records are decoded on access. As in the
+ * file, the final record is a terminal record. The generator amount is a two-octet union that is
+ * interpreted according to the generator operator: use {@link #amount(int)} for signed values,
+ * {@link #amountUnsigned(int)} for unsigned values, and {@link #rangeLow(int)} and
+ * {@link #rangeHigh(int)} for key and velocity ranges.</p>
+ */
+
+public final class SF2Generators
+{
+  /**
+   * The size of a single record.
+   */
+
+  public static final int RECORD_SIZE = 4;
+
+  private final ByteBuffer data;
+  private final int count;
+
+  SF2Generators(
+    final ByteBuffer in_data)
+  {
+    this.data = Objects.requireNonNull(in_data, "data");
+    this.count = this.data.capacity() / RECORD_SIZE;
+  }
+
+  private int base(
+    final int index)
+  {
+    return SF2Records.checkIndex(index, this.count) * RECORD_SIZE;
+  }
+
+  /**
+   * @return The number of records, including the terminal record
+   */
+
+  public int size()
+  {
+    return this.count;
+  }
+
+  /**
+   * @param index The record index
+   *
+   * @return The generator operator
+   */
+
+  public int operator(
+    final int index)
+  {
+    return SF2Records.u16(this.data, this.base(index));
+  }
+
+  /**
+   * @param index The record index
+   *
+   * @return The generator amount as a signed value
+   */
+
+  public int amount(
+    final int index)
+  {
+    return this.data.getShort(this.base(index) + 2);
+  }
+
+  /**
+   * @param index The record index
+   *
+   * @return The generator amount as an unsigned value
+   */
+
+  public int amountUnsigned(
+    final int index)
+  {
+    return SF2Records.u16(this.data, this.base(index) + 2);
+  }
+
+  /**
+   * @param index The record index
+   *
+   * @return The low end of the generator's range
+   */
+
+  public int rangeLow(
+    final int index)
+  {
+    return SF2Records.u8(this.data, this.base(index) + 2);
+  }
+
+  /**
+   * @param index The record index
+   *
+   * @return The high end of the generator's range
+   */
+
+  public int rangeHigh(
+    final int index)
+  {
+    return SF2Records.u8(this.data, this.base(index) + 3);
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.sf2;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+/**
+ * A modulator in a preset or instrument zone.
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface SF2ModulatorType
+{
+  /**
+   * @return The modulator source operator
+   */
+
+  int sourceOperator();
+
+  /**
+   * @return The generator that is the destination of the modulator
+   */
+
+  int destinationOperator();
+
+  /**
+   * @return The signed modulation amount
+   */
+
+  int amount();
+
+  /**
+   * @return The modulator that controls the modulation amount
+   */
+
+  int amountSourceOperator();
+
+  /**
+   * @return The transform applied to the modulation source
+   */
+
+  int transformOperator();
+}
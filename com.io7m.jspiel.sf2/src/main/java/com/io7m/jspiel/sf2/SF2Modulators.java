@@ -0,0 +1,123 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.sf2;
+
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * <p>The modulators held in a {@code pmod} or {@code imod} chunk.</p>
+ *
+ * <p>The table is a view over the underlying file data; records are decoded on access. As in the
+ * file, the final record is a terminal record.</p>
+ */
+
+public final class SF2Modulators
+{
+  /**
+   * The size of a single record.
+   */
+
+  public static final int RECORD_SIZE = 10;
+
+  private final ByteBuffer data;
+  private final int count;
+
+  SF2Modulators(
+    final ByteBuffer in_data)
+  {
+    this.data = Objects.requireNonNull(in_data, "data");
+    this.count = this.data.capacity() / RECORD_SIZE;
+  }
+
+  private int base(
+    final int index)
+  {
+    return SF2Records.checkIndex(index, this.count) * RECORD_SIZE;
+  }
+
+  /**
+   * @return The number of records, including the terminal record
+   */
+
+  public int size()
+  {
+    return this.count;
+  }
+
+  /**
+   * @param index The record index
+   *
+   * @return The modulator source operator
+   */
+
+  public int sourceOperator(
+    final int index)
+  {
+    return SF2Records.u16(this.data, this.base(index));
+  }
+
+  /**
+   * @param index The record index
+   *
+   * @return The generator that is the destination of the modulator
+   */
+
+  public int destinationOperator(
+    final int index)
+  {
+    return SF2Records.u16(this.data, this.base(index) + 2);
+  }
+
+  /**
+   * @param index The record index
+   *
+   * @return The signed modulation amount
+   */
+
+  public int amount(
+    final int index)
+  {
+    return this.data.getShort(this.base(index) + 4);
+  }
+
+  /**
+   * @param index The record index
+   *
+   * @return The modulator that controls the modulation amount
+   */
+
+  public int amountSourceOperator(
+    final int index)
+  {
+    return SF2Records.u16(this.data, this.base(index) + 6);
+  }
+
+  /**
+   * @param index The record index
+   *
+   * @return The transform applied to the modulation source
+   */
+
+  public int transformOperator(
+    final int index)
+  {
+    return SF2Records.u16(this.data, this.base(index) + 8);
+  }
+}
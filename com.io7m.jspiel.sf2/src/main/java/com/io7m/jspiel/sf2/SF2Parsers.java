@@ -0,0 +1,484 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.sf2;
+
+import com.io7m.jspiel.api.RiffChunkType;
+import com.io7m.jspiel.api.RiffFileParserProviderType;
+import com.io7m.jspiel.api.RiffFileType;
+import com.io7m.jspiel.api.RiffFormatParsing;
+import com.io7m.jspiel.api.RiffParseException;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+
+/**
+ * The default implementation of the {@link SF2FileParserProviderType} interface.
+ */
+
+public final class SF2Parsers implements SF2FileParserProviderType
+{
+  private static final String FORM_SFBK = "sfbk";
+  private static final String FORM_INFO = "INFO";
+  private static final String FORM_SDTA = "sdta";
+  private static final String FORM_PDTA = "pdta";
+  private static final String ID_LIST = "LIST";
+  private static final String ID_IFIL = "ifil";
+  private static final String ID_IVER = "iver";
+
+  private final RiffFileParserProviderType parsers;
+
+  /**
+   * Construct a SoundFont 2 parser provider using the first available RIFF parser provider.
+   */
+
+  public SF2Parsers()
+  {
+    this(
+      ServiceLoader.load(RiffFileParserProviderType.class)
+        .findFirst()
+        .orElseThrow(() -> new IllegalStateException("No RIFF file parser service available")));
+  }
+
+  /**
+   * Construct a SoundFont 2 parser provider.
+   *
+   * @param in_parsers A provider of RIFF parsers
+   */
+
+  public SF2Parsers(
+    final RiffFileParserProviderType in_parsers)
+  {
+    this.parsers = Objects.requireNonNull(in_parsers, "parsers");
+  }
+
+  @Override
+  public SF2FileParserType createForByteBuffer(
+    final URI source,
+    final ByteBuffer data)
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(data, "data");
+    return new Parser(this.parsers, source, Optional.empty(), data);
+  }
+
+  @Override
+  public SF2FileParserType createForRiffFile(
+    final URI source,
+    final RiffFileType file,
+    final ByteBuffer data)
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(file, "file");
+    Objects.requireNonNull(data, "data");
+    return new Parser(this.parsers, source, Optional.of(file), data);
+  }
+
+  private static final class Parser implements SF2FileParserType
+  {
+    private final RiffFileParserProviderType parsers;
+    private final URI source;
+    private final Optional<RiffFileType> file_given;
+    private final ByteBuffer data;
+    private ByteBuffer view;
+    private ByteOrder order;
+
+    Parser(
+      final RiffFileParserProviderType in_parsers,
+      final URI in_source,
+      final Optional<RiffFileType> in_file,
+      final ByteBuffer in_data)
+    {
+      this.parsers = Objects.requireNonNull(in_parsers, "parsers");
+      this.source = Objects.requireNonNull(in_source, "source");
+      this.file_given = Objects.requireNonNull(in_file, "file");
+      this.data = Objects.requireNonNull(in_data, "data");
+    }
+
+    @Override
+    public SF2FileType parse()
+      throws RiffParseException
+    {
+      final RiffFileType file;
+      if (this.file_given.isPresent()) {
+        file = this.file_given.get();
+      } else {
+        file = this.parsers.createForByteBuffer(this.source, this.data.duplicate()).parse();
+      }
+
+      this.order = file.byteOrder();
+      this.view = this.data.duplicate().order(this.order);
+
+      final var root = this.findRoot(file);
+      final var info = this.requiredWithForm(root, FORM_INFO);
+      final var sdta = this.requiredWithForm(root, FORM_SDTA);
+      final var pdta = this.requiredWithForm(root, FORM_PDTA);
+
+      final var version = this.parseVersion(this.required(info, ID_IFIL));
+      final var smpl = sdta.findOptionalSubChunk("smpl");
+      final var sm24 = sdta.findOptionalSubChunk("sm24");
+
+      final var builder = new SF2File.Builder();
+      builder.riff = file;
+      builder.root = root;
+      builder.version = version;
+      builder.info = this.parseInfo(info);
+      builder.preset_headers =
+        new SF2PresetHeaders(this.table(pdta, "phdr", SF2PresetHeaders.RECORD_SIZE));
+      builder.preset_bags =
+        new SF2Bags(this.table(pdta, "pbag", SF2Bags.RECORD_SIZE));
+      builder.preset_modulators =
+        new SF2Modulators(this.table(pdta, "pmod", SF2Modulators.RECORD_SIZE));
+      builder.preset_generators =
+        new SF2Generators(this.table(pdta, "pgen", SF2Generators.RECORD_SIZE));
+      builder.instruments =
+        new SF2Instruments(this.table(pdta, "inst", SF2Instruments.RECORD_SIZE));
+      builder.instrument_bags =
+        new SF2Bags(this.table(pdta, "ibag", SF2Bags.RECORD_SIZE));
+      builder.instrument_modulators =
+        new SF2Modulators(this.table(pdta, "imod", SF2Modulators.RECORD_SIZE));
+      builder.instrument_generators =
+        new SF2Generators(this.table(pdta, "igen", SF2Generators.RECORD_SIZE));
+      builder.sample_headers =
+        new SF2SampleHeaders(this.table(pdta, "shdr", SF2SampleHeaders.RECORD_SIZE));
+      builder.sample_data =
+        smpl.map(this::slice).orElseGet(() -> this.emptySlice());
+      builder.sample_data_24 =
+        sm24.map(this::slice);
+      return new SF2File(builder);
+    }
+
+    private ByteBuffer emptySlice()
+    {
+      return ByteBuffer.allocate(0).asReadOnlyBuffer().order(this.order);
+    }
+
+    private ByteBuffer slice(
+      final RiffChunkType chunk)
+    {
+      return this.view.slice(
+          Math.toIntExact(chunk.dataOffset()),
+          Math.toIntExact(chunk.dataSizeExcludingForm().sizeUnpadded()))
+        .asReadOnlyBuffer()
+        .order(this.order);
+    }
+
+    private ByteBuffer table(
+      final RiffChunkType pdta,
+      final String name,
+      final int record_size)
+      throws RiffParseException
+    {
+      final var chunk = this.required(pdta, name);
+      final var size = chunk.dataSizeExcludingForm().sizeUnpadded();
+      if (size < (long) record_size || size % (long) record_size != 0L) {
+        final var separator = System.lineSeparator();
+        throw new RiffParseException(
+          new StringBuilder(128)
+            .append("Chunk size is not a non-zero multiple of the record size.")
+            .append(separator)
+            .append("  Chunk name: ")
+            .append(name)
+            .append(separator)
+            .append("  Chunk offset: 0x")
+            .append(Long.toUnsignedString(chunk.offset(), 16))
+            .append(separator)
+            .append("  Expected: A non-zero multiple of ")
+            .append(record_size)
+            .append(" octets")
+            .append(separator)
+            .append("  Received: ")
+            .append(Long.toUnsignedString(size))
+            .append(" octets")
+            .append(separator)
+            .toString(),
+          this.source,
+          chunk.offset());
+      }
+      return this.slice(chunk);
+    }
+
+    private RiffChunkType findRoot(
+      final RiffFileType file)
+      throws RiffParseException
+    {
+      return RiffFormatParsing.findRootWithForm(this.source, file, FORM_SFBK, "a SoundFont 2 file");
+    }
+
+    private RiffChunkType required(
+      final RiffChunkType parent,
+      final String name)
+      throws RiffParseException
+    {
+      return RiffFormatParsing.requireSubChunk(this.source, parent, name);
+    }
+
+    private RiffChunkType requiredWithForm(
+      final RiffChunkType parent,
+      final String form)
+      throws RiffParseException
+    {
+      return RiffFormatParsing.requireSubChunkWithForm(this.source, parent, ID_LIST, form);
+    }
+
+    private SF2Version parseVersion(
+      final RiffChunkType chunk)
+      throws RiffParseException
+    {
+      final var size = chunk.dataSizeExcludingForm().sizeUnpadded();
+      if (size < 4L) {
+        final var separator = System.lineSeparator();
+        throw new RiffParseException(
+          new StringBuilder(128)
+            .append("Chunk is too small to hold the required structure.")
+            .append(separator)
+            .append("  Chunk name: ")
+            .append(chunk.name().value())
+            .append(separator)
+            .append("  Chunk offset: 0x")
+            .append(Long.toUnsignedString(chunk.offset(), 16))
+            .append(separator)
+            .append("  Expected: At least ")
+            .append(Long.toUnsignedString(4L))
+            .append(" octets")
+            .append(separator)
+            .append("  Received: ")
+            .append(Long.toUnsignedString(size))
+            .append(" octets")
+            .append(separator)
+            .toString(),
+          this.source,
+          chunk.offset());
+      }
+
+      final var base = Math.toIntExact(chunk.dataOffset());
+      return SF2Version.of(
+        SF2Records.u16(this.view, base),
+        SF2Records.u16(this.view, base + 2));
+    }
+
+    private Map<String, String> parseInfo(
+      final RiffChunkType chunk)
+    {
+      final var results = new LinkedHashMap<String, String>();
+      for (final var sub_chunk : chunk.subChunks()) {
+        final var name = sub_chunk.name().value();
+        if (ID_IFIL.equals(name) || ID_IVER.equals(name)) {
+          continue;
+        }
+
+        final var offset = Math.toIntExact(sub_chunk.dataOffset());
+        final var size = Math.toIntExact(sub_chunk.dataSizeExcludingForm().sizeUnpadded());
+
+        var length = 0;
+        while (length < size && this.view.get(offset + length) != 0) {
+          ++length;
+        }
+
+        results.put(name, ISO_8859_1.decode(this.view.slice(offset, length)).toString());
+      }
+      return Collections.unmodifiableMap(results);
+    }
+  }
+
+  private static final class SF2File implements SF2FileType
+  {
+    private final RiffFileType riff;
+    private final RiffChunkType root;
+    private final SF2Version version;
+    private final Map<String, String> info;
+    private final SF2PresetHeaders preset_headers;
+    private final SF2Bags preset_bags;
+    private final SF2Modulators preset_modulators;
+    private final SF2Generators preset_generators;
+    private final SF2Instruments instruments;
+    private final SF2Bags instrument_bags;
+    private final SF2Modulators instrument_modulators;
+    private final SF2Generators instrument_generators;
+    private final SF2SampleHeaders sample_headers;
+    private final ByteBuffer sample_data;
+    private final Optional<ByteBuffer> sample_data_24;
+
+    SF2File(
+      final Builder builder)
+    {
+      this.riff = Objects.requireNonNull(builder.riff, "riff");
+      this.root = Objects.requireNonNull(builder.root, "root");
+      this.version = Objects.requireNonNull(builder.version, "version");
+      this.info = Objects.requireNonNull(builder.info, "info");
+      this.preset_headers =
+        Objects.requireNonNull(builder.preset_headers, "preset_headers");
+      this.preset_bags =
+        Objects.requireNonNull(builder.preset_bags, "preset_bags");
+      this.preset_modulators =
+        Objects.requireNonNull(builder.preset_modulators, "preset_modulators");
+      this.preset_generators =
+        Objects.requireNonNull(builder.preset_generators, "preset_generators");
+      this.instruments =
+        Objects.requireNonNull(builder.instruments, "instruments");
+      this.instrument_bags =
+        Objects.requireNonNull(builder.instrument_bags, "instrument_bags");
+      this.instrument_modulators =
+        Objects.requireNonNull(builder.instrument_modulators, "instrument_modulators");
+      this.instrument_generators =
+        Objects.requireNonNull(builder.instrument_generators, "instrument_generators");
+      this.sample_headers =
+        Objects.requireNonNull(builder.sample_headers, "sample_headers");
+      this.sample_data =
+        Objects.requireNonNull(builder.sample_data, "sample_data");
+      this.sample_data_24 =
+        Objects.requireNonNull(builder.sample_data_24, "sample_data_24");
+    }
+
+    @Override
+    public String toString()
+    {
+      return new StringBuilder(128)
+        .append("[SF2File ")
+        .append(this.preset_headers.size() - 1)
+        .append(" presets, ")
+        .append(this.instruments.size() - 1)
+        .append(" instruments, ")
+        .append(this.sample_headers.size() - 1)
+        .append(" samples]")
+        .toString();
+    }
+
+    @Override
+    public RiffFileType riff()
+    {
+      return this.riff;
+    }
+
+    @Override
+    public RiffChunkType rootChunk()
+    {
+      return this.root;
+    }
+
+    @Override
+    public SF2Version version()
+    {
+      return this.version;
+    }
+
+    @Override
+    public Map<String, String> info()
+    {
+      return this.info;
+    }
+
+    @Override
+    public SF2PresetHeaders presetHeaders()
+    {
+      return this.preset_headers;
+    }
+
+    @Override
+    public SF2Bags presetBags()
+    {
+      return this.preset_bags;
+    }
+
+    @Override
+    public SF2Modulators presetModulators()
+    {
+      return this.preset_modulators;
+    }
+
+    @Override
+    public SF2Generators presetGenerators()
+    {
+      return this.preset_generators;
+    }
+
+    @Override
+    public SF2Instruments instruments()
+    {
+      return this.instruments;
+    }
+
+    @Override
+    public SF2Bags instrumentBags()
+    {
+      return this.instrument_bags;
+    }
+
+    @Override
+    public SF2Modulators instrumentModulators()
+    {
+      return this.instrument_modulators;
+    }
+
+    @Override
+    public SF2Generators instrumentGenerators()
+    {
+      return this.instrument_generators;
+    }
+
+    @Override
+    public SF2SampleHeaders sampleHeaders()
+    {
+      return this.sample_headers;
+    }
+
+    @Override
+    public ByteBuffer sampleData()
+    {
+      return this.sample_data.duplicate().order(this.sample_data.order());
+    }
+
+    @Override
+    public Optional<ByteBuffer> sampleData24()
+    {
+      return this.sample_data_24.map(b -> b.duplicate().order(b.order()));
+    }
+
+    private static final class Builder
+    {
+      private RiffFileType riff;
+      private RiffChunkType root;
+      private SF2Version version;
+      private Map<String, String> info;
+      private SF2PresetHeaders preset_headers;
+      private SF2Bags preset_bags;
+      private SF2Modulators preset_modulators;
+      private SF2Generators preset_generators;
+      private SF2Instruments instruments;
+      private SF2Bags instrument_bags;
+      private SF2Modulators instrument_modulators;
+      private SF2Generators instrument_generators;
+      private SF2SampleHeaders sample_headers;
+      private ByteBuffer sample_data;
+      private Optional<ByteBuffer> sample_data_24;
+
+      Builder()
+      {
+
+      }
+    }
+  }
+}
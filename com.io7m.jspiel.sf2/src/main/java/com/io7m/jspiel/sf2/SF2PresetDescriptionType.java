@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.sf2;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+import java.util.List;
+
+/**
+ * A description of a preset to be written to a bank.
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface SF2PresetDescriptionType
+{
+  /**
+   * @return The preset name
+   */
+
+  String name();
+
+  /**
+   * @return The MIDI preset number
+   */
+
+  int preset();
+
+  /**
+   * @return The MIDI bank number
+   */
+
+  int bank();
+
+  /**
+   * @return The (unused) library value
+   */
+
+  @Value.Default
+  default long library()
+  {
+    return 0L;
+  }
+
+  /**
+   * @return The (unused) genre value
+   */
+
+  @Value.Default
+  default long genre()
+  {
+    return 0L;
+  }
+
+  /**
+   * @return The (unused) morphology value
+   */
+
+  @Value.Default
+  default long morphology()
+  {
+    return 0L;
+  }
+
+  /**
+   * @return The preset zones; instruments are referenced by index using generator 41
+   */
+
+  List<SF2Zone> zones();
+
+  /**
+   * Check preconditions for the type.
+   */
+
+  @Value.Check
+  default void checkPreconditions()
+  {
+    SF2Records.checkName(this.name());
+  }
+}
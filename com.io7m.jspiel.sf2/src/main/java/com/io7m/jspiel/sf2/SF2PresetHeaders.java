@@ -0,0 +1,148 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.sf2;
+
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * <p>The preset headers held in a {@code phdr} chunk.</p>
+ *
+ * <p>The table is a view over the underlying file data; records are decoded on access. As in the
+ * file, the final record is the terminal {@code EOP} record, and the bag index of preset
+ * {@code i} and {@code i + 1} delimit the preset's zones in the {@code pbag} table.</p>
+ */
+
+public final class SF2PresetHeaders
+{
+  /**
+   * The size of a single record.
+   */
+
+  public static final int RECORD_SIZE = 38;
+
+  private final ByteBuffer data;
+  private final int count;
+
+  SF2PresetHeaders(
+    final ByteBuffer in_data)
+  {
+    this.data = Objects.requireNonNull(in_data, "data");
+    this.count = this.data.capacity() / RECORD_SIZE;
+  }
+
+  private int base(
+    final int index)
+  {
+    return SF2Records.checkIndex(index, this.count) * RECORD_SIZE;
+  }
+
+  /**
+   * @return The number of records, including the terminal record
+   */
+
+  public int size()
+  {
+    return this.count;
+  }
+
+  /**
+   * @param index The record index
+   *
+   * @return The preset name
+   */
+
+  public String name(
+    final int index)
+  {
+    return SF2Records.name(this.data, this.base(index));
+  }
+
+  /**
+   * @param index The record index
+   *
+   * @return The MIDI preset number
+   */
+
+  public int preset(
+    final int index)
+  {
+    return SF2Records.u16(this.data, this.base(index) + 20);
+  }
+
+  /**
+   * @param index The record index
+   *
+   * @return The MIDI bank number
+   */
+
+  public int bank(
+    final int index)
+  {
+    return SF2Records.u16(this.data, this.base(index) + 22);
+  }
+
+  /**
+   * @param index The record index
+   *
+   * @return The index of the preset's first zone in the {@code pbag} table
+   */
+
+  public int bagIndex(
+    final int index)
+  {
+    return SF2Records.u16(this.data, this.base(index) + 24);
+  }
+
+  /**
+   * @param index The record index
+   *
+   * @return The (unused) library value
+   */
+
+  public long library(
+    final int index)
+  {
+    return SF2Records.u32(this.data, this.base(index) + 26);
+  }
+
+  /**
+   * @param index The record index
+   *
+   * @return The (unused) genre value
+   */
+
+  public long genre(
+    final int index)
+  {
+    return SF2Records.u32(this.data, this.base(index) + 30);
+  }
+
+  /**
+   * @param index The record index
+   *
+   * @return The (unused) morphology value
+   */
+
+  public long morphology(
+    final int index)
+  {
+    return SF2Records.u32(this.data, this.base(index) + 34);
+  }
+}
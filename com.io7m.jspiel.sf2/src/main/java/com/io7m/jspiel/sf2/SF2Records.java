@@ -0,0 +1,137 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.sf2;
+
+import java.nio.ByteBuffer;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+/**
+ * Functions to decode fields of fixed-size {@code pdta} records.
+ */
+
+final class SF2Records
+{
+  /**
+   * The size of the name field in records that have one.
+   */
+
+  static final int NAME_SIZE = 20;
+
+  private SF2Records()
+  {
+
+  }
+
+  /**
+   * Check that a record index is in range.
+   *
+   * @param index The index
+   * @param count The number of records
+   *
+   * @return {@code index}
+   */
+
+  static int checkIndex(
+    final int index,
+    final int count)
+  {
+    if (index < 0 || index >= count) {
+      throw new IndexOutOfBoundsException(
+        new StringBuilder(64)
+          .append("Record index ")
+          .append(index)
+          .append(" is out of range [0, ")
+          .append(count)
+          .append(')')
+          .toString());
+    }
+    return index;
+  }
+
+  /**
+   * Check that a name is ASCII and fits into a name field with its terminating NUL.
+   *
+   * @param name The name
+   *
+   * @return {@code name}
+   */
+
+  static String checkName(
+    final String name)
+  {
+    final var bytes = name.getBytes(US_ASCII);
+    if (bytes.length >= NAME_SIZE || !US_ASCII.newEncoder().canEncode(name)) {
+      throw new IllegalArgumentException(
+        new StringBuilder(64)
+          .append("Names must be ASCII and at most ")
+          .append(NAME_SIZE - 1)
+          .append(" characters long (received '")
+          .append(name)
+          .append("')")
+          .toString());
+    }
+    return name;
+  }
+
+  static int u8(
+    final ByteBuffer buffer,
+    final int offset)
+  {
+    return Byte.toUnsignedInt(buffer.get(offset));
+  }
+
+  static int u16(
+    final ByteBuffer buffer,
+    final int offset)
+  {
+    return Short.toUnsignedInt(buffer.getShort(offset));
+  }
+
+  static long u32(
+    final ByteBuffer buffer,
+    final int offset)
+  {
+    return Integer.toUnsignedLong(buffer.getInt(offset));
+  }
+
+  /**
+   * Decode a NUL-terminated (or NUL-padded) ASCII name field.
+   *
+   * @param buffer The buffer
+   * @param offset The offset of the field
+   *
+   * @return The name
+   */
+
+  static String name(
+    final ByteBuffer buffer,
+    final int offset)
+  {
+    var length = 0;
+    while (length < NAME_SIZE && buffer.get(offset + length) != 0) {
+      ++length;
+    }
+
+    final var bytes = new byte[length];
+    buffer.get(offset, bytes);
+    // CHECKSTYLE:OFF
+    return new String(bytes, US_ASCII);
+    // CHECKSTYLE:ON
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.sf2;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+/**
+ * <p>A description of a sample to be written to a bank.</p>
+ *
+ * <p>The sample data is not held in memory; it is streamed from the given source when the bank
+ * is written, and the source must yield exactly {@link #sampleCount()} 16-bit sample points.
+ * Loop points are relative to the start of the sample.</p>
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface SF2SampleDescriptionType
+{
+  /**
+   * @return The sample name
+   */
+
+  String name();
+
+  /**
+   * @return The source of the sample data
+   */
+
+  SF2SampleSourceType source();
+
+  /**
+   * @return The number of sample points yielded by the source
+   */
+
+  long sampleCount();
+
+  /**
+   * @return The sample rate in hertz
+   */
+
+  long sampleRate();
+
+  /**
+   * @return The MIDI key number of the recorded pitch
+   */
+
+  @Value.Default
+  default int originalPitch()
+  {
+    return 60;
+  }
+
+  /**
+   * @return The signed pitch correction in cents
+   */
+
+  @Value.Default
+  default int pitchCorrection()
+  {
+    return 0;
+  }
+
+  /**
+   * @return The first sample point of the loop, relative to the start of the sample
+   */
+
+  @Value.Default
+  default long loopStart()
+  {
+    return 0L;
+  }
+
+  /**
+   * @return The first sample point after the loop, relative to the start of the sample
+   */
+
+  @Value.Default
+  default long loopEnd()
+  {
+    return this.sampleCount();
+  }
+
+  /**
+   * @return The index of the linked sample for stereo or linked samples
+   */
+
+  @Value.Default
+  default int sampleLink()
+  {
+    return 0;
+  }
+
+  /**
+   * @return The sample type ({@code 1} for a mono sample)
+   */
+
+  @Value.Default
+  default int sampleType()
+  {
+    return 1;
+  }
+
+  /**
+   * Check preconditions for the type.
+   */
+
+  @Value.Check
+  default void checkPreconditions()
+  {
+    SF2Records.checkName(this.name());
+
+    if (this.sampleCount() < 0L) {
+      throw new IllegalArgumentException("Sample count must be non-negative");
+    }
+    if (this.loopStart() < 0L
+      || this.loopStart() > this.loopEnd()
+      || this.loopEnd() > this.sampleCount()) {
+      throw new IllegalArgumentException(
+        "Loop points must satisfy 0 <= loopStart <= loopEnd <= sampleCount");
+    }
+  }
+}
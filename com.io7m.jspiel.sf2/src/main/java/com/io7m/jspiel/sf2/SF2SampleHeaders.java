@@ -0,0 +1,184 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.sf2;
+
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * <p>The sample headers held in a {@code shdr} chunk.</p>
+ *
+ * <p>The table is a view over the underlying file data; records are decoded on access. As in the
+ * file, the final record is the terminal {@code EOS} record. Sample positions are expressed in
+ * sample points from the start of the {@code smpl} chunk.</p>
+ */
+
+public final class SF2SampleHeaders
+{
+  /**
+   * The size of a single record.
+   */
+
+  public static final int RECORD_SIZE = 46;
+
+  private final ByteBuffer data;
+  private final int count;
+
+  SF2SampleHeaders(
+    final ByteBuffer in_data)
+  {
+    this.data = Objects.requireNonNull(in_data, "data");
+    this.count = this.data.capacity() / RECORD_SIZE;
+  }
+
+  private int base(
+    final int index)
+  {
+    return SF2Records.checkIndex(index, this.count) * RECORD_SIZE;
+  }
+
+  /**
+   * @return The number of records, including the terminal record
+   */
+
+  public int size()
+  {
+    return this.count;
+  }
+
+  /**
+   * @param index The record index
+   *
+   * @return The sample name
+   */
+
+  public String name(
+    final int index)
+  {
+    return SF2Records.name(this.data, this.base(index));
+  }
+
+  /**
+   * @param index The record index
+   *
+   * @return The index of the first sample point
+   */
+
+  public long start(
+    final int index)
+  {
+    return SF2Records.u32(this.data, this.base(index) + 20);
+  }
+
+  /**
+   * @param index The record index
+   *
+   * @return The index of the first sample point after the sample
+   */
+
+  public long end(
+    final int index)
+  {
+    return SF2Records.u32(this.data, this.base(index) + 24);
+  }
+
+  /**
+   * @param index The record index
+   *
+   * @return The index of the first sample point of the loop
+   */
+
+  public long loopStart(
+    final int index)
+  {
+    return SF2Records.u32(this.data, this.base(index) + 28);
+  }
+
+  /**
+   * @param index The record index
+   *
+   * @return The index of the first sample point after the loop
+   */
+
+  public long loopEnd(
+    final int index)
+  {
+    return SF2Records.u32(this.data, this.base(index) + 32);
+  }
+
+  /**
+   * @param index The record index
+   *
+   * @return The sample rate in hertz
+   */
+
+  public long sampleRate(
+    final int index)
+  {
+    return SF2Records.u32(this.data, this.base(index) + 36);
+  }
+
+  /**
+   * @param index The record index
+   *
+   * @return The MIDI key number of the recorded pitch
+   */
+
+  public int originalPitch(
+    final int index)
+  {
+    return SF2Records.u8(this.data, this.base(index) + 40);
+  }
+
+  /**
+   * @param index The record index
+   *
+   * @return The signed pitch correction in cents
+   */
+
+  public int pitchCorrection(
+    final int index)
+  {
+    return this.data.get(this.base(index) + 41);
+  }
+
+  /**
+   * @param index The record index
+   *
+   * @return The index of the linked sample for stereo or linked samples
+   */
+
+  public int sampleLink(
+    final int index)
+  {
+    return SF2Records.u16(this.data, this.base(index) + 42);
+  }
+
+  /**
+   * @param index The record index
+   *
+   * @return The sample type
+   */
+
+  public int sampleType(
+    final int index)
+  {
+    return SF2Records.u16(this.data, this.base(index) + 44);
+  }
+}
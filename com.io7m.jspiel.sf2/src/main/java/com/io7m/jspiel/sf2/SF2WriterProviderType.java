@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.sf2;
+
+import com.io7m.jspiel.api.RiffWriteException;
+
+import java.net.URI;
+import java.nio.channels.SeekableByteChannel;
+
+/**
+ * The type of providers of SoundFont 2 writers.
+ */
+
+public interface SF2WriterProviderType
+{
+  /**
+   * Create a writer that writes the given bank to the given channel.
+   *
+   * @param target      The URI of the target
+   * @param description The bank description
+   * @param channel     The output channel
+   *
+   * @return A new writer
+   *
+   * @throws RiffWriteException On errors
+   */
+
+  SF2WriterType createForChannel(
+    URI target,
+    SF2BankDescription description,
+    SeekableByteChannel channel)
+    throws RiffWriteException;
+}
@@ -0,0 +1,505 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.sf2;
+
+import com.io7m.jspiel.api.RiffBuilderException;
+import com.io7m.jspiel.api.RiffChunkBuilderType;
+import com.io7m.jspiel.api.RiffChunkID;
+import com.io7m.jspiel.api.RiffFileBuilderProviderType;
+import com.io7m.jspiel.api.RiffFileWriterDescriptionType;
+import com.io7m.jspiel.api.RiffFileWriterProviderType;
+import com.io7m.jspiel.api.RiffWriteException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.util.List;
+import java.util.Objects;
+import java.util.ServiceLoader;
+import java.util.function.Function;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+/**
+ * The default implementation of the {@link SF2WriterProviderType} interface.
+ */
+
+public final class SF2Writers implements SF2WriterProviderType
+{
+  private static final RiffChunkID ID_RIFF = RiffChunkID.of("RIFF");
+  private static final RiffChunkID ID_LIST = RiffChunkID.of("LIST");
+
+  /**
+   * The number of zero-valued sample points that must follow each sample.
+   */
+
+  private static final int SAMPLE_PADDING_POINTS = 46;
+  private static final int COPY_BUFFER_SIZE = 65536;
+  private static final int INDEX_MAXIMUM = 0xffff;
+
+  private final RiffFileBuilderProviderType builders;
+  private final RiffFileWriterProviderType writers;
+
+  /**
+   * Construct a writer provider using the first available RIFF builder and writer providers.
+   */
+
+  public SF2Writers()
+  {
+    this(
+      ServiceLoader.load(RiffFileBuilderProviderType.class)
+        .findFirst()
+        .orElseThrow(() -> new IllegalStateException("No RIFF file builder service available")),
+      ServiceLoader.load(RiffFileWriterProviderType.class)
+        .findFirst()
+        .orElseThrow(() -> new IllegalStateException("No RIFF file writer service available")));
+  }
+
+  /**
+   * Construct a writer provider.
+   *
+   * @param in_builders A provider of RIFF file builders
+   * @param in_writers  A provider of RIFF file writers
+   */
+
+  public SF2Writers(
+    final RiffFileBuilderProviderType in_builders,
+    final RiffFileWriterProviderType in_writers)
+  {
+    this.builders = Objects.requireNonNull(in_builders, "builders");
+    this.writers = Objects.requireNonNull(in_writers, "writers");
+  }
+
+  @Override
+  public SF2WriterType createForChannel(
+    final URI target,
+    final SF2BankDescription description,
+    final SeekableByteChannel channel)
+  {
+    Objects.requireNonNull(target, "target");
+    Objects.requireNonNull(description, "description");
+    Objects.requireNonNull(channel, "channel");
+    return new Writer(this.builders, this.writers, target, description, channel);
+  }
+
+  private static final class Writer implements SF2WriterType
+  {
+    private final RiffFileBuilderProviderType builders;
+    private final RiffFileWriterProviderType writers;
+    private final URI target;
+    private final SF2BankDescription description;
+    private final SeekableByteChannel channel;
+
+    Writer(
+      final RiffFileBuilderProviderType in_builders,
+      final RiffFileWriterProviderType in_writers,
+      final URI in_target,
+      final SF2BankDescription in_description,
+      final SeekableByteChannel in_channel)
+    {
+      this.builders = Objects.requireNonNull(in_builders, "builders");
+      this.writers = Objects.requireNonNull(in_writers, "writers");
+      this.target = Objects.requireNonNull(in_target, "target");
+      this.description = Objects.requireNonNull(in_description, "description");
+      this.channel = Objects.requireNonNull(in_channel, "channel");
+    }
+
+    private static ByteBuffer infoString(
+      final String text)
+    {
+      /*
+       * INFO strings are NUL-terminated and padded to an even length.
+       */
+
+      final var bytes = text.getBytes(US_ASCII);
+      final var size = (bytes.length + 2) & ~1;
+      return ByteBuffer.allocate(size).put(bytes).clear();
+    }
+
+    private static void putName(
+      final ByteBuffer buffer,
+      final String name)
+    {
+      final var bytes = name.getBytes(US_ASCII);
+      buffer.put(bytes);
+      buffer.put(new byte[SF2Records.NAME_SIZE - bytes.length]);
+    }
+
+    private static ByteBuffer presetHeaders(
+      final List<SF2PresetDescription> presets)
+    {
+      final var buffer =
+        ByteBuffer.allocate((presets.size() + 1) * SF2PresetHeaders.RECORD_SIZE)
+          .order(LITTLE_ENDIAN);
+
+      var bag = 0;
+      for (final var preset : presets) {
+        putName(buffer, preset.name());
+        buffer.putShort((short) preset.preset());
+        buffer.putShort((short) preset.bank());
+        buffer.putShort((short) bag);
+        buffer.putInt((int) preset.library());
+        buffer.putInt((int) preset.genre());
+        buffer.putInt((int) preset.morphology());
+        bag += preset.zones().size();
+      }
+
+      putName(buffer, "EOP");
+      buffer.putShort((short) 0);
+      buffer.putShort((short) 0);
+      buffer.putShort((short) bag);
+      buffer.putInt(0);
+      buffer.putInt(0);
+      buffer.putInt(0);
+      return buffer.flip();
+    }
+
+    private static ByteBuffer instruments(
+      final List<SF2InstrumentDescription> instruments)
+    {
+      final var buffer =
+        ByteBuffer.allocate((instruments.size() + 1) * SF2Instruments.RECORD_SIZE)
+          .order(LITTLE_ENDIAN);
+
+      var bag = 0;
+      for (final var instrument : instruments) {
+        putName(buffer, instrument.name());
+        buffer.putShort((short) bag);
+        bag += instrument.zones().size();
+      }
+
+      putName(buffer, "EOI");
+      buffer.putShort((short) bag);
+      return buffer.flip();
+    }
+
+    private static ByteBuffer bags(
+      final List<SF2Zone> zones)
+    {
+      final var buffer =
+        ByteBuffer.allocate((zones.size() + 1) * SF2Bags.RECORD_SIZE)
+          .order(LITTLE_ENDIAN);
+
+      var generator = 0;
+      var modulator = 0;
+      for (final var zone : zones) {
+        buffer.putShort((short) generator);
+        buffer.putShort((short) modulator);
+        generator += zone.generators().size();
+        modulator += zone.modulators().size();
+      }
+
+      buffer.putShort((short) generator);
+      buffer.putShort((short) modulator);
+      return buffer.flip();
+    }
+
+    private static ByteBuffer generators(
+      final List<SF2Zone> zones)
+    {
+      final var count = zones.stream().mapToInt(z -> z.generators().size()).sum();
+      final var buffer =
+        ByteBuffer.allocate((count + 1) * SF2Generators.RECORD_SIZE)
+          .order(LITTLE_ENDIAN);
+
+      for (final var zone : zones) {
+        for (final var generator : zone.generators()) {
+          buffer.putShort((short) generator.operator());
+          buffer.putShort((short) generator.amount());
+        }
+      }
+
+      buffer.putInt(0);
+      return buffer.flip();
+    }
+
+    private static ByteBuffer modulators(
+      final List<SF2Zone> zones)
+    {
+      final var count = zones.stream().mapToInt(z -> z.modulators().size()).sum();
+      final var buffer =
+        ByteBuffer.allocate((count + 1) * SF2Modulators.RECORD_SIZE)
+          .order(LITTLE_ENDIAN);
+
+      for (final var zone : zones) {
+        for (final var modulator : zone.modulators()) {
+          buffer.putShort((short) modulator.sourceOperator());
+          buffer.putShort((short) modulator.destinationOperator());
+          buffer.putShort((short) modulator.amount());
+          buffer.putShort((short) modulator.amountSourceOperator());
+          buffer.putShort((short) modulator.transformOperator());
+        }
+      }
+
+      buffer.put(new byte[SF2Modulators.RECORD_SIZE]);
+      return buffer.flip();
+    }
+
+    private static ByteBuffer sampleHeaders(
+      final List<SF2SampleDescription> samples)
+    {
+      final var buffer =
+        ByteBuffer.allocate((samples.size() + 1) * SF2SampleHeaders.RECORD_SIZE)
+          .order(LITTLE_ENDIAN);
+
+      var start = 0L;
+      for (final var sample : samples) {
+        putName(buffer, sample.name());
+        buffer.putInt((int) start);
+        buffer.putInt((int) (start + sample.sampleCount()));
+        buffer.putInt((int) (start + sample.loopStart()));
+        buffer.putInt((int) (start + sample.loopEnd()));
+        buffer.putInt((int) sample.sampleRate());
+        buffer.put((byte) sample.originalPitch());
+        buffer.put((byte) sample.pitchCorrection());
+        buffer.putShort((short) sample.sampleLink());
+        buffer.putShort((short) sample.sampleType());
+        start += sample.sampleCount() + (long) SAMPLE_PADDING_POINTS;
+      }
+
+      putName(buffer, "EOS");
+      buffer.put(new byte[SF2SampleHeaders.RECORD_SIZE - SF2Records.NAME_SIZE]);
+      return buffer.flip();
+    }
+
+    private static <T> List<SF2Zone> zonesOf(
+      final List<T> items,
+      final Function<T, List<SF2Zone>> zones)
+    {
+      return items.stream()
+        .flatMap(item -> zones.apply(item).stream())
+        .toList();
+    }
+
+    private static void addData(
+      final RiffChunkBuilderType parent,
+      final String name,
+      final ByteBuffer data)
+    {
+      try (var chunk = parent.addSubChunk(RiffChunkID.of(name))) {
+        chunk.setSize(data.remaining());
+        chunk.setDataWriter(output -> output.write(data.duplicate()));
+      }
+    }
+
+    @Override
+    public void write()
+      throws RiffWriteException
+    {
+      final var preset_zones =
+        zonesOf(this.description.presets(), SF2PresetDescription::zones);
+      final var instrument_zones =
+        zonesOf(this.description.instruments(), SF2InstrumentDescription::zones);
+
+      final var sample_points = this.samplePointsTotal();
+      this.checkIndexRange("sample point", sample_points, 0xffff_ffffL);
+      this.checkIndexRange("preset zone", preset_zones.size(), INDEX_MAXIMUM);
+      this.checkIndexRange("instrument zone", instrument_zones.size(), INDEX_MAXIMUM);
+      this.checkIndexRange(
+        "preset generator",
+        preset_zones.stream().mapToInt(z -> z.generators().size()).sum(),
+        INDEX_MAXIMUM);
+      this.checkIndexRange(
+        "instrument generator",
+        instrument_zones.stream().mapToInt(z -> z.generators().size()).sum(),
+        INDEX_MAXIMUM);
+      this.checkIndexRange(
+        "preset modulator",
+        preset_zones.stream().mapToInt(z -> z.modulators().size()).sum(),
+        INDEX_MAXIMUM);
+      this.checkIndexRange(
+        "instrument modulator",
+        instrument_zones.stream().mapToInt(z -> z.modulators().size()).sum(),
+        INDEX_MAXIMUM);
+
+      final RiffFileWriterDescriptionType riff;
+      try {
+        riff = this.riffDescription(preset_zones, instrument_zones, sample_points);
+      } catch (final RiffBuilderException e) {
+        throw new RiffWriteException(e, this.target, 0L);
+      }
+
+      this.writers.createForChannel(this.target, riff, this.channel).write();
+    }
+
+    private long samplePointsTotal()
+    {
+      return this.description.samples()
+        .stream()
+        .mapToLong(s -> s.sampleCount() + (long) SAMPLE_PADDING_POINTS)
+        .sum();
+    }
+
+    private void checkIndexRange(
+      final String name,
+      final long count,
+      final long maximum)
+      throws RiffWriteException
+    {
+      if (count > maximum) {
+        final var separator = System.lineSeparator();
+        throw new RiffWriteException(
+          new StringBuilder(128)
+            .append("Bank exceeds the limits of the SoundFont 2 format.")
+            .append(separator)
+            .append("  Expected: At most ")
+            .append(maximum)
+            .append(' ')
+            .append(name)
+            .append('s')
+            .append(separator)
+            .append("  Received: ")
+            .append(count)
+            .append(separator)
+            .toString(),
+          this.target,
+          0L);
+      }
+    }
+
+    private RiffFileWriterDescriptionType riffDescription(
+      final List<SF2Zone> preset_zones,
+      final List<SF2Zone> instrument_zones,
+      final long sample_points)
+      throws RiffBuilderException
+    {
+      final var builder = this.builders.create(LITTLE_ENDIAN);
+      try (var root = builder.setRootChunk(ID_RIFF, "sfbk")) {
+        try (var info = root.addSubChunk(ID_LIST)) {
+          info.setForm("INFO");
+
+          final var version = this.description.version();
+          addData(
+            info,
+            "ifil",
+            ByteBuffer.allocate(4)
+              .order(LITTLE_ENDIAN)
+              .putShort((short) version.major())
+              .putShort((short) version.minor())
+              .flip());
+          addData(info, "isng", infoString(this.description.soundEngine()));
+          addData(info, "INAM", infoString(this.description.name()));
+          for (final var entry : this.description.info().entrySet()) {
+            addData(info, entry.getKey(), infoString(entry.getValue()));
+          }
+        }
+
+        try (var sdta = root.addSubChunk(ID_LIST)) {
+          sdta.setForm("sdta");
+          try (var smpl = sdta.addSubChunk(RiffChunkID.of("smpl"))) {
+            smpl.setSize(Math.multiplyExact(sample_points, 2L));
+            smpl.setDataWriter(this::writeSamples);
+          }
+        }
+
+        try (var pdta = root.addSubChunk(ID_LIST)) {
+          pdta.setForm("pdta");
+          addData(pdta, "phdr", presetHeaders(this.description.presets()));
+          addData(pdta, "pbag", bags(preset_zones));
+          addData(pdta, "pmod", modulators(preset_zones));
+          addData(pdta, "pgen", generators(preset_zones));
+          addData(pdta, "inst", instruments(this.description.instruments()));
+          addData(pdta, "ibag", bags(instrument_zones));
+          addData(pdta, "imod", modulators(instrument_zones));
+          addData(pdta, "igen", generators(instrument_zones));
+          addData(pdta, "shdr", sampleHeaders(this.description.samples()));
+        }
+      }
+      return builder.build();
+    }
+
+    private void writeSamples(
+      final SeekableByteChannel output)
+      throws IOException
+    {
+      final var buffer = ByteBuffer.allocateDirect(COPY_BUFFER_SIZE);
+      final var padding = ByteBuffer.allocate(SAMPLE_PADDING_POINTS * 2);
+
+      for (final var sample : this.description.samples()) {
+        this.copySample(sample, buffer, output);
+        padding.clear();
+        while (padding.hasRemaining()) {
+          output.write(padding);
+        }
+      }
+    }
+
+    private void copySample(
+      final SF2SampleDescription sample,
+      final ByteBuffer buffer,
+      final SeekableByteChannel output)
+      throws IOException
+    {
+      final var expected = Math.multiplyExact(sample.sampleCount(), 2L);
+
+      try (var input = sample.source().open()) {
+        var remaining = expected;
+        while (remaining > 0L) {
+          buffer.clear();
+          if (remaining < (long) buffer.capacity()) {
+            buffer.limit((int) remaining);
+          }
+
+          final var read = input.read(buffer);
+          if (read < 0) {
+            throw sampleSizeMismatch(sample, expected, expected - remaining);
+          }
+
+          buffer.flip();
+          while (buffer.hasRemaining()) {
+            output.write(buffer);
+          }
+          remaining -= read;
+        }
+
+        buffer.clear();
+        buffer.limit(1);
+        if (input.read(buffer) > 0) {
+          throw sampleSizeMismatch(sample, expected, expected + 1L);
+        }
+      }
+    }
+
+    private static IOException sampleSizeMismatch(
+      final SF2SampleDescription sample,
+      final long expected,
+      final long received)
+    {
+      final var separator = System.lineSeparator();
+      return new IOException(
+        new StringBuilder(128)
+          .append("Sample source yielded the wrong amount of data.")
+          .append(separator)
+          .append("  Sample: ")
+          .append(sample.name())
+          .append(separator)
+          .append("  Expected: ")
+          .append(expected)
+          .append(" octets")
+          .append(separator)
+          .append("  Received: ")
+          .append(expected < received ? "More than " : "")
+          .append(expected < received ? expected : received)
+          .append(" octets")
+          .append(separator)
+          .toString());
+    }
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+/**
+ * RIFF I/O (SoundFont 2)
+ */
+
+// The module is named after the "sf2" format (and its package), so the
+// terminal digit is deliberate.
+@SuppressWarnings("module")
+module com.io7m.jspiel.sf2
+{
+  requires static org.osgi.annotation.bundle;
+  requires static org.osgi.annotation.versioning;
+  requires static org.immutables.value;
+  requires static com.io7m.immutables.style;
+
+  requires com.io7m.jspiel.api;
+
+  uses com.io7m.jspiel.api.RiffFileBuilderProviderType;
+  uses com.io7m.jspiel.api.RiffFileParserProviderType;
+  uses com.io7m.jspiel.api.RiffFileWriterProviderType;
+
+  exports com.io7m.jspiel.sf2;
+
+  provides com.io7m.jspiel.sf2.SF2FileParserProviderType
+    with com.io7m.jspiel.sf2.SF2Parsers;
+  provides com.io7m.jspiel.sf2.SF2WriterProviderType
+    with com.io7m.jspiel.sf2.SF2Writers;
+}
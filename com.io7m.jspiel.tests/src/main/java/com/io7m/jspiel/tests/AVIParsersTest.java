@@ -0,0 +1,532 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.tests;
+
+import com.io7m.jspiel.api.RiffChunkType;
+import com.io7m.jspiel.api.RiffFileType;
+import com.io7m.jspiel.api.RiffParseException;
+import com.io7m.jspiel.avi.AVIFileType;
+import com.io7m.jspiel.avi.AVIIndexKind;
+import com.io7m.jspiel.avi.AVIParsers;
+import com.io7m.jspiel.vanilla.RiffParsers;
+import com.io7m.jspiel.vanilla.RiffSeekableByteChannels;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+public final class AVIParsersTest
+{
+  private static final URI SOURCE = URI.create("urn:avi");
+
+  private static byte[] chunk(
+    final String id,
+    final byte[] data)
+  {
+    final var padded = data.length + (data.length & 1);
+    final var buffer = ByteBuffer.allocate(8 + padded).order(LITTLE_ENDIAN);
+    buffer.put(id.getBytes(US_ASCII));
+    buffer.putInt(data.length);
+    buffer.put(data);
+    return buffer.array();
+  }
+
+  private static byte[] list(
+    final String id,
+    final String form,
+    final byte[]... children)
+  {
+    final var output = new ByteArrayOutputStream();
+    output.writeBytes(form.getBytes(US_ASCII));
+    for (final var child : children) {
+      output.writeBytes(child);
+    }
+    return chunk(id, output.toByteArray());
+  }
+
+  private static byte[] concat(
+    final List<byte[]> parts)
+  {
+    final var output = new ByteArrayOutputStream();
+    for (final var part : parts) {
+      output.writeBytes(part);
+    }
+    return output.toByteArray();
+  }
+
+  private static byte[] frame(
+    final int size,
+    final int value)
+  {
+    final var data = new byte[size];
+    Arrays.fill(data, (byte) value);
+    return data;
+  }
+
+  private static byte[] mainHeader(
+    final int streams)
+  {
+    final var buffer = ByteBuffer.allocate(56).order(LITTLE_ENDIAN);
+    buffer.putInt(0, 40000);
+    buffer.putInt(16, 5);
+    buffer.putInt(24, streams);
+    buffer.putInt(32, 320);
+    buffer.putInt(36, 240);
+    return buffer.array();
+  }
+
+  private static byte[] streamHeader(
+    final String type,
+    final int length)
+  {
+    final var buffer = ByteBuffer.allocate(56).order(LITTLE_ENDIAN);
+    buffer.put(0, type.getBytes(US_ASCII));
+    buffer.put(4, "none".getBytes(US_ASCII));
+    buffer.putInt(20, 1);
+    buffer.putInt(24, 25);
+    buffer.putInt(32, length);
+    return buffer.array();
+  }
+
+  private static byte[] streamList(
+    final String type,
+    final int length,
+    final byte[]... extra)
+  {
+    final var children = new ArrayList<byte[]>();
+    children.add(chunk("strh", streamHeader(type, length)));
+    children.add(chunk("strf", new byte[16]));
+    children.addAll(List.of(extra));
+    return list("LIST", "strl", children.toArray(new byte[0][]));
+  }
+
+  private static RiffFileType riff(
+    final ByteBuffer data)
+    throws RiffParseException
+  {
+    return new RiffParsers().createForByteBuffer(SOURCE, data.duplicate()).parse();
+  }
+
+  private static AVIFileType avi(
+    final ByteBuffer data)
+    throws RiffParseException
+  {
+    return new AVIParsers(new RiffParsers()).createForByteBuffer(SOURCE, data).parse();
+  }
+
+  private static RiffChunkType movi(
+    final RiffChunkType root)
+    throws Exception
+  {
+    return root.findRequiredSubChunkWithForm("LIST", "movi");
+  }
+
+  /**
+   * Build an interleaved file with five video frames and five audio chunks, and an {@code idx1}
+   * chunk whose offsets are filled in once the layout is known.
+   */
+
+  private static ByteBuffer interleavedWithIDX1(
+    final boolean absolute)
+    throws Exception
+  {
+    final var movi_children = new ArrayList<byte[]>();
+    for (var index = 0; index < 5; ++index) {
+      movi_children.add(chunk("00dc", frame(10 + index, index)));
+      movi_children.add(chunk("01wb", frame(4, 0x40 + index)));
+    }
+
+    final var idx1 = ByteBuffer.allocate(16 * 10).order(LITTLE_ENDIAN);
+    for (var index = 0; index < 5; ++index) {
+      idx1.put("00dc".getBytes(US_ASCII));
+      idx1.putInt(index % 3 == 0 ? 0x10 : 0);
+      idx1.putInt(0);
+      idx1.putInt(10 + index);
+      idx1.put("01wb".getBytes(US_ASCII));
+      idx1.putInt(0x10);
+      idx1.putInt(0);
+      idx1.putInt(4);
+    }
+
+    final var bytes =
+      list(
+        "RIFF",
+        "AVI ",
+        list(
+          "LIST",
+          "hdrl",
+          chunk("avih", mainHeader(2)),
+          streamList("vids", 5),
+          streamList("auds", 5)),
+        list("LIST", "movi", movi_children.toArray(new byte[0][])),
+        chunk("idx1", idx1.array()));
+
+    final var data = ByteBuffer.wrap(bytes).order(LITTLE_ENDIAN);
+    final var root = riff(data).chunks().get(0);
+    final var movi = movi(root);
+    final var idx1_chunk = root.findRequiredSubChunk("idx1");
+
+    final var chunks = movi.subChunks();
+    for (var index = 0; index < chunks.size(); ++index) {
+      final var offset = chunks.get(index).offset();
+      final var value = absolute ? offset : offset - movi.dataOffset();
+      data.putInt(Math.toIntExact(idx1_chunk.dataOffset() + index * 16L + 8L), (int) value);
+    }
+    return data;
+  }
+
+  @Test
+  public void testIDX1Relative()
+    throws Exception
+  {
+    final var file = avi(interleavedWithIDX1(false));
+
+    Assertions.assertEquals(AVIIndexKind.IDX1, file.indexKind());
+    Assertions.assertEquals(40000L, file.mainHeader().microSecondsPerFrame());
+    Assertions.assertEquals(320L, file.mainHeader().width());
+    Assertions.assertEquals(2, file.streamHeaders().size());
+    Assertions.assertEquals("vids", file.streamHeaders().get(0).type());
+    Assertions.assertEquals("auds", file.streamHeaders().get(1).type());
+    Assertions.assertEquals(25L, file.streamHeaders().get(0).rate());
+    Assertions.assertEquals(List.of(), file.extensionChunks());
+
+    final var video = file.index(0);
+    Assertions.assertEquals(5, video.size());
+    for (var index = 0; index < 5; ++index) {
+      final var frame = file.frame(0, index);
+      Assertions.assertEquals(10 + index, frame.remaining());
+      Assertions.assertEquals((byte) index, frame.get(0));
+      Assertions.assertEquals(index % 3 == 0, video.isKeyFrame(index));
+    }
+
+    Assertions.assertEquals(OptionalInt.of(0), video.keyFrameAtOrBefore(2));
+    Assertions.assertEquals(OptionalInt.of(3), video.keyFrameAtOrBefore(3));
+    Assertions.assertEquals(OptionalInt.of(3), video.keyFrameAtOrBefore(4));
+
+    final var audio = file.index(1);
+    Assertions.assertEquals(5, audio.size());
+    Assertions.assertEquals((byte) 0x44, file.frame(1, 4).get(0));
+  }
+
+  @Test
+  public void testIDX1Absolute()
+    throws Exception
+  {
+    final var file = avi(interleavedWithIDX1(true));
+
+    Assertions.assertEquals(AVIIndexKind.IDX1, file.indexKind());
+    for (var index = 0; index < 5; ++index) {
+      Assertions.assertEquals((byte) index, file.frame(0, index).get(0));
+      Assertions.assertEquals((byte) (0x40 + index), file.frame(1, index).get(0));
+    }
+  }
+
+  @Test
+  public void testIDX1OutOfRange()
+    throws Exception
+  {
+    final var data = interleavedWithIDX1(false);
+    final var root = riff(data).chunks().get(0);
+    final var idx1 = root.findRequiredSubChunk("idx1");
+    data.putInt(Math.toIntExact(idx1.dataOffset() + 16L * 8L + 12L), 0x7fff_0000);
+
+    final var ex = Assertions.assertThrows(RiffParseException.class, () -> avi(data));
+    Assertions.assertTrue(ex.getMessage().contains("outside of the file"));
+  }
+
+  @Test
+  public void testScanned()
+    throws Exception
+  {
+    final var bytes =
+      list(
+        "RIFF",
+        "AVI ",
+        list(
+          "LIST",
+          "hdrl",
+          chunk("avih", mainHeader(2)),
+          streamList("vids", 3),
+          streamList("auds", 3)),
+        list(
+          "LIST",
+          "movi",
+          list("LIST", "rec ", chunk("00dc", frame(3, 1)), chunk("01wb", frame(2, 2))),
+          list("LIST", "rec ", chunk("00dc", frame(3, 3)), chunk("01wb", frame(2, 4))),
+          chunk("00dc", frame(5, 5))));
+
+    final var file = avi(ByteBuffer.wrap(bytes));
+    Assertions.assertEquals(AVIIndexKind.SCANNED, file.indexKind());
+    Assertions.assertEquals(3, file.index(0).size());
+    Assertions.assertEquals(2, file.index(1).size());
+    Assertions.assertEquals(5, file.frame(0, 2).remaining());
+    Assertions.assertEquals((byte) 4, file.frame(1, 1).get(0));
+    Assertions.assertTrue(file.index(0).isKeyFrame(1));
+  }
+
+  /**
+   * Build a file with a {@code RIFF(AVI )} chunk and a {@code RIFF(AVIX)} chunk, each with an
+   * {@code ix00} standard index, and an {@code indx} super index that refers to both.
+   */
+
+  @Test
+  public void testOpenDML()
+    throws Exception
+  {
+    final var first =
+      list(
+        "RIFF",
+        "AVI ",
+        list(
+          "LIST",
+          "hdrl",
+          chunk("avih", mainHeader(1)),
+          streamList("vids", 3, chunk("indx", new byte[24 + 16 * 2]))),
+        list(
+          "LIST",
+          "movi",
+          chunk("ix00", new byte[24 + 8 * 3]),
+          chunk("00dc", frame(7, 0)),
+          chunk("00dc", frame(8, 1)),
+          chunk("00dc", frame(9, 2))),
+        chunk("idx1", new byte[0]));
+
+    final var second =
+      list(
+        "RIFF",
+        "AVIX",
+        list(
+          "LIST",
+          "movi",
+          chunk("ix00", new byte[24 + 8 * 2]),
+          chunk("00dc", frame(11, 3)),
+          chunk("00dc", frame(12, 4))));
+
+    final var data = ByteBuffer.wrap(concat(List.of(first, second))).order(LITTLE_ENDIAN);
+    final var file = riff(data);
+    final var root = file.chunks().get(0);
+    final var indx =
+      root.findRequiredSubChunkWithForm("LIST", "hdrl")
+        .findRequiredSubChunkWithForm("LIST", "strl")
+        .findRequiredSubChunk("indx");
+
+    final var indx_base = Math.toIntExact(indx.dataOffset());
+    data.putShort(indx_base, (short) 4);
+    data.put(indx_base + 3, (byte) 0);
+    data.putInt(indx_base + 4, 2);
+    data.put(indx_base + 8, "00dc".getBytes(US_ASCII));
+
+    final var movis = List.of(movi(root), movi(file.chunks().get(1)));
+    for (var movi_index = 0; movi_index < movis.size(); ++movi_index) {
+      final var movi = movis.get(movi_index);
+      final var ix = movi.subChunks().get(0);
+      final var frames = movi.subChunks().subList(1, movi.subChunks().size());
+
+      final var entry = indx_base + 24 + movi_index * 16;
+      data.putLong(entry, ix.offset());
+      data.putInt(entry + 8, Math.toIntExact(ix.dataSizeExcludingForm().sizeUnpadded() + 8L));
+      data.putInt(entry + 12, frames.size());
+
+      final var ix_base = Math.toIntExact(ix.dataOffset());
+      data.putShort(ix_base, (short) 2);
+      data.put(ix_base + 3, (byte) 1);
+      data.putInt(ix_base + 4, frames.size());
+      data.put(ix_base + 8, "00dc".getBytes(US_ASCII));
+      data.putLong(ix_base + 12, movi.offset());
+
+      for (var index = 0; index < frames.size(); ++index) {
+        final var frame = frames.get(index);
+        final var key = index == 0 ? 0 : 0x8000_0000;
+        final var size = (int) frame.dataSizeExcludingForm().sizeUnpadded();
+        data.putInt(ix_base + 24 + index * 8, Math.toIntExact(frame.dataOffset() - movi.offset()));
+        data.putInt(ix_base + 24 + index * 8 + 4, size | key);
+      }
+    }
+
+    final var avi = new AVIParsers(new RiffParsers()).createForRiffFile(SOURCE, file, data).parse();
+    Assertions.assertEquals(AVIIndexKind.OPENDML, avi.indexKind());
+    Assertions.assertEquals(1, avi.extensionChunks().size());
+    Assertions.assertEquals(Optional.of("AVIX"), avi.extensionChunks().get(0).formType());
+
+    final var index = avi.index(0);
+    Assertions.assertEquals(5, index.size());
+    for (var frame = 0; frame < 5; ++frame) {
+      Assertions.assertEquals(7 + frame + (frame >= 3 ? 1 : 0), avi.frame(0, frame).remaining());
+      Assertions.assertEquals((byte) frame, avi.frame(0, frame).get(0));
+    }
+
+    Assertions.assertTrue(index.isKeyFrame(0));
+    Assertions.assertFalse(index.isKeyFrame(2));
+    Assertions.assertTrue(index.isKeyFrame(3));
+    Assertions.assertEquals(OptionalInt.of(0), index.keyFrameAtOrBefore(2));
+    Assertions.assertEquals(OptionalInt.of(3), index.keyFrameAtOrBefore(4));
+  }
+
+  @Test
+  public void testIDX1Channel()
+    throws Exception
+  {
+    final var data = interleavedWithIDX1(false);
+    final var path = Files.createTempFile("jspiel-avi-", ".avi");
+    try {
+      try (var channel = FileChannel.open(path, WRITE)) {
+        channel.write(data.duplicate().clear());
+      }
+
+      try (var channel = FileChannel.open(path, READ)) {
+        final var file =
+          new AVIParsers(new RiffParsers()).createForChannel(path.toUri(), channel).parse();
+        final var expected = avi(data);
+
+        Assertions.assertEquals(AVIIndexKind.IDX1, file.indexKind());
+        Assertions.assertEquals(expected.mainHeader(), file.mainHeader());
+        Assertions.assertEquals(expected.streamHeaders(), file.streamHeaders());
+        for (var stream = 0; stream < 2; ++stream) {
+          for (var index = 0; index < 5; ++index) {
+            Assertions.assertEquals(expected.frame(stream, index), file.frame(stream, index));
+          }
+        }
+
+        final var target = ByteBuffer.allocate(10);
+        try (var frame = file.frameChannel(new RiffSeekableByteChannels(), channel, 0, 4)) {
+          Assertions.assertEquals(14L, frame.size());
+          frame.read(target);
+        }
+        Assertions.assertEquals(expected.frame(0, 4).limit(10), target.flip());
+      }
+    } finally {
+      Files.deleteIfExists(path);
+    }
+  }
+
+  /**
+   * OpenDML files larger than the largest byte buffer can be parsed from a channel. The
+   * {@code RIFF(AVIX)} chunk holds a 2 GiB {@code JUNK} chunk before its only frame, so the
+   * frame and its {@code ix00} index lie beyond the range of an {@code int}. The file is sparse,
+   * so the test does not require gigabytes of storage.
+   */
+
+  @Test
+  public void testOpenDMLChannelLargerThanByteBuffer()
+    throws Exception
+  {
+    final var first =
+      list(
+        "RIFF",
+        "AVI ",
+        list(
+          "LIST",
+          "hdrl",
+          chunk("avih", mainHeader(1)),
+          streamList("vids", 1, chunk("indx", new byte[24 + 16]))),
+        list("LIST", "movi"));
+
+    final var base = (long) first.length;
+    final var junk_size = 0x8000_0000L;
+    final var movi_offset = base + 12L;
+    final var frame_offset = base + 32L + junk_size;
+    final var ix_offset = frame_offset + 8L + 14L;
+    final var end = ix_offset + 8L + 32L;
+
+    final var head = ByteBuffer.wrap(first).order(LITTLE_ENDIAN);
+    final var indx =
+      riff(head).chunks().get(0)
+        .findRequiredSubChunkWithForm("LIST", "hdrl")
+        .findRequiredSubChunkWithForm("LIST", "strl")
+        .findRequiredSubChunk("indx");
+    final var indx_base = Math.toIntExact(indx.dataOffset());
+    head.putShort(indx_base, (short) 4);
+    head.putInt(indx_base + 4, 1);
+    head.put(indx_base + 8, "00dc".getBytes(US_ASCII));
+    head.putLong(indx_base + 24, ix_offset);
+    head.putInt(indx_base + 32, 40);
+    head.putInt(indx_base + 36, 1);
+
+    final var extension = ByteBuffer.allocate(32).order(LITTLE_ENDIAN);
+    extension.put("RIFF".getBytes(US_ASCII));
+    extension.putInt((int) (end - base - 8L));
+    extension.put("AVIX".getBytes(US_ASCII));
+    extension.put("LIST".getBytes(US_ASCII));
+    extension.putInt((int) (end - movi_offset - 8L));
+    extension.put("movi".getBytes(US_ASCII));
+    extension.put("JUNK".getBytes(US_ASCII));
+    extension.putInt((int) junk_size);
+
+    final var tail = ByteBuffer.allocate((int) (end - frame_offset)).order(LITTLE_ENDIAN);
+    tail.put(chunk("00dc", frame(13, 0x5a)));
+    tail.put("ix00".getBytes(US_ASCII));
+    tail.putInt(32);
+    tail.putShort((short) 2);
+    tail.put(3 + 8 + 14 + 8, (byte) 1);
+    tail.putInt(4 + 8 + 14 + 8, 1);
+    tail.put(8 + 8 + 14 + 8, "00dc".getBytes(US_ASCII));
+    tail.putLong(12 + 8 + 14 + 8, movi_offset);
+    tail.putInt(24 + 8 + 14 + 8, (int) (frame_offset + 8L - movi_offset));
+    tail.putInt(28 + 8 + 14 + 8, 13);
+
+    final var path = Files.createTempFile("jspiel-avi-large-", ".avi");
+    try {
+      try (var channel = FileChannel.open(path, WRITE)) {
+        channel.write(head.clear());
+        channel.write(extension.flip(), base);
+        channel.write(tail.clear(), frame_offset);
+      }
+
+      try (var channel = FileChannel.open(path, READ)) {
+        final var file =
+          new AVIParsers(new RiffParsers()).createForChannel(path.toUri(), channel).parse();
+
+        Assertions.assertEquals(AVIIndexKind.OPENDML, file.indexKind());
+        Assertions.assertEquals(1, file.extensionChunks().size());
+        Assertions.assertEquals(1, file.index(0).size());
+        Assertions.assertEquals(frame_offset + 8L, file.index(0).offset(0));
+        Assertions.assertTrue(file.index(0).isKeyFrame(0));
+
+        final var frame = file.frame(0, 0);
+        Assertions.assertEquals(13, frame.remaining());
+        Assertions.assertEquals((byte) 0x5a, frame.get(12));
+      }
+    } finally {
+      Files.deleteIfExists(path);
+    }
+  }
+
+  @Test
+  public void testNotAVI()
+    throws Exception
+  {
+    final var bytes = list("RIFF", "WAVE", chunk("data", new byte[4]));
+    final var ex =
+      Assertions.assertThrows(RiffParseException.class, () -> avi(ByteBuffer.wrap(bytes)));
+    Assertions.assertTrue(ex.getMessage().contains("not an AVI file"));
+  }
+}
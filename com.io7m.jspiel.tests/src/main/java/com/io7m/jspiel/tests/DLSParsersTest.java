@@ -0,0 +1,414 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.tests;
+
+import com.io7m.jspiel.api.RiffParseException;
+import com.io7m.jspiel.dls.DLSFileType;
+import com.io7m.jspiel.dls.DLSInstruments;
+import com.io7m.jspiel.dls.DLSParsers;
+import com.io7m.jspiel.dls.DLSVersion;
+import com.io7m.jspiel.dls.RMIDParsers;
+import com.io7m.jspiel.vanilla.RiffParsers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.file.StandardOpenOption.READ;
+
+public final class DLSParsersTest
+{
+  private static final URI SOURCE = URI.create("urn:dls");
+
+  private static byte[] chunk(
+    final String id,
+    final byte[] data)
+  {
+    final var padded = data.length + (data.length & 1);
+    final var buffer = ByteBuffer.allocate(8 + padded).order(LITTLE_ENDIAN);
+    buffer.put(id.getBytes(US_ASCII));
+    buffer.putInt(data.length);
+    buffer.put(data);
+    return buffer.array();
+  }
+
+  private static byte[] concat(
+    final byte[]... parts)
+  {
+    final var output = new ByteArrayOutputStream();
+    for (final var part : parts) {
+      output.writeBytes(part);
+    }
+    return output.toByteArray();
+  }
+
+  private static byte[] list(
+    final String form,
+    final byte[]... chunks)
+  {
+    return chunk("LIST", concat(form.getBytes(US_ASCII), concat(chunks)));
+  }
+
+  private static byte[] u32s(
+    final int... values)
+  {
+    final var buffer = ByteBuffer.allocate(values.length * 4).order(LITTLE_ENDIAN);
+    for (final var value : values) {
+      buffer.putInt(value);
+    }
+    return buffer.array();
+  }
+
+  private static byte[] u16s(
+    final int... values)
+  {
+    final var buffer = ByteBuffer.allocate(values.length * 2).order(LITTLE_ENDIAN);
+    for (final var value : values) {
+      buffer.putShort((short) value);
+    }
+    return buffer.array();
+  }
+
+  private static byte[] info(
+    final String name)
+  {
+    return list("INFO", chunk("INAM", (name + "\0").getBytes(US_ASCII)));
+  }
+
+  private static byte[] wsmp(
+    final int unity,
+    final int fine,
+    final int attenuation,
+    final int... loop)
+  {
+    final var header =
+      concat(u32s(20), u16s(unity, fine), u32s(attenuation, 0, loop.length > 0 ? 1 : 0));
+    if (loop.length > 0) {
+      return chunk("wsmp", concat(header, u32s(16, loop[0], loop[1], loop[2])));
+    }
+    return chunk("wsmp", header);
+  }
+
+  private static byte[] region(
+    final int key_low,
+    final int key_high,
+    final int table_index,
+    final byte[]... extra)
+  {
+    return list(
+      "rgn ",
+      chunk("rgnh", u16s(key_low, key_high, 0, 127, 0, 0)),
+      chunk("wlnk", concat(u16s(0, 0), u32s(1, table_index))),
+      concat(extra));
+  }
+
+  private static byte[] instrument(
+    final int bank,
+    final int program,
+    final String name,
+    final byte[]... regions)
+  {
+    return list(
+      "ins ",
+      chunk("insh", u32s(regions.length, bank, program)),
+      list("lrgn", regions),
+      name.isEmpty() ? new byte[0] : info(name));
+  }
+
+  private static byte[] wave(
+    final int rate,
+    final byte[] samples,
+    final byte[]... extra)
+  {
+    return list(
+      "wave",
+      chunk("fmt ", concat(u16s(1, 1), u32s(rate, rate * 2), u16s(2, 16))),
+      concat(extra),
+      chunk("data", samples));
+  }
+
+  private static byte[] waves()
+  {
+    return list(
+      "wvpl",
+      wave(22050, new byte[]{1, 2, 3, 4}, wsmp(60, -5, 7, 0, 1, 2)),
+      wave(44100, new byte[]{5, 6, 7, 8, 9, 10}));
+  }
+
+  private static byte[] pool(
+    final int... offsets)
+  {
+    return chunk("ptbl", concat(u32s(8, offsets.length), u32s(offsets)));
+  }
+
+  private static byte[] collection(
+    final String id,
+    final byte[] colh,
+    final byte[] ptbl)
+  {
+    final var lins =
+      list(
+        "lins",
+        instrument(
+          0x0102,
+          5,
+          "Piano",
+          region(0, 59, 0),
+          region(60, 127, 1, wsmp(72, 3, -10))),
+        instrument(
+          DLSInstruments.F_INSTRUMENT_DRUMS,
+          0,
+          "",
+          region(35, 81, 1)));
+
+    return chunk(
+      id,
+      concat(
+        "DLS ".getBytes(US_ASCII),
+        colh,
+        chunk("vers", u32s((1 << 16) | 2, (3 << 16) | 4)),
+        lins,
+        ptbl,
+        waves(),
+        info("Collection")));
+  }
+
+  private static byte[] dls()
+  {
+    return collection("RIFF", chunk("colh", u32s(2)), pool(0, firstWaveSize()));
+  }
+
+  private static int firstWaveSize()
+  {
+    return wave(22050, new byte[]{1, 2, 3, 4}, wsmp(60, -5, 7, 0, 1, 2)).length;
+  }
+
+  private static DLSFileType parse(
+    final byte[] data)
+    throws Exception
+  {
+    return new DLSParsers(new RiffParsers())
+      .createForByteBuffer(SOURCE, ByteBuffer.wrap(data))
+      .parse();
+  }
+
+  @Test
+  public void testCollection()
+    throws Exception
+  {
+    final var file = parse(dls());
+    Assertions.assertEquals(DLSVersion.of(1, 2, 3, 4), file.version().orElseThrow());
+    Assertions.assertEquals("Collection", file.info().get("INAM"));
+
+    final var instruments = file.instruments();
+    Assertions.assertEquals(2, instruments.size());
+    Assertions.assertEquals("Piano", instruments.name(0));
+    Assertions.assertEquals("", instruments.name(1));
+    Assertions.assertEquals(1, instruments.bankMSB(0));
+    Assertions.assertEquals(2, instruments.bankLSB(0));
+    Assertions.assertEquals(5, instruments.program(0));
+    Assertions.assertFalse(instruments.isDrum(0));
+    Assertions.assertTrue(instruments.isDrum(1));
+    Assertions.assertEquals(0, instruments.firstRegion(0));
+    Assertions.assertEquals(2, instruments.regionCount(0));
+    Assertions.assertEquals(2, instruments.firstRegion(1));
+    Assertions.assertEquals(1, instruments.regionCount(1));
+
+    Assertions.assertEquals(0, instruments.find(1, 2, 5, false).orElseThrow());
+    Assertions.assertEquals(1, instruments.find(0, 0, 0, true).orElseThrow());
+    Assertions.assertTrue(instruments.find(0, 0, 0, false).isEmpty());
+    Assertions.assertTrue(instruments.find(1, 2, 6, false).isEmpty());
+  }
+
+  @Test
+  public void testRegions()
+    throws Exception
+  {
+    final var file = parse(dls());
+    final var regions = file.regions();
+    Assertions.assertEquals(3, regions.size());
+    Assertions.assertEquals(0, regions.instrument(1));
+    Assertions.assertEquals(1, regions.instrument(2));
+    Assertions.assertEquals(60, regions.keyLow(1));
+    Assertions.assertEquals(127, regions.keyHigh(1));
+    Assertions.assertEquals(0, regions.layer(1));
+    Assertions.assertEquals(1L, regions.channel(1));
+    Assertions.assertEquals(1, regions.tableIndex(1));
+
+    final var parameters = regions.sampleParameters();
+    Assertions.assertFalse(parameters.isPresent(0));
+    Assertions.assertTrue(parameters.isPresent(1));
+    Assertions.assertEquals(72, parameters.unityNote(1));
+    Assertions.assertEquals(3, parameters.fineTune(1));
+    Assertions.assertEquals(-10, parameters.attenuation(1));
+    Assertions.assertFalse(parameters.hasLoop(1));
+    Assertions.assertEquals(-1L, parameters.loopType(1));
+
+    Assertions.assertEquals(0, file.findRegion(0, 40, 100).orElseThrow());
+    Assertions.assertEquals(1, file.findRegion(0, 60, 100).orElseThrow());
+    Assertions.assertEquals(2, file.findRegion(1, 36, 1).orElseThrow());
+    Assertions.assertTrue(file.findRegion(1, 90, 1).isEmpty());
+  }
+
+  @Test
+  public void testWaves()
+    throws Exception
+  {
+    final var file = parse(dls());
+    final var waves = file.waves();
+    Assertions.assertEquals(2, waves.size());
+    Assertions.assertEquals(1, waves.formatTag(0));
+    Assertions.assertEquals(22050L, waves.sampleRate(0));
+    Assertions.assertEquals(44100L, waves.sampleRate(1));
+    Assertions.assertEquals(16, waves.bitsPerSample(1));
+    Assertions.assertEquals(6L, waves.dataSize(1));
+
+    final var parameters = waves.sampleParameters();
+    Assertions.assertEquals(60, parameters.unityNote(0));
+    Assertions.assertEquals(-5, parameters.fineTune(0));
+    Assertions.assertTrue(parameters.hasLoop(0));
+    Assertions.assertEquals(0L, parameters.loopType(0));
+    Assertions.assertEquals(1L, parameters.loopStart(0));
+    Assertions.assertEquals(2L, parameters.loopLength(0));
+    Assertions.assertFalse(parameters.isPresent(1));
+
+    final var pool = file.poolTable();
+    Assertions.assertEquals(2, pool.size());
+    Assertions.assertEquals(0, pool.wave(0));
+    Assertions.assertEquals(1, pool.wave(1));
+    Assertions.assertEquals(0, file.waveOfRegion(0));
+    Assertions.assertEquals(1, file.waveOfRegion(2));
+
+    final var data = file.waveData(1);
+    Assertions.assertTrue(data.isReadOnly());
+    Assertions.assertEquals(LITTLE_ENDIAN, data.order());
+    Assertions.assertEquals(6, data.capacity());
+    Assertions.assertEquals(5, data.get(0));
+    Assertions.assertEquals(10, data.get(5));
+  }
+
+  @Test
+  public void testPoolOffsetsIncludingForm()
+    throws Exception
+  {
+    final var data = collection("RIFF", chunk("colh", u32s(2)), pool(4, 4 + firstWaveSize()));
+    final var pool = parse(data).poolTable();
+    Assertions.assertEquals(0, pool.wave(0));
+    Assertions.assertEquals(1, pool.wave(1));
+  }
+
+  @Test
+  public void testMapped()
+    throws Exception
+  {
+    final var path = Files.createTempFile("jspiel-dls-", ".dls");
+    Files.write(path, dls());
+
+    try (var channel = FileChannel.open(path, READ)) {
+      final var map = channel.map(READ_ONLY, 0L, channel.size());
+      final var file = new DLSParsers(new RiffParsers())
+        .createForByteBuffer(path.toUri(), map)
+        .parse();
+      Assertions.assertTrue(file.waveData(0).isDirect());
+      Assertions.assertEquals(3, file.waveData(0).get(2));
+    }
+  }
+
+  @Test
+  public void testInstrumentCountMismatch()
+  {
+    final var data = collection("RIFF", chunk("colh", u32s(3)), pool(0, firstWaveSize()));
+    final var ex = Assertions.assertThrows(RiffParseException.class, () -> parse(data));
+    Assertions.assertTrue(ex.getMessage().contains("Declared number of instruments"));
+  }
+
+  @Test
+  public void testPoolOffsetBad()
+  {
+    final var data = collection("RIFF", chunk("colh", u32s(2)), pool(0, 3));
+    final var ex = Assertions.assertThrows(RiffParseException.class, () -> parse(data));
+    Assertions.assertTrue(ex.getMessage().contains("Pool table entry does not refer to a wave."));
+  }
+
+  @Test
+  public void testMissingCollectionHeader()
+  {
+    final var data = collection("RIFF", new byte[0], pool(0, firstWaveSize()));
+    final var ex = Assertions.assertThrows(RiffParseException.class, () -> parse(data));
+    Assertions.assertTrue(ex.getMessage().contains("colh"));
+  }
+
+  @Test
+  public void testNotDLS()
+  {
+    final var data = chunk("RIFF", concat("WAVE".getBytes(US_ASCII), chunk("data", new byte[2])));
+    final var ex = Assertions.assertThrows(RiffParseException.class, () -> parse(data));
+    Assertions.assertTrue(ex.getMessage().contains("File is not a DLS file."));
+  }
+
+  @Test
+  public void testRMIDWithCollection()
+    throws Exception
+  {
+    final var midi = "MThd".getBytes(US_ASCII);
+    final var data =
+      chunk(
+        "RIFF",
+        concat(
+          "RMID".getBytes(US_ASCII),
+          chunk("data", midi),
+          info("Song"),
+          collection("RIFF", chunk("colh", u32s(2)), pool(0, firstWaveSize()))));
+
+    final var file = new RMIDParsers(new RiffParsers())
+      .createForByteBuffer(SOURCE, ByteBuffer.wrap(data))
+      .parse();
+
+    Assertions.assertEquals("Song", file.info().get("INAM"));
+    Assertions.assertTrue(file.midiData().isReadOnly());
+    Assertions.assertEquals(4, file.midiData().capacity());
+    Assertions.assertEquals('M', file.midiData().get(0));
+
+    final var collection = file.collection().orElseThrow();
+    Assertions.assertEquals(2, collection.instruments().size());
+    Assertions.assertEquals(9, collection.waveData(1).get(4));
+  }
+
+  @Test
+  public void testRMIDWithoutCollection()
+    throws Exception
+  {
+    final var data =
+      chunk("RIFF", concat("RMID".getBytes(US_ASCII), chunk("data", new byte[]{1, 2})));
+
+    final var file = new RMIDParsers(new RiffParsers())
+      .createForByteBuffer(SOURCE, ByteBuffer.wrap(data))
+      .parse();
+
+    Assertions.assertTrue(file.collection().isEmpty());
+    Assertions.assertTrue(file.info().isEmpty());
+    Assertions.assertEquals(2, file.midiData().capacity());
+  }
+}
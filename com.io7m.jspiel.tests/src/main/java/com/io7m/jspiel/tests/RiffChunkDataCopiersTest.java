@@ -0,0 +1,292 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.tests;
+
+import com.io7m.jspiel.api.RiffChunkID;
+import com.io7m.jspiel.api.RiffChunkType;
+import com.io7m.jspiel.api.RiffFileBuilderType;
+import com.io7m.jspiel.api.RiffFileType;
+import com.io7m.jspiel.api.RiffOutOfBoundsException;
+import com.io7m.jspiel.vanilla.RiffChunkDataCopiers;
+import com.io7m.jspiel.vanilla.RiffFileBuilders;
+import com.io7m.jspiel.vanilla.RiffParsers;
+import com.io7m.jspiel.vanilla.RiffSeekableByteChannels;
+import com.io7m.jspiel.vanilla.RiffWriters;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import static java.nio.ByteOrder.BIG_ENDIAN;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+public final class RiffChunkDataCopiersTest
+{
+  private static byte[] chunk(
+    final String id,
+    final byte[] data)
+  {
+    final var padded = data.length + (data.length & 1);
+    final var buffer = ByteBuffer.allocate(8 + padded).order(LITTLE_ENDIAN);
+    buffer.put(id.getBytes(US_ASCII));
+    buffer.putInt(data.length);
+    buffer.put(data);
+    return buffer.array();
+  }
+
+  private static byte[] list(
+    final String id,
+    final String form,
+    final byte[]... chunks)
+  {
+    final var output = new ByteArrayOutputStream();
+    output.writeBytes(form.getBytes(US_ASCII));
+    for (final var c : chunks) {
+      output.writeBytes(c);
+    }
+    return chunk(id, output.toByteArray());
+  }
+
+  private static byte[] counting(
+    final int size)
+  {
+    final var data = new byte[size];
+    for (var index = 0; index < size; ++index) {
+      data[index] = (byte) (index * 3 + 1);
+    }
+    return data;
+  }
+
+  private static Path source()
+    throws Exception
+  {
+    final var path = Files.createTempFile("jspiel-copy-", ".riff");
+    Files.write(path, list(
+      "RIFF",
+      "TEST",
+      chunk("aaaa", counting(13)),
+      chunk("skip", counting(100)),
+      list("LIST", "INFO", chunk("INAM", counting(5)), chunk("IKEY", new byte[0])),
+      list("LIST", "none"),
+      chunk("dddd", counting(70000))));
+    return path;
+  }
+
+  private static RiffFileType parse(
+    final FileChannel channel)
+    throws Exception
+  {
+    final var map = channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
+    return new RiffParsers().createForByteBuffer(URI.create("urn:file"), map).parse();
+  }
+
+  private static String layout(
+    final RiffFileType file)
+  {
+    return file.linearizedDescendantChunks()
+      .map(c -> c.name().value() + c.formType().map(f -> "(" + f + ")").orElse("")
+        + ":" + c.dataSizeIncludingForm().sizeUnpadded())
+      .collect(Collectors.joining(" "));
+  }
+
+  private static byte[] dataOf(
+    final FileChannel channel,
+    final RiffChunkType chunk)
+    throws Exception
+  {
+    final var size = Math.toIntExact(chunk.dataSizeExcludingForm().sizeUnpadded());
+    final var buffer = ByteBuffer.allocate(size);
+    channel.read(buffer, chunk.dataOffsetAfterForm());
+    return buffer.array();
+  }
+
+  private static Path write(
+    final RiffFileBuilderType builder)
+    throws Exception
+  {
+    final var path = Files.createTempFile("jspiel-copy-", ".riff");
+    final var description = builder.build();
+    try (var channel = FileChannel.open(path, TRUNCATE_EXISTING, WRITE, CREATE)) {
+      new RiffWriters()
+        .createForChannel(URI.create("urn:file"), description, channel)
+        .write();
+    }
+    return path;
+  }
+
+  private static void assertSameData(
+    final FileChannel source,
+    final RiffFileType source_file,
+    final FileChannel target,
+    final RiffFileType target_file)
+    throws Exception
+  {
+    final var targets =
+      target_file.linearizedDescendantChunks()
+        .filter(c -> c.formType().isEmpty())
+        .collect(Collectors.toList());
+
+    for (final var target_chunk : targets) {
+      final var source_chunk =
+        source_file.linearizedDescendantChunks()
+          .filter(c -> c.name().equals(target_chunk.name()))
+          .findFirst();
+      if (source_chunk.isEmpty()) {
+        continue;
+      }
+      Assertions.assertArrayEquals(
+        dataOf(source, source_chunk.get()),
+        dataOf(target, target_chunk),
+        target_chunk.name().value());
+    }
+  }
+
+  @Test
+  public void testCloneFiltered()
+    throws Exception
+  {
+    final var copiers = new RiffChunkDataCopiers();
+
+    try (var source = FileChannel.open(source(), READ)) {
+      final var file = parse(source);
+      final var builder = new RiffFileBuilders().create(LITTLE_ENDIAN);
+      try (var root = builder.setRootChunkFrom(
+        file.chunks().get(0),
+        c -> !"skip".equals(c.name().value()),
+        c -> copiers.createForChunk(source, c))) {
+        root.addSubChunk(RiffChunkID.of("eeee"))
+          .setSize(3L)
+          .setDataWriter(data -> data.write(ByteBuffer.wrap(new byte[]{1, 2, 3})))
+          .close();
+      }
+
+      try (var target = FileChannel.open(write(builder), READ)) {
+        final var result = parse(target);
+        Assertions.assertEquals(
+          "RIFF(TEST):70092 aaaa:13 LIST(INFO):26 INAM:5 IKEY:0 LIST(none):4 dddd:70000 eeee:3",
+          layout(result));
+        assertSameData(source, file, target, result);
+      }
+    }
+  }
+
+  @Test
+  public void testCloneReordered()
+    throws Exception
+  {
+    final var copiers = new RiffChunkDataCopiers();
+
+    try (var source = FileChannel.open(source(), READ)) {
+      final var file = parse(source);
+      final var root_in = file.chunks().get(0);
+      final var builder = new RiffFileBuilders().create(LITTLE_ENDIAN);
+
+      try (var root = builder.setRootChunk(root_in.name(), "TEST")) {
+        final var dddd = root_in.findRequiredSubChunk("dddd");
+        final var aaaa = root_in.findRequiredSubChunk("aaaa");
+        root.addSubChunkFrom(dddd, c -> true, c -> copiers.createForChunk(source, c));
+        root.addSubChunkFrom(aaaa, c -> true, c -> copiers.createForChunk(source, c));
+      }
+
+      try (var target = FileChannel.open(write(builder), READ)) {
+        final var result = parse(target);
+        Assertions.assertEquals("RIFF(TEST):70034 dddd:70000 aaaa:13", layout(result));
+        assertSameData(source, file, target, result);
+      }
+    }
+  }
+
+  @Test
+  public void testCloneByteOrder()
+    throws Exception
+  {
+    final var copiers = new RiffChunkDataCopiers();
+
+    try (var source = FileChannel.open(source(), READ)) {
+      final var file = parse(source);
+      final var root_in = file.chunks().get(0);
+      final var builder = new RiffFileBuilders().create(BIG_ENDIAN);
+
+      try (var root = builder.setRootChunk(RiffChunkID.of("RIFX"), "TEST")) {
+        root.addSubChunksFrom(root_in, c -> true, c -> copiers.createForChunk(source, c));
+      }
+
+      try (var target = FileChannel.open(write(builder), READ)) {
+        final var result = parse(target);
+        Assertions.assertEquals(ByteOrder.BIG_ENDIAN, result.byteOrder());
+        Assertions.assertEquals(
+          "RIFX(TEST):70188 aaaa:13 skip:100 LIST(INFO):26 INAM:5 IKEY:0 LIST(none):4 dddd:70000",
+          layout(result));
+        assertSameData(source, file, target, result);
+      }
+    }
+  }
+
+  @Test
+  public void testCopyOutOfBounds()
+    throws Exception
+  {
+    final var copiers = new RiffChunkDataCopiers();
+    final var target_path = Files.createTempFile("jspiel-copy-", ".bin");
+
+    try (var source = FileChannel.open(source(), READ);
+         var target = FileChannel.open(target_path, READ, WRITE)) {
+      final var file = parse(source);
+      final var chunk = file.chunks().get(0).findRequiredSubChunk("skip");
+      final var restricted =
+        new RiffSeekableByteChannels().createFromChannel(target, 0L, 50L);
+
+      final var writer = copiers.createForChunk(source, chunk);
+      Assertions.assertThrows(RiffOutOfBoundsException.class, () -> writer.write(restricted));
+    }
+  }
+
+  @Test
+  public void testCopyRange()
+    throws Exception
+  {
+    final var copiers = new RiffChunkDataCopiers();
+    final var target_path = Files.createTempFile("jspiel-copy-", ".bin");
+
+    try (var source = FileChannel.open(source(), READ);
+         var target = FileChannel.open(target_path, READ, WRITE)) {
+      final var restricted =
+        new RiffSeekableByteChannels().createFromChannel(target, 10L, 30L);
+      copiers.createForRange(source, 0L, 20L).write(restricted);
+
+      final var expected = new byte[20];
+      source.read(ByteBuffer.wrap(expected), 0L);
+      final var received = Files.readAllBytes(target_path);
+      Assertions.assertEquals(30, received.length);
+      Assertions.assertArrayEquals(expected, Arrays.copyOfRange(received, 10, 30));
+    }
+  }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.tests;
+
+import com.io7m.jspiel.api.RiffChunkDigest;
+import com.io7m.jspiel.api.RiffChunkType;
+import com.io7m.jspiel.api.RiffDigestAlgorithm;
+import com.io7m.jspiel.api.RiffFileType;
+import com.io7m.jspiel.vanilla.RiffChunkDigests;
+import com.io7m.jspiel.vanilla.RiffParsers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32C;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.file.StandardOpenOption.READ;
+
+public final class RiffChunkDigestsTest
+{
+  private static byte[] chunk(
+    final String id,
+    final byte[] data)
+  {
+    final var padded = data.length + (data.length & 1);
+    final var buffer = ByteBuffer.allocate(8 + padded).order(LITTLE_ENDIAN);
+    buffer.put(id.getBytes(US_ASCII));
+    buffer.putInt(data.length);
+    buffer.put(data);
+    return buffer.array();
+  }
+
+  private static byte[] list(
+    final String id,
+    final String form,
+    final byte[]... chunks)
+  {
+    final var output = new ByteArrayOutputStream();
+    output.writeBytes(form.getBytes(US_ASCII));
+    for (final var c : chunks) {
+      output.writeBytes(c);
+    }
+    return chunk(id, output.toByteArray());
+  }
+
+  private static byte[] counting(
+    final int size)
+  {
+    final var data = new byte[size];
+    for (var index = 0; index < size; ++index) {
+      data[index] = (byte) (index * 7 + 3);
+    }
+    return data;
+  }
+
+  private static RiffFileType parse(
+    final ByteBuffer data)
+    throws Exception
+  {
+    return new RiffParsers().createForByteBuffer(URI.create("urn:file"), data).parse();
+  }
+
+  private static List<RiffChunkType> chunks(
+    final RiffFileType file)
+  {
+    return file.linearizedDescendantChunks().collect(Collectors.toList());
+  }
+
+  private static RiffChunkType named(
+    final RiffFileType file,
+    final String name)
+  {
+    return file.linearizedDescendantChunks()
+      .filter(c -> c.name().value().equals(name))
+      .findFirst()
+      .orElseThrow();
+  }
+
+  private static byte[] sample()
+  {
+    return list(
+      "RIFF",
+      "TEST",
+      chunk("abc ", "abc".getBytes(US_ASCII)),
+      chunk("none", new byte[0]),
+      chunk("long", "Nobody inspects the spammish repetition".getBytes(US_ASCII)),
+      chunk("odd ", counting(31)),
+      list("LIST", "INFO", chunk("INAM", counting(33))),
+      chunk("big ", counting((1 << 20) * 2 + 17)));
+  }
+
+  @Test
+  public void testXXHash64KnownValues()
+    throws Exception
+  {
+    final var file = parse(ByteBuffer.wrap(sample()));
+    final var data = ByteBuffer.wrap(sample());
+    final var digests = new RiffChunkDigests();
+    final var results =
+      digests.digestBuffer(data, chunks(file), RiffDigestAlgorithm.XXHASH64);
+
+    Assertions.assertEquals(
+      RiffChunkDigest.of(RiffDigestAlgorithm.XXHASH64, "44bc2cf5ad770999"),
+      results.get(named(file, "abc ")));
+    Assertions.assertEquals(
+      RiffChunkDigest.of(RiffDigestAlgorithm.XXHASH64, "ef46db3751d8e999"),
+      results.get(named(file, "none")));
+    Assertions.assertEquals(
+      RiffChunkDigest.of(RiffDigestAlgorithm.XXHASH64, "fbcea83c8a378bf1"),
+      results.get(named(file, "long")));
+  }
+
+  @Test
+  public void testAgainstJDK()
+    throws Exception
+  {
+    final var bytes = sample();
+    final var file = parse(ByteBuffer.wrap(bytes));
+    final var digests = new RiffChunkDigests();
+    final var crcs =
+      digests.digestBuffer(ByteBuffer.wrap(bytes), chunks(file), RiffDigestAlgorithm.CRC32C);
+    final var shas =
+      digests.digestBuffer(ByteBuffer.wrap(bytes), chunks(file), RiffDigestAlgorithm.SHA256);
+
+    for (final var chunk : chunks(file)) {
+      final var offset = Math.toIntExact(chunk.dataOffsetAfterForm());
+      final var size = Math.toIntExact(chunk.dataSizeExcludingForm().sizeUnpadded());
+
+      final var crc = new CRC32C();
+      crc.update(bytes, offset, size);
+      Assertions.assertEquals(
+        HexFormat.of().toHexDigits((int) crc.getValue()),
+        crcs.get(chunk).value());
+
+      final var sha = MessageDigest.getInstance("SHA-256");
+      sha.update(bytes, offset, size);
+      Assertions.assertEquals(
+        HexFormat.of().formatHex(sha.digest()),
+        shas.get(chunk).value());
+    }
+  }
+
+  @Test
+  public void testChannelParallelMatchesBufferSequential()
+    throws Exception
+  {
+    final var path = Files.createTempFile("jspiel-digest-", ".riff");
+    Files.write(path, sample());
+
+    final var digests = new RiffChunkDigests();
+    final var executor = Executors.newFixedThreadPool(4);
+    try (var channel = FileChannel.open(path, READ)) {
+      final var map = channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
+      final var file = parse(map);
+      for (final var algorithm : RiffDigestAlgorithm.values()) {
+        final var sequential = digests.digestBuffer(map, chunks(file), algorithm);
+        final var parallel = digests.digestChannel(channel, chunks(file), algorithm, executor);
+        Assertions.assertEquals(sequential, parallel);
+        Assertions.assertEquals(chunks(file), List.copyOf(parallel.keySet()));
+        Assertions.assertEquals(0L, channel.position());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testSameDataDifferentNames()
+    throws Exception
+  {
+    final var data = counting(100);
+    final var bytes =
+      list("RIFF", "TEST", chunk("aaaa", data), list("LIST", "xxxx", chunk("bbbb", data)));
+    final var file = parse(ByteBuffer.wrap(bytes));
+    final var results =
+      new RiffChunkDigests()
+        .digestBuffer(ByteBuffer.wrap(bytes), chunks(file), RiffDigestAlgorithm.XXHASH64);
+
+    Assertions.assertEquals(
+      results.get(named(file, "aaaa")), results.get(named(file, "bbbb")));
+  }
+
+  @Test
+  public void testTruncatedChannel()
+    throws Exception
+  {
+    final var bytes = sample();
+    final var file = parse(ByteBuffer.wrap(bytes));
+    final var path = Files.createTempFile("jspiel-digest-", ".riff");
+    Files.write(path, Arrays.copyOf(bytes, bytes.length - 1000));
+
+    try (var channel = FileChannel.open(path, READ)) {
+      final var ex = Assertions.assertThrows(IOException.class, () -> {
+        new RiffChunkDigests()
+          .digestChannel(channel, List.of(named(file, "big ")), RiffDigestAlgorithm.CRC32C);
+      });
+      Assertions.assertTrue(ex.getMessage().contains("Unexpected end of file"));
+    }
+  }
+}
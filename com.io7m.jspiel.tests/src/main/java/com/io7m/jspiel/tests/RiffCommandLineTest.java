@@ -17,12 +17,25 @@
 package com.io7m.jspiel.tests;
 
 import com.io7m.jspiel.cmdline.RiffMain;
+import com.io7m.jspiel.vanilla.RiffParsers;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 public final class RiffCommandLineTest
 {
@@ -39,6 +52,26 @@ public final class RiffCommandLineTest
     return temp;
   }
 
+  private static Path createRIFF(
+    final String... names)
+    throws IOException
+  {
+    final var buffer =
+      ByteBuffer.allocate(12 + names.length * 12).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.put("RIFF".getBytes(US_ASCII));
+    buffer.putInt(4 + names.length * 12);
+    buffer.put("TEST".getBytes(US_ASCII));
+    for (final var name : names) {
+      buffer.put(name.getBytes(US_ASCII));
+      buffer.putInt(4);
+      buffer.putInt(name.hashCode());
+    }
+
+    final var temp = Files.createTempFile("riff-cmdline-", ".riff");
+    Files.write(temp, buffer.array());
+    return temp;
+  }
+
   @Test
   public void testMainShowNoArgumentsFails()
   {
@@ -107,4 +140,483 @@ public final class RiffCommandLineTest
     main.run();
     Assertions.assertEquals(0L, (long) main.exitCode(), "Succeeds");
   }
+
+  @Test
+  public void testMainStatNoArgumentsFails()
+  {
+    final var main = new RiffMain(new String[] {
+      "stat"
+    });
+
+    main.run();
+    Assertions.assertEquals(1L, (long) main.exitCode(), "Fails");
+  }
+
+  @Test
+  public void testMainStatNonexistentFails()
+  {
+    final var main = new RiffMain(new String[] {
+      "stat",
+      "--directory",
+      "/nonexistent"
+    });
+
+    main.run();
+    Assertions.assertEquals(1L, (long) main.exitCode(), "Fails");
+  }
+
+  @Test
+  public void testMainStatOK()
+    throws IOException
+  {
+    final var directory = Files.createTempDirectory("riff-cmdline-");
+    final var nested = Files.createDirectories(directory.resolve("a").resolve("b"));
+    Files.copy(createWAV(), directory.resolve("x.wav"));
+    Files.copy(createWAV(), nested.resolve("y.wav"));
+    Files.write(nested.resolve("z.txt"), new byte[]{1, 2, 3});
+    Files.write(directory.resolve("empty"), new byte[0]);
+
+    final var main = new RiffMain(new String[] {
+      "stat",
+      "--parallelism",
+      "2",
+      "--directory",
+      directory.toString()
+    });
+
+    main.run();
+    Assertions.assertEquals(0L, (long) main.exitCode(), "Succeeds");
+  }
+
+  @Test
+  public void testMainValidateNoArgumentsFails()
+  {
+    final var main = new RiffMain(new String[] {
+      "validate"
+    });
+
+    main.run();
+    Assertions.assertEquals(1L, (long) main.exitCode(), "Fails");
+  }
+
+  @Test
+  public void testMainValidateOK()
+    throws IOException
+  {
+    final var directory = Files.createTempDirectory("riff-cmdline-");
+    Files.copy(createWAV(), directory.resolve("x.wav"));
+
+    final var main = new RiffMain(new String[] {
+      "validate",
+      "--file",
+      createWAV().toString(),
+      "--directory",
+      directory.toString()
+    });
+
+    main.run();
+    Assertions.assertEquals(0L, (long) main.exitCode(), "Succeeds");
+  }
+
+  @Test
+  public void testMainValidateCorruptFails()
+    throws IOException
+  {
+    final var directory = Files.createTempDirectory("riff-cmdline-");
+    Files.copy(createWAV(), directory.resolve("x.wav"));
+    final var data = Files.readAllBytes(createWAV());
+    Files.write(directory.resolve("y.wav"), Arrays.copyOf(data, data.length - 10));
+
+    final var main = new RiffMain(new String[] {
+      "validate",
+      "--directory",
+      directory.toString()
+    });
+
+    main.run();
+    Assertions.assertEquals(1L, (long) main.exitCode(), "Fails");
+  }
+
+  @Test
+  public void testMainValidateTrailingData()
+    throws IOException
+  {
+    final var file = createWAV();
+    Files.write(file, new byte[]{1, 2, 3}, StandardOpenOption.APPEND);
+
+    final var strict = new RiffMain(new String[] {
+      "validate",
+      "--file",
+      file.toString()
+    });
+    strict.run();
+    Assertions.assertEquals(1L, (long) strict.exitCode(), "Fails");
+
+    final var relaxed = new RiffMain(new String[] {
+      "validate",
+      "--allow-trailing-data",
+      "true",
+      "--file",
+      file.toString()
+    });
+    relaxed.run();
+    Assertions.assertEquals(0L, (long) relaxed.exitCode(), "Succeeds");
+  }
+
+  @Test
+  public void testMainExtractOK()
+    throws Exception
+  {
+    final var file = createWAV();
+    final var output = Files.createTempFile("riff-cmdline-", ".data");
+
+    final var main = new RiffMain(new String[] {
+      "extract",
+      "--file",
+      file.toString(),
+      "--path",
+      "RIFX(WAVE)/data",
+      "--output",
+      output.toString()
+    });
+
+    main.run();
+    Assertions.assertEquals(0L, (long) main.exitCode(), "Succeeds");
+
+    final var bytes = Files.readAllBytes(file);
+    final var riff =
+      new RiffParsers()
+        .createForByteBuffer(file.toUri(), ByteBuffer.wrap(bytes))
+        .parse();
+    final var data =
+      riff.chunks().get(0).findRequiredSubChunk("data");
+    final var offset = Math.toIntExact(data.dataOffset());
+    final var size = Math.toIntExact(data.dataSizeExcludingForm().sizeUnpadded());
+
+    Assertions.assertArrayEquals(
+      Arrays.copyOfRange(bytes, offset, offset + size),
+      Files.readAllBytes(output));
+  }
+
+  @Test
+  public void testMainExtractWildcardPadded()
+    throws Exception
+  {
+    final var file = createWAV();
+    final var output = Files.createTempFile("riff-cmdline-", ".data");
+
+    final var main = new RiffMain(new String[] {
+      "extract",
+      "--file",
+      file.toString(),
+      "--path",
+      "*/fmt",
+      "--output",
+      output.toString()
+    });
+
+    main.run();
+    Assertions.assertEquals(0L, (long) main.exitCode(), "Succeeds");
+
+    final var riff =
+      new RiffParsers()
+        .createForByteBuffer(file.toUri(), ByteBuffer.wrap(Files.readAllBytes(file)))
+        .parse();
+    Assertions.assertEquals(
+      riff.chunks().get(0).findRequiredSubChunk("fmt ").dataSizeExcludingForm().sizeUnpadded(),
+      Files.size(output));
+  }
+
+  @Test
+  public void testMainExtractNoMatchFails()
+    throws IOException
+  {
+    final var main = new RiffMain(new String[] {
+      "extract",
+      "--file",
+      createWAV().toString(),
+      "--path",
+      "RIFX(AVI )/data",
+      "--output",
+      Files.createTempFile("riff-cmdline-", ".data").toString()
+    });
+
+    main.run();
+    Assertions.assertEquals(1L, (long) main.exitCode(), "Fails");
+  }
+
+  @Test
+  public void testMainExtractMalformedPathFails()
+    throws IOException
+  {
+    final var main = new RiffMain(new String[] {
+      "extract",
+      "--file",
+      createWAV().toString(),
+      "--path",
+      "RIFX(WAVE)///data",
+      "--output",
+      Files.createTempFile("riff-cmdline-", ".data").toString()
+    });
+
+    main.run();
+    Assertions.assertEquals(1L, (long) main.exitCode(), "Fails");
+  }
+
+  @Test
+  public void testMainExtractDescendantPath()
+    throws IOException
+  {
+    /*
+     * This path was rejected as malformed before the extract command used RiffPath;
+     * the empty step now means a search at any depth.
+     */
+
+    final var output = Files.createTempFile("riff-cmdline-", ".data");
+    final var main = new RiffMain(new String[] {
+      "extract",
+      "--file",
+      createWAV().toString(),
+      "--path",
+      "RIFX(WAVE)//data",
+      "--output",
+      output.toString()
+    });
+
+    main.run();
+    Assertions.assertEquals(0L, (long) main.exitCode(), "Succeeds");
+    Assertions.assertNotEquals(0L, Files.size(output));
+  }
+
+  @Test
+  public void testMainShowFormats()
+    throws IOException
+  {
+    final var temp = createWAV();
+
+    for (final var format : new String[] {"text", "json", "csv"}) {
+      final var main = new RiffMain(new String[] {
+        "show",
+        "--format",
+        format,
+        "--file",
+        temp.toString()
+      });
+
+      main.run();
+      Assertions.assertEquals(0L, (long) main.exitCode(), "Succeeds");
+    }
+  }
+
+  @Test
+  public void testMainShowUnknownFormatFails()
+    throws IOException
+  {
+    final var main = new RiffMain(new String[] {
+      "show",
+      "--format",
+      "xml",
+      "--file",
+      createWAV().toString()
+    });
+
+    main.run();
+    Assertions.assertEquals(1L, (long) main.exitCode(), "Fails");
+  }
+
+  @Test
+  public void testMainShowCSVDepthFilter()
+    throws IOException
+  {
+    final var temp = createWAV();
+    final var output = new ByteArrayOutputStream();
+    final var saved = System.out;
+
+    final RiffMain main;
+    try {
+      System.setOut(new PrintStream(output, true, UTF_8));
+      main = new RiffMain(new String[] {
+        "show",
+        "--format",
+        "csv",
+        "--max-depth",
+        "1",
+        "--filter",
+        "RIFX",
+        "--filter",
+        "fmt",
+        "--file",
+        temp.toString()
+      });
+      main.run();
+    } finally {
+      System.setOut(saved);
+    }
+
+    Assertions.assertEquals(0L, (long) main.exitCode(), "Succeeds");
+    final var lines = output.toString(UTF_8).lines().toList();
+    Assertions.assertEquals(3, lines.size());
+    Assertions.assertEquals("depth,id,form,offset,size,padded", lines.get(0));
+    Assertions.assertTrue(lines.get(1).startsWith("0,RIFX,WAVE,0,"), lines.get(1));
+    Assertions.assertTrue(lines.get(2).startsWith("1,fmt ,,12,"), lines.get(2));
+  }
+
+  private static int diff(
+    final Path left,
+    final Path right,
+    final String... extra)
+  {
+    final var arguments = new ArrayList<String>();
+    arguments.add("diff");
+    arguments.add("--left");
+    arguments.add(left.toString());
+    arguments.add("--right");
+    arguments.add(right.toString());
+    arguments.addAll(List.of(extra));
+
+    final var main = new RiffMain(arguments.toArray(new String[0]));
+    main.run();
+    return main.exitCode();
+  }
+
+  @Test
+  public void testMainDiffIdentical()
+    throws IOException
+  {
+    Assertions.assertEquals(0, diff(createWAV(), createWAV(), "--hash", "sha256"));
+  }
+
+  @Test
+  public void testMainDiffAddedRemoved()
+    throws IOException
+  {
+    final var left = createRIFF("aaaa", "bbbb", "bbbb");
+    Assertions.assertEquals(0, diff(left, createRIFF("aaaa", "bbbb", "bbbb")));
+    Assertions.assertEquals(1, diff(left, createRIFF("aaaa", "bbbb")));
+    Assertions.assertEquals(1, diff(left, createRIFF("aaaa", "bbbb", "bbbb", "cccc")));
+  }
+
+  @Test
+  public void testMainDiffData()
+    throws IOException
+  {
+    final var left = createWAV();
+    final var right = createWAV();
+    final var data = Files.readAllBytes(right);
+    data[data.length - 1] ^= (byte) 0xff;
+    Files.write(right, data);
+
+    Assertions.assertEquals(0, diff(left, right));
+    Assertions.assertEquals(1, diff(left, right, "--hash", "xxhash64"));
+    Assertions.assertEquals(1, diff(left, right, "--hash", "crc32c"));
+  }
+
+  @Test
+  public void testMainDiffUnknownHashFails()
+    throws IOException
+  {
+    Assertions.assertEquals(1, diff(createWAV(), createWAV(), "--hash", "md5"));
+  }
+
+  @Test
+  public void testMainBenchOK()
+    throws IOException
+  {
+    final var directory = Files.createTempDirectory("riff-cmdline-");
+    final var main = new RiffMain(new String[] {
+      "bench",
+      "--depth",
+      "2",
+      "--fan-out",
+      "3",
+      "--payload-size",
+      "33",
+      "--threads",
+      "1",
+      "--threads",
+      "2",
+      "--iterations",
+      "5",
+      "--warmup",
+      "1",
+      "--directory",
+      directory.toString()
+    });
+
+    main.run();
+    Assertions.assertEquals(0L, (long) main.exitCode(), "Succeeds");
+    try (var files = Files.list(directory)) {
+      Assertions.assertEquals(0L, files.count());
+    }
+  }
+
+  @Test
+  public void testMainBenchNoWarmupOK()
+    throws IOException
+  {
+    final var directory = Files.createTempDirectory("riff-cmdline-");
+    final var main = new RiffMain(new String[] {
+      "bench",
+      "--depth",
+      "1",
+      "--fan-out",
+      "2",
+      "--iterations",
+      "2",
+      "--warmup",
+      "0",
+      "--directory",
+      directory.toString()
+    });
+
+    main.run();
+    Assertions.assertEquals(0L, (long) main.exitCode(), "Succeeds");
+  }
+
+  @Test
+  public void testMainBenchWarmupFailureFails()
+    throws IOException
+  {
+    /*
+     * The second thread cannot write its target file, because a directory is in the way.
+     * The first thread must not wait forever for it at the end of the warmup.
+     */
+
+    final var directory = Files.createTempDirectory("riff-cmdline-");
+    Files.createDirectory(directory.resolve("bench-write-1.riff"));
+
+    final var main = new RiffMain(new String[] {
+      "bench",
+      "--depth",
+      "1",
+      "--fan-out",
+      "2",
+      "--threads",
+      "2",
+      "--iterations",
+      "2",
+      "--warmup",
+      "1",
+      "--directory",
+      directory.toString()
+    });
+
+    Assertions.assertTimeoutPreemptively(Duration.ofMinutes(1L), main::run);
+    Assertions.assertEquals(1L, (long) main.exitCode(), "Fails");
+  }
+
+  @Test
+  public void testMainBenchTooManyChunksFails()
+  {
+    final var main = new RiffMain(new String[] {
+      "bench",
+      "--depth",
+      "8",
+      "--fan-out",
+      "100"
+    });
+
+    main.run();
+    Assertions.assertEquals(1L, (long) main.exitCode(), "Fails");
+  }
 }
@@ -0,0 +1,427 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.tests;
+
+import com.io7m.jaffirm.core.PreconditionViolationException;
+import com.io7m.jspiel.api.RiffChunkDataWriterType;
+import com.io7m.jspiel.api.RiffChunkID;
+import com.io7m.jspiel.api.RiffChunkType;
+import com.io7m.jspiel.api.RiffEditStepKind;
+import com.io7m.jspiel.api.RiffFileType;
+import com.io7m.jspiel.vanilla.RiffEditSessions;
+import com.io7m.jspiel.vanilla.RiffParsers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+public final class RiffEditSessionsTest
+{
+  private static byte[] chunk(
+    final String id,
+    final byte[] data)
+  {
+    final var padded = data.length + (data.length & 1);
+    final var buffer = ByteBuffer.allocate(8 + padded).order(LITTLE_ENDIAN);
+    buffer.put(id.getBytes(US_ASCII));
+    buffer.putInt(data.length);
+    buffer.put(data);
+    return buffer.array();
+  }
+
+  private static byte[] list(
+    final String id,
+    final String form,
+    final byte[]... chunks)
+  {
+    return chunk(id, concat(form.getBytes(US_ASCII), concat(chunks)));
+  }
+
+  private static byte[] concat(
+    final byte[]... parts)
+  {
+    final var output = new ByteArrayOutputStream();
+    for (final var part : parts) {
+      output.writeBytes(part);
+    }
+    return output.toByteArray();
+  }
+
+  private static byte[] filled(
+    final int size,
+    final int value)
+  {
+    final var data = new byte[size];
+    Arrays.fill(data, (byte) value);
+    return data;
+  }
+
+  private static RiffChunkDataWriterType writing(
+    final byte[] data)
+  {
+    return channel -> channel.write(ByteBuffer.wrap(data));
+  }
+
+  private static Path file(
+    final byte[] data)
+    throws Exception
+  {
+    final var path = Files.createTempFile("jspiel-edit-", ".riff");
+    Files.write(path, data);
+    return path;
+  }
+
+  private static RiffFileType parse(
+    final Path path)
+    throws Exception
+  {
+    return new RiffParsers()
+      .createForByteBuffer(path.toUri(), ByteBuffer.wrap(Files.readAllBytes(path)))
+      .parse();
+  }
+
+  private static RiffChunkType find(
+    final RiffFileType file,
+    final String id)
+  {
+    return file.linearizedDescendantChunks()
+      .filter(c -> id.equals(c.name().value()))
+      .findFirst()
+      .orElseThrow();
+  }
+
+  private static String layout(
+    final RiffFileType file)
+  {
+    return file.linearizedDescendantChunks()
+      .map(c -> c.name().value() + ":" + c.dataSizeIncludingForm().sizeUnpadded())
+      .collect(Collectors.joining(" "));
+  }
+
+  private static byte[] dataOf(
+    final Path path,
+    final RiffChunkType chunk)
+    throws Exception
+  {
+    final var bytes = Files.readAllBytes(path);
+    final var offset = Math.toIntExact(chunk.dataOffsetAfterForm());
+    final var size = Math.toIntExact(chunk.dataSizeExcludingForm().sizeUnpadded());
+    return Arrays.copyOfRange(bytes, offset, offset + size);
+  }
+
+  private static Path standard()
+    throws Exception
+  {
+    return file(
+      list(
+        "RIFF",
+        "TEST",
+        chunk("aaaa", filled(10, 1)),
+        chunk("bbbb", filled(20, 2)),
+        list("LIST", "INFO", chunk("INAM", filled(5, 3))),
+        chunk("dddd", filled(1000, 4))));
+  }
+
+  @Test
+  public void testDelete()
+    throws Exception
+  {
+    final var path = standard();
+    final var file = parse(path);
+
+    final var plan =
+      new RiffEditSessions()
+        .createForFile(path, file)
+        .delete(find(file, "bbbb"))
+        .commit();
+
+    Assertions.assertEquals(plan.sizeBefore() - 28L, plan.sizeAfter());
+    Assertions.assertEquals(30L, plan.octetsUnmoved());
+    Assertions.assertEquals(26L + 1008L, plan.octetsMoved());
+    Assertions.assertEquals(4L, plan.octetsWritten());
+
+    final var result = parse(path);
+    Assertions.assertEquals(plan.sizeAfter(), Files.size(path));
+    Assertions.assertEquals(
+      "RIFF:1056 aaaa:10 LIST:18 INAM:5 dddd:1000",
+      layout(result));
+    Assertions.assertArrayEquals(filled(1000, 4), dataOf(path, find(result, "dddd")));
+  }
+
+  @Test
+  public void testDryRun()
+    throws Exception
+  {
+    final var path = standard();
+    final var before = Files.readAllBytes(path);
+    final var file = parse(path);
+
+    final var plan =
+      new RiffEditSessions()
+        .createForFile(path, file)
+        .resize(find(file, "dddd"), 2000L)
+        .plan();
+
+    Assertions.assertArrayEquals(before, Files.readAllBytes(path));
+    Assertions.assertEquals(0L, plan.octetsMoved());
+    Assertions.assertEquals(before.length + 1000L, plan.sizeAfter());
+    Assertions.assertEquals(
+      RiffEditStepKind.PATCH,
+      plan.steps().get(plan.steps().size() - 1).kind());
+  }
+
+  @Test
+  public void testResize()
+    throws Exception
+  {
+    final var path = standard();
+    final var file = parse(path);
+
+    new RiffEditSessions()
+      .createForFile(path, file)
+      .resize(find(file, "aaaa"), 3L)
+      .resize(find(file, "bbbb"), 25L)
+      .commit();
+
+    final var result = parse(path);
+    Assertions.assertEquals(
+      "RIFF:1084 aaaa:3 bbbb:25 LIST:18 INAM:5 dddd:1000",
+      layout(result));
+    Assertions.assertArrayEquals(filled(3, 1), dataOf(path, find(result, "aaaa")));
+    Assertions.assertArrayEquals(
+      concat(filled(20, 2), new byte[5]),
+      dataOf(path, find(result, "bbbb")));
+  }
+
+  @Test
+  public void testInsertNested()
+    throws Exception
+  {
+    final var path = standard();
+    final var file = parse(path);
+    final var inam = find(file, "INAM");
+
+    final var plan =
+      new RiffEditSessions()
+        .createForFile(path, file)
+        .insertBefore(inam, RiffChunkID.of("IART"), 3L, writing(filled(3, 5)))
+        .insertAfter(inam, RiffChunkID.of("ICMT"), 4L, writing(filled(4, 6)))
+        .append(find(file, "LIST"), RiffChunkID.of("ISFT"), 1L, writing(filled(1, 7)))
+        .commit();
+
+    Assertions.assertEquals(plan.sizeBefore() + 12L + 12L + 10L, plan.sizeAfter());
+
+    final var result = parse(path);
+    Assertions.assertEquals(
+      "RIFF:1118 aaaa:10 bbbb:20 LIST:52 IART:3 INAM:5 ICMT:4 ISFT:1 dddd:1000",
+      layout(result));
+    Assertions.assertArrayEquals(filled(3, 5), dataOf(path, find(result, "IART")));
+    Assertions.assertArrayEquals(filled(4, 6), dataOf(path, find(result, "ICMT")));
+    Assertions.assertArrayEquals(filled(1, 7), dataOf(path, find(result, "ISFT")));
+    Assertions.assertArrayEquals(filled(1000, 4), dataOf(path, find(result, "dddd")));
+  }
+
+  @Test
+  public void testReplace()
+    throws Exception
+  {
+    final var path = standard();
+    final var file = parse(path);
+
+    new RiffEditSessions()
+      .createForFile(path, file)
+      .replace(
+        find(file, "LIST"),
+        4L + 8L + 2L,
+        writing(concat("INFO".getBytes(US_ASCII), chunk("IKEY", filled(2, 8)))))
+      .commit();
+
+    final var result = parse(path);
+    Assertions.assertEquals(
+      "RIFF:1080 aaaa:10 bbbb:20 LIST:14 IKEY:2 dddd:1000",
+      layout(result));
+  }
+
+  @Test
+  public void testNoEdits()
+    throws Exception
+  {
+    final var path = standard();
+    final var before = Files.readAllBytes(path);
+
+    final var plan =
+      new RiffEditSessions()
+        .createForFile(path, parse(path))
+        .commit();
+
+    Assertions.assertEquals(1, plan.steps().size());
+    Assertions.assertEquals(before.length, plan.octetsUnmoved());
+    Assertions.assertArrayEquals(before, Files.readAllBytes(path));
+  }
+
+  @Test
+  public void testTrailingDataPreserved()
+    throws Exception
+  {
+    final var trailing = new byte[]{1, 2, 3};
+    final var path = file(concat(
+      list("RIFF", "TEST", chunk("aaaa", filled(4, 1)), chunk("bbbb", filled(4, 2))),
+      trailing));
+    final var file = parse(path);
+
+    new RiffEditSessions()
+      .createForFile(path, file)
+      .delete(find(file, "aaaa"))
+      .commit();
+
+    final var result = parse(path);
+    Assertions.assertEquals("RIFF:16 bbbb:4", layout(result));
+    Assertions.assertEquals(3L, result.trailingData().orElseThrow().size());
+
+    final var bytes = Files.readAllBytes(path);
+    Assertions.assertArrayEquals(
+      trailing,
+      Arrays.copyOfRange(bytes, bytes.length - 3, bytes.length));
+  }
+
+  @Test
+  public void testRF64Deferred()
+    throws Exception
+  {
+    final var ds64 = ByteBuffer.allocate(28).order(LITTLE_ENDIAN);
+    ds64.putLong(0, 4L + 36L + 8L + 16L + 8L + 8L);
+    ds64.putLong(8, 8L);
+
+    final var bytes = ByteBuffer.wrap(list(
+      "RF64",
+      "WAVE",
+      chunk("ds64", ds64.array()),
+      chunk("fmt ", new byte[16]),
+      chunk("data", filled(8, 9)))).order(LITTLE_ENDIAN);
+    bytes.putInt(4, 0xffff_ffff);
+    bytes.putInt(12 + 36 + 24 + 4, 0xffff_ffff);
+
+    final var path = file(bytes.array());
+    final var file = parse(path);
+
+    new RiffEditSessions()
+      .createForFile(path, file)
+      .resize(find(file, "data"), 100L)
+      .commit();
+
+    final var written = ByteBuffer.wrap(Files.readAllBytes(path)).order(LITTLE_ENDIAN);
+    Assertions.assertEquals(0xffff_ffff, written.getInt(4));
+    Assertions.assertEquals(0xffff_ffff, written.getInt(12 + 36 + 24 + 4));
+
+    final var result = parse(path);
+    Assertions.assertEquals(
+      "RF64:172 ds64:28 fmt :16 data:100",
+      layout(result));
+    Assertions.assertArrayEquals(
+      concat(filled(8, 9), new byte[92]),
+      dataOf(path, find(result, "data")));
+  }
+
+  @Test
+  public void testEditInsideDeleted()
+    throws Exception
+  {
+    final var path = standard();
+    final var file = parse(path);
+    final var session =
+      new RiffEditSessions()
+        .createForFile(path, file)
+        .delete(find(file, "LIST"));
+
+    final var inam = find(file, "INAM");
+    Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> session.delete(inam));
+    Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> session.insertAfter(inam, RiffChunkID.of("ICMT"), 0L, writing(new byte[0])));
+  }
+
+  @Test
+  public void testEditForeignChunk()
+    throws Exception
+  {
+    final var path = standard();
+    final var other = parse(standard());
+    final var session =
+      new RiffEditSessions()
+        .createForFile(path, parse(path));
+
+    final var chunk = find(other, "aaaa");
+    Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> session.delete(chunk));
+  }
+
+  @Test
+  public void testCommitTwice()
+    throws Exception
+  {
+    final var path = standard();
+    final var session =
+      new RiffEditSessions()
+        .createForFile(path, parse(path));
+
+    session.commit();
+    Assertions.assertThrows(PreconditionViolationException.class, session::commit);
+
+    try (var files = Files.list(path.getParent())) {
+      Assertions.assertTrue(
+        files.noneMatch(p -> p.getFileName().toString().startsWith("." + path.getFileName())));
+    }
+  }
+
+  @Test
+  public void testCommitPreservesPermissions()
+    throws Exception
+  {
+    final var path = standard();
+    Assumptions.assumeTrue(
+      Files.getFileAttributeView(path, PosixFileAttributeView.class) != null);
+
+    final var permissions = PosixFilePermissions.fromString("rw-r-----");
+    Files.setPosixFilePermissions(path, permissions);
+    final var owner = Files.getOwner(path);
+
+    final var file = parse(path);
+    new RiffEditSessions()
+      .createForFile(path, file)
+      .delete(find(file, "bbbb"))
+      .commit();
+
+    Assertions.assertEquals(permissions, Files.getPosixFilePermissions(path));
+    Assertions.assertEquals(owner, Files.getOwner(path));
+    Assertions.assertEquals("RIFF:1056 aaaa:10 LIST:18 INAM:5 dddd:1000", layout(parse(path)));
+  }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.tests;
+
+import com.io7m.jspiel.api.RiffChunkID;
+import com.io7m.jspiel.api.RiffParseException;
+import com.io7m.jspiel.api.RiffWriteException;
+import com.io7m.jspiel.vanilla.RiffFileBuilders;
+import com.io7m.jspiel.vanilla.RiffParsers;
+import com.io7m.jspiel.vanilla.RiffWriters;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+public final class RiffJFREventsTest
+{
+  private static Path writeSample()
+    throws Exception
+  {
+    final var temp = Files.createTempFile("riffevents-", ".riff");
+    final var builder = new RiffFileBuilders().create(LITTLE_ENDIAN);
+    try (var root = builder.setRootChunk(RiffChunkID.of("RIFF"), "TEST")) {
+      try (var c = root.addSubChunk(RiffChunkID.of("AAAA"))) {
+        c.setDataWriter(data -> data.write(ByteBuffer.allocate(13)));
+      }
+      try (var c = root.addSubChunk(RiffChunkID.of("BBBB"))) {
+        c.setSize(27L);
+        c.setDataWriter(data -> data.write(ByteBuffer.allocate(27)));
+      }
+    }
+
+    try (var channel = FileChannel.open(temp, TRUNCATE_EXISTING, WRITE, CREATE, READ)) {
+      new RiffWriters()
+        .createForChannel(URI.create("urn:file"), builder.build(), channel)
+        .write();
+    }
+    return temp;
+  }
+
+  private static List<RecordedEvent> named(
+    final List<RecordedEvent> events,
+    final String name)
+  {
+    return events.stream()
+      .filter(e -> name.equals(e.getEventType().getName()))
+      .collect(Collectors.toList());
+  }
+
+  @Test
+  public void testEvents()
+    throws Exception
+  {
+    final var dump = Files.createTempFile("riffevents-", ".jfr");
+
+    final Path file;
+    try (var recording = new Recording()) {
+      recording.enable("com.io7m.jspiel.Parse").withoutThreshold();
+      recording.enable("com.io7m.jspiel.Write").withoutThreshold();
+      recording.enable("com.io7m.jspiel.ChunkDataWrite").withoutThreshold();
+      recording.start();
+
+      file = writeSample();
+      try (var channel = FileChannel.open(file, READ)) {
+        final var map = channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
+        new RiffParsers().createForByteBuffer(URI.create("urn:file"), map).parse();
+      }
+
+      recording.stop();
+      recording.dump(dump);
+    }
+
+    final var events = RecordingFile.readAllEvents(dump);
+
+    final var parses = named(events, "com.io7m.jspiel.Parse");
+    Assertions.assertEquals(1, parses.size());
+    Assertions.assertEquals("urn:file", parses.get(0).getString("source"));
+    Assertions.assertEquals("LITTLE_ENDIAN", parses.get(0).getString("byteOrder"));
+    Assertions.assertEquals(3L, parses.get(0).getLong("chunks"));
+    Assertions.assertEquals(Files.size(file), parses.get(0).getLong("size"));
+    Assertions.assertFalse(parses.get(0).getBoolean("failed"));
+
+    final var writes = named(events, "com.io7m.jspiel.Write");
+    Assertions.assertEquals(1, writes.size());
+    Assertions.assertEquals("LITTLE_ENDIAN", writes.get(0).getString("byteOrder"));
+    Assertions.assertEquals(3L, writes.get(0).getLong("chunks"));
+    Assertions.assertEquals(Files.size(file), writes.get(0).getLong("size"));
+    Assertions.assertFalse(writes.get(0).getBoolean("failed"));
+
+    final var data = named(events, "com.io7m.jspiel.ChunkDataWrite");
+    Assertions.assertEquals(2, data.size());
+    Assertions.assertEquals("AAAA", data.get(0).getString("chunk"));
+    Assertions.assertEquals(-1L, data.get(0).getLong("declaredSize"));
+    Assertions.assertEquals(13L, data.get(0).getLong("size"));
+    Assertions.assertEquals("BBBB", data.get(1).getString("chunk"));
+    Assertions.assertEquals(27L, data.get(1).getLong("declaredSize"));
+    Assertions.assertEquals(27L, data.get(1).getLong("size"));
+  }
+
+  @Test
+  public void testEventsForFailures()
+    throws Exception
+  {
+    final var dump = Files.createTempFile("riffevents-", ".jfr");
+    final var temp = Files.createTempFile("riffevents-", ".riff");
+
+    final var builder = new RiffFileBuilders().create(LITTLE_ENDIAN);
+    try (var root = builder.setRootChunk(RiffChunkID.of("RIFF"), "TEST")) {
+      try (var c = root.addSubChunk(RiffChunkID.of("AAAA"))) {
+        c.setDataWriter(data -> {
+          throw new IOException("Failed!");
+        });
+      }
+    }
+
+    try (var recording = new Recording()) {
+      recording.enable("com.io7m.jspiel.Parse").withoutThreshold();
+      recording.enable("com.io7m.jspiel.Write").withoutThreshold();
+      recording.enable("com.io7m.jspiel.ChunkDataWrite").withoutThreshold();
+      recording.start();
+
+      try (var channel = FileChannel.open(temp, TRUNCATE_EXISTING, WRITE, CREATE, READ)) {
+        final var writer =
+          new RiffWriters().createForChannel(URI.create("urn:write"), builder.build(), channel);
+        Assertions.assertThrows(RiffWriteException.class, writer::write);
+      }
+
+      final var parser =
+        new RiffParsers().createForByteBuffer(
+          URI.create("urn:parse"), ByteBuffer.wrap("RIFF".getBytes(US_ASCII)));
+      Assertions.assertThrows(RiffParseException.class, parser::parse);
+
+      recording.stop();
+      recording.dump(dump);
+    }
+
+    final var events = RecordingFile.readAllEvents(dump);
+
+    final var parses = named(events, "com.io7m.jspiel.Parse");
+    Assertions.assertEquals(1, parses.size());
+    Assertions.assertEquals("urn:parse", parses.get(0).getString("source"));
+    Assertions.assertTrue(parses.get(0).getBoolean("failed"));
+
+    final var writes = named(events, "com.io7m.jspiel.Write");
+    Assertions.assertEquals(1, writes.size());
+    Assertions.assertEquals("urn:write", writes.get(0).getString("source"));
+    Assertions.assertTrue(writes.get(0).getBoolean("failed"));
+
+    final var data = named(events, "com.io7m.jspiel.ChunkDataWrite");
+    Assertions.assertEquals(1, data.size());
+    Assertions.assertEquals("AAAA", data.get(0).getString("chunk"));
+    Assertions.assertEquals(-1L, data.get(0).getLong("size"));
+    Assertions.assertTrue(data.get(0).getBoolean("failed"));
+  }
+
+  @Test
+  public void testNoEventsWhenDisabled()
+    throws Exception
+  {
+    final var dump = Files.createTempFile("riffevents-", ".jfr");
+
+    try (var recording = new Recording()) {
+      recording.enable("com.io7m.jspiel.Parse").withoutThreshold();
+      recording.disable("com.io7m.jspiel.Write");
+      recording.disable("com.io7m.jspiel.ChunkDataWrite");
+      recording.start();
+
+      writeSample();
+
+      recording.stop();
+      recording.dump(dump);
+    }
+
+    final var events =
+      RecordingFile.readAllEvents(dump)
+        .stream()
+        .filter(e -> e.getEventType().getName().startsWith("com.io7m.jspiel."))
+        .collect(Collectors.toList());
+
+    Assertions.assertEquals(List.of(), events);
+  }
+}
@@ -0,0 +1,399 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.tests;
+
+import com.io7m.jspiel.api.RiffChunkID;
+import com.io7m.jspiel.api.RiffFileWriterDescriptionType;
+import com.io7m.jspiel.api.RiffMetricsListenerType;
+import com.io7m.jspiel.api.RiffMetricsListeners;
+import com.io7m.jspiel.api.RiffParseMetrics;
+import com.io7m.jspiel.api.RiffWriteMetrics;
+import com.io7m.jspiel.vanilla.RiffFileBuilders;
+import com.io7m.jspiel.vanilla.RiffMetricsJFR;
+import com.io7m.jspiel.vanilla.RiffParsers;
+import com.io7m.jspiel.vanilla.RiffWriters;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+public final class RiffMetricsTest
+{
+  private static byte[] chunk(
+    final String id,
+    final byte[] data)
+  {
+    final var padded = data.length + (data.length & 1);
+    final var buffer = ByteBuffer.allocate(8 + padded).order(LITTLE_ENDIAN);
+    buffer.put(id.getBytes(US_ASCII));
+    buffer.putInt(data.length);
+    buffer.put(data);
+    return buffer.array();
+  }
+
+  private static byte[] list(
+    final String id,
+    final String form,
+    final byte[]... chunks)
+  {
+    final var output = new ByteArrayOutputStream();
+    output.writeBytes(form.getBytes(US_ASCII));
+    for (final var c : chunks) {
+      output.writeBytes(c);
+    }
+    return chunk(id, output.toByteArray());
+  }
+
+  private static byte[] sample()
+  {
+    return list(
+      "RIFF",
+      "TEST",
+      chunk("abc ", "abc".getBytes(US_ASCII)),
+      list("LIST", "INFO", chunk("INAM", new byte[7])));
+  }
+
+  private static void writeAll(
+    final SeekableByteChannel channel,
+    final int size)
+    throws IOException
+  {
+    final var buffer = ByteBuffer.allocate(size);
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+
+  private static RiffFileWriterDescriptionType description()
+    throws Exception
+  {
+    final var builder = new RiffFileBuilders().create(LITTLE_ENDIAN);
+    try (var root = builder.setRootChunk(RiffChunkID.of("RIFF"), "TEST")) {
+      try (var c = root.addSubChunk(RiffChunkID.of("AAAA"))) {
+        c.setDataWriter(data -> writeAll(data, 13));
+      }
+      try (var c = root.addSubChunk(RiffChunkID.of("BBBB"))) {
+        c.setSize(27L);
+        c.setDataWriter(data -> writeAll(data, 27));
+      }
+    }
+    return builder.build();
+  }
+
+  /**
+   * A channel that accepts at most three octets per write.
+   */
+
+  private static final class TrickleChannel implements SeekableByteChannel
+  {
+    private final SeekableByteChannel delegate;
+
+    TrickleChannel(
+      final SeekableByteChannel in_delegate)
+    {
+      this.delegate = in_delegate;
+    }
+
+    @Override
+    public int read(
+      final ByteBuffer dst)
+      throws IOException
+    {
+      return this.delegate.read(dst);
+    }
+
+    @Override
+    public int write(
+      final ByteBuffer src)
+      throws IOException
+    {
+      final var slice = src.slice();
+      slice.limit(Math.min(3, slice.remaining()));
+      final var wrote = this.delegate.write(slice);
+      src.position(src.position() + wrote);
+      return wrote;
+    }
+
+    @Override
+    public long position()
+      throws IOException
+    {
+      return this.delegate.position();
+    }
+
+    @Override
+    public SeekableByteChannel position(
+      final long newPosition)
+      throws IOException
+    {
+      this.delegate.position(newPosition);
+      return this;
+    }
+
+    @Override
+    public long size()
+      throws IOException
+    {
+      return this.delegate.size();
+    }
+
+    @Override
+    public SeekableByteChannel truncate(
+      final long size)
+      throws IOException
+    {
+      this.delegate.truncate(size);
+      return this;
+    }
+
+    @Override
+    public boolean isOpen()
+    {
+      return this.delegate.isOpen();
+    }
+
+    @Override
+    public void close()
+      throws IOException
+    {
+      this.delegate.close();
+    }
+  }
+
+  private static final class Recorder implements RiffMetricsListenerType
+  {
+    private final List<RiffParseMetrics> parses = new ArrayList<>();
+    private final List<RiffWriteMetrics> writes = new ArrayList<>();
+    private final boolean enabled;
+
+    Recorder()
+    {
+      this(true);
+    }
+
+    Recorder(
+      final boolean in_enabled)
+    {
+      this.enabled = in_enabled;
+    }
+
+    @Override
+    public boolean isEnabled()
+    {
+      return this.enabled;
+    }
+
+    @Override
+    public void onParseCompleted(
+      final RiffParseMetrics metrics)
+    {
+      this.parses.add(metrics);
+    }
+
+    @Override
+    public void onWriteCompleted(
+      final RiffWriteMetrics metrics)
+    {
+      this.writes.add(metrics);
+    }
+  }
+
+  @Test
+  public void testParseMetrics()
+    throws Exception
+  {
+    final var data = sample();
+    final var recorder = new Recorder();
+    final var file =
+      new RiffParsers(recorder)
+        .createForByteBuffer(URI.create("urn:file"), ByteBuffer.wrap(data))
+        .parse();
+
+    Assertions.assertEquals(4L, file.linearizedDescendantChunks().count());
+    Assertions.assertEquals(1, recorder.parses.size());
+
+    final var metrics = recorder.parses.get(0);
+    Assertions.assertEquals(URI.create("urn:file"), metrics.source());
+    Assertions.assertEquals(4L, metrics.chunks());
+    Assertions.assertEquals(2, metrics.maximumDepth());
+    Assertions.assertEquals((long) data.length, metrics.octetsScanned());
+    Assertions.assertFalse(metrics.chunkTime().isNegative());
+    Assertions.assertFalse(metrics.headerTime().isNegative());
+  }
+
+  @Test
+  public void testParseMetricsStreaming()
+    throws Exception
+  {
+    final var recorder = new Recorder();
+    final var parser =
+      new RiffParsers(recorder)
+        .createForByteBuffer(URI.create("urn:file"), ByteBuffer.wrap(sample()));
+
+    final var reader = parser.openReader();
+    while (reader.next().isPresent()) {
+      Assertions.assertEquals(0, recorder.parses.size());
+    }
+    reader.next();
+
+    Assertions.assertEquals(1, recorder.parses.size());
+    Assertions.assertEquals(4L, recorder.parses.get(0).chunks());
+  }
+
+  @Test
+  public void testWriteMetrics()
+    throws Exception
+  {
+    final var temp = Files.createTempFile("riffmetrics-", ".riff");
+    final var recorder = new Recorder();
+
+    try (var channel = FileChannel.open(temp, TRUNCATE_EXISTING, WRITE, CREATE)) {
+      new RiffWriters(recorder)
+        .createForChannel(URI.create("urn:file"), description(), channel)
+        .write();
+    }
+
+    Assertions.assertEquals(1, recorder.writes.size());
+    final var metrics = recorder.writes.get(0);
+    Assertions.assertEquals(3L, metrics.chunks());
+    Assertions.assertEquals(Files.size(temp) + 3L * 4L, metrics.octetsWritten());
+    Assertions.assertEquals(0L, metrics.shortWriteRetries());
+    Assertions.assertTrue(metrics.seeks() >= 4L);
+  }
+
+  @Test
+  public void testWriteShortWritesRetried()
+    throws Exception
+  {
+    final var direct = Files.createTempFile("riffmetrics-", ".riff");
+    final var trickle = Files.createTempFile("riffmetrics-", ".riff");
+    final var recorder = new Recorder();
+
+    try (var channel = FileChannel.open(direct, TRUNCATE_EXISTING, WRITE, CREATE)) {
+      new RiffWriters()
+        .createForChannel(URI.create("urn:file"), description(), channel)
+        .write();
+    }
+
+    try (var channel =
+           new TrickleChannel(FileChannel.open(trickle, TRUNCATE_EXISTING, WRITE, CREATE))) {
+      new RiffWriters(recorder)
+        .createForChannel(URI.create("urn:file"), description(), channel)
+        .write();
+    }
+
+    Assertions.assertArrayEquals(Files.readAllBytes(direct), Files.readAllBytes(trickle));
+    Assertions.assertTrue(recorder.writes.get(0).shortWriteRetries() > 0L);
+  }
+
+  @Test
+  public void testDisabledListenerNotCalled()
+    throws Exception
+  {
+    final var temp = Files.createTempFile("riffmetrics-", ".riff");
+    final var recorder = new Recorder(false);
+
+    new RiffParsers(recorder)
+      .createForByteBuffer(URI.create("urn:file"), ByteBuffer.wrap(sample()))
+      .parse();
+
+    try (var channel = FileChannel.open(temp, TRUNCATE_EXISTING, WRITE, CREATE)) {
+      new RiffWriters(recorder)
+        .createForChannel(URI.create("urn:file"), description(), channel)
+        .write();
+    }
+
+    Assertions.assertEquals(0, recorder.parses.size());
+    Assertions.assertEquals(0, recorder.writes.size());
+    Assertions.assertFalse(RiffMetricsListeners.noop().isEnabled());
+  }
+
+  @Test
+  public void testJFREvents()
+    throws Exception
+  {
+    final var temp = Files.createTempFile("riffmetrics-", ".riff");
+    final var dump = Files.createTempFile("riffmetrics-", ".jfr");
+    final var listener = RiffMetricsJFR.get();
+
+    Assertions.assertFalse(listener.isEnabled());
+
+    try (var recording = new Recording()) {
+      recording.enable("com.io7m.jspiel.ParseMetrics");
+      recording.enable("com.io7m.jspiel.WriteMetrics");
+      recording.start();
+
+      Assertions.assertTrue(listener.isEnabled());
+
+      new RiffParsers(listener)
+        .createForByteBuffer(URI.create("urn:file"), ByteBuffer.wrap(sample()))
+        .parse();
+
+      try (var channel = FileChannel.open(temp, TRUNCATE_EXISTING, WRITE, CREATE, READ)) {
+        new RiffWriters(listener)
+          .createForChannel(URI.create("urn:file"), description(), channel)
+          .write();
+      }
+
+      recording.stop();
+      recording.dump(dump);
+    }
+
+    final var events =
+      RecordingFile.readAllEvents(dump)
+        .stream()
+        .filter(e -> e.getEventType().getName().startsWith("com.io7m.jspiel."))
+        .collect(Collectors.toList());
+
+    Assertions.assertEquals(2, events.size());
+
+    final var parse =
+      events.stream()
+        .filter(e -> "com.io7m.jspiel.ParseMetrics".equals(e.getEventType().getName()))
+        .findFirst()
+        .orElseThrow();
+    Assertions.assertEquals("urn:file", parse.getString("source"));
+    Assertions.assertEquals(4L, parse.getLong("chunks"));
+    Assertions.assertEquals(2, parse.getInt("maximumDepth"));
+
+    final var write =
+      events.stream()
+        .filter(e -> "com.io7m.jspiel.WriteMetrics".equals(e.getEventType().getName()))
+        .findFirst()
+        .orElseThrow();
+    Assertions.assertEquals(3L, write.getLong("chunks"));
+  }
+}
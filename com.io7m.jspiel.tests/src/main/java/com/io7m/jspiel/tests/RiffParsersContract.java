@@ -19,9 +19,11 @@ package com.io7m.jspiel.tests;
 import com.io7m.jspiel.api.RiffChunkID;
 import com.io7m.jspiel.api.RiffChunkType;
 import com.io7m.jspiel.api.RiffFileParserProviderType;
+import com.io7m.jspiel.api.RiffFileType;
 import com.io7m.jspiel.api.RiffFileWriterDescriptionType;
 import com.io7m.jspiel.api.RiffParseException;
 import com.io7m.jspiel.api.RiffRequiredChunkMissingException;
+import com.io7m.jspiel.api.RiffTrailingData;
 import com.io7m.jspiel.api.RiffWriteException;
 import com.io7m.jspiel.vanilla.RiffFileBuilders;
 import com.io7m.jspiel.vanilla.RiffWriters;
@@ -35,6 +37,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.util.List;
@@ -45,6 +48,7 @@ import java.util.stream.LongStream;
 
 import static java.nio.ByteOrder.BIG_ENDIAN;
 import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.charset.StandardCharsets.US_ASCII;
 import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
 import static java.nio.file.StandardOpenOption.CREATE;
 import static java.nio.file.StandardOpenOption.READ;
@@ -452,6 +456,148 @@ public abstract class RiffParsersContract
     Assertions.assertTrue(ex.getMessage().contains("truncated or does not match declared size"));
   }
 
+  private static ByteBuffer formChunks(
+    final ByteOrder order,
+    final String... chunks)
+  {
+    final var data = ByteBuffer.allocate(chunks.length * 12).order(order);
+    for (final var chunk : chunks) {
+      final var parts = chunk.split(":");
+      data.put(parts[0].getBytes(US_ASCII));
+      data.putInt(4);
+      data.put(parts[1].getBytes(US_ASCII));
+    }
+    return data.flip();
+  }
+
+  @Test
+  public final void testMultipleRIFF()
+    throws Exception
+  {
+    final var parsers = this.parsers();
+    final var data = formChunks(LITTLE_ENDIAN, "RIFF:AVI ", "RIFF:AVIX", "RIFF:AVIX");
+    final var parser = parsers.createForByteBuffer(URI.create("urn:multi"), data);
+    final var file = parser.parse();
+
+    Assertions.assertEquals(3, file.chunks().size());
+    Assertions.assertEquals(Optional.of("AVI "), file.chunks().get(0).formType());
+    Assertions.assertEquals(Optional.of("AVIX"), file.chunks().get(1).formType());
+    Assertions.assertEquals(24L, file.chunks().get(2).offset());
+  }
+
+  @Test
+  public final void testMultipleRIFXMixed()
+    throws Exception
+  {
+    final var parsers = this.parsers();
+    final var data = formChunks(BIG_ENDIAN, "RIFX:AVI ", "FFIR:AVIX");
+    final var parser = parsers.createForByteBuffer(URI.create("urn:multi"), data);
+    final var file = parser.parse();
+    Assertions.assertEquals(2, file.chunks().size());
+  }
+
+  @Test
+  public final void testMultipleRIFFNotRIFF()
+    throws Exception
+  {
+    final var parsers = this.parsers();
+    final var data = formChunks(LITTLE_ENDIAN, "RIFF:AVI ", "LIST:AVIX");
+    final var parser = parsers.createForByteBuffer(URI.create("urn:multi"), data);
+    final var file = parser.parse();
+
+    Assertions.assertEquals(1, file.chunks().size());
+    Assertions.assertEquals(Optional.of(RiffTrailingData.of(12L, 12L)), file.trailingData());
+  }
+
+  @Test
+  public final void testMultipleRIFFMismatchedOrder()
+    throws Exception
+  {
+    final var parsers = this.parsers();
+    final var data = formChunks(BIG_ENDIAN, "RIFX:AVI ", "RIFF:AVIX");
+    final var parser = parsers.createForByteBuffer(URI.create("urn:multi"), data);
+    final var file = parser.parse();
+
+    Assertions.assertEquals(1, file.chunks().size());
+    Assertions.assertEquals(Optional.of(RiffTrailingData.of(12L, 12L)), file.trailingData());
+  }
+
+  @Test
+  public final void testTrailingJunk()
+    throws Exception
+  {
+    final var parsers = this.parsers();
+    final var chunks = formChunks(LITTLE_ENDIAN, "RIFF:AVI ", "RIFF:AVIX");
+    final var data = ByteBuffer.allocate(chunks.remaining() + 5);
+    data.put(chunks);
+    data.put(new byte[]{1, 2, 3, 4, 5});
+    data.flip();
+
+    final var file = parsers.createForByteBuffer(URI.create("urn:junk"), data).parse();
+    Assertions.assertEquals(2, file.chunks().size());
+    Assertions.assertEquals(Optional.of(RiffTrailingData.of(24L, 5L)), file.trailingData());
+  }
+
+  @Test
+  public final void testTrailingTruncatedRIFF()
+    throws Exception
+  {
+    final var parsers = this.parsers();
+    final var data = formChunks(LITTLE_ENDIAN, "RIFF:AVI ", "RIFF:AVIX");
+    data.putInt(16, 1000);
+
+    final var file = parsers.createForByteBuffer(URI.create("urn:junk"), data).parse();
+    Assertions.assertEquals(1, file.chunks().size());
+    Assertions.assertEquals(Optional.of(RiffTrailingData.of(12L, 12L)), file.trailingData());
+  }
+
+  @Test
+  public final void testNoTrailingData()
+    throws Exception
+  {
+    final var data = copyToByteBuffer("complex0.sf2");
+    final var file = this.parsers().createForByteBuffer(URI.create("complex0.sf2"), data).parse();
+    Assertions.assertEquals(Optional.empty(), file.trailingData());
+  }
+
+  @Test
+  public final void testReader()
+    throws Exception
+  {
+    final var parsers = this.parsers();
+    final var data = formChunks(BIG_ENDIAN, "RIFX:AVI ", "RIFX:AVIX", "FFIR:AVIX", "LIST:junk");
+    final var reader = parsers.createForByteBuffer(URI.create("urn:multi"), data).openReader();
+
+    Assertions.assertEquals(BIG_ENDIAN, reader.byteOrder());
+    Assertions.assertEquals(0L, reader.next().orElseThrow().offset());
+    Assertions.assertEquals(12L, reader.next().orElseThrow().offset());
+    Assertions.assertEquals(Optional.empty(), reader.trailingData());
+    Assertions.assertEquals(24L, reader.next().orElseThrow().offset());
+    Assertions.assertEquals(Optional.empty(), reader.next());
+    Assertions.assertEquals(Optional.empty(), reader.next());
+    Assertions.assertEquals(Optional.of(RiffTrailingData.of(36L, 12L)), reader.trailingData());
+  }
+
+  @Test
+  public final void testReaderTruncatedFirst()
+    throws Exception
+  {
+    final var parsers = this.parsers();
+    final var data = formChunks(LITTLE_ENDIAN, "RIFF:AVI ");
+    data.putInt(4, 1000);
+
+    final var reader = parsers.createForByteBuffer(URI.create("urn:multi"), data).openReader();
+    Assertions.assertThrows(RiffParseException.class, reader::next);
+  }
+
+  @Test
+  public final void testReaderEmpty()
+  {
+    final var parsers = this.parsers();
+    final var parser = parsers.createForByteBuffer(URI.create("urn:empty"), ByteBuffer.allocate(2));
+    Assertions.assertThrows(RiffParseException.class, parser::openReader);
+  }
+
   /**
    * Try various corrupted RIFF files. Essentially, this checks that corrupted files never cause
    * the parser to throw unchecked exceptions (indicating some sort of internal invariant
@@ -484,6 +630,58 @@ public abstract class RiffParsersContract
       .collect(Collectors.toList());
   }
 
+  /**
+   * Parsing from a channel produces the same result as parsing from a byte buffer, for both
+   * valid and corrupted files.
+   */
+
+  @TestFactory
+  public final List<DynamicTest> testChannelMatchesByteBuffer()
+    throws IOException
+  {
+    final var path = Files.createTempFile("jspiel-parse-channel-", ".riff");
+    return LongStream.range(0L, 1_000L)
+      .mapToObj(seed -> {
+        final var name = "testChannelMatchesByteBufferWithSeed" + seed;
+        return DynamicTest.dynamicTest(name, () -> {
+          final var source = copyToByteBuffer("complex0.sf2");
+          final var data = seed == 0L ? source : corruptMap(this.logger(), source, seed);
+          final var bytes = new byte[data.remaining()];
+          data.duplicate().get(bytes);
+          Files.write(path, bytes);
+
+          final var parsers = this.parsers();
+          final var expected = describeParse(
+            () -> parsers.createForByteBuffer(URI.create(name), ByteBuffer.wrap(bytes)).parse());
+          try (var channel = FileChannel.open(path, READ)) {
+            final var received = describeParse(
+              () -> parsers.createForChannel(URI.create(name), channel).parse());
+            Assertions.assertEquals(expected, received);
+          }
+        });
+      })
+      .collect(Collectors.toList());
+  }
+
+  private interface ParseType
+  {
+    RiffFileType parse()
+      throws RiffParseException;
+  }
+
+  private static String describeParse(
+    final ParseType parse)
+  {
+    try {
+      final var file = parse.parse();
+      return file.byteOrder() + " " + file.trailingData() + " " + file.linearizedDescendantChunks()
+        .map(c -> c.name().value() + c.formType() + "@" + c.offset() + ":" + c.dataSizeIncludingForm())
+        .collect(Collectors.joining(" "));
+    } catch (final RiffParseException e) {
+      return "error @" + e.offset() + ": " + e.getMessage();
+    }
+  }
+
   private static ByteBuffer corruptMap(
     final Logger logger,
     final ByteBuffer map,
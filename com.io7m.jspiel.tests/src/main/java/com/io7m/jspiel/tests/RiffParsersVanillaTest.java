@@ -17,10 +17,28 @@
 package com.io7m.jspiel.tests;
 
 import com.io7m.jspiel.api.RiffFileParserProviderType;
+import com.io7m.jspiel.api.RiffFileParserType;
+import com.io7m.jspiel.api.RiffMetricsListeners;
+import com.io7m.jspiel.api.RiffParseException;
+import com.io7m.jspiel.api.RiffTrailingData;
+import com.io7m.jspiel.api.RiffTrailingDataPolicy;
 import com.io7m.jspiel.vanilla.RiffParsers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.util.Optional;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
 public final class RiffParsersVanillaTest extends RiffParsersContract
 {
   @Override
@@ -34,4 +52,134 @@ public final class RiffParsersVanillaTest extends RiffParsersContract
   {
     return new RiffParsers();
   }
+
+  private static RiffParsers strict()
+  {
+    return new RiffParsers(RiffMetricsListeners.noop(), RiffTrailingDataPolicy.REJECT);
+  }
+
+  private static ByteBuffer riffThen(
+    final byte[] trailing)
+  {
+    final var data = ByteBuffer.allocate(12 + trailing.length).order(LITTLE_ENDIAN);
+    data.put("RIFF".getBytes(US_ASCII));
+    data.putInt(4);
+    data.put("AVI ".getBytes(US_ASCII));
+    data.put(trailing);
+    return data.flip();
+  }
+
+  /**
+   * Trailing garbage fails the parse when the parser rejects trailing data.
+   */
+
+  @Test
+  public void testTrailingJunkRejected()
+    throws Exception
+  {
+    final var data = riffThen(new byte[]{1, 2, 3, 4, 5});
+    final var report =
+      new RiffParsers().createForByteBuffer(URI.create("urn:junk"), data.duplicate()).parse();
+    Assertions.assertEquals(Optional.of(RiffTrailingData.of(12L, 5L)), report.trailingData());
+
+    final var parser = strict().createForByteBuffer(URI.create("urn:junk"), data);
+    final var ex = Assertions.assertThrows(RiffParseException.class, parser::parse);
+    this.logger().debug("exception: ", ex);
+    Assertions.assertEquals(12L, ex.offset());
+  }
+
+  /**
+   * A non-RIFF top-level chunk fails the parse when the parser rejects trailing data.
+   */
+
+  @Test
+  public void testTrailingChunkRejected()
+    throws Exception
+  {
+    final var list = ByteBuffer.allocate(12).order(LITTLE_ENDIAN);
+    list.put("LIST".getBytes(US_ASCII));
+    list.putInt(4);
+    list.put("junk".getBytes(US_ASCII));
+
+    final var data = riffThen(list.array());
+    final var reader = strict().createForByteBuffer(URI.create("urn:list"), data).openReader();
+    Assertions.assertEquals(0L, reader.next().orElseThrow().offset());
+    final var ex = Assertions.assertThrows(RiffParseException.class, reader::next);
+    Assertions.assertEquals(12L, ex.offset());
+  }
+
+  /**
+   * A file without trailing data parses identically under either policy.
+   */
+
+  @Test
+  public void testTrailingNoneStrict()
+    throws Exception
+  {
+    final var file =
+      strict().createForByteBuffer(URI.create("urn:ok"), riffThen(new byte[0])).parse();
+    Assertions.assertEquals(1, file.chunks().size());
+    Assertions.assertEquals(Optional.empty(), file.trailingData());
+  }
+
+  /**
+   * Parsers that only implement parse() still provide a reader.
+   */
+
+  @Test
+  public void testOpenReaderDefault()
+    throws Exception
+  {
+    final var file =
+      new RiffParsers()
+        .createForByteBuffer(URI.create("urn:junk"), riffThen(new byte[]{1, 2, 3}))
+        .parse();
+
+    final RiffFileParserType parser = () -> file;
+    final var reader = parser.openReader();
+    Assertions.assertEquals(LITTLE_ENDIAN, reader.byteOrder());
+    Assertions.assertEquals(file.chunks().get(0), reader.next().orElseThrow());
+    Assertions.assertEquals(Optional.empty(), reader.next());
+    Assertions.assertEquals(Optional.of(RiffTrailingData.of(12L, 3L)), reader.trailingData());
+  }
+
+  /**
+   * Files larger than the largest byte buffer can be parsed from a channel. The file is sparse,
+   * so the test does not require gigabytes of storage.
+   */
+
+  @Test
+  public void testChannelLargerThanByteBuffer()
+    throws Exception
+  {
+    final var data_size = 3L * 1024L * 1024L * 1024L;
+    final var header = ByteBuffer.allocate(28).order(LITTLE_ENDIAN);
+    header.put("RIFF".getBytes(US_ASCII));
+    header.putInt((int) (20L + data_size));
+    header.put("WAVE".getBytes(US_ASCII));
+    header.put("aaaa".getBytes(US_ASCII));
+    header.putInt(0);
+    header.put("data".getBytes(US_ASCII));
+    header.putInt((int) data_size);
+    header.flip();
+
+    final var path = Files.createTempFile("jspiel-parse-large-", ".wav");
+    try {
+      try (var channel = FileChannel.open(path, WRITE)) {
+        channel.write(header);
+        channel.write(ByteBuffer.allocate(1), 28L + data_size - 1L);
+      }
+
+      try (var channel = FileChannel.open(path, READ)) {
+        final var file =
+          new RiffParsers().createForChannel(path.toUri(), channel).parse();
+        final var data = file.chunks().get(0).findRequiredSubChunk("data");
+        Assertions.assertEquals(28L, data.dataOffset());
+        Assertions.assertEquals(data_size, data.dataSizeIncludingForm().size());
+        Assertions.assertEquals(Optional.empty(), file.trailingData());
+      }
+    } finally {
+      Files.deleteIfExists(path);
+    }
+  }
 }
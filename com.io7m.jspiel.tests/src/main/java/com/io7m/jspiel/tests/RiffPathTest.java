@@ -0,0 +1,198 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.tests;
+
+import com.io7m.jspiel.api.RiffChunkType;
+import com.io7m.jspiel.api.RiffFileType;
+import com.io7m.jspiel.api.RiffPath;
+import com.io7m.jspiel.api.RiffRequiredChunkMissingException;
+import com.io7m.jspiel.vanilla.RiffParsers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+public final class RiffPathTest
+{
+  private static byte[] chunk(
+    final String id,
+    final byte[] data)
+  {
+    final var padded = data.length + (data.length & 1);
+    final var buffer = ByteBuffer.allocate(8 + padded).order(LITTLE_ENDIAN);
+    buffer.put(id.getBytes(US_ASCII));
+    buffer.putInt(data.length);
+    buffer.put(data);
+    return buffer.array();
+  }
+
+  private static byte[] list(
+    final String id,
+    final String form,
+    final byte[]... chunks)
+  {
+    final var output = new ByteArrayOutputStream();
+    output.writeBytes(form.getBytes(US_ASCII));
+    for (final var c : chunks) {
+      output.writeBytes(c);
+    }
+    return chunk(id, output.toByteArray());
+  }
+
+  private static RiffFileType file()
+    throws Exception
+  {
+    final var data = list(
+      "RIFF",
+      "sfbk",
+      list("LIST", "INFO", chunk("ifil", new byte[4]), chunk("INAM", new byte[3])),
+      list("LIST", "sdta", chunk("smpl", new byte[10])),
+      list(
+        "LIST",
+        "pdta",
+        chunk("phdr", new byte[1]),
+        chunk("shdr", new byte[2]),
+        list("LIST", "deep", chunk("shdr", new byte[5]), list("LIST", "INFO")),
+        chunk("shdr", new byte[6])));
+
+    return new RiffParsers()
+      .createForByteBuffer(URI.create("urn:test"), ByteBuffer.wrap(data))
+      .parse();
+  }
+
+  private static String describe(
+    final List<RiffChunkType> chunks)
+  {
+    return chunks.stream()
+      .map(c -> c.name().value().trim()
+        + c.formType().map(f -> "(" + f + ")").orElse("")
+        + ":" + c.dataSizeExcludingForm().sizeUnpadded())
+      .collect(Collectors.joining(" "));
+  }
+
+  private static String select(
+    final String path)
+    throws Exception
+  {
+    return describe(RiffPath.compile(path).select(file()));
+  }
+
+  @Test
+  public void testChildren()
+    throws Exception
+  {
+    Assertions.assertEquals("shdr:2 shdr:6", select("RIFF(sfbk)/LIST(pdta)/shdr"));
+    Assertions.assertEquals("shdr:2 shdr:6", select("/RIFF(sfbk)/LIST(pdta)/shdr"));
+    Assertions.assertEquals("smpl:10", select("RIFF/LIST/smpl"));
+    Assertions.assertEquals("", select("RIFF(WAVE)/LIST"));
+  }
+
+  @Test
+  public void testWildcards()
+    throws Exception
+  {
+    Assertions.assertEquals("ifil:4 INAM:3", select("*/LIST(INFO)/*"));
+    Assertions.assertEquals(
+      "LIST(INFO):24 LIST(sdta):18 LIST(pdta):72", select("RIFF/*(*)"));
+    Assertions.assertEquals(
+      "phdr:1 shdr:2 LIST(deep):26 shdr:6", select("RIFF/LIST(pdta)/*"));
+  }
+
+  @Test
+  public void testDescendants()
+    throws Exception
+  {
+    Assertions.assertEquals("shdr:2 shdr:5 shdr:6", select("//shdr"));
+    Assertions.assertEquals("shdr:2 shdr:5 shdr:6", select("RIFF//shdr"));
+    Assertions.assertEquals("shdr:5", select("RIFF//LIST(deep)/shdr"));
+    Assertions.assertEquals("LIST(INFO):24 LIST(INFO):0", select("//LIST(INFO)"));
+    Assertions.assertEquals("LIST(INFO):0", select("//LIST(pdta)//LIST(INFO)"));
+  }
+
+  @Test
+  public void testDescendantsNoDuplicates()
+    throws Exception
+  {
+    final var file = file();
+    Assertions.assertEquals(
+      describe(file.linearizedDescendantChunks().collect(Collectors.toList())),
+      describe(RiffPath.compile("//*").select(file)));
+    Assertions.assertEquals(
+      "ifil:4 INAM:3 smpl:10 phdr:1 shdr:2 LIST(deep):26 shdr:5 LIST(INFO):0 shdr:6",
+      select("//LIST//*"));
+    Assertions.assertEquals(
+      "shdr:5 LIST(INFO):0",
+      select("//LIST//LIST//*"));
+  }
+
+  @Test
+  public void testIndices()
+    throws Exception
+  {
+    Assertions.assertEquals("shdr:2", select("RIFF/LIST(pdta)/shdr[0]"));
+    Assertions.assertEquals("shdr:6", select("RIFF/LIST(pdta)/shdr[1]"));
+    Assertions.assertEquals("", select("RIFF/LIST(pdta)/shdr[2]"));
+    Assertions.assertEquals("LIST(sdta):18", select("RIFF/LIST[1]"));
+  }
+
+  @Test
+  public void testSelectRequired()
+    throws Exception
+  {
+    final var file = file();
+    Assertions.assertEquals(
+      "smpl", RiffPath.compile("//smpl").selectRequired(file).name().value());
+    Assertions.assertThrows(
+      RiffRequiredChunkMissingException.class,
+      () -> RiffPath.compile("//nope").selectRequired(file));
+  }
+
+  @Test
+  public void testEquality()
+  {
+    Assertions.assertEquals(RiffPath.compile("//shdr"), RiffPath.compile("//shdr"));
+    Assertions.assertNotEquals(RiffPath.compile("//shdr"), RiffPath.compile("//phdr"));
+    Assertions.assertEquals("//shdr", RiffPath.compile("//shdr").toString());
+  }
+
+  @Test
+  public void testMalformed()
+  {
+    for (final var text : List.of(
+      "",
+      "/",
+      "RIFF/",
+      "RIFF///data",
+      "RIFF(",
+      "RIFF()",
+      "toolong",
+      "data[01]",
+      "data[-1]",
+      "da*a")) {
+      Assertions.assertThrows(
+        IllegalArgumentException.class, () -> RiffPath.compile(text), text);
+    }
+  }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.tests;
+
+import com.io7m.jaffirm.core.PreconditionViolationException;
+import com.io7m.jspiel.api.RiffChunkID;
+import com.io7m.jspiel.api.RiffOutOfBoundsException;
+import com.io7m.jspiel.api.RiffStructField;
+import com.io7m.jspiel.api.RiffStructSchema;
+import com.io7m.jspiel.api.RiffStructView;
+import com.io7m.jspiel.api.RiffStructs;
+import com.io7m.jspiel.vanilla.RiffFileBuilders;
+import com.io7m.jspiel.vanilla.RiffParsers;
+import com.io7m.jspiel.vanilla.RiffWriters;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+
+import static com.io7m.jspiel.api.RiffStructFieldKind.F32;
+import static com.io7m.jspiel.api.RiffStructFieldKind.F64;
+import static com.io7m.jspiel.api.RiffStructFieldKind.FOURCC;
+import static com.io7m.jspiel.api.RiffStructFieldKind.S16;
+import static com.io7m.jspiel.api.RiffStructFieldKind.S64;
+import static com.io7m.jspiel.api.RiffStructFieldKind.S8;
+import static com.io7m.jspiel.api.RiffStructFieldKind.U16;
+import static com.io7m.jspiel.api.RiffStructFieldKind.U32;
+import static com.io7m.jspiel.api.RiffStructFieldKind.U8;
+import static java.nio.ByteOrder.BIG_ENDIAN;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+public final class RiffStructsTest
+{
+  private static final RiffStructSchema CUE =
+    RiffStructSchema.builder()
+      .addFields(RiffStructField.of("identifier", U32, 0))
+      .addFields(RiffStructField.of("position", U32, 4))
+      .addFields(RiffStructField.of("chunk", FOURCC, 8))
+      .addFields(RiffStructField.of("sampleOffset", S16, 12))
+      .setSize(16)
+      .build();
+
+  private static final RiffStructField CUE_IDENTIFIER = CUE.field("identifier");
+  private static final RiffStructField CUE_POSITION = CUE.field("position");
+  private static final RiffStructField CUE_CHUNK = CUE.field("chunk");
+  private static final RiffStructField CUE_OFFSET = CUE.field("sampleOffset");
+
+  private static final RiffStructSchema ALL =
+    RiffStructSchema.builder()
+      .addFields(RiffStructField.of("u8", U8, 0))
+      .addFields(RiffStructField.of("s8", S8, 1))
+      .addFields(RiffStructField.of("u16", U16, 2))
+      .addFields(RiffStructField.of("u32", U32, 4))
+      .addFields(RiffStructField.of("s64", S64, 8))
+      .addFields(RiffStructField.of("f32", F32, 16))
+      .addFields(RiffStructField.of("f64", F64, 20))
+      .build();
+
+  @Test
+  public void testSchemaSize()
+  {
+    Assertions.assertEquals(16, CUE.size());
+    Assertions.assertEquals(28, ALL.size());
+    Assertions.assertEquals(12, CUE_OFFSET.offset());
+    Assertions.assertThrows(IllegalArgumentException.class, () -> CUE.field("nonexistent"));
+  }
+
+  @Test
+  public void testSchemaDuplicateNames()
+  {
+    Assertions.assertThrows(PreconditionViolationException.class, () -> {
+      RiffStructSchema.builder()
+        .addFields(RiffStructField.of("x", U8, 0))
+        .addFields(RiffStructField.of("x", U8, 1))
+        .build();
+    });
+  }
+
+  @Test
+  public void testSchemaTooSmall()
+  {
+    Assertions.assertThrows(PreconditionViolationException.class, () -> {
+      RiffStructSchema.builder()
+        .addFields(RiffStructField.of("x", U32, 0))
+        .setSize(2)
+        .build();
+    });
+  }
+
+  @Test
+  public void testRoundTripByteOrders()
+  {
+    for (final var order : new ByteOrder[]{LITTLE_ENDIAN, BIG_ENDIAN}) {
+      final var buffer = ByteBuffer.allocate(32).order(LITTLE_ENDIAN);
+      final var view = new RiffStructView(ALL).wrap(buffer, order, 4);
+      view.putLong(ALL.field("u8"), 0xfeL)
+        .putLong(ALL.field("s8"), -3L)
+        .putLong(ALL.field("u16"), 0xfedcL)
+        .putLong(ALL.field("u32"), 0xfedc_ba98L)
+        .putLong(ALL.field("s64"), -2L)
+        .putDouble(ALL.field("f32"), 1.5)
+        .putDouble(ALL.field("f64"), -0.25);
+
+      Assertions.assertEquals(0xfeL, view.getLong(ALL.field("u8")));
+      Assertions.assertEquals(-3L, view.getLong(ALL.field("s8")));
+      Assertions.assertEquals(0xfedcL, view.getLong(ALL.field("u16")));
+      Assertions.assertEquals(0xfedc_ba98L, view.getLong(ALL.field("u32")));
+      Assertions.assertEquals(-2L, view.getLong(ALL.field("s64")));
+      Assertions.assertEquals(1.5, view.getDouble(ALL.field("f32")));
+      Assertions.assertEquals(-0.25, view.getDouble(ALL.field("f64")));
+
+      final var expected = ByteBuffer.allocate(2).order(order).putShort((short) 0xfedc);
+      Assertions.assertEquals(expected.get(0), buffer.get(4 + 2));
+      Assertions.assertEquals(expected.get(1), buffer.get(4 + 3));
+    }
+  }
+
+  @Test
+  public void testBounds()
+  {
+    final var view = new RiffStructView(CUE);
+    final var buffer = ByteBuffer.allocate(20);
+    view.wrap(buffer, LITTLE_ENDIAN, 4);
+    Assertions.assertThrows(
+      RiffOutOfBoundsException.class, () -> view.wrap(buffer, LITTLE_ENDIAN, 5));
+    Assertions.assertThrows(
+      RiffOutOfBoundsException.class, () -> view.wrap(buffer, LITTLE_ENDIAN, -1));
+    Assertions.assertEquals(4, view.offset());
+  }
+
+  @Test
+  public void testWrongKind()
+  {
+    final var view = new RiffStructView(CUE).wrap(ByteBuffer.allocate(16), LITTLE_ENDIAN, 0);
+    Assertions.assertThrows(IllegalArgumentException.class, () -> view.getLong(CUE_CHUNK));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> view.getDouble(CUE_POSITION));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> view.getFourCC(CUE_POSITION));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> view.putLong(CUE_CHUNK, 0L));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> view.putDouble(CUE_OFFSET, 0.0));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> view.putFourCC(CUE_CHUNK, "ab"));
+  }
+
+  @Test
+  public void testEncodeAndDecodeTable()
+    throws Exception
+  {
+    for (final var order : new ByteOrder[]{LITTLE_ENDIAN, BIG_ENDIAN}) {
+      final var path = Files.createTempFile("jspiel-struct-", ".riff");
+      final var builder = new RiffFileBuilders().create(order);
+      final var id = order == LITTLE_ENDIAN ? "RIFF" : "RIFX";
+      try (var root = builder.setRootChunk(RiffChunkID.of(id), "TEST")) {
+        root.addSubChunk(RiffChunkID.of("cues"))
+          .setSize(RiffStructs.sizeOf(CUE, 3))
+          .setDataWriter(RiffStructs.dataWriter(CUE, order, 3, (index, view) -> {
+            view.putLong(CUE_IDENTIFIER, (long) index + 1L)
+              .putLong(CUE_POSITION, 1000L * (long) index)
+              .putFourCC(CUE_CHUNK, "data")
+              .putLong(CUE_OFFSET, -index);
+          }))
+          .close();
+      }
+
+      try (var channel = FileChannel.open(path, TRUNCATE_EXISTING, WRITE, CREATE)) {
+        new RiffWriters()
+          .createForChannel(URI.create("urn:file"), builder.build(), channel)
+          .write();
+      }
+
+      try (var channel = FileChannel.open(path, READ)) {
+        final var map = channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
+        final var file = new RiffParsers().createForByteBuffer(path.toUri(), map).parse();
+        final var cues = file.chunks().get(0).findRequiredSubChunk("cues");
+        Assertions.assertEquals(3, CUE.recordCount(cues));
+
+        final var view = new RiffStructView(CUE);
+        for (var index = 0; index < 3; ++index) {
+          view.wrapRecord(map, file.byteOrder(), cues, index);
+          Assertions.assertEquals((long) index + 1L, view.getLong(CUE_IDENTIFIER));
+          Assertions.assertEquals(1000L * (long) index, view.getLong(CUE_POSITION));
+          Assertions.assertEquals("data", view.getFourCC(CUE_CHUNK));
+          Assertions.assertEquals((long) -index, view.getLong(CUE_OFFSET));
+        }
+
+        Assertions.assertThrows(
+          IndexOutOfBoundsException.class,
+          () -> view.wrapRecord(map, file.byteOrder(), cues, 3));
+      }
+    }
+  }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.tests;
+
+import com.io7m.jspiel.api.RiffChunkID;
+import com.io7m.jspiel.api.RiffParseException;
+import com.io7m.jspiel.sf2.SF2FileType;
+import com.io7m.jspiel.sf2.SF2Parsers;
+import com.io7m.jspiel.sf2.SF2Version;
+import com.io7m.jspiel.vanilla.RiffFileBuilders;
+import com.io7m.jspiel.vanilla.RiffParsers;
+import com.io7m.jspiel.vanilla.RiffWriters;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+public final class SF2ParsersTest
+{
+  private static ByteBuffer resource(
+    final String name)
+    throws IOException
+  {
+    final var path = "/com/io7m/jspiel/tests/" + name;
+    try (var stream = SF2ParsersTest.class.getResourceAsStream(path)) {
+      try (var output = new ByteArrayOutputStream(1024)) {
+        stream.transferTo(output);
+        return ByteBuffer.wrap(output.toByteArray());
+      }
+    }
+  }
+
+  private static SF2Parsers parsers()
+  {
+    return new SF2Parsers(new RiffParsers());
+  }
+
+  private static SF2FileType complex0()
+    throws Exception
+  {
+    return parsers()
+      .createForByteBuffer(URI.create("complex0.sf2"), resource("complex0.sf2"))
+      .parse();
+  }
+
+  @Test
+  public void testComplex0Info()
+    throws Exception
+  {
+    final var file = complex0();
+    Assertions.assertEquals(SF2Version.of(2, 1), file.version());
+    Assertions.assertEquals("EMU8000", file.info().get("isng"));
+    Assertions.assertEquals("Complex0", file.info().get("INAM"));
+    Assertions.assertEquals("A comment.", file.info().get("ICMT"));
+    Assertions.assertFalse(file.info().containsKey("ifil"));
+  }
+
+  @Test
+  public void testComplex0Presets()
+    throws Exception
+  {
+    final var file = complex0();
+    final var presets = file.presetHeaders();
+    Assertions.assertEquals(4, presets.size());
+    Assertions.assertEquals("preset0", presets.name(0));
+    Assertions.assertEquals("preset1", presets.name(1));
+    Assertions.assertEquals("preset2", presets.name(2));
+    Assertions.assertEquals("EOP", presets.name(3));
+    Assertions.assertEquals(1, presets.preset(1));
+    Assertions.assertEquals(0, presets.bank(1));
+    Assertions.assertEquals(2, presets.bagIndex(1));
+    Assertions.assertEquals(6, presets.bagIndex(3));
+
+    final var bags = file.presetBags();
+    Assertions.assertEquals(7, bags.size());
+    Assertions.assertEquals(0, bags.generatorIndex(1));
+    Assertions.assertEquals(2, bags.generatorIndex(2));
+    Assertions.assertEquals(0, bags.modulatorIndex(1));
+
+    final var generators = file.presetGenerators();
+    Assertions.assertEquals(7, generators.size());
+    Assertions.assertEquals(43, generators.operator(0));
+    Assertions.assertEquals(0, generators.rangeLow(0));
+    Assertions.assertEquals(127, generators.rangeHigh(0));
+    Assertions.assertEquals(41, generators.operator(3));
+    Assertions.assertEquals(1, generators.amount(3));
+    Assertions.assertEquals(1, generators.amountUnsigned(3));
+
+    final var modulators = file.presetModulators();
+    Assertions.assertEquals(1, modulators.size());
+    Assertions.assertEquals(0, modulators.sourceOperator(0));
+    Assertions.assertEquals(0, modulators.amount(0));
+
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> presets.name(4));
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> presets.name(-1));
+  }
+
+  @Test
+  public void testComplex0Instruments()
+    throws Exception
+  {
+    final var file = complex0();
+    final var instruments = file.instruments();
+    Assertions.assertEquals(4, instruments.size());
+    Assertions.assertEquals("instrument0", instruments.name(0));
+    Assertions.assertEquals("EOI", instruments.name(3));
+    Assertions.assertEquals(2, instruments.bagIndex(1));
+    Assertions.assertEquals(7, instruments.bagIndex(3));
+
+    Assertions.assertEquals(8, file.instrumentBags().size());
+    Assertions.assertEquals(3, file.instrumentBags().generatorIndex(2));
+    Assertions.assertEquals(1, file.instrumentModulators().size());
+    Assertions.assertEquals(13, file.instrumentGenerators().size());
+    Assertions.assertEquals(17, file.instrumentGenerators().operator(1));
+  }
+
+  @Test
+  public void testComplex0Samples()
+    throws Exception
+  {
+    final var file = complex0();
+    final var headers = file.sampleHeaders();
+    Assertions.assertEquals(3, headers.size());
+    Assertions.assertEquals("000_60", headers.name(0));
+    Assertions.assertEquals("002_60", headers.name(1));
+    Assertions.assertEquals("EOS", headers.name(2));
+    Assertions.assertEquals(0L, headers.start(0));
+    Assertions.assertEquals(8270L, headers.end(0));
+    Assertions.assertEquals(8269L, headers.loopEnd(0));
+    Assertions.assertEquals(22050L, headers.sampleRate(0));
+    Assertions.assertEquals(60, headers.originalPitch(0));
+    Assertions.assertEquals(0, headers.pitchCorrection(0));
+    Assertions.assertEquals(1, headers.sampleType(0));
+    Assertions.assertEquals(8316L, headers.start(1));
+
+    final var data = file.sampleData();
+    Assertions.assertEquals(33264, data.capacity());
+    Assertions.assertEquals(LITTLE_ENDIAN, data.order());
+    Assertions.assertTrue(data.isReadOnly());
+    Assertions.assertTrue(file.sampleData24().isEmpty());
+
+    final var samples = file.samples();
+    Assertions.assertEquals(16632, samples.capacity());
+    Assertions.assertEquals((short) 0x01b3, samples.get(0));
+    Assertions.assertEquals((short) 0x029e, samples.get(1));
+
+    final var sample1 = file.samplesOf(1);
+    Assertions.assertEquals(16586 - 8316, sample1.capacity());
+    Assertions.assertEquals(samples.get(8316), sample1.get(0));
+    Assertions.assertTrue(sample1.isReadOnly());
+  }
+
+  @Test
+  public void testComplex0Mapped()
+    throws Exception
+  {
+    final var path = Files.createTempFile("jspiel-sf2-", ".sf2");
+    Files.write(path, resource("complex0.sf2").array());
+
+    try (var channel = FileChannel.open(path, READ)) {
+      final var map = channel.map(READ_ONLY, 0L, channel.size());
+      final var file = parsers().createForByteBuffer(path.toUri(), map).parse();
+      Assertions.assertEquals("preset2", file.presetHeaders().name(2));
+      Assertions.assertTrue(file.sampleData().isDirect());
+      Assertions.assertEquals((short) 0x01b3, file.samples().get(0));
+    }
+  }
+
+  @Test
+  public void testNotSF2()
+    throws Exception
+  {
+    final var ex = Assertions.assertThrows(RiffParseException.class, () -> {
+      parsers()
+        .createForByteBuffer(URI.create("000_12_le.wav"), resource("000_12_le.wav"))
+        .parse();
+    });
+    Assertions.assertTrue(ex.getMessage().contains("not a SoundFont 2 file"));
+  }
+
+  @Test
+  public void testBadRecordSize()
+    throws Exception
+  {
+    final var builder = new RiffFileBuilders().create(LITTLE_ENDIAN);
+    try (var root = builder.setRootChunk(RiffChunkID.of("RIFF"), "sfbk")) {
+      try (var info = root.addSubChunk(RiffChunkID.of("LIST"))) {
+        info.setForm("INFO");
+        try (var c = info.addSubChunk(RiffChunkID.of("ifil"))) {
+          c.setDataWriter(channel -> channel.write(ByteBuffer.wrap(new byte[]{2, 0, 1, 0})));
+        }
+      }
+      try (var sdta = root.addSubChunk(RiffChunkID.of("LIST"))) {
+        sdta.setForm("sdta");
+        try (var c = sdta.addSubChunk(RiffChunkID.of("smpl"))) {
+          c.setDataWriter(channel -> channel.write(ByteBuffer.allocate(8)));
+        }
+      }
+      try (var pdta = root.addSubChunk(RiffChunkID.of("LIST"))) {
+        pdta.setForm("pdta");
+        for (final var name : new String[]{"phdr", "pbag"}) {
+          try (var c = pdta.addSubChunk(RiffChunkID.of(name))) {
+            c.setDataWriter(channel -> channel.write(ByteBuffer.allocate(30)));
+          }
+        }
+      }
+    }
+
+    final var path = Files.createTempFile("jspiel-sf2-", ".sf2");
+    try (var channel = FileChannel.open(path, READ, WRITE, CREATE, TRUNCATE_EXISTING)) {
+      new RiffWriters().createForChannel(path.toUri(), builder.build(), channel).write();
+    }
+
+    final var ex = Assertions.assertThrows(RiffParseException.class, () -> {
+      parsers()
+        .createForByteBuffer(path.toUri(), ByteBuffer.wrap(Files.readAllBytes(path)))
+        .parse();
+    });
+    Assertions.assertTrue(ex.getMessage().contains("multiple of the record size"));
+    Assertions.assertTrue(ex.getMessage().contains("phdr"));
+  }
+}
@@ -0,0 +1,337 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.tests;
+
+import com.io7m.jspiel.api.RiffWriteException;
+import com.io7m.jspiel.sf2.SF2BankDescription;
+import com.io7m.jspiel.sf2.SF2FileType;
+import com.io7m.jspiel.sf2.SF2Generator;
+import com.io7m.jspiel.sf2.SF2GeneratorType;
+import com.io7m.jspiel.sf2.SF2InstrumentDescription;
+import com.io7m.jspiel.sf2.SF2Modulator;
+import com.io7m.jspiel.sf2.SF2Parsers;
+import com.io7m.jspiel.sf2.SF2PresetDescription;
+import com.io7m.jspiel.sf2.SF2SampleDescription;
+import com.io7m.jspiel.sf2.SF2Version;
+import com.io7m.jspiel.sf2.SF2Writers;
+import com.io7m.jspiel.sf2.SF2Zone;
+import com.io7m.jspiel.vanilla.RiffFileBuilders;
+import com.io7m.jspiel.vanilla.RiffParsers;
+import com.io7m.jspiel.vanilla.RiffWriters;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+public final class SF2WritersTest
+{
+  private static byte[] ramp(
+    final int points,
+    final int step)
+  {
+    final var buffer = ByteBuffer.allocate(points * 2).order(LITTLE_ENDIAN);
+    for (var index = 0; index < points; ++index) {
+      buffer.putShort((short) (index * step));
+    }
+    return buffer.array();
+  }
+
+  private static SF2FileType writeAndParse(
+    final SF2BankDescription bank)
+    throws Exception
+  {
+    final var path = Files.createTempFile("jspiel-sf2-", ".sf2");
+    try (var channel = FileChannel.open(path, READ, WRITE, CREATE, TRUNCATE_EXISTING)) {
+      new SF2Writers(new RiffFileBuilders(), new RiffWriters())
+        .createForChannel(path.toUri(), bank, channel)
+        .write();
+    }
+    return new SF2Parsers(new RiffParsers())
+      .createForByteBuffer(path.toUri(), ByteBuffer.wrap(Files.readAllBytes(path)))
+      .parse();
+  }
+
+  private static SF2BankDescription bankWithSample(
+    final SF2SampleDescription sample)
+  {
+    return SF2BankDescription.builder()
+      .setName("Bank")
+      .addSamples(sample)
+      .build();
+  }
+
+  @Test
+  public void testRoundTrip()
+    throws Exception
+  {
+    final var sample0 = ramp(1000, 3);
+    final var sample1_path = Files.createTempFile("jspiel-sf2-sample-", ".raw");
+    Files.write(sample1_path, ramp(70_001, -1));
+
+    final var bank =
+      SF2BankDescription.builder()
+        .setName("Test Bank")
+        .putInfo("ICMT", "A comment.")
+        .addSamples(
+          SF2SampleDescription.builder()
+            .setName("ramp0")
+            .setSampleCount(1000L)
+            .setSampleRate(44100L)
+            .setLoopStart(100L)
+            .setLoopEnd(900L)
+            .setSource(() -> Channels.newChannel(new ByteArrayInputStream(sample0)))
+            .build())
+        .addSamples(
+          SF2SampleDescription.builder()
+            .setName("ramp1")
+            .setSampleCount(70_001L)
+            .setSampleRate(22050L)
+            .setOriginalPitch(64)
+            .setPitchCorrection(-3)
+            .setSource(() -> FileChannel.open(sample1_path, READ))
+            .build())
+        .addInstruments(
+          SF2InstrumentDescription.builder()
+            .setName("instrument0")
+            .addZones(
+              SF2Zone.builder()
+                .addGenerators(SF2GeneratorType.ofRange(43, 0, 63))
+                .addGenerators(SF2Generator.of(53, 0))
+                .build())
+            .addZones(
+              SF2Zone.builder()
+                .addGenerators(SF2GeneratorType.ofRange(43, 64, 127))
+                .addGenerators(SF2Generator.of(53, 1))
+                .addModulators(
+                  SF2Modulator.builder()
+                    .setSourceOperator(0x0502)
+                    .setDestinationOperator(48)
+                    .setAmount(-960)
+                    .setAmountSourceOperator(0)
+                    .setTransformOperator(0)
+                    .build())
+                .build())
+            .build())
+        .addPresets(
+          SF2PresetDescription.builder()
+            .setName("preset0")
+            .setPreset(3)
+            .setBank(1)
+            .addZones(
+              SF2Zone.builder()
+                .addGenerators(SF2Generator.of(41, 0))
+                .build())
+            .build())
+        .build();
+
+    final var file = writeAndParse(bank);
+    Assertions.assertEquals(SF2Version.of(2, 1), file.version());
+    Assertions.assertEquals("EMU8000", file.info().get("isng"));
+    Assertions.assertEquals("Test Bank", file.info().get("INAM"));
+    Assertions.assertEquals("A comment.", file.info().get("ICMT"));
+
+    final var presets = file.presetHeaders();
+    Assertions.assertEquals(2, presets.size());
+    Assertions.assertEquals("preset0", presets.name(0));
+    Assertions.assertEquals(3, presets.preset(0));
+    Assertions.assertEquals(1, presets.bank(0));
+    Assertions.assertEquals("EOP", presets.name(1));
+    Assertions.assertEquals(1, presets.bagIndex(1));
+    Assertions.assertEquals(2, file.presetBags().size());
+    Assertions.assertEquals(1, file.presetBags().generatorIndex(1));
+    Assertions.assertEquals(41, file.presetGenerators().operator(0));
+    Assertions.assertEquals(1, file.presetModulators().size());
+
+    final var instruments = file.instruments();
+    Assertions.assertEquals(2, instruments.size());
+    Assertions.assertEquals("instrument0", instruments.name(0));
+    Assertions.assertEquals(2, instruments.bagIndex(1));
+
+    final var bags = file.instrumentBags();
+    Assertions.assertEquals(3, bags.size());
+    Assertions.assertEquals(2, bags.generatorIndex(1));
+    Assertions.assertEquals(0, bags.modulatorIndex(1));
+    Assertions.assertEquals(4, bags.generatorIndex(2));
+    Assertions.assertEquals(1, bags.modulatorIndex(2));
+
+    final var generators = file.instrumentGenerators();
+    Assertions.assertEquals(5, generators.size());
+    Assertions.assertEquals(64, generators.rangeLow(2));
+    Assertions.assertEquals(127, generators.rangeHigh(2));
+    Assertions.assertEquals(53, generators.operator(3));
+    Assertions.assertEquals(1, generators.amount(3));
+
+    final var modulators = file.instrumentModulators();
+    Assertions.assertEquals(2, modulators.size());
+    Assertions.assertEquals(0x0502, modulators.sourceOperator(0));
+    Assertions.assertEquals(48, modulators.destinationOperator(0));
+    Assertions.assertEquals(-960, modulators.amount(0));
+
+    final var headers = file.sampleHeaders();
+    Assertions.assertEquals(3, headers.size());
+    Assertions.assertEquals("ramp0", headers.name(0));
+    Assertions.assertEquals(0L, headers.start(0));
+    Assertions.assertEquals(1000L, headers.end(0));
+    Assertions.assertEquals(100L, headers.loopStart(0));
+    Assertions.assertEquals(900L, headers.loopEnd(0));
+    Assertions.assertEquals(44100L, headers.sampleRate(0));
+    Assertions.assertEquals(1046L, headers.start(1));
+    Assertions.assertEquals(1046L + 70_001L, headers.end(1));
+    Assertions.assertEquals(64, headers.originalPitch(1));
+    Assertions.assertEquals(-3, headers.pitchCorrection(1));
+    Assertions.assertEquals("EOS", headers.name(2));
+
+    Assertions.assertEquals((1000 + 46 + 70_001 + 46) * 2, file.sampleData().capacity());
+
+    final var samples0 = file.samplesOf(0);
+    for (var index = 0; index < 1000; ++index) {
+      Assertions.assertEquals((short) (index * 3), samples0.get(index));
+    }
+    final var samples1 = file.samplesOf(1);
+    Assertions.assertEquals(70_001, samples1.capacity());
+    for (var index = 0; index < 70_001; ++index) {
+      Assertions.assertEquals((short) -index, samples1.get(index));
+    }
+    for (var index = 1000; index < 1046; ++index) {
+      Assertions.assertEquals((short) 0, file.samples().get(index));
+    }
+  }
+
+  @Test
+  public void testSourceTooShort()
+  {
+    final var data = ramp(10, 1);
+    final var bank =
+      bankWithSample(
+        SF2SampleDescription.builder()
+          .setName("short")
+          .setSampleCount(11L)
+          .setSampleRate(44100L)
+          .setSource(() -> Channels.newChannel(new ByteArrayInputStream(data)))
+          .build());
+
+    final var ex = Assertions.assertThrows(RiffWriteException.class, () -> writeAndParse(bank));
+    Assertions.assertTrue(rootMessage(ex).contains("wrong amount of data"));
+  }
+
+  @Test
+  public void testSourceTooLong()
+  {
+    final var data = ramp(12, 1);
+    final var bank =
+      bankWithSample(
+        SF2SampleDescription.builder()
+          .setName("long")
+          .setSampleCount(11L)
+          .setSampleRate(44100L)
+          .setSource(() -> Channels.newChannel(new ByteArrayInputStream(data)))
+          .build());
+
+    final var ex = Assertions.assertThrows(RiffWriteException.class, () -> writeAndParse(bank));
+    Assertions.assertTrue(rootMessage(ex).contains("wrong amount of data"));
+  }
+
+  @Test
+  public void testTooManyModulators()
+  {
+    final var modulator =
+      SF2Modulator.builder()
+        .setSourceOperator(0x0502)
+        .setDestinationOperator(48)
+        .setAmount(-960)
+        .setAmountSourceOperator(0)
+        .setTransformOperator(0)
+        .build();
+
+    final var zone =
+      SF2Zone.builder()
+        .addAllModulators(Collections.nCopies(0x1_0000, modulator))
+        .build();
+
+    final var instruments =
+      SF2BankDescription.builder()
+        .setName("Bank")
+        .addInstruments(SF2InstrumentDescription.builder().setName("i").addZones(zone).build())
+        .build();
+
+    final var ex0 = Assertions.assertThrows(RiffWriteException.class, () -> writeAndParse(instruments));
+    Assertions.assertTrue(ex0.getMessage().contains("instrument modulators"));
+
+    final var presets =
+      SF2BankDescription.builder()
+        .setName("Bank")
+        .addPresets(
+          SF2PresetDescription.builder()
+            .setName("p")
+            .setPreset(0)
+            .setBank(0)
+            .addZones(zone)
+            .build())
+        .build();
+
+    final var ex1 = Assertions.assertThrows(RiffWriteException.class, () -> writeAndParse(presets));
+    Assertions.assertTrue(ex1.getMessage().contains("preset modulators"));
+  }
+
+  @Test
+  public void testNameTooLong()
+  {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> {
+      SF2InstrumentDescription.builder()
+        .setName("abcdefghijklmnopqrstuvwxyz")
+        .build();
+    });
+  }
+
+  @Test
+  public void testLoopOutOfRange()
+  {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> {
+      SF2SampleDescription.builder()
+        .setName("x")
+        .setSampleCount(10L)
+        .setSampleRate(44100L)
+        .setLoopEnd(11L)
+        .setSource(() -> Channels.newChannel(new ByteArrayInputStream(new byte[0])))
+        .build();
+    });
+  }
+
+  private static String rootMessage(
+    final Throwable e)
+  {
+    var current = e;
+    while (current.getCause() != null) {
+      current = current.getCause();
+    }
+    return current.getMessage();
+  }
+}
@@ -0,0 +1,296 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.tests;
+
+import com.io7m.jspiel.vanilla.RiffParsers;
+import com.io7m.jspiel.wave.WaveFormat;
+import com.io7m.jspiel.wave.WaveFormatTags;
+import com.io7m.jspiel.wave.WaveFrameReaders;
+import com.io7m.jspiel.wave.WaveParsers;
+import com.io7m.jspiel.wave.WaveUnsupportedFormatException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+import static java.nio.ByteOrder.BIG_ENDIAN;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+public final class WaveFrameReadersTest
+{
+  private static ByteBuffer resource(
+    final String name)
+    throws IOException
+  {
+    final var path = "/com/io7m/jspiel/tests/" + name;
+    try (var stream = WaveFrameReadersTest.class.getResourceAsStream(path)) {
+      try (var output = new ByteArrayOutputStream(1024)) {
+        stream.transferTo(output);
+        return ByteBuffer.wrap(output.toByteArray());
+      }
+    }
+  }
+
+  private static WaveFormat format(
+    final int tag,
+    final int channels,
+    final int bits)
+  {
+    final var block_align = channels * (bits / 8);
+    return WaveFormat.builder()
+      .setFormatTag(tag)
+      .setChannels(channels)
+      .setSamplesPerSecond(48000L)
+      .setAverageBytesPerSecond(48000L * (long) block_align)
+      .setBlockAlign(block_align)
+      .setBitsPerSample(bits)
+      .build();
+  }
+
+  private static ByteBuffer pcm24(
+    final ByteOrder order,
+    final int... samples)
+  {
+    final var buffer = ByteBuffer.allocate(samples.length * 3);
+    for (final var sample : samples) {
+      final var b0 = (byte) (sample & 0xff);
+      final var b1 = (byte) ((sample >>> 8) & 0xff);
+      final var b2 = (byte) ((sample >>> 16) & 0xff);
+      if (order == BIG_ENDIAN) {
+        buffer.put(b2).put(b1).put(b0);
+      } else {
+        buffer.put(b0).put(b1).put(b2);
+      }
+    }
+    return buffer.flip().order(order);
+  }
+
+  @Test
+  public void testFloat32Files()
+    throws Exception
+  {
+    final var parsers = new WaveParsers(new RiffParsers());
+    final var le =
+      parsers.createForByteBuffer(URI.create("000_12_le.wav"), resource("000_12_le.wav")).parse();
+    final var be =
+      parsers.createForByteBuffer(URI.create("000_12_be.wav"), resource("000_12_be.wav")).parse();
+
+    final var reader_le = WaveFrameReaders.create(le);
+    final var reader_be = WaveFrameReaders.create(be);
+    Assertions.assertEquals(48000L, reader_le.frameCount());
+    Assertions.assertEquals(48000L, reader_be.frameCount());
+    Assertions.assertEquals(1, reader_le.channels());
+
+    final var out_le = new float[48000];
+    final var out_be = new float[48000];
+    Assertions.assertEquals(48000, reader_le.read(out_le, 0, 48000));
+    Assertions.assertEquals(48000, reader_be.read(out_be, 0, 48000));
+    Assertions.assertEquals(48000L, reader_le.position());
+    Assertions.assertEquals(0, reader_le.read(out_le, 0, 48000));
+
+    final var data = le.data();
+    for (var index = 0; index < 48000; ++index) {
+      Assertions.assertEquals(data.getFloat(index * 4), out_le[index]);
+      Assertions.assertEquals(out_le[index], out_be[index], 0.000_001);
+    }
+
+    reader_le.seek(0L);
+    final var ints = new int[48000];
+    Assertions.assertEquals(48000, reader_le.read(ints, 0, 48000));
+    for (var index = 0; index < 48000; ++index) {
+      final var expected =
+        Math.max(-1.0, Math.min(1.0, (double) out_le[index])) * 2147483648.0;
+      Assertions.assertEquals(expected, (double) ints[index], 1.0);
+    }
+  }
+
+  @Test
+  public void testFloatToIntClamped()
+    throws Exception
+  {
+    final var data = ByteBuffer.allocate(6 * 4).order(LITTLE_ENDIAN);
+    data.putFloat(-2.0f).putFloat(-1.0f).putFloat(0.0f).putFloat(0.5f).putFloat(1.0f);
+    data.putFloat(Float.NaN);
+    data.flip();
+
+    final var reader =
+      WaveFrameReaders.create(format(WaveFormatTags.WAVE_FORMAT_IEEE_FLOAT, 1, 32), data);
+    final var ints = new int[6];
+    Assertions.assertEquals(6, reader.read(ints, 0, 6));
+    Assertions.assertArrayEquals(
+      new int[]{
+        Integer.MIN_VALUE,
+        Integer.MIN_VALUE,
+        0,
+        1 << 30,
+        Integer.MAX_VALUE,
+        0,
+      },
+      ints);
+  }
+
+  @Test
+  public void testUnsigned8()
+    throws Exception
+  {
+    final var data = ByteBuffer.wrap(new byte[]{(byte) 0, (byte) 128, (byte) 255, (byte) 64});
+    final var reader =
+      WaveFrameReaders.create(format(WaveFormatTags.WAVE_FORMAT_PCM, 2, 8), data);
+    Assertions.assertEquals(2L, reader.frameCount());
+
+    final var ints = new int[4];
+    Assertions.assertEquals(2, reader.read(ints, 0, 2));
+    Assertions.assertArrayEquals(new int[]{-128, 0, 127, -64}, ints);
+
+    reader.seek(0L);
+    final var floats = new float[4];
+    Assertions.assertEquals(2, reader.read(floats, 0, 2));
+    Assertions.assertArrayEquals(new float[]{-1.0f, 0.0f, 127.0f / 128.0f, -0.5f}, floats);
+  }
+
+  @Test
+  public void testSigned16()
+    throws Exception
+  {
+    for (final var order : new ByteOrder[]{LITTLE_ENDIAN, BIG_ENDIAN}) {
+      final var data = ByteBuffer.allocate(8).order(order);
+      data.putShort((short) -32768).putShort((short) 0).putShort((short) 16384)
+        .putShort((short) 32767);
+      data.flip();
+
+      final var reader =
+        WaveFrameReaders.create(format(WaveFormatTags.WAVE_FORMAT_PCM, 1, 16), data);
+      final var ints = new int[4];
+      Assertions.assertEquals(4, reader.read(ints, 0, 4));
+      Assertions.assertArrayEquals(new int[]{-32768, 0, 16384, 32767}, ints);
+
+      reader.seek(1L);
+      final var floats = new float[3];
+      Assertions.assertEquals(3, reader.read(floats, 0, 8));
+      Assertions.assertArrayEquals(new float[]{0.0f, 0.5f, 32767.0f / 32768.0f}, floats);
+    }
+  }
+
+  @Test
+  public void testSigned24()
+    throws Exception
+  {
+    final var expected = new int[]{-8388608, -1, 0, 1, 0x123456, 8388607};
+    for (final var order : new ByteOrder[]{LITTLE_ENDIAN, BIG_ENDIAN}) {
+      final var reader =
+        WaveFrameReaders.create(
+          format(WaveFormatTags.WAVE_FORMAT_PCM, 3, 24), pcm24(order, expected));
+      Assertions.assertEquals(2L, reader.frameCount());
+
+      final var ints = new int[6];
+      Assertions.assertEquals(2, reader.read(ints, 0, 2));
+      Assertions.assertArrayEquals(expected, ints);
+
+      reader.seek(0L);
+      final var floats = new float[6];
+      Assertions.assertEquals(2, reader.read(floats, 0, 2));
+      Assertions.assertEquals(-1.0f, floats[0]);
+      Assertions.assertEquals(0.0f, floats[2]);
+    }
+  }
+
+  @Test
+  public void testSigned32()
+    throws Exception
+  {
+    final var data = ByteBuffer.allocate(8).order(BIG_ENDIAN);
+    data.putInt(Integer.MIN_VALUE).putInt(0x40000000);
+    data.flip();
+
+    final var reader =
+      WaveFrameReaders.create(format(WaveFormatTags.WAVE_FORMAT_PCM, 1, 32), data);
+    final var floats = new float[2];
+    Assertions.assertEquals(2, reader.read(floats, 0, 2));
+    Assertions.assertArrayEquals(new float[]{-1.0f, 0.5f}, floats);
+  }
+
+  @Test
+  public void testFloat64Direct()
+    throws Exception
+  {
+    final var data = ByteBuffer.allocate(8 * 20_000).order(LITTLE_ENDIAN);
+    for (var index = 0; index < 20_000; ++index) {
+      data.putDouble((double) index / 20_000.0);
+    }
+    data.flip();
+
+    final var reader =
+      WaveFrameReaders.create(format(WaveFormatTags.WAVE_FORMAT_IEEE_FLOAT, 2, 64), data);
+    Assertions.assertEquals(10_000L, reader.frameCount());
+
+    final var output = ByteBuffer.allocateDirect(4 * 20_001).asFloatBuffer();
+    Assertions.assertEquals(10_000, reader.read(output));
+    Assertions.assertEquals(20_000, output.position());
+    for (var index = 0; index < 20_000; ++index) {
+      Assertions.assertEquals((float) ((double) index / 20_000.0), output.get(index));
+    }
+  }
+
+  @Test
+  public void testFloatBufferHeap()
+    throws Exception
+  {
+    final var data = ByteBuffer.allocate(16).order(LITTLE_ENDIAN);
+    data.putShort((short) 0).putShort((short) 16384).putShort((short) -16384)
+      .putShort((short) 0).putShort((short) 0).putShort((short) 0).putShort((short) 0)
+      .putShort((short) 0);
+    data.flip();
+
+    final var reader =
+      WaveFrameReaders.create(format(WaveFormatTags.WAVE_FORMAT_PCM, 2, 16), data);
+    final var output = FloatBuffer.allocate(5);
+    output.position(1);
+
+    Assertions.assertEquals(2, reader.read(output));
+    Assertions.assertEquals(5, output.position());
+    Assertions.assertEquals(0.5f, output.get(2));
+    Assertions.assertEquals(-0.5f, output.get(3));
+  }
+
+  @Test
+  public void testSeekOutOfRange()
+    throws Exception
+  {
+    final var reader =
+      WaveFrameReaders.create(
+        format(WaveFormatTags.WAVE_FORMAT_PCM, 1, 16), ByteBuffer.allocate(4));
+    reader.seek(2L);
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> reader.seek(3L));
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> reader.seek(-1L));
+  }
+
+  @Test
+  public void testUnsupported()
+  {
+    final var ex = Assertions.assertThrows(
+      WaveUnsupportedFormatException.class,
+      () -> WaveFrameReaders.create(
+        format(WaveFormatTags.WAVE_FORMAT_MULAW, 1, 8), ByteBuffer.allocate(4)));
+    Assertions.assertTrue(ex.getMessage().contains("Unsupported sample format"));
+  }
+}
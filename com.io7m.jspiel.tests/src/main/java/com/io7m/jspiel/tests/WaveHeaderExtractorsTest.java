@@ -0,0 +1,413 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.tests;
+
+import com.io7m.jspiel.api.RiffParseException;
+import com.io7m.jspiel.vanilla.RiffParsers;
+import com.io7m.jspiel.wave.WaveAcid;
+import com.io7m.jspiel.wave.WaveHeader;
+import com.io7m.jspiel.wave.WaveHeaderExtractors;
+import com.io7m.jspiel.wave.WaveInstrument;
+import com.io7m.jspiel.wave.WaveParsers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.READ;
+
+public final class WaveHeaderExtractorsTest
+{
+  private static final int AUDIO_SIZE = 100_000;
+
+  private static byte[] chunk(
+    final String id,
+    final byte[] data)
+  {
+    final var padded = data.length + (data.length & 1);
+    final var buffer = ByteBuffer.allocate(8 + padded).order(LITTLE_ENDIAN);
+    buffer.put(id.getBytes(US_ASCII));
+    buffer.putInt(data.length);
+    buffer.put(data);
+    return buffer.array();
+  }
+
+  private static byte[] concat(
+    final byte[]... parts)
+  {
+    final var output = new ByteArrayOutputStream();
+    for (final var part : parts) {
+      output.writeBytes(part);
+    }
+    return output.toByteArray();
+  }
+
+  private static byte[] u32s(
+    final int... values)
+  {
+    final var buffer = ByteBuffer.allocate(values.length * 4).order(LITTLE_ENDIAN);
+    for (final var value : values) {
+      buffer.putInt(value);
+    }
+    return buffer.array();
+  }
+
+  private static byte[] format()
+  {
+    final var buffer = ByteBuffer.allocate(16).order(LITTLE_ENDIAN);
+    buffer.putShort((short) 1);
+    buffer.putShort((short) 2);
+    buffer.putInt(44100);
+    buffer.putInt(44100 * 4);
+    buffer.putShort((short) 4);
+    buffer.putShort((short) 16);
+    return buffer.array();
+  }
+
+  private static byte[] acid()
+  {
+    final var buffer = ByteBuffer.allocate(24).order(LITTLE_ENDIAN);
+    buffer.putInt(0x02 | 0x04);
+    buffer.putShort((short) 57);
+    buffer.putShort((short) 0x8000);
+    buffer.putFloat(0.0f);
+    buffer.putInt(8);
+    buffer.putShort((short) 4);
+    buffer.putShort((short) 3);
+    buffer.putFloat(128.5f);
+    return buffer.array();
+  }
+
+  private static byte[] sampler()
+  {
+    return u32s(0, 0, 22675, 60, 0, 0, 0, 1, 0, 1, 0, 100, 2000, 0, 0);
+  }
+
+  private static byte[] cues()
+  {
+    return concat(
+      u32s(2),
+      u32s(1, 100), "data".getBytes(US_ASCII), u32s(0, 0, 100),
+      u32s(2, 2000), "data".getBytes(US_ASCII), u32s(0, 0, 2000));
+  }
+
+  private static byte[] info()
+  {
+    return chunk(
+      "LIST",
+      concat(
+        "INFO".getBytes(US_ASCII),
+        chunk("INAM", "Loop\0".getBytes(US_ASCII)),
+        chunk("IART", "Someone".getBytes(US_ASCII))));
+  }
+
+  private static Path file(
+    final byte[] data)
+    throws Exception
+  {
+    final var path = Files.createTempFile("jspiel-wave-header-", ".wav");
+    Files.write(path, data);
+    return path;
+  }
+
+  private static byte[] wave(
+    final byte[]... chunks)
+  {
+    return chunk("RIFF", concat("WAVE".getBytes(US_ASCII), concat(chunks)));
+  }
+
+  private static byte[] full()
+  {
+    return wave(
+      chunk("fmt ", format()),
+      chunk("acid", acid()),
+      chunk("data", new byte[AUDIO_SIZE]),
+      chunk("smpl", sampler()),
+      chunk("inst", new byte[]{60, -10, 3, 0, 127, 1, 127}),
+      chunk("cue ", cues()),
+      info());
+  }
+
+  private static WaveHeader extract(
+    final SeekableByteChannel channel)
+    throws RiffParseException
+  {
+    return new WaveHeaderExtractors()
+      .createForChannel(URI.create("urn:wave"), channel)
+      .extract();
+  }
+
+  private static WaveHeader extract(
+    final Path path)
+    throws Exception
+  {
+    try (var channel = FileChannel.open(path, READ)) {
+      return extract(channel);
+    }
+  }
+
+  @Test
+  public void testMetadata()
+    throws Exception
+  {
+    final var header = extract(file(full()));
+    Assertions.assertEquals(LITTLE_ENDIAN, header.byteOrder());
+    Assertions.assertEquals(2, header.format().channels());
+    Assertions.assertEquals(44100L, header.format().samplesPerSecond());
+    Assertions.assertEquals(20L + 8L + 16L + 8L + 24L, header.dataOffset());
+    Assertions.assertEquals((long) AUDIO_SIZE, header.dataSize());
+    Assertions.assertEquals((long) AUDIO_SIZE / 4L, header.frameCount());
+
+    final WaveAcid acid = header.acid().orElseThrow();
+    Assertions.assertEquals(57, acid.rootNote());
+    Assertions.assertTrue(acid.isRootNoteSet());
+    Assertions.assertFalse(acid.isOneShot());
+    Assertions.assertEquals(8L, acid.beats());
+    Assertions.assertEquals(4, acid.meterDenominator());
+    Assertions.assertEquals(3, acid.meterNumerator());
+    Assertions.assertEquals(128.5f, acid.tempo());
+
+    final var sampler = header.sampler().orElseThrow();
+    Assertions.assertEquals(60L, sampler.midiUnityNote());
+    Assertions.assertEquals(1, sampler.loops().size());
+    Assertions.assertEquals(100L, sampler.loops().get(0).start());
+    Assertions.assertEquals(2000L, sampler.loops().get(0).end());
+
+    final WaveInstrument instrument = header.instrument().orElseThrow();
+    Assertions.assertEquals(60, instrument.unshiftedNote());
+    Assertions.assertEquals(-10, instrument.fineTune());
+    Assertions.assertEquals(3, instrument.gain());
+    Assertions.assertEquals(127, instrument.highNote());
+    Assertions.assertEquals(1, instrument.lowVelocity());
+
+    Assertions.assertEquals(2, header.cuePoints().size());
+    Assertions.assertEquals(2000L, header.cuePoints().get(1).position());
+    Assertions.assertEquals("data", header.cuePoints().get(1).chunkID().value());
+
+    Assertions.assertEquals("Loop", header.info().get("INAM"));
+    Assertions.assertEquals("Someone", header.info().get("IART"));
+    Assertions.assertTrue(header.fact().isEmpty());
+  }
+
+  @Test
+  public void testAudioNotRead()
+    throws Exception
+  {
+    final var path = file(full());
+    try (var channel = new CountingChannel(FileChannel.open(path, READ))) {
+      final var header = extract(channel);
+      final var audio_start = header.dataOffset();
+      final var audio_end = audio_start + header.dataSize();
+
+      Assertions.assertTrue(
+        channel.octets < (long) AUDIO_SIZE,
+        () -> "Read " + channel.octets + " octets of " + AUDIO_SIZE);
+      for (final var range : channel.ranges) {
+        Assertions.assertTrue(
+          range[1] <= audio_start || range[0] >= audio_end,
+          () -> "Read [%d, %d) overlaps the audio data".formatted(
+            Long.valueOf(range[0]), Long.valueOf(range[1])));
+      }
+    }
+  }
+
+  @Test
+  public void testSameAsParser()
+    throws Exception
+  {
+    for (final var name : new String[]{"000_12_le.wav", "000_12_be.wav"}) {
+      final var path = Files.createTempFile("jspiel-wave-header-", ".wav");
+      try (var stream = WaveHeaderExtractorsTest.class.getResourceAsStream(
+        "/com/io7m/jspiel/tests/" + name)) {
+        Files.copy(stream, path, REPLACE_EXISTING);
+      }
+
+      final var parsed =
+        new WaveParsers(new RiffParsers())
+          .createForByteBuffer(path.toUri(), ByteBuffer.wrap(Files.readAllBytes(path)))
+          .parse();
+      final var header = extract(path);
+
+      Assertions.assertEquals(parsed.riff().byteOrder(), header.byteOrder());
+      Assertions.assertEquals(parsed.format(), header.format());
+      Assertions.assertEquals(parsed.fact(), header.fact());
+      Assertions.assertEquals(parsed.cuePoints(), header.cuePoints());
+      Assertions.assertEquals(parsed.sampler(), header.sampler());
+      Assertions.assertEquals(parsed.info(), header.info());
+      Assertions.assertEquals(parsed.dataChunk().dataOffset(), header.dataOffset());
+      Assertions.assertEquals(parsed.frameCount(), header.frameCount());
+    }
+  }
+
+  @Test
+  public void testRF64()
+    throws Exception
+  {
+    final var ds64 = ByteBuffer.allocate(28).order(LITTLE_ENDIAN);
+    ds64.putLong(4L + 36L + 24L + 8L + 1000L);
+    ds64.putLong(1000L);
+    ds64.putLong(250L);
+    ds64.putInt(0);
+
+    final var body =
+      concat(
+        "WAVE".getBytes(US_ASCII),
+        chunk("ds64", ds64.array()),
+        chunk("fmt ", format()),
+        "data".getBytes(US_ASCII),
+        u32s(-1),
+        new byte[1000]);
+
+    final var header =
+      extract(file(concat("RF64".getBytes(US_ASCII), u32s(-1), body)));
+    Assertions.assertEquals(1000L, header.dataSize());
+    Assertions.assertEquals(12L + 36L + 24L + 8L, header.dataOffset());
+  }
+
+  @Test
+  public void testNotWave()
+  {
+    final var ex = Assertions.assertThrows(
+      RiffParseException.class,
+      () -> extract(file(chunk("RIFF", concat("AVI ".getBytes(US_ASCII))))));
+    Assertions.assertTrue(ex.getMessage().contains("File is not a WAVE file."));
+  }
+
+  @Test
+  public void testMissingFormat()
+  {
+    final var ex = Assertions.assertThrows(
+      RiffParseException.class,
+      () -> extract(file(wave(chunk("data", new byte[4])))));
+    Assertions.assertTrue(ex.getMessage().contains("Required chunk not found."));
+  }
+
+  @Test
+  public void testTruncated()
+  {
+    final var data = full();
+    final var truncated = new byte[data.length - 100];
+    System.arraycopy(data, 0, truncated, 0, truncated.length);
+
+    Assertions.assertThrows(RiffParseException.class, () -> extract(file(truncated)));
+  }
+
+  @Test
+  public void testInfoTooLarge()
+  {
+    final var info =
+      chunk("LIST", concat("INFO".getBytes(US_ASCII), "INAM".getBytes(US_ASCII), u32s(100)));
+    final var ex = Assertions.assertThrows(
+      RiffParseException.class,
+      () -> extract(file(wave(chunk("fmt ", format()), info, chunk("data", new byte[4])))));
+    Assertions.assertTrue(ex.getMessage().contains("limit specified by the parent chunk"));
+  }
+
+  private static final class CountingChannel implements SeekableByteChannel
+  {
+    private final SeekableByteChannel delegate;
+    private final List<long[]> ranges;
+    private long octets;
+
+    CountingChannel(
+      final SeekableByteChannel in_delegate)
+    {
+      this.delegate = in_delegate;
+      this.ranges = new ArrayList<>();
+    }
+
+    @Override
+    public int read(
+      final ByteBuffer dst)
+      throws IOException
+    {
+      final var start = this.delegate.position();
+      final var count = this.delegate.read(dst);
+      if (count > 0) {
+        this.octets += count;
+        this.ranges.add(new long[]{start, start + (long) count});
+      }
+      return count;
+    }
+
+    @Override
+    public int write(
+      final ByteBuffer src)
+      throws IOException
+    {
+      return this.delegate.write(src);
+    }
+
+    @Override
+    public long position()
+      throws IOException
+    {
+      return this.delegate.position();
+    }
+
+    @Override
+    public SeekableByteChannel position(
+      final long new_position)
+      throws IOException
+    {
+      this.delegate.position(new_position);
+      return this;
+    }
+
+    @Override
+    public long size()
+      throws IOException
+    {
+      return this.delegate.size();
+    }
+
+    @Override
+    public SeekableByteChannel truncate(
+      final long size)
+      throws IOException
+    {
+      this.delegate.truncate(size);
+      return this;
+    }
+
+    @Override
+    public boolean isOpen()
+    {
+      return this.delegate.isOpen();
+    }
+
+    @Override
+    public void close()
+      throws IOException
+    {
+      this.delegate.close();
+    }
+  }
+}
@@ -0,0 +1,388 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.tests;
+
+import com.io7m.jspiel.api.RiffFileType;
+import com.io7m.jspiel.api.RiffParseException;
+import com.io7m.jspiel.api.RiffWriteException;
+import com.io7m.jspiel.vanilla.RiffParsers;
+import com.io7m.jspiel.wave.WaveMetadataChunk;
+import com.io7m.jspiel.wave.WaveMetadataEditors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+public final class WaveMetadataEditorsTest
+{
+  private static byte[] chunk(
+    final String id,
+    final byte[] data)
+  {
+    final var padded = data.length + (data.length & 1);
+    final var buffer = ByteBuffer.allocate(8 + padded).order(LITTLE_ENDIAN);
+    buffer.put(id.getBytes(US_ASCII));
+    buffer.putInt(data.length);
+    buffer.put(data);
+    return buffer.array();
+  }
+
+  private static byte[] concat(
+    final byte[]... parts)
+  {
+    final var output = new ByteArrayOutputStream();
+    for (final var part : parts) {
+      output.writeBytes(part);
+    }
+    return output.toByteArray();
+  }
+
+  private static byte[] filled(
+    final int size,
+    final int value)
+  {
+    final var data = new byte[size];
+    Arrays.fill(data, (byte) value);
+    return data;
+  }
+
+  private static byte[] audio()
+  {
+    final var data = new byte[1000];
+    for (var index = 0; index < data.length; ++index) {
+      data[index] = (byte) (index * 7);
+    }
+    return data;
+  }
+
+  private static Path wave(
+    final byte[]... chunks)
+    throws Exception
+  {
+    final var path = Files.createTempFile("jspiel-wave-meta-", ".wav");
+    Files.write(path, chunk("RIFF", concat("WAVE".getBytes(US_ASCII), concat(chunks))));
+    return path;
+  }
+
+  private static Path standard()
+    throws Exception
+  {
+    return wave(
+      chunk("fmt ", new byte[16]),
+      chunk("bext", filled(100, 1)),
+      chunk("JUNK", new byte[200]),
+      chunk("data", audio()));
+  }
+
+  private static RiffFileType riff(
+    final Path path)
+    throws Exception
+  {
+    return new RiffParsers()
+      .createForByteBuffer(path.toUri(), ByteBuffer.wrap(Files.readAllBytes(path)))
+      .parse();
+  }
+
+  private static String layout(
+    final RiffFileType file)
+  {
+    return file.chunks()
+      .get(0)
+      .subChunks()
+      .stream()
+      .map(c -> c.name().value().trim() + ":" + c.dataSizeExcludingForm().sizeUnpadded())
+      .collect(Collectors.joining(" "));
+  }
+
+  private static byte[] audioOf(
+    final Path path)
+    throws Exception
+  {
+    final var file = riff(path);
+    final var data = file.chunks().get(0).findRequiredSubChunk("data");
+    final var bytes = Files.readAllBytes(path);
+    return Arrays.copyOfRange(
+      bytes,
+      Math.toIntExact(data.dataOffset()),
+      Math.toIntExact(data.dataOffset() + data.dataSizeExcludingForm().sizeUnpadded()));
+  }
+
+  private static byte[] bytesOf(
+    final ByteBuffer buffer)
+  {
+    final var bytes = new byte[buffer.remaining()];
+    buffer.duplicate().get(bytes);
+    return bytes;
+  }
+
+  @Test
+  public void testReplaceSameSize()
+    throws Exception
+  {
+    final var path = standard();
+    final var size = Files.size(path);
+
+    try (var channel = FileChannel.open(path, READ, WRITE)) {
+      final var editor = new WaveMetadataEditors().createForChannel(path.toUri(), channel);
+      Assertions.assertArrayEquals(filled(100, 1), bytesOf(editor.read(WaveMetadataChunk.BEXT).orElseThrow()));
+
+      final var result =
+        editor.set(WaveMetadataChunk.BEXT, ByteBuffer.wrap(filled(100, 2)))
+          .commit();
+
+      Assertions.assertEquals(108L, result.octetsWritten());
+      Assertions.assertEquals(0, result.chunksRelocated());
+      Assertions.assertArrayEquals(filled(100, 2), bytesOf(editor.read(WaveMetadataChunk.BEXT).orElseThrow()));
+    }
+
+    Assertions.assertEquals(size, Files.size(path));
+    Assertions.assertEquals("fmt:16 bext:100 JUNK:200 data:1000", layout(riff(path)));
+    Assertions.assertArrayEquals(audio(), audioOf(path));
+  }
+
+  @Test
+  public void testGrowIntoPadding()
+    throws Exception
+  {
+    final var path = standard();
+    final var size = Files.size(path);
+
+    try (var channel = FileChannel.open(path, READ, WRITE)) {
+      final var result =
+        new WaveMetadataEditors()
+          .createForChannel(path.toUri(), channel)
+          .set(WaveMetadataChunk.BEXT, ByteBuffer.wrap(filled(251, 3)))
+          .commit();
+
+      Assertions.assertEquals(0, result.chunksRelocated());
+      Assertions.assertTrue(result.octetsWritten() < 300L);
+    }
+
+    Assertions.assertEquals(size, Files.size(path));
+    Assertions.assertEquals("fmt:16 bext:251 JUNK:48 data:1000", layout(riff(path)));
+    Assertions.assertArrayEquals(audio(), audioOf(path));
+  }
+
+  @Test
+  public void testShrink()
+    throws Exception
+  {
+    final var path = standard();
+
+    try (var channel = FileChannel.open(path, READ, WRITE)) {
+      new WaveMetadataEditors()
+        .createForChannel(path.toUri(), channel)
+        .set(WaveMetadataChunk.BEXT, ByteBuffer.wrap(filled(10, 4)))
+        .commit();
+    }
+
+    Assertions.assertEquals("fmt:16 bext:10 JUNK:290 data:1000", layout(riff(path)));
+    Assertions.assertArrayEquals(audio(), audioOf(path));
+  }
+
+  @Test
+  public void testAddIntoPadding()
+    throws Exception
+  {
+    final var path = standard();
+
+    try (var channel = FileChannel.open(path, READ, WRITE)) {
+      final var editor = new WaveMetadataEditors().createForChannel(path.toUri(), channel);
+      Assertions.assertEquals(Optional.empty(), editor.read(WaveMetadataChunk.IXML));
+
+      final var result =
+        editor.set(WaveMetadataChunk.IXML, ByteBuffer.wrap("<BWFXML/>".getBytes(US_ASCII)))
+          .set(WaveMetadataChunk.ADTL, ByteBuffer.wrap(chunk("labl", new byte[8])))
+          .commit();
+      Assertions.assertEquals(0, result.chunksRelocated());
+      Assertions.assertEquals(16, editor.read(WaveMetadataChunk.ADTL).orElseThrow().remaining());
+    }
+
+    Assertions.assertEquals("fmt:16 bext:100 iXML:9 LIST:16 JUNK:154 data:1000", layout(riff(path)));
+    Assertions.assertArrayEquals(audio(), audioOf(path));
+  }
+
+  @Test
+  public void testRewrite()
+    throws Exception
+  {
+    final var path = standard();
+    final var size = Files.size(path);
+
+    final var editor = new WaveMetadataEditors().createForFile(path);
+    final var result =
+      editor.set(WaveMetadataChunk.BEXT, ByteBuffer.wrap(filled(999, 5)))
+        .set(WaveMetadataChunk.IXML, ByteBuffer.wrap("<BWFXML/>".getBytes(US_ASCII)))
+        .commit();
+
+    Assertions.assertEquals(1, result.chunksRelocated());
+    Assertions.assertTrue(result.octetsWritten() < 1100L);
+    Assertions.assertArrayEquals(filled(999, 5), bytesOf(editor.read(WaveMetadataChunk.BEXT).orElseThrow()));
+
+    Assertions.assertEquals(size + 900L + 18L, Files.size(path));
+    Assertions.assertEquals("fmt:16 bext:999 JUNK:200 data:1000 iXML:9", layout(riff(path)));
+    Assertions.assertArrayEquals(audio(), audioOf(path));
+  }
+
+  @Test
+  public void testChannelCannotRewrite()
+    throws Exception
+  {
+    final var path = standard();
+    final var bytes = Files.readAllBytes(path);
+
+    try (var channel = FileChannel.open(path, READ, WRITE)) {
+      final var editor =
+        new WaveMetadataEditors()
+          .createForChannel(path.toUri(), channel)
+          .set(WaveMetadataChunk.IXML, ByteBuffer.wrap("<BWFXML/>".getBytes(US_ASCII)))
+          .set(WaveMetadataChunk.BEXT, ByteBuffer.wrap(filled(999, 5)));
+      final var ex = Assertions.assertThrows(RiffWriteException.class, editor::commit);
+      Assertions.assertTrue(ex.getMessage().contains("do not fit"));
+    }
+
+    Assertions.assertArrayEquals(bytes, Files.readAllBytes(path));
+  }
+
+  @Test
+  public void testRemove()
+    throws Exception
+  {
+    final var path = standard();
+
+    try (var channel = FileChannel.open(path, READ, WRITE)) {
+      final var result =
+        new WaveMetadataEditors()
+          .createForChannel(path.toUri(), channel)
+          .remove(WaveMetadataChunk.BEXT)
+          .remove(WaveMetadataChunk.AXML)
+          .commit();
+      Assertions.assertEquals(4L, result.octetsWritten());
+    }
+
+    Assertions.assertEquals("fmt:16 JUNK:100 JUNK:200 data:1000", layout(riff(path)));
+  }
+
+  @Test
+  public void testRewriteRF64()
+    throws Exception
+  {
+    final var audio = audio();
+    final var ds64 = ByteBuffer.allocate(28).order(LITTLE_ENDIAN);
+    ds64.putLong(0L);
+    ds64.putLong(audio.length);
+
+    final var body =
+      concat(
+        "WAVE".getBytes(US_ASCII),
+        chunk("ds64", ds64.array()),
+        chunk("fmt ", new byte[16]),
+        chunk("data", audio));
+
+    final var root = ByteBuffer.wrap(body).order(LITTLE_ENDIAN);
+    root.putLong(12, 4L + body.length - 4L);
+    final var bytes = ByteBuffer.allocate(8 + body.length).order(LITTLE_ENDIAN);
+    bytes.put("RF64".getBytes(US_ASCII));
+    bytes.putInt(0xffff_ffff);
+    bytes.put(body);
+    bytes.putInt(12 + 8 + 28 + 8 + 16 + 4, 0xffff_ffff);
+
+    final var path = Files.createTempFile("jspiel-wave-meta-", ".wav");
+    Files.write(path, bytes.array());
+
+    final var result =
+      new WaveMetadataEditors()
+        .createForFile(path)
+        .set(WaveMetadataChunk.AXML, ByteBuffer.wrap(filled(33, 6)))
+        .commit();
+    Assertions.assertEquals(1, result.chunksRelocated());
+
+    final var file = riff(path);
+    Assertions.assertEquals("ds64:28 fmt:16 data:1000 axml:33", layout(file));
+    Assertions.assertEquals(Files.size(path) - 8L, file.chunks().get(0).dataSizeIncludingForm().size());
+    Assertions.assertArrayEquals(audio, audioOf(path));
+  }
+
+  @Test
+  public void testRewriteTrailingData()
+    throws Exception
+  {
+    final var path = standard();
+    final var trailing = new byte[]{1, 2, 3};
+    Files.write(path, concat(Files.readAllBytes(path), trailing));
+
+    new WaveMetadataEditors()
+      .createForFile(path)
+      .set(WaveMetadataChunk.BEXT, ByteBuffer.wrap(filled(999, 5)))
+      .commit();
+
+    final var bytes = Files.readAllBytes(path);
+    Assertions.assertEquals("fmt:16 bext:999 JUNK:200 data:1000", layout(riff(path)));
+    Assertions.assertArrayEquals(
+      trailing, Arrays.copyOfRange(bytes, bytes.length - trailing.length, bytes.length));
+    Assertions.assertArrayEquals(audio(), audioOf(path));
+  }
+
+  @Test
+  public void testRewriteRemove()
+    throws Exception
+  {
+    final var path = standard();
+
+    final var result =
+      new WaveMetadataEditors()
+        .createForFile(path)
+        .remove(WaveMetadataChunk.BEXT)
+        .set(WaveMetadataChunk.ADTL, ByteBuffer.wrap(chunk("labl", new byte[400])))
+        .commit();
+
+    Assertions.assertEquals(1, result.chunksRelocated());
+    Assertions.assertEquals("fmt:16 JUNK:200 data:1000 LIST:408", layout(riff(path)));
+    Assertions.assertArrayEquals(audio(), audioOf(path));
+  }
+
+  @Test
+  public void testNotWave()
+    throws Exception
+  {
+    final var path = Files.createTempFile("jspiel-wave-meta-", ".wav");
+    Files.write(path, chunk("RIFF", concat("AVI ".getBytes(US_ASCII), chunk("data", new byte[4]))));
+
+    try (var channel = FileChannel.open(path, READ, WRITE)) {
+      final var editors = new WaveMetadataEditors();
+      final var uri = URI.create("urn:x");
+      Assertions.assertThrows(
+        RiffParseException.class,
+        () -> editors.createForChannel(uri, channel));
+    }
+  }
+}
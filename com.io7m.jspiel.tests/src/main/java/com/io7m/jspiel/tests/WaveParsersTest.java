@@ -0,0 +1,335 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.tests;
+
+import com.io7m.jspiel.api.RiffChunkID;
+import com.io7m.jspiel.api.RiffFileWriterDescriptionType;
+import com.io7m.jspiel.api.RiffParseException;
+import com.io7m.jspiel.vanilla.RiffFileBuilders;
+import com.io7m.jspiel.vanilla.RiffParsers;
+import com.io7m.jspiel.vanilla.RiffSeekableByteChannels;
+import com.io7m.jspiel.vanilla.RiffWriters;
+import com.io7m.jspiel.wave.WaveFormatTags;
+import com.io7m.jspiel.wave.WaveParsers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static java.nio.ByteOrder.BIG_ENDIAN;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+public final class WaveParsersTest
+{
+  private static ByteBuffer resource(
+    final String name)
+    throws IOException
+  {
+    final var path = "/com/io7m/jspiel/tests/" + name;
+    try (var stream = WaveParsersTest.class.getResourceAsStream(path)) {
+      try (var output = new ByteArrayOutputStream(1024)) {
+        stream.transferTo(output);
+        return ByteBuffer.wrap(output.toByteArray());
+      }
+    }
+  }
+
+  private static ByteBuffer serialize(
+    final RiffFileWriterDescriptionType description)
+    throws Exception
+  {
+    final var path = Files.createTempFile("jspiel-wave-", ".wav");
+    try (var channel = FileChannel.open(path, READ, WRITE, CREATE, TRUNCATE_EXISTING)) {
+      new RiffWriters().createForChannel(path.toUri(), description, channel).write();
+    }
+    return ByteBuffer.wrap(Files.readAllBytes(path));
+  }
+
+  private static WaveParsers parsers()
+  {
+    return new WaveParsers(new RiffParsers());
+  }
+
+  @Test
+  public void test000_12_le()
+    throws Exception
+  {
+    final var wave =
+      parsers().createForByteBuffer(URI.create("000_12_le.wav"), resource("000_12_le.wav"))
+        .parse();
+
+    final var format = wave.format();
+    Assertions.assertEquals(LITTLE_ENDIAN, wave.riff().byteOrder());
+    Assertions.assertEquals(WaveFormatTags.WAVE_FORMAT_IEEE_FLOAT, format.formatTag());
+    Assertions.assertEquals(WaveFormatTags.WAVE_FORMAT_IEEE_FLOAT, format.effectiveFormatTag());
+    Assertions.assertEquals(1, format.channels());
+    Assertions.assertEquals(48000L, format.samplesPerSecond());
+    Assertions.assertEquals(192000L, format.averageBytesPerSecond());
+    Assertions.assertEquals(4, format.blockAlign());
+    Assertions.assertEquals(32, format.bitsPerSample());
+    Assertions.assertTrue(format.extensible().isEmpty());
+
+    Assertions.assertTrue(wave.fact().isEmpty());
+    Assertions.assertEquals(List.of(), wave.cuePoints());
+    Assertions.assertTrue(wave.sampler().isEmpty());
+    Assertions.assertEquals(Map.of(), wave.info());
+
+    final var data = wave.data();
+    Assertions.assertEquals(0, data.position());
+    Assertions.assertEquals(192000, data.limit());
+    Assertions.assertEquals(LITTLE_ENDIAN, data.order());
+    Assertions.assertTrue(data.isReadOnly());
+    Assertions.assertEquals(48000L, wave.frameCount());
+  }
+
+  @Test
+  public void test000_12_be()
+    throws Exception
+  {
+    final var wave =
+      parsers().createForByteBuffer(URI.create("000_12_be.wav"), resource("000_12_be.wav"))
+        .parse();
+
+    final var format = wave.format();
+    Assertions.assertEquals(BIG_ENDIAN, wave.riff().byteOrder());
+    Assertions.assertEquals(WaveFormatTags.WAVE_FORMAT_IEEE_FLOAT, format.formatTag());
+    Assertions.assertEquals(1, format.channels());
+    Assertions.assertEquals(48000L, format.samplesPerSecond());
+    Assertions.assertEquals(192000L, format.averageBytesPerSecond());
+    Assertions.assertEquals(4, format.blockAlign());
+    Assertions.assertEquals(32, format.bitsPerSample());
+    Assertions.assertEquals(48000L, wave.fact().orElseThrow().sampleLength());
+
+    final var data = wave.data();
+    Assertions.assertEquals(192000, data.limit());
+    Assertions.assertEquals(BIG_ENDIAN, data.order());
+    Assertions.assertEquals(48000L, wave.frameCount());
+  }
+
+  @Test
+  public void testByteOrdersAgree()
+    throws Exception
+  {
+    final var le =
+      parsers().createForByteBuffer(URI.create("000_12_le.wav"), resource("000_12_le.wav"))
+        .parse()
+        .data();
+    final var be =
+      parsers().createForByteBuffer(URI.create("000_12_be.wav"), resource("000_12_be.wav"))
+        .parse()
+        .data();
+
+    Assertions.assertEquals(le.limit(), be.limit());
+    for (var index = 0; index < le.limit(); index += 4) {
+      Assertions.assertEquals(
+        le.getFloat(index),
+        be.getFloat(index),
+        0.000_001,
+        "Sample at " + index);
+    }
+  }
+
+  @Test
+  public void testDataChannel()
+    throws Exception
+  {
+    final var path = Files.createTempFile("jspiel-wave-", ".wav");
+    Files.write(path, resource("000_12_le.wav").array());
+
+    try (var file = FileChannel.open(path, READ)) {
+      final var map = file.map(FileChannel.MapMode.READ_ONLY, 0L, file.size());
+      final var wave = parsers().createForByteBuffer(path.toUri(), map).parse();
+
+      try (var channel = wave.dataChannel(new RiffSeekableByteChannels(), file)) {
+        Assertions.assertEquals(192000L, channel.size());
+        final var buffer = ByteBuffer.allocate(8);
+        channel.read(buffer);
+        Assertions.assertEquals(wave.data().getLong(0), buffer.order(LITTLE_ENDIAN).getLong(0));
+      }
+    }
+  }
+
+  @Test
+  public void testExtensibleAndMetadata()
+    throws Exception
+  {
+    final var builder = new RiffFileBuilders().create(LITTLE_ENDIAN);
+    try (var root = builder.setRootChunk(RiffChunkID.of("RIFF"), "WAVE")) {
+      try (var c = root.addSubChunk(RiffChunkID.of("fmt "))) {
+        c.setDataWriter(channel -> {
+          final var b = ByteBuffer.allocate(40).order(LITTLE_ENDIAN);
+          b.putShort((short) 0xfffe);
+          b.putShort((short) 2);
+          b.putInt(44100);
+          b.putInt(44100 * 6);
+          b.putShort((short) 6);
+          b.putShort((short) 24);
+          b.putShort((short) 22);
+          b.putShort((short) 20);
+          b.putInt(0x3);
+          b.putInt(0x00000001);
+          b.putShort((short) 0x0000);
+          b.putShort((short) 0x0010);
+          b.put(new byte[]{
+            (byte) 0x80, 0x00, 0x00, (byte) 0xaa, 0x00, 0x38, (byte) 0x9b, 0x71,
+          });
+          channel.write(b.flip());
+        });
+      }
+      try (var c = root.addSubChunk(RiffChunkID.of("cue "))) {
+        c.setDataWriter(channel -> {
+          final var b = ByteBuffer.allocate(4 + 48).order(LITTLE_ENDIAN);
+          b.putInt(2);
+          b.putInt(1).putInt(100).put("data".getBytes(US_ASCII)).putInt(0).putInt(0).putInt(100);
+          b.putInt(2).putInt(200).put("data".getBytes(US_ASCII)).putInt(0).putInt(0).putInt(200);
+          channel.write(b.flip());
+        });
+      }
+      try (var c = root.addSubChunk(RiffChunkID.of("smpl"))) {
+        c.setDataWriter(channel -> {
+          final var b = ByteBuffer.allocate(36 + 24).order(LITTLE_ENDIAN);
+          b.putInt(0).putInt(0).putInt(22675).putInt(60).putInt(0).putInt(0).putInt(0);
+          b.putInt(1).putInt(0);
+          b.putInt(1).putInt(0).putInt(100).putInt(200).putInt(0).putInt(0);
+          channel.write(b.flip());
+        });
+      }
+      try (var c = root.addSubChunk(RiffChunkID.of("LIST"))) {
+        c.setForm("INFO");
+        try (var d = c.addSubChunk(RiffChunkID.of("INAM"))) {
+          d.setDataWriter(channel -> channel.write(ByteBuffer.wrap("Name\0".getBytes(US_ASCII))));
+        }
+        try (var d = c.addSubChunk(RiffChunkID.of("ICMT"))) {
+          d.setDataWriter(channel -> channel.write(ByteBuffer.wrap("A comment\0".getBytes(US_ASCII))));
+        }
+      }
+      try (var c = root.addSubChunk(RiffChunkID.of("data"))) {
+        c.setDataWriter(channel -> channel.write(ByteBuffer.allocate(6 * 10)));
+      }
+    }
+
+    final var data = serialize(builder.build());
+    final var wave = parsers().createForByteBuffer(URI.create("urn:test"), data).parse();
+
+    final var format = wave.format();
+    Assertions.assertEquals(WaveFormatTags.WAVE_FORMAT_EXTENSIBLE, format.formatTag());
+    Assertions.assertEquals(WaveFormatTags.WAVE_FORMAT_PCM, format.effectiveFormatTag());
+    Assertions.assertEquals(2, format.channels());
+    Assertions.assertEquals(24, format.bitsPerSample());
+
+    final var ext = format.extensible().orElseThrow();
+    Assertions.assertEquals(20, ext.validBitsPerSample());
+    Assertions.assertEquals(3L, ext.channelMask());
+    Assertions.assertEquals(
+      UUID.fromString("00000001-0000-0010-8000-00aa00389b71"),
+      ext.subFormat());
+
+    final var cues = wave.cuePoints();
+    Assertions.assertEquals(2, cues.size());
+    Assertions.assertEquals(1L, cues.get(0).identifier());
+    Assertions.assertEquals(100L, cues.get(0).position());
+    Assertions.assertEquals("data", cues.get(0).chunkID().value());
+    Assertions.assertEquals(200L, cues.get(1).sampleOffset());
+
+    final var sampler = wave.sampler().orElseThrow();
+    Assertions.assertEquals(22675L, sampler.samplePeriod());
+    Assertions.assertEquals(60L, sampler.midiUnityNote());
+    Assertions.assertEquals(1, sampler.loops().size());
+    Assertions.assertEquals(100L, sampler.loops().get(0).start());
+    Assertions.assertEquals(200L, sampler.loops().get(0).end());
+
+    Assertions.assertEquals(List.of("INAM", "ICMT"), List.copyOf(wave.info().keySet()));
+    Assertions.assertEquals("Name", wave.info().get("INAM"));
+    Assertions.assertEquals("A comment", wave.info().get("ICMT"));
+    Assertions.assertEquals(10L, wave.frameCount());
+
+    final var path = Files.createTempFile("jspiel-wave-", ".wav");
+    Files.write(path, data.array());
+    try (var file = FileChannel.open(path, READ)) {
+      final var channel_wave = parsers().createForChannel(path.toUri(), file).parse();
+      Assertions.assertEquals(wave.format(), channel_wave.format());
+      Assertions.assertEquals(wave.cuePoints(), channel_wave.cuePoints());
+      Assertions.assertEquals(wave.sampler(), channel_wave.sampler());
+      Assertions.assertEquals(wave.info(), channel_wave.info());
+      Assertions.assertEquals(wave.frameCount(), channel_wave.frameCount());
+      Assertions.assertThrows(UnsupportedOperationException.class, channel_wave::data);
+    }
+  }
+
+  @Test
+  public void testNotWave()
+  {
+    final var ex = Assertions.assertThrows(RiffParseException.class, () -> {
+      parsers().createForByteBuffer(URI.create("complex0.sf2"), resource("complex0.sf2"))
+        .parse();
+    });
+    Assertions.assertTrue(ex.getMessage().contains("not a WAVE file"));
+  }
+
+  @Test
+  public void testMissingFormat()
+    throws Exception
+  {
+    final var builder = new RiffFileBuilders().create(LITTLE_ENDIAN);
+    try (var root = builder.setRootChunk(RiffChunkID.of("RIFF"), "WAVE")) {
+      try (var c = root.addSubChunk(RiffChunkID.of("data"))) {
+        c.setDataWriter(channel -> channel.write(ByteBuffer.allocate(4)));
+      }
+    }
+
+    final var data = serialize(builder.build());
+    final var ex = Assertions.assertThrows(RiffParseException.class, () -> {
+      parsers().createForByteBuffer(URI.create("urn:test"), data).parse();
+    });
+    Assertions.assertTrue(ex.getMessage().contains("fmt "));
+  }
+
+  @Test
+  public void testFormatTooSmall()
+    throws Exception
+  {
+    final var builder = new RiffFileBuilders().create(LITTLE_ENDIAN);
+    try (var root = builder.setRootChunk(RiffChunkID.of("RIFF"), "WAVE")) {
+      try (var c = root.addSubChunk(RiffChunkID.of("fmt "))) {
+        c.setDataWriter(channel -> channel.write(ByteBuffer.allocate(8)));
+      }
+      try (var c = root.addSubChunk(RiffChunkID.of("data"))) {
+        c.setDataWriter(channel -> channel.write(ByteBuffer.allocate(4)));
+      }
+    }
+
+    final var data = serialize(builder.build());
+    final var ex = Assertions.assertThrows(RiffParseException.class, () -> {
+      parsers().createForByteBuffer(URI.create("urn:test"), data).parse();
+    });
+    Assertions.assertTrue(ex.getMessage().contains("too small"));
+  }
+}
@@ -0,0 +1,560 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.tests;
+
+import com.io7m.jspiel.api.RiffParseException;
+import com.io7m.jspiel.api.RiffWriteException;
+import com.io7m.jspiel.vanilla.RiffFileBuilders;
+import com.io7m.jspiel.vanilla.RiffParsers;
+import com.io7m.jspiel.vanilla.RiffSeekableByteChannels;
+import com.io7m.jspiel.vanilla.RiffWriters;
+import com.io7m.jspiel.wave.WaveFileType;
+import com.io7m.jspiel.wave.WaveFormat;
+import com.io7m.jspiel.wave.WaveFormatExtensible;
+import com.io7m.jspiel.wave.WaveFormatTags;
+import com.io7m.jspiel.wave.WaveFrameReaders;
+import com.io7m.jspiel.wave.WaveParsers;
+import com.io7m.jspiel.wave.WaveRF64Mode;
+import com.io7m.jspiel.wave.WaveStreamWriterConfiguration;
+import com.io7m.jspiel.wave.WaveStreamWriters;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+public final class WaveStreamWritersTest
+{
+  private static WaveStreamWriters writers()
+  {
+    return new WaveStreamWriters(new RiffFileBuilders(), new RiffWriters());
+  }
+
+  private static WaveFormat format(
+    final int tag,
+    final int channels,
+    final int bits)
+  {
+    final var block_align = channels * (bits / 8);
+    return WaveFormat.builder()
+      .setFormatTag(tag)
+      .setChannels(channels)
+      .setSamplesPerSecond(48000L)
+      .setAverageBytesPerSecond(48000L * (long) block_align)
+      .setBlockAlign(block_align)
+      .setBitsPerSample(bits)
+      .build();
+  }
+
+  private static WaveFileType parse(
+    final Path path)
+    throws Exception
+  {
+    return new WaveParsers(new RiffParsers())
+      .createForByteBuffer(path.toUri(), ByteBuffer.wrap(Files.readAllBytes(path)))
+      .parse();
+  }
+
+  private static float[] ramp(
+    final int count)
+  {
+    final var samples = new float[count];
+    for (var index = 0; index < count; ++index) {
+      samples[index] = ((float) (index % 200) - 100.0f) / 100.0f;
+    }
+    return samples;
+  }
+
+  private static void writeAndRead(
+    final WaveFormat format,
+    final WaveRF64Mode mode,
+    final float tolerance)
+    throws Exception
+  {
+    final var path = Files.createTempFile("jspiel-wave-stream-", ".wav");
+    final var samples = ramp(10_001 * format.channels());
+
+    try (var channel = FileChannel.open(path, READ, WRITE, CREATE, TRUNCATE_EXISTING)) {
+      final var configuration =
+        WaveStreamWriterConfiguration.builder()
+          .setFormat(format)
+          .setRf64Mode(mode)
+          .setBufferSize(1000)
+          .build();
+
+      try (var writer = writers().createForChannel(path.toUri(), configuration, channel)) {
+        var frame = 0;
+        while (frame < 10_001) {
+          final var count = Math.min(333, 10_001 - frame);
+          writer.write(samples, frame * format.channels(), count);
+          frame += count;
+        }
+        Assertions.assertEquals(10_001L, writer.framesWritten());
+      }
+    }
+
+    final var wave = parse(path);
+    Assertions.assertEquals(format, wave.format());
+    Assertions.assertEquals(10_001L, wave.frameCount());
+
+    final var root = wave.rootChunk().name().value();
+    Assertions.assertEquals(mode == WaveRF64Mode.ALWAYS ? "RF64" : "RIFF", root);
+    Assertions.assertEquals(Files.size(path), wave.rootChunk().totalSize());
+
+    final var reader = WaveFrameReaders.create(wave);
+    final var output = new float[samples.length];
+    Assertions.assertEquals(10_001, reader.read(output, 0, 10_001));
+    for (var index = 0; index < samples.length; ++index) {
+      Assertions.assertEquals(samples[index], output[index], tolerance);
+    }
+
+    try (var channel = FileChannel.open(path, READ)) {
+      final var channel_wave =
+        new WaveParsers(new RiffParsers())
+          .createForChannel(path.toUri(), channel)
+          .parse();
+
+      Assertions.assertEquals(format, channel_wave.format());
+      Assertions.assertEquals(10_001L, channel_wave.frameCount());
+      Assertions.assertEquals(wave.dataChunk().dataOffset(), channel_wave.dataChunk().dataOffset());
+
+      /*
+       * The restricted channel refuses reads that reach its upper bound, so the final octet of
+       * the data is not compared.
+       */
+
+      final var expected = wave.data();
+      final var buffer = ByteBuffer.allocate(expected.limit() - 1);
+      try (var data = channel_wave.dataChannel(new RiffSeekableByteChannels(), channel)) {
+        Assertions.assertEquals(expected.limit(), data.size());
+        data.read(buffer);
+      }
+      Assertions.assertEquals(expected.limit(expected.limit() - 1), buffer.flip());
+    }
+  }
+
+  @Test
+  public void testPCM8()
+    throws Exception
+  {
+    writeAndRead(format(WaveFormatTags.WAVE_FORMAT_PCM, 1, 8), WaveRF64Mode.AUTOMATIC, 0.01f);
+  }
+
+  @Test
+  public void testPCM16()
+    throws Exception
+  {
+    writeAndRead(format(WaveFormatTags.WAVE_FORMAT_PCM, 2, 16), WaveRF64Mode.NEVER, 0.0001f);
+  }
+
+  @Test
+  public void testPCM24()
+    throws Exception
+  {
+    writeAndRead(format(WaveFormatTags.WAVE_FORMAT_PCM, 3, 24), WaveRF64Mode.AUTOMATIC, 0.000_001f);
+  }
+
+  @Test
+  public void testPCM32()
+    throws Exception
+  {
+    writeAndRead(format(WaveFormatTags.WAVE_FORMAT_PCM, 2, 32), WaveRF64Mode.ALWAYS, 0.000_001f);
+  }
+
+  @Test
+  public void testFloat32()
+    throws Exception
+  {
+    writeAndRead(format(WaveFormatTags.WAVE_FORMAT_IEEE_FLOAT, 2, 32), WaveRF64Mode.ALWAYS, 0.0f);
+  }
+
+  @Test
+  public void testFloat64()
+    throws Exception
+  {
+    writeAndRead(format(WaveFormatTags.WAVE_FORMAT_IEEE_FLOAT, 1, 64), WaveRF64Mode.NEVER, 0.0f);
+  }
+
+  @Test
+  public void testExtensible()
+    throws Exception
+  {
+    final var format =
+      WaveFormat.builder()
+        .from(format(WaveFormatTags.WAVE_FORMAT_EXTENSIBLE, 2, 16))
+        .setExtensible(
+          WaveFormatExtensible.builder()
+            .setValidBitsPerSample(16)
+            .setChannelMask(0x3L)
+            .setSubFormat(UUID.fromString("00000001-0000-0010-8000-00aa00389b71"))
+            .build())
+        .build();
+
+    writeAndRead(format, WaveRF64Mode.AUTOMATIC, 0.0001f);
+  }
+
+  @Test
+  public void testOddByteBufferWrites()
+    throws Exception
+  {
+    final var path = Files.createTempFile("jspiel-wave-stream-", ".wav");
+    final var format = format(WaveFormatTags.WAVE_FORMAT_PCM, 1, 8);
+
+    final var small = ByteBuffer.wrap(new byte[]{1, 2, 3});
+    final var large = ByteBuffer.allocateDirect(70_000);
+    try (var channel = FileChannel.open(path, READ, WRITE, CREATE, TRUNCATE_EXISTING)) {
+      final var configuration =
+        WaveStreamWriterConfiguration.builder()
+          .setFormat(format)
+          .build();
+
+      try (var writer = writers().createForChannel(path.toUri(), configuration, channel)) {
+        writer.write(small);
+        writer.write(large);
+        writer.write(ByteBuffer.wrap(new byte[]{4, 5}));
+        Assertions.assertEquals(0, small.remaining());
+        Assertions.assertEquals(0, large.remaining());
+        Assertions.assertEquals(70_005L, writer.dataSize());
+      }
+    }
+
+    final var wave = parse(path);
+    Assertions.assertEquals(70_005L, wave.frameCount());
+    final var data = wave.data();
+    Assertions.assertEquals(1, data.get(0));
+    Assertions.assertEquals(3, data.get(2));
+    Assertions.assertEquals(0, data.get(3));
+    Assertions.assertEquals(4, data.get(70_003));
+    Assertions.assertEquals(5, data.get(70_004));
+    Assertions.assertEquals(Files.size(path), wave.rootChunk().totalSize());
+  }
+
+  @Test
+  public void testTruncatesExistingContent()
+    throws Exception
+  {
+    final var path = Files.createTempFile("jspiel-wave-stream-", ".wav");
+    Files.write(path, new byte[4096]);
+
+    try (var channel = FileChannel.open(path, READ, WRITE)) {
+      final var configuration =
+        WaveStreamWriterConfiguration.builder()
+          .setFormat(format(WaveFormatTags.WAVE_FORMAT_PCM, 1, 16))
+          .build();
+
+      try (var writer = writers().createForChannel(path.toUri(), configuration, channel)) {
+        writer.write(new float[]{0.5f}, 0, 1);
+      }
+    }
+
+    final var wave = parse(path);
+    Assertions.assertEquals(1L, wave.frameCount());
+    Assertions.assertEquals(Files.size(path), wave.rootChunk().totalSize());
+  }
+
+  @Test
+  public void testClosedWriter()
+    throws Exception
+  {
+    final var path = Files.createTempFile("jspiel-wave-stream-", ".wav");
+    try (var channel = FileChannel.open(path, READ, WRITE, CREATE, TRUNCATE_EXISTING)) {
+      final var configuration =
+        WaveStreamWriterConfiguration.builder()
+          .setFormat(format(WaveFormatTags.WAVE_FORMAT_PCM, 1, 16))
+          .build();
+
+      final var writer = writers().createForChannel(path.toUri(), configuration, channel);
+      writer.close();
+      writer.close();
+      Assertions.assertThrows(
+        IllegalStateException.class, () -> writer.write(ByteBuffer.allocate(2)));
+    }
+
+    Assertions.assertEquals(0L, parse(path).frameCount());
+  }
+
+  /**
+   * Writing more than 4GiB through a channel that only retains the header produces an RF64
+   * file in automatic mode.
+   */
+
+  @Test
+  public void testAutomaticRF64()
+    throws Exception
+  {
+    final var channel = new HeaderOnlyChannel();
+    final var configuration =
+      WaveStreamWriterConfiguration.builder()
+        .setFormat(format(WaveFormatTags.WAVE_FORMAT_PCM, 2, 16))
+        .build();
+
+    final var block = ByteBuffer.allocate(1 << 24);
+    final var blocks = 257L;
+
+    try (var writer =
+           writers().createForChannel(URI.create("urn:test"), configuration, channel)) {
+      for (var index = 0L; index < blocks; ++index) {
+        writer.write(block.clear());
+      }
+    }
+
+    final var data_size = blocks << 24;
+    final var header = channel.header.order(LITTLE_ENDIAN);
+    Assertions.assertEquals("RF64", ascii(header, 0));
+    Assertions.assertEquals(-1, header.getInt(4));
+    Assertions.assertEquals("ds64", ascii(header, 12));
+    Assertions.assertEquals(28, header.getInt(16));
+    Assertions.assertEquals(channel.size - 8L, header.getLong(20));
+    Assertions.assertEquals(data_size, header.getLong(28));
+    Assertions.assertEquals(data_size / 4L, header.getLong(36));
+    Assertions.assertEquals("fmt ", ascii(header, 48));
+    Assertions.assertEquals("data", ascii(header, 72));
+    Assertions.assertEquals(-1, header.getInt(76));
+    Assertions.assertEquals(80L + data_size, channel.size);
+  }
+
+  /**
+   * An RF64 file with more than 4GiB of data can be parsed from a channel, and its data read
+   * via the data channel.
+   */
+
+  @Test
+  public void testRF64LargerThan4GiBChannel()
+    throws Exception
+  {
+    final var header_channel = new HeaderOnlyChannel();
+    final var configuration =
+      WaveStreamWriterConfiguration.builder()
+        .setFormat(format(WaveFormatTags.WAVE_FORMAT_PCM, 2, 16))
+        .build();
+
+    final var block = ByteBuffer.allocate(1 << 24);
+    final var blocks = 257L;
+
+    try (var writer =
+           writers().createForChannel(URI.create("urn:test"), configuration, header_channel)) {
+      for (var index = 0L; index < blocks; ++index) {
+        writer.write(block.clear());
+      }
+    }
+
+    /*
+     * Produce a sparse file holding the written header, with the audio data zero-filled
+     * except for a marker near the end.
+     */
+
+    final var data_size = blocks << 24;
+    final var path = Files.createTempFile("jspiel-wave-rf64-", ".wav");
+    try (var channel = FileChannel.open(path, WRITE, TRUNCATE_EXISTING)) {
+      channel.write(header_channel.header.duplicate().limit(80), 0L);
+      channel.write(ByteBuffer.wrap(new byte[]{0x7f, 0x00}), 80L + data_size - 2L);
+    }
+    Assertions.assertEquals(80L + data_size, Files.size(path));
+
+    try (var channel = FileChannel.open(path, READ)) {
+      final var wave =
+        new WaveParsers(new RiffParsers())
+          .createForChannel(path.toUri(), channel)
+          .parse();
+
+      Assertions.assertEquals("RF64", wave.rootChunk().name().value());
+      Assertions.assertEquals(configuration.format(), wave.format());
+      Assertions.assertEquals(data_size / 4L, wave.frameCount());
+
+      try (var data = wave.dataChannel(new RiffSeekableByteChannels(), channel)) {
+        Assertions.assertEquals(data_size, data.size());
+        final var buffer = ByteBuffer.allocate(1);
+        data.position(data_size - 2L);
+        data.read(buffer);
+        Assertions.assertEquals(0x7f, buffer.get(0));
+      }
+    }
+  }
+
+  /**
+   * Writing more than 4GiB with RF64 disabled fails before the limit is crossed.
+   */
+
+  @Test
+  public void testNeverRF64Limit()
+    throws Exception
+  {
+    final var channel = new HeaderOnlyChannel();
+    final var configuration =
+      WaveStreamWriterConfiguration.builder()
+        .setFormat(format(WaveFormatTags.WAVE_FORMAT_PCM, 2, 16))
+        .setRf64Mode(WaveRF64Mode.NEVER)
+        .build();
+
+    final var block = ByteBuffer.allocate(1 << 24);
+    try (var writer =
+           writers().createForChannel(URI.create("urn:test"), configuration, channel)) {
+      for (var index = 0; index < 255; ++index) {
+        writer.write(block.clear());
+      }
+
+      final var ex =
+        Assertions.assertThrows(RiffWriteException.class, () -> writer.write(block.clear()));
+      Assertions.assertTrue(ex.getMessage().contains("maximum size of a RIFF file"));
+    }
+
+    final var header = channel.header.order(LITTLE_ENDIAN);
+    Assertions.assertEquals("RIFF", ascii(header, 0));
+    Assertions.assertEquals(255L << 24, Integer.toUnsignedLong(header.getInt(40)));
+  }
+
+  /**
+   * The ds64 data size applies only to the {@code data} chunk directly under the root; a
+   * {@code data} chunk nested anywhere else keeps its declared size.
+   */
+
+  @Test
+  public void testRF64DeferredSizeTopLevelOnly()
+    throws Exception
+  {
+    final var parsers = new RiffParsers();
+
+    final var top = rf64WithData(false);
+    final var file = parsers.createForByteBuffer(URI.create("urn:top"), top).parse();
+    final var data = file.chunks().get(0).findRequiredSubChunk("data");
+    Assertions.assertEquals(4L, data.dataSizeIncludingForm().size());
+
+    final var nested = rf64WithData(true);
+    Assertions.assertThrows(
+      RiffParseException.class,
+      () -> parsers.createForByteBuffer(URI.create("urn:nested"), nested).parse());
+  }
+
+  private static ByteBuffer rf64WithData(
+    final boolean nested)
+  {
+    final var size = nested ? 72 : 60;
+    final var buffer = ByteBuffer.allocate(size).order(LITTLE_ENDIAN);
+    buffer.put("RF64".getBytes(US_ASCII));
+    buffer.putInt(-1);
+    buffer.put("WAVE".getBytes(US_ASCII));
+    buffer.put("ds64".getBytes(US_ASCII));
+    buffer.putInt(28);
+    buffer.putLong((long) size - 8L);
+    buffer.putLong(4L);
+    buffer.putLong(1L);
+    buffer.putInt(0);
+    if (nested) {
+      buffer.put("LIST".getBytes(US_ASCII));
+      buffer.putInt(16);
+      buffer.put("INFO".getBytes(US_ASCII));
+    }
+    buffer.put("data".getBytes(US_ASCII));
+    buffer.putInt(-1);
+    buffer.putInt(0);
+    return buffer.flip();
+  }
+
+  private static String ascii(
+    final ByteBuffer buffer,
+    final int offset)
+  {
+    final var bytes = new byte[4];
+    buffer.get(offset, bytes);
+    return new String(bytes, US_ASCII);
+  }
+
+  /**
+   * A channel that retains only the first few hundred octets written to it, and otherwise
+   * tracks its position and size.
+   */
+
+  private static final class HeaderOnlyChannel implements SeekableByteChannel
+  {
+    private final ByteBuffer header = ByteBuffer.allocate(256);
+    private long position;
+    private long size;
+
+    @Override
+    public int read(final ByteBuffer dst)
+    {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int write(final ByteBuffer src)
+    {
+      final var count = src.remaining();
+      for (var index = 0; index < count && this.position + index < 256L; ++index) {
+        this.header.put((int) (this.position + index), src.get(src.position() + index));
+      }
+      src.position(src.limit());
+      this.position += count;
+      this.size = Math.max(this.size, this.position);
+      return count;
+    }
+
+    @Override
+    public long position()
+    {
+      return this.position;
+    }
+
+    @Override
+    public SeekableByteChannel position(final long new_position)
+    {
+      this.position = new_position;
+      return this;
+    }
+
+    @Override
+    public long size()
+    {
+      return this.size;
+    }
+
+    @Override
+    public SeekableByteChannel truncate(final long new_size)
+    {
+      this.size = Math.min(this.size, new_size);
+      this.position = Math.min(this.position, new_size);
+      return this;
+    }
+
+    @Override
+    public boolean isOpen()
+    {
+      return true;
+    }
+
+    @Override
+    public void close()
+      throws IOException
+    {
+
+    }
+  }
+}
@@ -0,0 +1,313 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.tests;
+
+import com.io7m.jspiel.api.RiffParseException;
+import com.io7m.jspiel.vanilla.RiffParsers;
+import com.io7m.jspiel.webp.WebPEncoding;
+import com.io7m.jspiel.webp.WebPExtendedHeaderType;
+import com.io7m.jspiel.webp.WebPFileType;
+import com.io7m.jspiel.webp.WebPParsers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+public final class WebPParsersTest
+{
+  private static final URI SOURCE = URI.create("urn:webp");
+
+  private static byte[] chunk(
+    final String id,
+    final byte[] data)
+  {
+    final var padded = data.length + (data.length & 1);
+    final var buffer = ByteBuffer.allocate(8 + padded).order(LITTLE_ENDIAN);
+    buffer.put(id.getBytes(US_ASCII));
+    buffer.putInt(data.length);
+    buffer.put(data);
+    return buffer.array();
+  }
+
+  private static byte[] concat(
+    final byte[]... parts)
+  {
+    final var output = new ByteArrayOutputStream();
+    for (final var part : parts) {
+      output.writeBytes(part);
+    }
+    return output.toByteArray();
+  }
+
+  private static byte[] webp(
+    final byte[]... chunks)
+  {
+    return chunk("RIFF", concat("WEBP".getBytes(US_ASCII), concat(chunks)));
+  }
+
+  private static byte[] vp8(
+    final int width,
+    final int height,
+    final int extra)
+  {
+    final var buffer = ByteBuffer.allocate(10 + extra).order(LITTLE_ENDIAN);
+    buffer.put(new byte[]{0x10, 0x02, 0x00, (byte) 0x9d, 0x01, 0x2a});
+    buffer.putShort((short) width);
+    buffer.putShort((short) height);
+    for (var index = 0; index < extra; ++index) {
+      buffer.put((byte) index);
+    }
+    return buffer.array();
+  }
+
+  private static byte[] vp8l(
+    final int width,
+    final int height)
+  {
+    final var buffer = ByteBuffer.allocate(9).order(LITTLE_ENDIAN);
+    buffer.put((byte) 0x2f);
+    buffer.putInt((width - 1) | ((height - 1) << 14) | (1 << 28));
+    buffer.putInt(0xdeadbeef);
+    return buffer.array();
+  }
+
+  private static byte[] u24(
+    final int value)
+  {
+    return new byte[]{(byte) value, (byte) (value >>> 8), (byte) (value >>> 16)};
+  }
+
+  private static byte[] vp8x(
+    final int flags,
+    final int width,
+    final int height)
+  {
+    return concat(new byte[]{(byte) flags, 0, 0, 0}, u24(width - 1), u24(height - 1));
+  }
+
+  private static byte[] anmf(
+    final int x,
+    final int y,
+    final int width,
+    final int height,
+    final int duration,
+    final int flags,
+    final byte[]... chunks)
+  {
+    return chunk(
+      "ANMF",
+      concat(
+        u24(x / 2),
+        u24(y / 2),
+        u24(width - 1),
+        u24(height - 1),
+        u24(duration),
+        new byte[]{(byte) flags},
+        concat(chunks)));
+  }
+
+  private static WebPFileType parse(
+    final byte[] bytes)
+    throws RiffParseException
+  {
+    return new WebPParsers(new RiffParsers())
+      .createForByteBuffer(SOURCE, ByteBuffer.wrap(bytes))
+      .parse();
+  }
+
+  @Test
+  public void testSimpleLossy()
+    throws Exception
+  {
+    final var file = parse(webp(chunk("VP8 ", vp8(320, 240, 7))));
+
+    Assertions.assertEquals(320, file.canvasWidth());
+    Assertions.assertEquals(240, file.canvasHeight());
+    Assertions.assertEquals(Optional.empty(), file.extendedHeader());
+    Assertions.assertEquals(Optional.empty(), file.animation());
+    Assertions.assertEquals(1, file.frames().size());
+
+    final var frame = file.frames().get(0);
+    Assertions.assertEquals(WebPEncoding.LOSSY, frame.encoding());
+    Assertions.assertEquals(320, frame.width());
+    Assertions.assertEquals(240, frame.height());
+    Assertions.assertEquals(Optional.empty(), frame.alpha());
+
+    final var bitstream = frame.bitstream();
+    Assertions.assertTrue(bitstream.isReadOnly());
+    Assertions.assertEquals(17, bitstream.remaining());
+    Assertions.assertEquals((byte) 0x9d, bitstream.get(3));
+    Assertions.assertEquals((byte) 6, bitstream.get(16));
+  }
+
+  @Test
+  public void testSimpleLossless()
+    throws Exception
+  {
+    final var file = parse(webp(chunk("VP8L", vp8l(100, 50))));
+
+    Assertions.assertEquals(100, file.canvasWidth());
+    Assertions.assertEquals(50, file.canvasHeight());
+
+    final var frame = file.frames().get(0);
+    Assertions.assertEquals(WebPEncoding.LOSSLESS, frame.encoding());
+    Assertions.assertEquals(9, frame.bitstream().remaining());
+  }
+
+  @Test
+  public void testExtendedStill()
+    throws Exception
+  {
+    final var flags =
+      WebPExtendedHeaderType.FLAG_ICC
+        | WebPExtendedHeaderType.FLAG_ALPHA
+        | WebPExtendedHeaderType.FLAG_EXIF
+        | WebPExtendedHeaderType.FLAG_XMP;
+
+    final var file =
+      parse(webp(
+        chunk("VP8X", vp8x(flags, 640, 480)),
+        chunk("ICCP", new byte[]{1, 2, 3}),
+        chunk("ALPH", new byte[]{0, 9, 9, 9}),
+        chunk("VP8 ", vp8(640, 480, 0)),
+        chunk("EXIF", new byte[]{4, 5}),
+        chunk("XMP ", "<x/>".getBytes(US_ASCII))));
+
+    final var header = file.extendedHeader().orElseThrow();
+    Assertions.assertTrue(header.hasICCProfile());
+    Assertions.assertTrue(header.hasAlpha());
+    Assertions.assertTrue(header.hasEXIF());
+    Assertions.assertTrue(header.hasXMP());
+    Assertions.assertFalse(header.isAnimated());
+
+    Assertions.assertEquals(640, file.canvasWidth());
+    Assertions.assertEquals(480, file.canvasHeight());
+    Assertions.assertEquals(3, file.iccProfile().orElseThrow().remaining());
+    Assertions.assertEquals((byte) 5, file.exif().orElseThrow().get(1));
+    Assertions.assertEquals(4, file.xmp().orElseThrow().remaining());
+    Assertions.assertEquals(4, file.frames().get(0).alpha().orElseThrow().remaining());
+  }
+
+  @Test
+  public void testAnimated()
+    throws Exception
+  {
+    final var file =
+      parse(webp(
+        chunk("VP8X", vp8x(WebPExtendedHeaderType.FLAG_ANIMATION, 200, 100)),
+        chunk("ANIM", new byte[]{(byte) 0xff, 0, 0, (byte) 0xff, 3, 0}),
+        anmf(0, 0, 200, 100, 80, 0b01, chunk("VP8L", vp8l(200, 100))),
+        anmf(
+          10,
+          20,
+          50,
+          40,
+          120,
+          0b10,
+          chunk("ALPH", new byte[]{0, 1, 2}),
+          chunk("VP8 ", vp8(50, 40, 1)))));
+
+    Assertions.assertTrue(file.extendedHeader().orElseThrow().isAnimated());
+    Assertions.assertEquals(200, file.canvasWidth());
+    Assertions.assertEquals(100, file.canvasHeight());
+
+    final var animation = file.animation().orElseThrow();
+    Assertions.assertEquals(0xff0000ffL, animation.backgroundColor());
+    Assertions.assertEquals(3, animation.loopCount());
+
+    Assertions.assertEquals(2, file.frames().size());
+
+    final var frame0 = file.frames().get(0);
+    Assertions.assertEquals(WebPEncoding.LOSSLESS, frame0.encoding());
+    Assertions.assertEquals(80, frame0.duration());
+    Assertions.assertTrue(frame0.blend());
+    Assertions.assertTrue(frame0.disposeToBackground());
+
+    final var frame1 = file.frames().get(1);
+    Assertions.assertEquals(WebPEncoding.LOSSY, frame1.encoding());
+    Assertions.assertEquals(10, frame1.x());
+    Assertions.assertEquals(20, frame1.y());
+    Assertions.assertEquals(50, frame1.width());
+    Assertions.assertEquals(40, frame1.height());
+    Assertions.assertEquals(120, frame1.duration());
+    Assertions.assertFalse(frame1.blend());
+    Assertions.assertFalse(frame1.disposeToBackground());
+    Assertions.assertEquals(3, frame1.alpha().orElseThrow().remaining());
+    Assertions.assertEquals(11, frame1.bitstream().remaining());
+  }
+
+  @Test
+  public void testNotWebP()
+  {
+    final var bytes = chunk("RIFF", concat("WAVE".getBytes(US_ASCII), chunk("data", new byte[2])));
+    final var ex = Assertions.assertThrows(RiffParseException.class, () -> parse(bytes));
+    Assertions.assertTrue(ex.getMessage().contains("not a WebP file"));
+  }
+
+  @Test
+  public void testNoImage()
+  {
+    final var bytes = webp(chunk("EXIF", new byte[2]));
+    final var ex = Assertions.assertThrows(RiffParseException.class, () -> parse(bytes));
+    Assertions.assertTrue(ex.getMessage().contains("Required chunk is missing"));
+  }
+
+  @Test
+  public void testBadVP8StartCode()
+  {
+    final var data = vp8(16, 16, 0);
+    data[4] = 0x02;
+    final var bytes = webp(chunk("VP8 ", data));
+    final var ex = Assertions.assertThrows(RiffParseException.class, () -> parse(bytes));
+    Assertions.assertTrue(ex.getMessage().contains("invalid bitstream header"));
+  }
+
+  @Test
+  public void testBadVP8LSignature()
+  {
+    final var data = vp8l(16, 16);
+    data[0] = 0x2e;
+    final var bytes = webp(chunk("VP8L", data));
+    Assertions.assertThrows(RiffParseException.class, () -> parse(bytes));
+  }
+
+  @Test
+  public void testAnimationMissingANIM()
+  {
+    final var bytes = webp(anmf(0, 0, 8, 8, 10, 0, chunk("VP8L", vp8l(8, 8))));
+    final var ex = Assertions.assertThrows(RiffParseException.class, () -> parse(bytes));
+    Assertions.assertTrue(ex.getMessage().contains("ANIM"));
+  }
+
+  @Test
+  public void testAnimationFrameTruncated()
+  {
+    final var frame = anmf(0, 0, 8, 8, 10, 0, chunk("VP8L", vp8l(8, 8)));
+    ByteBuffer.wrap(frame).order(LITTLE_ENDIAN).putInt(8 + 16 + 4, 1000);
+
+    final var bytes = webp(chunk("ANIM", new byte[6]), frame);
+    final var ex = Assertions.assertThrows(RiffParseException.class, () -> parse(bytes));
+    Assertions.assertTrue(ex.getMessage().contains("too small"));
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.vanilla;
+
+import com.io7m.jaffirm.core.Preconditions;
+import com.io7m.jspiel.api.RiffChunkDataCopiersType;
+import com.io7m.jspiel.api.RiffChunkDataWriterType;
+import org.osgi.service.component.annotations.Component;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.util.Objects;
+
+/**
+ * The default provider of copying data writers.
+ */
+
+@Component
+public final class RiffChunkDataCopiers implements RiffChunkDataCopiersType
+{
+  /**
+   * Construct a provider.
+   */
+
+  public RiffChunkDataCopiers()
+  {
+
+  }
+
+  @Override
+  public RiffChunkDataWriterType createForRange(
+    final FileChannel source,
+    final long offset,
+    final long size)
+  {
+    Objects.requireNonNull(source, "source");
+    Preconditions.checkPrecondition(offset >= 0L, "Offset must be non-negative");
+    Preconditions.checkPrecondition(size >= 0L, "Size must be non-negative");
+
+    return channel -> {
+      var position = offset;
+      var remaining = size;
+      while (remaining > 0L) {
+        final var transferred =
+          RiffTransferTargetType.transfer(source, position, remaining, channel);
+        if (transferred <= 0L) {
+          throw new IOException(
+            "Unexpected end of file at offset 0x" + Long.toUnsignedString(position, 16));
+        }
+        position += transferred;
+        remaining -= transferred;
+      }
+    };
+  }
+}
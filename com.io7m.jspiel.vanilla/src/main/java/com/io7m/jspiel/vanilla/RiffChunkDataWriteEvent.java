@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.vanilla;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+import java.net.URI;
+
+/**
+ * A JFR event recording a single invocation of a chunk data writer. By default, only
+ * invocations that take longer than the threshold are recorded.
+ */
+
+@Name("com.io7m.jspiel.ChunkDataWrite")
+@Label("RIFF Chunk Data Write")
+@Category({"jspiel", "I/O"})
+@Description("An invocation of the data writer for a single chunk")
+@StackTrace(false)
+@Threshold("10 ms")
+final class RiffChunkDataWriteEvent extends Event
+{
+  @Label("Source")
+  private String source;
+
+  @Label("Chunk")
+  private String chunk;
+
+  @Label("Ordinal")
+  private long ordinal;
+
+  @Label("Offset")
+  @Description("The offset of the chunk data within the file")
+  private long offset;
+
+  @Label("Declared Size")
+  @Description("The declared size of the chunk data, or -1 if no size was declared")
+  @DataAmount
+  private long declaredSize;
+
+  @Label("Size")
+  @Description("The number of octets written by the data writer, or -1 if the writer failed")
+  @DataAmount
+  private long size;
+
+  @Label("Failed")
+  @Description("True if the operation failed with an exception")
+  private boolean failed;
+
+  RiffChunkDataWriteEvent()
+  {
+
+  }
+
+  void set(
+    final URI in_source,
+    final String in_chunk,
+    final long in_ordinal,
+    final long in_offset,
+    final long in_declared_size,
+    final long in_size,
+    final boolean in_failed)
+  {
+    this.source = in_source.toString();
+    this.chunk = in_chunk;
+    this.ordinal = in_ordinal;
+    this.offset = in_offset;
+    this.declaredSize = in_declared_size;
+    this.size = in_size;
+    this.failed = in_failed;
+  }
+}
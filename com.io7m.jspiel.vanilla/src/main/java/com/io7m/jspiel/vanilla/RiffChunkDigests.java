@@ -0,0 +1,270 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.vanilla;
+
+import com.io7m.jspiel.api.RiffChunkDigest;
+import com.io7m.jspiel.api.RiffChunkDigestsType;
+import com.io7m.jspiel.api.RiffChunkType;
+import com.io7m.jspiel.api.RiffDigestAlgorithm;
+import org.osgi.service.component.annotations.Component;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.zip.CRC32C;
+
+/**
+ * The default provider of chunk digests.
+ */
+
+@Component
+public final class RiffChunkDigests implements RiffChunkDigestsType
+{
+  /*
+   * The size of the blocks in which data is read from channels, and in which data is fed to
+   * the digest functions from buffers.
+   */
+
+  private static final int BLOCK_SIZE = 1 << 20;
+
+  /**
+   * Construct a provider.
+   */
+
+  public RiffChunkDigests()
+  {
+
+  }
+
+  private static HasherType hasher(
+    final RiffDigestAlgorithm algorithm)
+  {
+    return switch (algorithm) {
+      case CRC32C -> new CRC32CHasher();
+      case XXHASH64 -> new XXHash64Hasher();
+      case SHA256 -> new SHA256Hasher();
+    };
+  }
+
+  private static Map<RiffChunkType, RiffChunkDigest> run(
+    final List<RiffChunkType> chunks,
+    final Executor executor,
+    final ChunkTaskType task)
+  {
+    final var futures = new ArrayList<CompletableFuture<RiffChunkDigest>>(chunks.size());
+    for (final var chunk : chunks) {
+      futures.add(CompletableFuture.supplyAsync(() -> task.digest(chunk), executor));
+    }
+
+    /*
+     * If any chunk fails, the tasks that have not yet started are cancelled so that they do not
+     * go on to read the rest of the file.
+     */
+
+    final var results = new LinkedHashMap<RiffChunkType, RiffChunkDigest>(chunks.size());
+    try {
+      for (var index = 0; index < chunks.size(); ++index) {
+        results.put(chunks.get(index), futures.get(index).join());
+      }
+    } catch (final CompletionException | CancellationException e) {
+      for (final var future : futures) {
+        future.cancel(false);
+      }
+      throw e;
+    }
+    return Collections.unmodifiableMap(results);
+  }
+
+  @Override
+  public Map<RiffChunkType, RiffChunkDigest> digestChannel(
+    final FileChannel source,
+    final List<RiffChunkType> chunks,
+    final RiffDigestAlgorithm algorithm,
+    final Executor executor)
+    throws IOException
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(chunks, "chunks");
+    Objects.requireNonNull(algorithm, "algorithm");
+    Objects.requireNonNull(executor, "executor");
+
+    /*
+     * Each task reads with positional reads, which do not affect the position of the channel and
+     * may be performed concurrently. Each task has its own buffer, no larger than the chunk, that
+     * becomes garbage when the task completes.
+     */
+
+    try {
+      return run(chunks, executor, chunk -> {
+        final var hasher = hasher(algorithm);
+        var position = chunk.dataOffsetAfterForm();
+        var remaining = chunk.dataSizeExcludingForm().sizeUnpadded();
+        final var buffer =
+          ByteBuffer.allocateDirect((int) Math.min((long) BLOCK_SIZE, remaining));
+        try {
+          while (remaining > 0L) {
+            buffer.clear();
+            buffer.limit((int) Math.min((long) BLOCK_SIZE, remaining));
+            final var count = source.read(buffer, position);
+            if (count < 0) {
+              throw new EOFException(
+                "Unexpected end of file at offset 0x" + Long.toUnsignedString(position, 16));
+            }
+            hasher.update(buffer.flip());
+            position += (long) count;
+            remaining -= (long) count;
+          }
+        } catch (final IOException e) {
+          throw new UncheckedIOException(e);
+        }
+        return RiffChunkDigest.of(algorithm, hasher.finish());
+      });
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof UncheckedIOException io) {
+        throw io.getCause();
+      }
+      throw e;
+    }
+  }
+
+  @Override
+  public Map<RiffChunkType, RiffChunkDigest> digestBuffer(
+    final ByteBuffer source,
+    final List<RiffChunkType> chunks,
+    final RiffDigestAlgorithm algorithm,
+    final Executor executor)
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(chunks, "chunks");
+    Objects.requireNonNull(algorithm, "algorithm");
+    Objects.requireNonNull(executor, "executor");
+
+    return run(chunks, executor, chunk -> {
+      final var hasher = hasher(algorithm);
+      var position = Math.toIntExact(chunk.dataOffsetAfterForm());
+      final var end =
+        Math.toIntExact(position + chunk.dataSizeExcludingForm().sizeUnpadded());
+      while (position < end) {
+        final var count = Math.min(BLOCK_SIZE, end - position);
+        hasher.update(source.slice(position, count));
+        position += count;
+      }
+      return RiffChunkDigest.of(algorithm, hasher.finish());
+    });
+  }
+
+  private interface ChunkTaskType
+  {
+    RiffChunkDigest digest(RiffChunkType chunk);
+  }
+
+  private interface HasherType
+  {
+    void update(ByteBuffer data);
+
+    String finish();
+  }
+
+  private static final class CRC32CHasher implements HasherType
+  {
+    private final CRC32C crc;
+
+    CRC32CHasher()
+    {
+      this.crc = new CRC32C();
+    }
+
+    @Override
+    public void update(
+      final ByteBuffer data)
+    {
+      this.crc.update(data);
+    }
+
+    @Override
+    public String finish()
+    {
+      return HexFormat.of().toHexDigits((int) this.crc.getValue());
+    }
+  }
+
+  private static final class XXHash64Hasher implements HasherType
+  {
+    private final RiffXXHash64 hash;
+
+    XXHash64Hasher()
+    {
+      this.hash = new RiffXXHash64(0L);
+    }
+
+    @Override
+    public void update(
+      final ByteBuffer data)
+    {
+      this.hash.update(data);
+    }
+
+    @Override
+    public String finish()
+    {
+      return HexFormat.of().toHexDigits(this.hash.digest());
+    }
+  }
+
+  private static final class SHA256Hasher implements HasherType
+  {
+    private final MessageDigest digest;
+
+    SHA256Hasher()
+    {
+      try {
+        this.digest = MessageDigest.getInstance("SHA-256");
+      } catch (final NoSuchAlgorithmException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+
+    @Override
+    public void update(
+      final ByteBuffer data)
+    {
+      this.digest.update(data);
+    }
+
+    @Override
+    public String finish()
+    {
+      return HexFormat.of().formatHex(this.digest.digest());
+    }
+  }
+}
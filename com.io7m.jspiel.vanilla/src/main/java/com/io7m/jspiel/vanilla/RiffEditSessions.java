@@ -0,0 +1,956 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.vanilla;
+
+import com.io7m.jaffirm.core.Preconditions;
+import com.io7m.jspiel.api.RiffChunkDataWriterType;
+import com.io7m.jspiel.api.RiffChunkID;
+import com.io7m.jspiel.api.RiffChunkType;
+import com.io7m.jspiel.api.RiffEditPlan;
+import com.io7m.jspiel.api.RiffEditSessionProviderType;
+import com.io7m.jspiel.api.RiffEditSessionType;
+import com.io7m.jspiel.api.RiffEditStep;
+import com.io7m.jspiel.api.RiffEditStepKind;
+import com.io7m.jspiel.api.RiffFileType;
+import com.io7m.jspiel.api.RiffOutOfBoundsException;
+import com.io7m.jspiel.api.RiffWriteException;
+import org.osgi.service.component.annotations.Component;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.AclFileAttributeView;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+
+import static java.nio.ByteOrder.BIG_ENDIAN;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * The default implementation of the {@link RiffEditSessionProviderType} interface.
+ *
+ * The edited file is produced by walking the parsed chunk tree: chunks that contain no edits are
+ * copied as single spans with {@link FileChannel#transferTo(long, long,
+ * java.nio.channels.WritableByteChannel)}, chunks that enclose edits are descended into, and
+ * the size fields of the enclosing chunks are patched once the rest of the file has been
+ * written. Nothing before the first edit changes offset.
+ *
+ * Every commit writes a complete new file, including the octets before the first edit, so the
+ * cost of a commit is proportional to the size of the file rather than to the size of the
+ * edits. The new file is given the permissions, owner, group and ACL of the original before it
+ * replaces the original.
+ */
+
+@Component
+public final class RiffEditSessions implements RiffEditSessionProviderType
+{
+  private static final Logger LOG = LoggerFactory.getLogger(RiffEditSessions.class);
+
+  private static final long HEADER_SIZE = 8L;
+  private static final long SIZE_DEFERRED = 0xffff_ffffL;
+  private static final long SIZE_MAXIMUM = 0xffff_fffeL;
+
+  /**
+   * Construct a session provider.
+   */
+
+  public RiffEditSessions()
+  {
+
+  }
+
+  @Override
+  public RiffEditSessionType createForFile(
+    final Path path,
+    final RiffFileType file)
+  {
+    Objects.requireNonNull(path, "path");
+    Objects.requireNonNull(file, "file");
+    return new Session(path, file);
+  }
+
+  private static ByteOrder orderOf(
+    final RiffChunkType root)
+  {
+    return switch (root.name().value()) {
+      case "RIFX", "FFIR" -> BIG_ENDIAN;
+      default -> LITTLE_ENDIAN;
+    };
+  }
+
+  private static boolean isRF64(
+    final RiffChunkType chunk)
+  {
+    return switch (chunk.name().value()) {
+      case "RF64", "BW64" -> true;
+      default -> false;
+    };
+  }
+
+  private static long padded(
+    final long size)
+  {
+    return Math.addExact(size, size & 1L);
+  }
+
+  private enum EditKind
+  {
+    DELETE,
+    REPLACE,
+    RESIZE
+  }
+
+  private static final class Edit
+  {
+    private final EditKind kind;
+    private final long size;
+    private final Optional<RiffChunkDataWriterType> writer;
+
+    Edit(
+      final EditKind in_kind,
+      final long in_size,
+      final Optional<RiffChunkDataWriterType> in_writer)
+    {
+      this.kind = Objects.requireNonNull(in_kind, "kind");
+      this.size = in_size;
+      this.writer = Objects.requireNonNull(in_writer, "writer");
+    }
+  }
+
+  private static final class Insertion
+  {
+    private final RiffChunkID id;
+    private final long size;
+    private final RiffChunkDataWriterType writer;
+
+    Insertion(
+      final RiffChunkID in_id,
+      final long in_size,
+      final RiffChunkDataWriterType in_writer)
+    {
+      this.id = Objects.requireNonNull(in_id, "id");
+      this.size = in_size;
+      this.writer = Objects.requireNonNull(in_writer, "writer");
+    }
+  }
+
+  /**
+   * A step of a plan, along with the data needed to execute it.
+   */
+
+  private static final class Action
+  {
+    private final RiffEditStep step;
+    private final Optional<ByteBuffer> bytes;
+    private final Optional<RiffChunkDataWriterType> writer;
+    private final long data_size;
+
+    Action(
+      final RiffEditStep in_step,
+      final Optional<ByteBuffer> in_bytes,
+      final Optional<RiffChunkDataWriterType> in_writer,
+      final long in_data_size)
+    {
+      this.step = Objects.requireNonNull(in_step, "step");
+      this.bytes = Objects.requireNonNull(in_bytes, "bytes");
+      this.writer = Objects.requireNonNull(in_writer, "writer");
+      this.data_size = in_data_size;
+    }
+  }
+
+  private static final class Session implements RiffEditSessionType
+  {
+    private final Path path;
+    private final RiffFileType file;
+    private final Map<Long, RiffChunkType> chunks;
+    private final Map<Long, Edit> edits;
+    private final Map<Long, List<Insertion>> before;
+    private final Map<Long, List<Insertion>> after;
+    private final Map<Long, List<Insertion>> appended;
+    private boolean committed;
+
+    Session(
+      final Path in_path,
+      final RiffFileType in_file)
+    {
+      this.path = in_path;
+      this.file = in_file;
+      this.chunks = new HashMap<>();
+      this.edits = new HashMap<>();
+      this.before = new HashMap<>();
+      this.after = new HashMap<>();
+      this.appended = new HashMap<>();
+
+      in_file.linearizedDescendantChunks()
+        .forEach(chunk -> this.chunks.put(Long.valueOf(chunk.offset()), chunk));
+    }
+
+    private static boolean isAncestorOf(
+      final RiffChunkType ancestor,
+      final RiffChunkType chunk)
+    {
+      var current = chunk.parent();
+      while (current.isPresent()) {
+        if (current.get().offset() == ancestor.offset()) {
+          return true;
+        }
+        current = current.get().parent();
+      }
+      return false;
+    }
+
+    private void checkChunk(
+      final RiffChunkType chunk)
+    {
+      Objects.requireNonNull(chunk, "chunk");
+      Preconditions.checkPrecondition(!this.committed, "Session must not have been committed");
+      Preconditions.checkPrecondition(
+        Objects.equals(this.chunks.get(Long.valueOf(chunk.offset())), chunk),
+        "Chunk must belong to the edited file");
+
+      final var enclosed =
+        this.edits.keySet()
+          .stream()
+          .map(this.chunks::get)
+          .anyMatch(edited -> isAncestorOf(edited, chunk));
+      Preconditions.checkPrecondition(
+        !enclosed, "Chunk must not be inside a chunk that has been deleted or replaced");
+    }
+
+    private void checkEdit(
+      final RiffChunkType chunk,
+      final long size)
+    {
+      this.checkChunk(chunk);
+      Preconditions.checkPrecondition(size >= 0L, "Size must be non-negative");
+
+      final var key = Long.valueOf(chunk.offset());
+      Preconditions.checkPrecondition(
+        !this.edits.containsKey(key), "Chunk must not already have been edited");
+      Preconditions.checkPrecondition(
+        !this.appended.containsKey(key), "Chunk must not have had chunks appended to it");
+
+      final var nested =
+        chunk.linearizedDescendantChunks()
+          .skip(1L)
+          .map(c -> Long.valueOf(c.offset()))
+          .anyMatch(o -> this.edits.containsKey(o)
+            || this.before.containsKey(o)
+            || this.after.containsKey(o)
+            || this.appended.containsKey(o));
+      Preconditions.checkPrecondition(
+        !nested, "Chunk must not contain chunks that have been edited");
+    }
+
+    private void insert(
+      final Map<Long, List<Insertion>> target,
+      final RiffChunkType chunk,
+      final RiffChunkID id,
+      final long size,
+      final RiffChunkDataWriterType writer)
+    {
+      Objects.requireNonNull(id, "id");
+      Objects.requireNonNull(writer, "writer");
+      Preconditions.checkPrecondition(size >= 0L, "Size must be non-negative");
+
+      target.computeIfAbsent(Long.valueOf(chunk.offset()), k -> new ArrayList<>())
+        .add(new Insertion(id, size, writer));
+    }
+
+    @Override
+    public RiffEditSessionType delete(
+      final RiffChunkType chunk)
+    {
+      this.checkEdit(chunk, 0L);
+      this.edits.put(
+        Long.valueOf(chunk.offset()),
+        new Edit(EditKind.DELETE, 0L, Optional.empty()));
+      return this;
+    }
+
+    @Override
+    public RiffEditSessionType replace(
+      final RiffChunkType chunk,
+      final long size,
+      final RiffChunkDataWriterType writer)
+    {
+      Objects.requireNonNull(writer, "writer");
+      this.checkEdit(chunk, size);
+      this.edits.put(
+        Long.valueOf(chunk.offset()),
+        new Edit(EditKind.REPLACE, size, Optional.of(writer)));
+      return this;
+    }
+
+    @Override
+    public RiffEditSessionType resize(
+      final RiffChunkType chunk,
+      final long size)
+    {
+      this.checkEdit(chunk, size);
+      Preconditions.checkPrecondition(
+        chunk.formType().isEmpty(), "Chunk must not have a form");
+      this.edits.put(
+        Long.valueOf(chunk.offset()),
+        new Edit(EditKind.RESIZE, size, Optional.empty()));
+      return this;
+    }
+
+    @Override
+    public RiffEditSessionType insertBefore(
+      final RiffChunkType chunk,
+      final RiffChunkID id,
+      final long size,
+      final RiffChunkDataWriterType writer)
+    {
+      this.checkChunk(chunk);
+      this.insert(this.before, chunk, id, size, writer);
+      return this;
+    }
+
+    @Override
+    public RiffEditSessionType insertAfter(
+      final RiffChunkType chunk,
+      final RiffChunkID id,
+      final long size,
+      final RiffChunkDataWriterType writer)
+    {
+      this.checkChunk(chunk);
+      this.insert(this.after, chunk, id, size, writer);
+      return this;
+    }
+
+    @Override
+    public RiffEditSessionType append(
+      final RiffChunkType parent,
+      final RiffChunkID id,
+      final long size,
+      final RiffChunkDataWriterType writer)
+    {
+      this.checkChunk(parent);
+      Preconditions.checkPrecondition(
+        parent.formType().isPresent(), "Chunk must have a form");
+      Preconditions.checkPrecondition(
+        !this.edits.containsKey(Long.valueOf(parent.offset())),
+        "Chunk must not have been deleted or replaced");
+      this.insert(this.appended, parent, id, size, writer);
+      return this;
+    }
+
+    /**
+     * Determine the chunks whose sizes may change: every chunk that encloses an edited chunk, an
+     * inserted chunk, or a chunk with appended chunks.
+     */
+
+    private Set<Long> touched()
+    {
+      final var result = new HashSet<Long>();
+      final var anchors = new HashSet<Long>();
+      anchors.addAll(this.edits.keySet());
+      anchors.addAll(this.before.keySet());
+      anchors.addAll(this.after.keySet());
+
+      for (final var anchor : anchors) {
+        var current = this.chunks.get(anchor).parent();
+        while (current.isPresent()) {
+          result.add(Long.valueOf(current.get().offset()));
+          current = current.get().parent();
+        }
+      }
+
+      for (final var anchor : this.appended.keySet()) {
+        Optional<RiffChunkType> current = Optional.of(this.chunks.get(anchor));
+        while (current.isPresent()) {
+          result.add(Long.valueOf(current.get().offset()));
+          current = current.get().parent();
+        }
+      }
+      return result;
+    }
+
+    private URI source()
+    {
+      return this.path.toUri();
+    }
+
+    private Planner planWith(
+      final FileChannel channel)
+      throws IOException, RiffWriteException
+    {
+      final var planner = new Planner(this, channel, this.touched());
+      planner.run();
+      return planner;
+    }
+
+    @Override
+    public RiffEditPlan plan()
+      throws RiffWriteException
+    {
+      Preconditions.checkPrecondition(!this.committed, "Session must not have been committed");
+
+      try (var channel = FileChannel.open(this.path, READ)) {
+        return this.planWith(channel).toPlan();
+      } catch (final IOException e) {
+        throw new RiffWriteException(e, this.source(), 0L);
+      }
+    }
+
+    @Override
+    public RiffEditPlan commit()
+      throws RiffWriteException
+    {
+      Preconditions.checkPrecondition(!this.committed, "Session must not have been committed");
+
+      final var directory = this.path.toAbsolutePath().getParent();
+      final var name = this.path.getFileName().toString();
+
+      Path temporary = null;
+      try (var channel = FileChannel.open(this.path, READ)) {
+        final var planner = this.planWith(channel);
+        final var plan = planner.toPlan();
+
+        temporary = Files.createTempFile(directory, "." + name, ".tmp");
+        try (var output = FileChannel.open(temporary, WRITE)) {
+          planner.execute(output);
+          output.force(true);
+        }
+
+        copyAttributes(this.path, temporary);
+        Files.move(temporary, this.path, ATOMIC_MOVE, REPLACE_EXISTING);
+        temporary = null;
+        this.committed = true;
+
+        LOG.debug(
+          "{}: moved {} octets, wrote {} octets",
+          this.path,
+          Long.valueOf(plan.octetsMoved()),
+          Long.valueOf(plan.octetsWritten()));
+        return plan;
+      } catch (final IOException e) {
+        throw new RiffWriteException(e, this.source(), 0L);
+      } finally {
+        deleteTemporary(temporary);
+      }
+    }
+
+    /**
+     * Copy the permissions, owner, group and ACL of the original file to the temporary file, so
+     * that replacing the original does not change them. Only the owner or a privileged user can
+     * usually change the owner and group of a file, so failing to copy those is not an error.
+     */
+
+    private static void copyAttributes(
+      final Path original,
+      final Path temporary)
+      throws IOException
+    {
+      final var posix_original =
+        Files.getFileAttributeView(original, PosixFileAttributeView.class);
+      final var posix_temporary =
+        Files.getFileAttributeView(temporary, PosixFileAttributeView.class);
+
+      if (posix_original != null && posix_temporary != null) {
+        final var wanted = posix_original.readAttributes();
+        final var current = posix_temporary.readAttributes();
+        if (!wanted.group().equals(current.group())) {
+          try {
+            posix_temporary.setGroup(wanted.group());
+          } catch (final FileSystemException e) {
+            LOG.debug("{}: could not set group {}: ", temporary, wanted.group(), e);
+          }
+        }
+        if (!wanted.owner().equals(current.owner())) {
+          try {
+            posix_temporary.setOwner(wanted.owner());
+          } catch (final FileSystemException e) {
+            LOG.debug("{}: could not set owner {}: ", temporary, wanted.owner(), e);
+          }
+        }
+        posix_temporary.setPermissions(wanted.permissions());
+      }
+
+      final var acl_original =
+        Files.getFileAttributeView(original, AclFileAttributeView.class);
+      final var acl_temporary =
+        Files.getFileAttributeView(temporary, AclFileAttributeView.class);
+
+      if (acl_original != null && acl_temporary != null) {
+        acl_temporary.setAcl(acl_original.getAcl());
+      }
+    }
+
+    private static void deleteTemporary(
+      final Path temporary)
+    {
+      if (temporary != null) {
+        try {
+          Files.deleteIfExists(temporary);
+        } catch (final IOException e) {
+          LOG.error("could not delete {}: ", temporary, e);
+        }
+      }
+    }
+  }
+
+  private static final class Planner
+  {
+    private final Session session;
+    private final FileChannel channel;
+    private final Set<Long> touched;
+    private final List<Action> actions;
+    private final List<Action> patches;
+    private ByteOrder order;
+    private OptionalLong ds64_target;
+    private long target;
+
+    Planner(
+      final Session in_session,
+      final FileChannel in_channel,
+      final Set<Long> in_touched)
+    {
+      this.session = in_session;
+      this.channel = in_channel;
+      this.touched = in_touched;
+      this.actions = new ArrayList<>();
+      this.patches = new ArrayList<>();
+      this.order = LITTLE_ENDIAN;
+      this.ds64_target = OptionalLong.empty();
+    }
+
+    void run()
+      throws IOException, RiffWriteException
+    {
+      var position = 0L;
+      for (final var root : this.session.file.chunks()) {
+        this.order = orderOf(root);
+        this.ds64_target = OptionalLong.empty();
+        this.copy(position, root.offset() - position);
+        this.emit(root);
+        position = Math.addExact(root.offset(), root.totalSize());
+      }
+
+      final var size = this.channel.size();
+      if (size < position) {
+        final var separator = System.lineSeparator();
+        throw new RiffWriteException(
+          new StringBuilder(128)
+            .append("File is smaller than the parsed chunks.")
+            .append(separator)
+            .append("  Expected: At least ")
+            .append(position)
+            .append(" octets")
+            .append(separator)
+            .append("  Received: ")
+            .append(size)
+            .append(" octets")
+            .append(separator)
+            .toString(),
+          this.session.source(),
+          size);
+      }
+      this.copy(position, size - position);
+    }
+
+    RiffEditPlan toPlan()
+      throws IOException
+    {
+      final var builder =
+        RiffEditPlan.builder()
+          .setSizeBefore(this.channel.size())
+          .setSizeAfter(this.target);
+
+      for (final var action : this.actions) {
+        builder.addSteps(action.step);
+      }
+      for (final var action : this.patches) {
+        builder.addSteps(action.step);
+      }
+      return builder.build();
+    }
+
+    private void emit(
+      final RiffChunkType chunk)
+      throws IOException, RiffWriteException
+    {
+      final var key = Long.valueOf(chunk.offset());
+      for (final var insertion : this.session.before.getOrDefault(key, List.of())) {
+        this.emitInsertion(insertion);
+      }
+
+      final var edit = this.session.edits.get(key);
+      if (edit == null) {
+        this.emitExisting(chunk);
+      } else {
+        switch (edit.kind) {
+          case DELETE -> {
+          }
+          case REPLACE -> this.emitReplaced(chunk, edit);
+          case RESIZE -> this.emitResized(chunk, edit);
+        }
+      }
+
+      for (final var insertion : this.session.after.getOrDefault(key, List.of())) {
+        this.emitInsertion(insertion);
+      }
+    }
+
+    private void emitExisting(
+      final RiffChunkType chunk)
+      throws IOException, RiffWriteException
+    {
+      final var start = this.target;
+      this.noteDS64(chunk, start + HEADER_SIZE);
+
+      if (!this.touched.contains(Long.valueOf(chunk.offset()))) {
+        this.copy(chunk.offset(), chunk.totalSize());
+        return;
+      }
+
+      var position = chunk.dataOffsetAfterForm();
+      this.copy(chunk.offset(), position - chunk.offset());
+      for (final var child : chunk.subChunks()) {
+        this.copy(position, child.offset() - position);
+        this.emit(child);
+        position = Math.addExact(child.offset(), child.totalSize());
+      }
+
+      final var old_size = chunk.dataSizeIncludingForm().sizeUnpadded();
+      final var end = Math.addExact(chunk.dataOffset(), old_size);
+      this.copy(position, Math.max(0L, end - position));
+
+      final var key = Long.valueOf(chunk.offset());
+      for (final var insertion : this.session.appended.getOrDefault(key, List.of())) {
+        this.emitInsertion(insertion);
+      }
+
+      final var new_size = this.target - start - HEADER_SIZE;
+      if ((new_size & 1L) == 1L) {
+        this.zeroes(1L);
+      }
+      if (new_size != old_size) {
+        final var declared = this.declare(Optional.of(chunk), chunk.name(), new_size);
+        if (declared != SIZE_DEFERRED) {
+          this.patch(start + 4L, this.unsigned32(declared));
+        }
+      }
+    }
+
+    private void emitReplaced(
+      final RiffChunkType chunk,
+      final Edit edit)
+      throws IOException, RiffWriteException
+    {
+      final var declared = this.declare(Optional.of(chunk), chunk.name(), edit.size);
+      this.header(chunk.name(), declared);
+      this.noteDS64(chunk, this.target);
+      this.data(edit.writer, edit.size);
+    }
+
+    private void emitResized(
+      final RiffChunkType chunk,
+      final Edit edit)
+      throws IOException, RiffWriteException
+    {
+      final var declared = this.declare(Optional.of(chunk), chunk.name(), edit.size);
+      this.header(chunk.name(), declared);
+      this.noteDS64(chunk, this.target);
+
+      final var kept = Math.min(chunk.dataSizeIncludingForm().sizeUnpadded(), edit.size);
+      this.copy(chunk.dataOffset(), kept);
+      this.zeroes(padded(edit.size) - kept);
+    }
+
+    private void emitInsertion(
+      final Insertion insertion)
+      throws IOException, RiffWriteException
+    {
+      final var declared = this.declare(Optional.empty(), insertion.id, insertion.size);
+      this.header(insertion.id, declared);
+      this.data(Optional.of(insertion.writer), insertion.size);
+    }
+
+    /**
+     * Record the offset in the edited file of the data of the {@code ds64} chunk of an RF64 file.
+     */
+
+    private void noteDS64(
+      final RiffChunkType chunk,
+      final long data_target)
+    {
+      final var in_rf64 = chunk.parent().map(RiffEditSessions::isRF64).orElse(false);
+      if (in_rf64.booleanValue() && "ds64".equals(chunk.name().value())) {
+        this.ds64_target = OptionalLong.of(data_target);
+      }
+    }
+
+    /**
+     * Determine the value that will be written to the size field of a chunk. Chunks of RF64 files
+     * that declared their sizes in the {@code ds64} chunk continue to do so.
+     */
+
+    private long declare(
+      final Optional<RiffChunkType> original,
+      final RiffChunkID id,
+      final long size)
+      throws IOException, RiffWriteException
+    {
+      if (original.isPresent() && this.isDeferred(original.get())) {
+        final var field = switch (id.value()) {
+          case "RF64", "BW64" -> OptionalLong.of(0L);
+          case "data" -> OptionalLong.of(8L);
+          default -> OptionalLong.empty();
+        };
+
+        if (field.isPresent() && this.ds64_target.isPresent()) {
+          final var value = ByteBuffer.allocate(8).order(this.order);
+          value.putLong(0, size);
+          this.patch(this.ds64_target.getAsLong() + field.getAsLong(), value);
+          return SIZE_DEFERRED;
+        }
+      }
+
+      if (Long.compareUnsigned(size, SIZE_MAXIMUM) > 0) {
+        final var separator = System.lineSeparator();
+        throw new RiffWriteException(
+          new StringBuilder(128)
+            .append("Chunk size exceeds the maximum size of a RIFF chunk.")
+            .append(separator)
+            .append("  Chunk:    ")
+            .append(id.value())
+            .append(separator)
+            .append("  Expected: At most ")
+            .append(SIZE_MAXIMUM)
+            .append(separator)
+            .append("  Received: ")
+            .append(size)
+            .append(separator)
+            .toString(),
+          this.session.source(),
+          this.target);
+      }
+      return size;
+    }
+
+    private boolean isDeferred(
+      final RiffChunkType chunk)
+      throws IOException
+    {
+      final var buffer = ByteBuffer.allocate(4).order(this.order);
+      this.channel.read(buffer, chunk.offset() + 4L);
+      return buffer.remaining() == 0
+        && Integer.toUnsignedLong(buffer.getInt(0)) == SIZE_DEFERRED;
+    }
+
+    private ByteBuffer unsigned32(
+      final long value)
+    {
+      final var buffer = ByteBuffer.allocate(4).order(this.order);
+      buffer.putInt(0, (int) value);
+      return buffer;
+    }
+
+    private void copy(
+      final long source,
+      final long size)
+    {
+      if (size <= 0L) {
+        return;
+      }
+
+      final var last = this.actions.size() - 1;
+      if (last >= 0) {
+        final var previous = this.actions.get(last).step;
+        final var previous_source = previous.sourceOffset();
+        if (previous_source.isPresent()
+          && previous_source.getAsLong() + previous.size() == source
+          && previous.targetOffset() + previous.size() == this.target) {
+          this.actions.set(last, this.action(
+            previous.withSize(previous.size() + size), Optional.empty(), Optional.empty(), 0L));
+          this.target = Math.addExact(this.target, size);
+          return;
+        }
+      }
+
+      this.actions.add(this.action(
+        RiffEditStep.of(RiffEditStepKind.COPY, OptionalLong.of(source), this.target, size),
+        Optional.empty(),
+        Optional.empty(),
+        0L));
+      this.target = Math.addExact(this.target, size);
+    }
+
+    private void header(
+      final RiffChunkID id,
+      final long size)
+    {
+      final var buffer = ByteBuffer.allocate((int) HEADER_SIZE).order(this.order);
+      buffer.put(id.value().getBytes(US_ASCII));
+      buffer.putInt((int) size);
+      buffer.flip();
+      this.write(Optional.of(buffer), Optional.empty(), HEADER_SIZE, 0L);
+    }
+
+    private void data(
+      final Optional<RiffChunkDataWriterType> writer,
+      final long size)
+    {
+      this.write(Optional.empty(), writer, padded(size), size);
+    }
+
+    private void zeroes(
+      final long size)
+    {
+      this.write(Optional.empty(), Optional.empty(), size, 0L);
+    }
+
+    private void write(
+      final Optional<ByteBuffer> bytes,
+      final Optional<RiffChunkDataWriterType> writer,
+      final long size,
+      final long data_size)
+    {
+      if (size <= 0L) {
+        return;
+      }
+
+      this.actions.add(this.action(
+        RiffEditStep.of(RiffEditStepKind.WRITE, OptionalLong.empty(), this.target, size),
+        bytes,
+        writer,
+        data_size));
+      this.target = Math.addExact(this.target, size);
+    }
+
+    private void patch(
+      final long offset,
+      final ByteBuffer bytes)
+    {
+      this.patches.add(this.action(
+        RiffEditStep.of(RiffEditStepKind.PATCH, OptionalLong.empty(), offset, bytes.capacity()),
+        Optional.of(bytes),
+        Optional.empty(),
+        0L));
+    }
+
+    private Action action(
+      final RiffEditStep step,
+      final Optional<ByteBuffer> bytes,
+      final Optional<RiffChunkDataWriterType> writer,
+      final long data_size)
+    {
+      return new Action(step, bytes, writer, data_size);
+    }
+
+    void execute(
+      final FileChannel output)
+      throws IOException
+    {
+      for (final var action : this.actions) {
+        final var step = action.step;
+        switch (step.kind()) {
+          case COPY -> this.transfer(step.sourceOffset().getAsLong(), step.size(), output);
+          case WRITE, PATCH -> executeWrite(action, output);
+        }
+      }
+
+      for (final var action : this.patches) {
+        final var bytes = action.bytes.get().duplicate();
+        var offset = action.step.targetOffset();
+        while (bytes.hasRemaining()) {
+          offset += output.write(bytes, offset);
+        }
+      }
+    }
+
+    private void transfer(
+      final long source,
+      final long size,
+      final FileChannel output)
+      throws IOException
+    {
+      var position = source;
+      var remaining = size;
+      while (remaining > 0L) {
+        final var transferred = this.channel.transferTo(position, remaining, output);
+        if (transferred <= 0L) {
+          throw new IOException(
+            "Unexpected end of file at offset 0x" + Long.toUnsignedString(position, 16));
+        }
+        position += transferred;
+        remaining -= transferred;
+      }
+    }
+
+    private static void executeWrite(
+      final Action action,
+      final FileChannel output)
+      throws IOException
+    {
+      if (action.bytes.isPresent()) {
+        final var bytes = action.bytes.get().duplicate();
+        while (bytes.hasRemaining()) {
+          output.write(bytes);
+        }
+        return;
+      }
+
+      final var start = output.position();
+      final var end = start + action.step.size();
+      output.position(end - 1L);
+      output.write(ByteBuffer.allocate(1));
+
+      if (action.writer.isPresent() && action.data_size > 0L) {
+        try (var data = RiffRestrictedSeekableByteChannel.create(
+          output, start, start + action.data_size, false)) {
+          action.writer.get().write(data);
+        } catch (final RiffOutOfBoundsException e) {
+          final var separator = System.lineSeparator();
+          throw new IOException(
+            new StringBuilder(128)
+              .append("Data writer for chunk attempted an out-of-bounds write.")
+              .append(separator)
+              .append("  Chunk offset: 0x")
+              .append(Long.toUnsignedString(start - HEADER_SIZE, 16))
+              .append(separator)
+              .toString(), e);
+        }
+      }
+      output.position(end);
+    }
+  }
+}
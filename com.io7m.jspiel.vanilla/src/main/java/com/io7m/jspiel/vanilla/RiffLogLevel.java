@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.vanilla;
+
+import org.slf4j.Logger;
+
+/**
+ * The log level of a logger, sampled once at the start of a parse or write so that per-chunk
+ * code can test a field rather than querying the logger for every chunk.
+ */
+
+enum RiffLogLevel
+{
+  /**
+   * Neither debug nor trace logging is enabled.
+   */
+
+  OFF,
+
+  /**
+   * Debug logging is enabled, trace logging is not.
+   */
+
+  DEBUG,
+
+  /**
+   * Debug and trace logging are enabled.
+   */
+
+  TRACE;
+
+  static RiffLogLevel of(
+    final Logger logger)
+  {
+    if (logger.isTraceEnabled()) {
+      return TRACE;
+    }
+    if (logger.isDebugEnabled()) {
+      return DEBUG;
+    }
+    return OFF;
+  }
+
+  boolean isDebugEnabled()
+  {
+    return this != OFF;
+  }
+
+  boolean isTraceEnabled()
+  {
+    return this == TRACE;
+  }
+}
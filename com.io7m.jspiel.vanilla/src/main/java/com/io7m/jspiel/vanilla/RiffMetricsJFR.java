@@ -0,0 +1,181 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.vanilla;
+
+import com.io7m.jspiel.api.RiffMetricsListenerType;
+import com.io7m.jspiel.api.RiffParseMetrics;
+import com.io7m.jspiel.api.RiffWriteMetrics;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A metrics listener that publishes metrics as Java Flight Recorder events. The listener is
+ * enabled only if at least one of its event types is enabled in a running recording.
+ */
+
+public final class RiffMetricsJFR implements RiffMetricsListenerType
+{
+  private static final RiffMetricsJFR INSTANCE = new RiffMetricsJFR();
+
+  private final EventType parse_type;
+  private final EventType write_type;
+
+  private RiffMetricsJFR()
+  {
+    this.parse_type = EventType.getEventType(ParseMetricsEvent.class);
+    this.write_type = EventType.getEventType(WriteMetricsEvent.class);
+  }
+
+  /**
+   * @return The JFR metrics listener
+   */
+
+  public static RiffMetricsListenerType get()
+  {
+    return INSTANCE;
+  }
+
+  @Override
+  public boolean isEnabled()
+  {
+    return this.parse_type.isEnabled() || this.write_type.isEnabled();
+  }
+
+  @Override
+  public void onParseCompleted(
+    final RiffParseMetrics metrics)
+  {
+    final var event = new ParseMetricsEvent();
+    if (event.shouldCommit()) {
+      event.set(metrics);
+      event.commit();
+    }
+  }
+
+  @Override
+  public void onWriteCompleted(
+    final RiffWriteMetrics metrics)
+  {
+    final var event = new WriteMetricsEvent();
+    if (event.shouldCommit()) {
+      event.set(metrics);
+      event.commit();
+    }
+  }
+
+  @Name("com.io7m.jspiel.ParseMetrics")
+  @Label("RIFF Parse Metrics")
+  @Category({"jspiel", "Metrics"})
+  @Description("Metrics for a completed RIFF parse")
+  @StackTrace(false)
+  static final class ParseMetricsEvent extends Event
+  {
+    @Label("Source")
+    private String source;
+
+    @Label("Chunks")
+    private long chunks;
+
+    @Label("Octets Scanned")
+    @DataAmount
+    private long octetsScanned;
+
+    @Label("Maximum Depth")
+    private int maximumDepth;
+
+    @Label("Header Time")
+    @Timespan
+    private long headerTime;
+
+    @Label("Chunk Time")
+    @Timespan
+    private long chunkTime;
+
+    ParseMetricsEvent()
+    {
+
+    }
+
+    void set(
+      final RiffParseMetrics metrics)
+    {
+      this.source = metrics.source().toString();
+      this.chunks = metrics.chunks();
+      this.octetsScanned = metrics.octetsScanned();
+      this.maximumDepth = metrics.maximumDepth();
+      this.headerTime = metrics.headerTime().toNanos();
+      this.chunkTime = metrics.chunkTime().toNanos();
+    }
+  }
+
+  @Name("com.io7m.jspiel.WriteMetrics")
+  @Label("RIFF Write Metrics")
+  @Category({"jspiel", "Metrics"})
+  @Description("Metrics for a completed RIFF write")
+  @StackTrace(false)
+  static final class WriteMetricsEvent extends Event
+  {
+    @Label("Source")
+    private String source;
+
+    @Label("Chunks")
+    private long chunks;
+
+    @Label("Octets Written")
+    @DataAmount
+    private long octetsWritten;
+
+    @Label("Seeks")
+    private long seeks;
+
+    @Label("Short Write Retries")
+    private long shortWriteRetries;
+
+    @Label("Data Time")
+    @Timespan
+    private long dataTime;
+
+    @Label("Size Time")
+    @Timespan
+    private long sizeTime;
+
+    WriteMetricsEvent()
+    {
+
+    }
+
+    void set(
+      final RiffWriteMetrics metrics)
+    {
+      this.source = metrics.source().toString();
+      this.chunks = metrics.chunks();
+      this.octetsWritten = metrics.octetsWritten();
+      this.seeks = metrics.seeks();
+      this.shortWriteRetries = metrics.shortWriteRetries();
+      this.dataTime = metrics.dataTime().toNanos();
+      this.sizeTime = metrics.sizeTime().toNanos();
+    }
+  }
+}
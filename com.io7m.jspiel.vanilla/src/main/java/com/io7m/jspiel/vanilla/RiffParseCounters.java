@@ -0,0 +1,122 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.vanilla;
+
+import com.io7m.jspiel.api.RiffMetricsListenerType;
+import com.io7m.jspiel.api.RiffParseMetrics;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * The counters maintained by a parser on behalf of a metrics listener. A single shared
+ * instance is used when the listener is disabled, and all of its methods do nothing.
+ */
+
+final class RiffParseCounters
+{
+  private static final RiffParseCounters DISABLED =
+    new RiffParseCounters(null, null, false);
+
+  private final RiffMetricsListenerType listener;
+  private final URI source;
+  private final boolean enabled;
+  private long chunks;
+  private int maximum_depth;
+  private long header_nanos;
+  private long chunk_nanos;
+  private boolean completed;
+
+  private RiffParseCounters(
+    final RiffMetricsListenerType in_listener,
+    final URI in_source,
+    final boolean in_enabled)
+  {
+    this.listener = in_listener;
+    this.source = in_source;
+    this.enabled = in_enabled;
+  }
+
+  /**
+   * @param listener The listener
+   * @param source   The source of the parsed data
+   *
+   * @return A set of counters for a single parse
+   */
+
+  static RiffParseCounters create(
+    final RiffMetricsListenerType listener,
+    final URI source)
+  {
+    if (listener.isEnabled()) {
+      return new RiffParseCounters(listener, source, true);
+    }
+    return DISABLED;
+  }
+
+  /**
+   * @return The current time in nanoseconds, or {@code 0} if the counters are disabled
+   */
+
+  long now()
+  {
+    return this.enabled ? System.nanoTime() : 0L;
+  }
+
+  void addHeaderTime(
+    final long time_then)
+  {
+    if (this.enabled) {
+      this.header_nanos += System.nanoTime() - time_then;
+    }
+  }
+
+  void addChunkTime(
+    final long time_then)
+  {
+    if (this.enabled) {
+      this.chunk_nanos += System.nanoTime() - time_then;
+    }
+  }
+
+  void addChunk(
+    final int depth)
+  {
+    if (this.enabled) {
+      ++this.chunks;
+      this.maximum_depth = Math.max(this.maximum_depth, depth);
+    }
+  }
+
+  void complete(
+    final long octets)
+  {
+    if (this.enabled && !this.completed) {
+      this.completed = true;
+      this.listener.onParseCompleted(
+        RiffParseMetrics.builder()
+          .setSource(this.source)
+          .setChunks(this.chunks)
+          .setOctetsScanned(octets)
+          .setMaximumDepth(this.maximum_depth)
+          .setHeaderTime(Duration.ofNanos(this.header_nanos))
+          .setChunkTime(Duration.ofNanos(this.chunk_nanos))
+          .build());
+    }
+  }
+}
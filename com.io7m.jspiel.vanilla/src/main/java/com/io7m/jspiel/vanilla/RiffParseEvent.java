@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.vanilla;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+import java.net.URI;
+import java.nio.ByteOrder;
+
+/**
+ * A JFR event recording a complete parse of a file. By default, only parses that take longer
+ * than the threshold are recorded.
+ */
+
+@Name("com.io7m.jspiel.Parse")
+@Label("RIFF Parse")
+@Category({"jspiel", "I/O"})
+@Description("A complete parse of a RIFF file")
+@StackTrace(false)
+@Threshold("10 ms")
+final class RiffParseEvent extends Event
+{
+  @Label("Source")
+  private String source;
+
+  @Label("Byte Order")
+  private String byteOrder;
+
+  @Label("Chunks")
+  @Description("The number of chunks, including all descendants of the top-level chunks")
+  private long chunks;
+
+  @Label("Size")
+  @DataAmount
+  private long size;
+
+  @Label("Failed")
+  @Description("True if the operation failed with an exception")
+  private boolean failed;
+
+  RiffParseEvent()
+  {
+
+  }
+
+  void set(
+    final URI in_source,
+    final ByteOrder in_order,
+    final long in_chunks,
+    final long in_size)
+  {
+    this.source = in_source.toString();
+    this.byteOrder = in_order.toString();
+    this.chunks = in_chunks;
+    this.size = in_size;
+    this.failed = false;
+  }
+
+  void setFailed(
+    final URI in_source,
+    final long in_chunks)
+  {
+    this.source = in_source.toString();
+    this.byteOrder = "";
+    this.chunks = in_chunks;
+    this.size = -1L;
+    this.failed = true;
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.vanilla;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * Parser input held in a byte buffer. Parsing runs from the position of the buffer to its limit.
+ */
+
+final class RiffParserBufferInput implements RiffParserInputType
+{
+  private final URI source;
+  private final ByteBuffer data;
+
+  RiffParserBufferInput(
+    final URI in_source,
+    final ByteBuffer in_data)
+  {
+    this.source = Objects.requireNonNull(in_source, "source");
+    this.data = Objects.requireNonNull(in_data, "data");
+  }
+
+  @Override
+  public URI source()
+  {
+    return this.source;
+  }
+
+  @Override
+  public long start()
+  {
+    return Integer.toUnsignedLong(this.data.position());
+  }
+
+  @Override
+  public long end()
+  {
+    return Integer.toUnsignedLong(this.data.limit());
+  }
+
+  @Override
+  public void setOrder(
+    final ByteOrder order)
+  {
+    this.data.order(order);
+  }
+
+  @Override
+  public ByteOrder order()
+  {
+    return this.data.order();
+  }
+
+  @Override
+  public void get(
+    final long offset,
+    final byte[] output)
+  {
+    this.data.get(Math.toIntExact(offset), output);
+  }
+
+  @Override
+  public int getInt(
+    final long offset)
+  {
+    return this.data.getInt(Math.toIntExact(offset));
+  }
+
+  @Override
+  public long getLong(
+    final long offset)
+  {
+    return this.data.getLong(Math.toIntExact(offset));
+  }
+}
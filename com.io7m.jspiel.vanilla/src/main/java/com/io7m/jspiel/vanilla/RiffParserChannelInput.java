@@ -0,0 +1,185 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.vanilla;
+
+import com.io7m.jspiel.api.RiffParseException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.SeekableByteChannel;
+import java.util.Objects;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+/**
+ * Parser input read from a channel. The parser only asks for chunk headers, so the data of
+ * chunks that do not have subchunks is never read. A read of four octets with
+ * {@link #get(long, byte[])} is a chunk name or a form type, and is followed by a chunk size or
+ * a subchunk name respectively, so such reads fetch eight octets at once. Integers are read
+ * exactly.
+ */
+
+final class RiffParserChannelInput implements RiffParserInputType
+{
+  private static final int HEADER_SIZE = 8;
+
+  private final URI source;
+  private final SeekableByteChannel channel;
+  private final ByteBuffer header;
+  private final long start;
+  private final long end;
+  private long header_offset;
+
+  private RiffParserChannelInput(
+    final URI in_source,
+    final SeekableByteChannel in_channel,
+    final long in_start,
+    final long in_end)
+  {
+    this.source = Objects.requireNonNull(in_source, "source");
+    this.channel = Objects.requireNonNull(in_channel, "channel");
+    this.start = in_start;
+    this.end = in_end;
+    this.header = ByteBuffer.allocate(HEADER_SIZE).order(LITTLE_ENDIAN).limit(0);
+    this.header_offset = -1L;
+  }
+
+  /**
+   * Create input over the given channel, starting at the current position of the channel.
+   *
+   * @param source  The URI of the channel
+   * @param channel The channel
+   *
+   * @return The input
+   *
+   * @throws RiffParseException On I/O errors
+   */
+
+  static RiffParserChannelInput open(
+    final URI source,
+    final SeekableByteChannel channel)
+    throws RiffParseException
+  {
+    try {
+      return new RiffParserChannelInput(source, channel, channel.position(), channel.size());
+    } catch (final IOException e) {
+      throw new RiffParseException(e, source, 0L);
+    }
+  }
+
+  @Override
+  public URI source()
+  {
+    return this.source;
+  }
+
+  @Override
+  public long start()
+  {
+    return this.start;
+  }
+
+  @Override
+  public long end()
+  {
+    return this.end;
+  }
+
+  @Override
+  public void setOrder(
+    final ByteOrder order)
+  {
+    this.header.order(order);
+  }
+
+  @Override
+  public ByteOrder order()
+  {
+    return this.header.order();
+  }
+
+  @Override
+  public void get(
+    final long offset,
+    final byte[] output)
+    throws RiffParseException
+  {
+    this.header.get(this.fill(offset, output.length, HEADER_SIZE), output);
+  }
+
+  @Override
+  public int getInt(
+    final long offset)
+    throws RiffParseException
+  {
+    return this.header.getInt(this.fill(offset, 4, 4));
+  }
+
+  @Override
+  public long getLong(
+    final long offset)
+    throws RiffParseException
+  {
+    return this.header.getLong(this.fill(offset, 8, 8));
+  }
+
+  /**
+   * Ensure that the given range is held in the header buffer, reading up to {@code fetch}
+   * octets from the channel if it is not.
+   *
+   * @return The index of the offset in the header buffer
+   */
+
+  private int fill(
+    final long offset,
+    final int length,
+    final int fetch)
+    throws RiffParseException
+  {
+    final var held = this.header_offset + (long) this.header.limit();
+    if (this.header_offset >= 0L && offset >= this.header_offset && offset + length <= held) {
+      return (int) (offset - this.header_offset);
+    }
+
+    try {
+      this.header.clear();
+      this.header.limit((int) Math.max(0L, Math.min((long) fetch, this.end - offset)));
+      this.channel.position(offset);
+      while (this.header.hasRemaining()) {
+        if (this.channel.read(this.header) < 0) {
+          break;
+        }
+      }
+      this.header.flip();
+      this.header_offset = offset;
+    } catch (final IOException e) {
+      this.header_offset = -1L;
+      throw new RiffParseException(e, this.source, offset);
+    }
+
+    if (this.header.limit() < length) {
+      throw new RiffParseException(
+        "Unexpected end of file at offset 0x" + Long.toUnsignedString(offset, 16),
+        this.source,
+        offset);
+    }
+    return 0;
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.vanilla;
+
+import com.io7m.jspiel.api.RiffParseException;
+
+import java.net.URI;
+import java.nio.ByteOrder;
+
+/**
+ * The octets over which a parser runs. All offsets are absolute.
+ */
+
+interface RiffParserInputType
+{
+  /**
+   * @return The URI of the input
+   */
+
+  URI source();
+
+  /**
+   * @return The offset at which parsing begins
+   */
+
+  long start();
+
+  /**
+   * @return The offset of the end of the input
+   */
+
+  long end();
+
+  /**
+   * Set the byte order used to read integers.
+   *
+   * @param order The byte order
+   */
+
+  void setOrder(ByteOrder order);
+
+  /**
+   * @return The byte order used to read integers
+   */
+
+  ByteOrder order();
+
+  /**
+   * Read {@code output.length} octets at the given offset.
+   *
+   * @param offset The offset
+   * @param output The output array
+   *
+   * @throws RiffParseException On I/O errors
+   */
+
+  void get(
+    long offset,
+    byte[] output)
+    throws RiffParseException;
+
+  /**
+   * @param offset The offset
+   *
+   * @return The 32-bit integer at the given offset
+   *
+   * @throws RiffParseException On I/O errors
+   */
+
+  int getInt(long offset)
+    throws RiffParseException;
+
+  /**
+   * @param offset The offset
+   *
+   * @return The 64-bit integer at the given offset
+   *
+   * @throws RiffParseException On I/O errors
+   */
+
+  long getLong(long offset)
+    throws RiffParseException;
+}
@@ -24,9 +24,14 @@ import com.io7m.jspiel.api.RiffChunkType;
 import com.io7m.jspiel.api.RiffFileParserProviderType;
 import com.io7m.jspiel.api.RiffFileParserType;
 import com.io7m.jspiel.api.RiffFileType;
+import com.io7m.jspiel.api.RiffMetricsListenerType;
+import com.io7m.jspiel.api.RiffMetricsListeners;
 import com.io7m.jspiel.api.RiffParseException;
 import com.io7m.jspiel.api.RiffSize;
 import com.io7m.jspiel.api.RiffSizes;
+import com.io7m.jspiel.api.RiffTopLevelChunkReaderType;
+import com.io7m.jspiel.api.RiffTrailingData;
+import com.io7m.jspiel.api.RiffTrailingDataPolicy;
 import org.osgi.service.component.annotations.Component;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,6 +39,7 @@ import org.slf4j.LoggerFactory;
 import java.net.URI;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.channels.SeekableByteChannel;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -58,6 +64,14 @@ public final class RiffParsers implements RiffFileParserProviderType
   private static final String FOURCC_FFIR = "FFIR";
   private static final String FOURCC_RIFX = "RIFX";
   private static final String FOURCC_LIST = "LIST";
+  private static final String FOURCC_RF64 = "RF64";
+  private static final String FOURCC_BW64 = "BW64";
+  private static final String FOURCC_DS64 = "ds64";
+  private static final String FOURCC_DATA = "data";
+  private static final long SIZE_DEFERRED = 0xffff_ffffL;
+
+  private final RiffMetricsListenerType listener;
+  private final RiffTrailingDataPolicy trailing;
 
   /**
    * Construct a RIFF parser provider.
@@ -65,7 +79,35 @@ public final class RiffParsers implements RiffFileParserProviderType
 
   public RiffParsers()
   {
+    this(RiffMetricsListeners.noop());
+  }
+
+  /**
+   * Construct a RIFF parser provider that delivers metrics to the given listener.
+   *
+   * @param in_listener The metrics listener
+   */
+
+  public RiffParsers(
+    final RiffMetricsListenerType in_listener)
+  {
+    this(in_listener, RiffTrailingDataPolicy.REPORT);
+  }
+
+  /**
+   * Construct a RIFF parser provider that delivers metrics to the given listener and treats
+   * data following the last top-level chunk according to the given policy.
+   *
+   * @param in_listener The metrics listener
+   * @param in_trailing The trailing data policy
+   */
 
+  public RiffParsers(
+    final RiffMetricsListenerType in_listener,
+    final RiffTrailingDataPolicy in_trailing)
+  {
+    this.listener = Objects.requireNonNull(in_listener, "listener");
+    this.trailing = Objects.requireNonNull(in_trailing, "trailing");
   }
 
   @Override
@@ -75,56 +117,182 @@ public final class RiffParsers implements RiffFileParserProviderType
   {
     Objects.requireNonNull(source, "source");
     Objects.requireNonNull(data, "data");
-    return new RootParser(source, data);
+    return new RootParser(
+      () -> new RiffParserBufferInput(source, data), this.listener, this.trailing);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * Only the chunk headers are read from the channel, so files of any size can be parsed, and
+   * the data of chunks that do not have subchunks is never read.
+   */
+
+  @Override
+  public RiffFileParserType createForChannel(
+    final URI source,
+    final SeekableByteChannel channel)
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(channel, "channel");
+    return new RootParser(
+      () -> RiffParserChannelInput.open(source, channel), this.listener, this.trailing);
+  }
+
+  private interface InputOpenerType
+  {
+    RiffParserInputType open()
+      throws RiffParseException;
   }
 
   private static final class RootParser implements RiffFileParserType
   {
-    private final URI source;
-    private final ByteBuffer data;
+    private final InputOpenerType opener;
+    private final RiffMetricsListenerType listener;
+    private final RiffTrailingDataPolicy trailing;
 
     RootParser(
-      final URI in_source,
-      final ByteBuffer in_data)
+      final InputOpenerType in_opener,
+      final RiffMetricsListenerType in_listener,
+      final RiffTrailingDataPolicy in_trailing)
     {
-      this.source = Objects.requireNonNull(in_source, "source");
-      this.data = Objects.requireNonNull(in_data, "data");
+      this.opener = Objects.requireNonNull(in_opener, "opener");
+      this.listener = Objects.requireNonNull(in_listener, "listener");
+      this.trailing = Objects.requireNonNull(in_trailing, "trailing");
     }
 
     @Override
     public RiffFileType parse()
       throws RiffParseException
     {
-      final var starting_offset = Integer.toUnsignedLong(this.data.position());
-      final var limit = this.data.remaining();
+      final var event = new RiffParseEvent();
+      event.begin();
+
+      final var chunks = new ArrayList<RiffChunkType>(1);
+      try {
+        final var reader = this.openTopLevelReader();
+        while (true) {
+          final var chunk = reader.next();
+          if (chunk.isEmpty()) {
+            break;
+          }
+          chunks.add(chunk.get());
+        }
+
+        final var file = new RiffFile(reader.byteOrder(), chunks, reader.trailingData());
+        event.end();
+        if (event.shouldCommit()) {
+          event.set(
+            reader.source(),
+            file.byteOrder(),
+            file.linearizedDescendantChunks().count(),
+            reader.size());
+          event.commit();
+        }
+        return file;
+      } catch (final RiffParseException e) {
+        event.end();
+        if (event.shouldCommit()) {
+          event.setFailed(
+            e.source(),
+            chunks.stream().flatMap(RiffChunkType::linearizedDescendantChunks).count());
+          event.commit();
+        }
+        throw e;
+      }
+    }
 
-      if (LOG.isTraceEnabled()) {
+    @Override
+    public RiffTopLevelChunkReaderType openReader()
+      throws RiffParseException
+    {
+      return this.openTopLevelReader();
+    }
+
+    private TopLevelReader openTopLevelReader()
+      throws RiffParseException
+    {
+      final var input = this.opener.open();
+      final var metrics = RiffParseCounters.create(this.listener, input.source());
+      final var time_then = metrics.now();
+      final var starting_offset = input.start();
+      final var limit = input.end() - starting_offset;
+      final var log = RiffLogLevel.of(LOG);
+
+      if (log.isTraceEnabled()) {
         LOG.trace("starting parsing: position 0x{}, {} octet limit",
                   Long.toUnsignedString(starting_offset, 16),
-                  Integer.valueOf(limit));
+                  Long.valueOf(limit));
+      }
+
+      if (limit < 4L) {
+        final var separator = System.lineSeparator();
+        throw new RiffParseException(
+          new StringBuilder("Chunk data is truncated or does not match declared size.")
+            .append(separator)
+            .append("  Whilst reading: Chunk name")
+            .append(separator)
+            .append("  Required size: 4")
+            .append(separator)
+            .append("  Remaining size: ")
+            .append(limit)
+            .append(separator)
+            .toString(),
+          input.source(),
+          starting_offset);
       }
 
       final var buffer4 = new byte[4];
-      this.data.get(buffer4);
+      input.get(starting_offset, buffer4);
 
       // CHECKSTYLE:OFF
       final var name = new String(buffer4, US_ASCII);
       // CHECKSTYLE:ON
 
+      input.setOrder(byteOrderFor(input, name, starting_offset));
+
+      final var sizes = switch (name) {
+        case FOURCC_RF64, FOURCC_BW64 -> Optional.of(readDS64(input, starting_offset));
+        default -> Optional.<DS64Sizes>empty();
+      };
+
+      /*
+       * Every top-level chunk after the first must be a RIFF chunk of the same byte order.
+       * Files such as AVI files with AVIX extensions consist of several consecutive top-level
+       * RIFF chunks; anything else is reported as trailing data.
+       */
+
+      final var allowed = switch (name) {
+        case FOURCC_RIFX, FOURCC_FFIR -> List.of(FOURCC_RIFX, FOURCC_FFIR);
+        default -> List.of(FOURCC_RIFF);
+      };
+
+      metrics.addHeaderTime(time_then);
+      return new TopLevelReader(input, sizes, allowed, this.trailing, metrics, log);
+    }
+
+    private static ByteOrder byteOrderFor(
+      final RiffParserInputType input,
+      final String name,
+      final long starting_offset)
+      throws RiffParseException
+    {
       switch (name) {
         case FOURCC_RIFF: {
-          this.data.order(LITTLE_ENDIAN);
-          break;
+          return LITTLE_ENDIAN;
         }
 
         case FOURCC_FFIR: {
-          this.data.order(BIG_ENDIAN);
-          break;
+          return BIG_ENDIAN;
         }
 
         case FOURCC_RIFX: {
-          this.data.order(BIG_ENDIAN);
-          break;
+          return BIG_ENDIAN;
+        }
+
+        case FOURCC_RF64:
+        case FOURCC_BW64: {
+          return LITTLE_ENDIAN;
         }
 
         default: {
@@ -133,40 +301,96 @@ public final class RiffParsers implements RiffFileParserProviderType
             new StringBuilder("Starting chunk must be RIFF")
               .append(separator)
               .append("  Expected: One of ")
-              .append(String.join("|", List.of(FOURCC_RIFF, FOURCC_FFIR, FOURCC_RIFX)))
+              .append(String.join(
+                "|",
+                List.of(FOURCC_RIFF, FOURCC_FFIR, FOURCC_RIFX, FOURCC_RF64, FOURCC_BW64)))
               .append(separator)
               .append("  Received: ")
               .append(name)
               .append(separator)
               .toString(),
-            this.source,
+            input.source(),
             starting_offset);
         }
       }
+    }
 
-      final var view = this.data.duplicate();
-      view.position(Math.toIntExact(starting_offset));
-      view.limit(limit);
-      view.order(this.data.order());
+    /**
+     * Read the {@code ds64} chunk that must immediately follow the form type of an RF64 file.
+     * The chunk holds the 64-bit sizes of the root chunk and the {@code data} chunk, whose 32-bit
+     * size fields are set to {@code 0xFFFFFFFF}.
+     */
 
-      final var parse =
-        new ChunkParser(0, Optional.empty(), this.source, view)
-          .parse();
+    private static DS64Sizes readDS64(
+      final RiffParserInputType input,
+      final long starting_offset)
+      throws RiffParseException
+    {
+      final var ds64_offset = starting_offset + 12L;
+      final var ds64_end = ds64_offset + 8L + 16L;
+      if (input.end() < ds64_end) {
+        throw missingDS64(input, ds64_offset, "<truncated>");
+      }
+
+      final var buffer4 = new byte[4];
+      input.get(ds64_offset, buffer4);
+
+      // CHECKSTYLE:OFF
+      final var name = new String(buffer4, US_ASCII);
+      // CHECKSTYLE:ON
+
+      if (!FOURCC_DS64.equals(name)) {
+        throw missingDS64(input, ds64_offset, name);
+      }
 
-      return new RiffFile(this.data.order(), parse);
+      final var riff_size = input.getLong(ds64_offset + 8L);
+      final var data_size = input.getLong(ds64_offset + 16L);
+      if (riff_size < 0L || data_size < 0L) {
+        throw missingDS64(input, ds64_offset, "<unrepresentable sizes>");
+      }
+      return new DS64Sizes(riff_size, data_size);
+    }
+
+    private static RiffParseException missingDS64(
+      final RiffParserInputType input,
+      final long offset,
+      final String received)
+    {
+      final var separator = System.lineSeparator();
+      return new RiffParseException(
+        new StringBuilder("RF64 file is missing a ds64 chunk")
+          .append(separator)
+          .append("  Expected: ")
+          .append(FOURCC_DS64)
+          .append(separator)
+          .append("  Received: ")
+          .append(received)
+          .append(separator)
+          .toString(),
+        input.source(),
+        offset);
     }
 
     private static final class RiffFile implements RiffFileType
     {
       private final ByteOrder order;
       private final List<RiffChunkType> chunks;
+      private final Optional<RiffTrailingData> trailing;
 
       RiffFile(
         final ByteOrder in_order,
-        final List<RiffChunkType> in_chunks)
+        final List<RiffChunkType> in_chunks,
+        final Optional<RiffTrailingData> in_trailing)
       {
         this.order = Objects.requireNonNull(in_order, "order");
         this.chunks = Objects.requireNonNull(in_chunks, "chunks");
+        this.trailing = Objects.requireNonNull(in_trailing, "trailing");
+      }
+
+      @Override
+      public Optional<RiffTrailingData> trailingData()
+      {
+        return this.trailing;
       }
 
       @Override
@@ -183,6 +407,174 @@ public final class RiffParsers implements RiffFileParserProviderType
     }
   }
 
+  private static final class TopLevelReader implements RiffTopLevelChunkReaderType
+  {
+    private final RiffParserInputType input;
+    private final Optional<DS64Sizes> sizes;
+    private final List<String> allowed;
+    private final RiffTrailingDataPolicy policy;
+    private final byte[] buffer4;
+    private final RiffParseCounters metrics;
+    private final RiffLogLevel log;
+    private final long start;
+    private long position;
+    private Optional<RiffTrailingData> trailing;
+    private boolean first;
+    private boolean done;
+
+    TopLevelReader(
+      final RiffParserInputType in_input,
+      final Optional<DS64Sizes> in_sizes,
+      final List<String> in_allowed,
+      final RiffTrailingDataPolicy in_policy,
+      final RiffParseCounters in_metrics,
+      final RiffLogLevel in_log)
+    {
+      this.input = Objects.requireNonNull(in_input, "input");
+      this.sizes = Objects.requireNonNull(in_sizes, "sizes");
+      this.allowed = Objects.requireNonNull(in_allowed, "allowed");
+      this.policy = Objects.requireNonNull(in_policy, "policy");
+      this.metrics = Objects.requireNonNull(in_metrics, "metrics");
+      this.log = Objects.requireNonNull(in_log, "log");
+      this.buffer4 = new byte[4];
+      this.trailing = Optional.empty();
+      this.first = true;
+      this.start = in_input.start();
+      this.position = this.start;
+    }
+
+    URI source()
+    {
+      return this.input.source();
+    }
+
+    long size()
+    {
+      return this.input.end() - this.start;
+    }
+
+    private Optional<RiffChunkType> finish()
+    {
+      this.done = true;
+      this.metrics.complete(this.position - this.start);
+      return Optional.empty();
+    }
+
+    @Override
+    public ByteOrder byteOrder()
+    {
+      return this.input.order();
+    }
+
+    @Override
+    public Optional<RiffChunkType> next()
+      throws RiffParseException
+    {
+      if (this.done) {
+        return Optional.empty();
+      }
+
+      final var remaining = this.input.end() - this.position;
+      if (remaining <= 0L) {
+        return this.finish();
+      }
+
+      final var extent = this.chunkExtent(this.position);
+      final var fits = extent >= 0L && extent <= remaining;
+
+      if (!this.first && !(fits && this.allowed.contains(this.chunkName(this.position)))) {
+        if (this.log.isDebugEnabled()) {
+          LOG.debug(
+            "trailing data: 0x{} ({} octets)",
+            Long.toUnsignedString(this.position, 16),
+            Long.valueOf(remaining));
+        }
+        if (this.policy == RiffTrailingDataPolicy.REJECT) {
+          throw this.trailingDataRejected(this.position, remaining);
+        }
+        this.trailing = Optional.of(RiffTrailingData.of(this.position, remaining));
+        return this.finish();
+      }
+
+      /*
+       * The first chunk is parsed against the entire remaining input if it does not fit, so
+       * that the chunk parser reports the usual errors for truncated files.
+       */
+
+      this.first = false;
+      final var chunk_end = fits ? this.position + extent : this.input.end();
+
+      final var time_then = this.metrics.now();
+      final var chunks =
+        new ChunkParser(
+          0, Optional.empty(), this.sizes, this.input, this.position, chunk_end, this.metrics,
+          this.log)
+          .parse();
+
+      this.position = chunk_end;
+      this.metrics.addChunkTime(time_then);
+      return Optional.of(chunks.get(0));
+    }
+
+    @Override
+    public Optional<RiffTrailingData> trailingData()
+    {
+      return this.trailing;
+    }
+
+    private RiffParseException trailingDataRejected(
+      final long offset,
+      final long remaining)
+    {
+      final var separator = System.lineSeparator();
+      return new RiffParseException(
+        new StringBuilder("Unexpected data follows the last top-level chunk.")
+          .append(separator)
+          .append("  Offset: 0x")
+          .append(Long.toUnsignedString(offset, 16))
+          .append(separator)
+          .append("  Size: ")
+          .append(Long.toUnsignedString(remaining))
+          .append(separator)
+          .toString(),
+        this.input.source(),
+        offset);
+    }
+
+    private String chunkName(
+      final long offset)
+      throws RiffParseException
+    {
+      this.input.get(offset, this.buffer4);
+      // CHECKSTYLE:OFF
+      return new String(this.buffer4, US_ASCII);
+      // CHECKSTYLE:ON
+    }
+
+    /**
+     * @return The total size of the chunk at the given offset including its header and any
+     * padding, or {@code -1} if the header is truncated
+     */
+
+    private long chunkExtent(
+      final long offset)
+      throws RiffParseException
+    {
+      if (this.input.end() - offset < 8L) {
+        return -1L;
+      }
+
+      var size = Integer.toUnsignedLong(this.input.getInt(offset + 4L));
+      if (size == SIZE_DEFERRED && this.sizes.isPresent()) {
+        final var name = this.chunkName(offset);
+        if (FOURCC_RF64.equals(name) || FOURCC_BW64.equals(name)) {
+          size = this.sizes.get().riff_size;
+        }
+      }
+      return 8L + size + (size & 1L);
+    }
+  }
+
   private static final class RiffChunk implements RiffChunkType
   {
     private final Optional<String> form_type;
@@ -279,30 +671,58 @@ public final class RiffParsers implements RiffFileParserProviderType
     }
   }
 
+  private static final class DS64Sizes
+  {
+    private final long riff_size;
+    private final long data_size;
+
+    DS64Sizes(
+      final long in_riff_size,
+      final long in_data_size)
+    {
+      this.riff_size = in_riff_size;
+      this.data_size = in_data_size;
+    }
+  }
+
   private static final class ChunkParser
   {
-    private final ByteBuffer buffer;
-    private final URI uri;
+    private final RiffParserInputType input;
     private final byte[] buffer4;
     private final Optional<RiffChunkType> parent;
+    private final Optional<DS64Sizes> sizes;
+    private final RiffParseCounters metrics;
+    private final RiffLogLevel log;
     private final int depth;
+    private final long start;
+    private final long end;
+    private long position;
 
     ChunkParser(
       final int in_depth,
       final Optional<RiffChunkType> in_parent,
-      final URI in_uri,
-      final ByteBuffer in_data)
+      final Optional<DS64Sizes> in_sizes,
+      final RiffParserInputType in_input,
+      final long in_start,
+      final long in_end,
+      final RiffParseCounters in_metrics,
+      final RiffLogLevel in_log)
     {
       Preconditions.checkPreconditionL(
-        in_data.remaining(),
-        in_data.remaining() >= 0L,
-        x -> "Limit must be non-zero");
+        in_end - in_start,
+        in_end - in_start >= 0L,
+        x -> "Limit must be non-negative");
 
       this.depth = in_depth;
       this.parent = Objects.requireNonNull(in_parent, "parent");
-      this.uri = Objects.requireNonNull(in_uri, "uri");
-      this.buffer = Objects.requireNonNull(in_data, "in_data");
+      this.sizes = Objects.requireNonNull(in_sizes, "sizes");
+      this.input = Objects.requireNonNull(in_input, "input");
+      this.start = in_start;
+      this.end = in_end;
+      this.position = in_start;
       this.buffer4 = new byte[4];
+      this.metrics = Objects.requireNonNull(in_metrics, "metrics");
+      this.log = Objects.requireNonNull(in_log, "log");
     }
 
     private static long sumSubchunks(
@@ -316,50 +736,45 @@ public final class RiffParsers implements RiffFileParserProviderType
     List<RiffChunkType> parse()
       throws RiffParseException
     {
-      if (LOG.isTraceEnabled()) {
+      if (this.log.isTraceEnabled()) {
         LOG.trace(
           "[{}]: parsing subchunks ({} octet limit)",
           Integer.valueOf(this.depth),
-          Long.valueOf(Integer.toUnsignedLong(this.buffer.limit())));
+          Long.valueOf(this.end - this.start));
       }
 
       final var chunks = new ArrayList<RiffChunkType>(8);
-      while (remaining(this.buffer) > 0L) {
-        final var subchunk_start_offset =
-          Integer.toUnsignedLong(this.buffer.position());
+      while (this.remaining() > 0L) {
+        final var subchunk_start_offset = this.position;
 
-        final var name = this.readChunkName(this.buffer);
-        final var size = this.readChunkSize(this.buffer, name);
+        final var name = this.readChunkName();
+        final var size = this.readChunkSize(name);
 
-        final var subchunk_data_offset =
-          Integer.toUnsignedLong(this.buffer.position());
-
-        this.checkSizeDoesNotExhaustRemaining(this.buffer, name, size.size());
-
-        final var expected_subchunks_size = Math.toIntExact(size.size());
-        final var view = this.buffer.slice();
-        view.limit(expected_subchunks_size);
-        view.order(this.buffer.order());
+        final var subchunk_data_offset = this.position;
+        this.checkSizeDoesNotExhaustRemaining(name, size.size());
+        final var subchunk_data_end = Math.addExact(subchunk_data_offset, size.size());
 
         switch (name.value()) {
           case FOURCC_LIST:
           case FOURCC_FFIR:
           case FOURCC_RIFX:
+          case FOURCC_RF64:
+          case FOURCC_BW64:
           case FOURCC_RIFF: {
             final var form_type =
-              this.readFormType(view, name);
+              this.readFormType(name, subchunk_data_end);
 
             final var sub_chunks = new ArrayList<RiffChunkType>(8);
             final var chunk =
               new RiffChunk(
                 this.parent,
-                this.absoluteOffsetFor(subchunk_start_offset),
+                subchunk_start_offset,
                 name,
                 size,
                 Optional.of(form_type),
                 sub_chunks);
 
-            if (LOG.isDebugEnabled()) {
+            if (this.log.isDebugEnabled()) {
               LOG.debug(
                 "[{}]: chunk: 0x{} {} (form {}) (size {} [total {}])",
                 Integer.valueOf(this.depth),
@@ -371,7 +786,15 @@ public final class RiffParsers implements RiffFileParserProviderType
             }
 
             final var parser =
-              new ChunkParser(this.depth + 1, Optional.of(chunk), this.uri, view);
+              new ChunkParser(
+                this.depth + 1,
+                Optional.of(chunk),
+                this.sizes,
+                this.input,
+                subchunk_data_offset + 4L,
+                subchunk_data_end,
+                this.metrics,
+                this.log);
 
             sub_chunks.addAll(parser.parse());
             chunks.add(chunk);
@@ -381,6 +804,7 @@ public final class RiffParsers implements RiffFileParserProviderType
              * octets for the form type at the start of this chunk.
              */
 
+            final var expected_subchunks_size = size.size();
             final var sub_chunks_size = Math.addExact(sumSubchunks(sub_chunks), 4L);
             Postconditions.checkPostconditionL(
               sub_chunks_size,
@@ -393,13 +817,13 @@ public final class RiffParsers implements RiffFileParserProviderType
             final var chunk =
               new RiffChunk(
                 this.parent,
-                this.absoluteOffsetFor(subchunk_start_offset),
+                subchunk_start_offset,
                 name,
                 size,
                 Optional.empty(),
                 List.of());
 
-            if (LOG.isDebugEnabled()) {
+            if (this.log.isDebugEnabled()) {
               LOG.debug(
                 "[{}]: chunk: 0x{} {} (size {} [total {}])",
                 Integer.valueOf(this.depth),
@@ -413,16 +837,16 @@ public final class RiffParsers implements RiffFileParserProviderType
             break;
         }
 
-        final var seek_to = Math.addExact(subchunk_data_offset, size.size());
-        this.buffer.position(Math.toIntExact(seek_to));
+        this.metrics.addChunk(this.depth);
+        this.position = subchunk_data_end;
       }
 
       Postconditions.checkPostconditionL(
-        remaining(this.buffer),
-        remaining(this.buffer) == 0L,
+        this.remaining(),
+        this.remaining() == 0L,
         size -> "Remaining octets must be zero");
 
-      if (LOG.isTraceEnabled()) {
+      if (this.log.isTraceEnabled()) {
         LOG.trace(
           "[{}]: returning {} subchunks",
           Integer.valueOf(this.depth),
@@ -431,36 +855,18 @@ public final class RiffParsers implements RiffFileParserProviderType
       return chunks;
     }
 
-    private long absoluteOffset()
-    {
-      return this.absoluteOffsetFor(Integer.toUnsignedLong(this.buffer.position()));
-    }
-
-    private long absoluteOffsetFor(final long relative)
-    {
-      return Math.addExact(this.parentDataOffset(), relative);
-    }
-
-    private long parentDataOffset()
+    private long remaining()
     {
-      return this.parent.map(p -> Long.valueOf(p.dataOffset()))
-        .orElse(Long.valueOf(0L))
-        .longValue();
-    }
-
-    private static long remaining(final ByteBuffer buffer)
-    {
-      return Integer.toUnsignedLong(buffer.remaining());
+      return this.end - this.position;
     }
 
     private void checkSizeDoesNotExhaustRemaining(
-      final ByteBuffer view,
       final RiffChunkID name,
       final long size)
       throws RiffParseException
     {
-      if (remaining(view) < size) {
-        throw this.chunkSizeIllegal(name, this.absoluteOffset(), remaining(view), size);
+      if (this.remaining() < size) {
+        throw this.chunkSizeIllegal(name, this.position, this.remaining(), size);
       }
     }
 
@@ -490,40 +896,61 @@ public final class RiffParsers implements RiffFileParserProviderType
           .append(Long.toUnsignedString(size))
           .append(separator)
           .toString(),
-        this.uri,
+        this.input.source(),
         offset);
     }
 
     private String readFormType(
-      final ByteBuffer view,
-      final RiffChunkID name)
+      final RiffChunkID name,
+      final long data_end)
       throws RiffParseException
     {
-      this.checkRemainingBufferSpace(view, Optional.of(name), "Chunk form type", 4L);
-      view.get(this.buffer4);
+      this.checkRemainingSpace(
+        Optional.of(name), "Chunk form type", 4L, data_end - this.position);
+      this.input.get(this.position, this.buffer4);
       // CHECKSTYLE:OFF
       return new String(this.buffer4, US_ASCII);
       // CHECKSTYLE:ON
     }
 
     private RiffSize readChunkSize(
-      final ByteBuffer view,
       final RiffChunkID name)
       throws RiffParseException
     {
-      this.checkRemainingBufferSpace(view, Optional.of(name), "Chunk size", 4L);
-      final var size = Integer.toUnsignedLong(view.getInt());
+      this.checkRemainingSpace(Optional.of(name), "Chunk size", 4L, this.remaining());
+      final var size = Integer.toUnsignedLong(this.input.getInt(this.position));
+      this.position += 4L;
+      if (size == SIZE_DEFERRED && this.sizes.isPresent()) {
+        return RiffSizes.padIfNecessary(this.deferredSize(name, size));
+      }
       return RiffSizes.padIfNecessary(size);
     }
 
-    private void checkRemainingBufferSpace(
-      final ByteBuffer view,
+    /**
+     * The ds64 chunk only holds sizes for the root chunk and for the {@code data} chunk that is
+     * a direct child of the root; a deferred size on any other chunk is left as-is.
+     */
+
+    private long deferredSize(
+      final RiffChunkID name,
+      final long size)
+    {
+      final var ds64 = this.sizes.get();
+      return switch (name.value()) {
+        case FOURCC_RF64, FOURCC_BW64 -> this.depth == 0 ? ds64.riff_size : size;
+        case FOURCC_DATA -> this.depth == 1 ? ds64.data_size : size;
+        default -> size;
+      };
+    }
+
+    private void checkRemainingSpace(
       final Optional<RiffChunkID> name,
       final String reading,
-      final long required)
+      final long required,
+      final long available)
       throws RiffParseException
     {
-      if (required > remaining(view)) {
+      if (required > available) {
         final var separator = System.lineSeparator();
         final var message =
           new StringBuilder("Chunk data is truncated or does not match declared size.")
@@ -537,7 +964,7 @@ public final class RiffParsers implements RiffFileParserProviderType
         throw new RiffParseException(
           message
             .append("  Current offset: 0x")
-            .append(Long.toUnsignedString(this.absoluteOffset()))
+            .append(Long.toUnsignedString(this.position, 16))
             .append(separator)
             .append("  Whilst reading: ")
             .append(reading)
@@ -546,20 +973,20 @@ public final class RiffParsers implements RiffFileParserProviderType
             .append(Long.toUnsignedString(required, 10))
             .append(separator)
             .append("  Remaining size: ")
-            .append(Long.toUnsignedString(remaining(view), 10))
+            .append(Long.toUnsignedString(available, 10))
             .append(separator)
             .toString(),
-          this.uri,
-          (long) this.buffer.position());
+          this.input.source(),
+          this.position);
       }
     }
 
-    private RiffChunkID readChunkName(
-      final ByteBuffer view)
+    private RiffChunkID readChunkName()
       throws RiffParseException
     {
-      this.checkRemainingBufferSpace(view, Optional.empty(), "Chunk name", 4L);
-      this.buffer.get(this.buffer4);
+      this.checkRemainingSpace(Optional.empty(), "Chunk name", 4L, this.remaining());
+      this.input.get(this.position, this.buffer4);
+      this.position += 4L;
       return RiffChunkIDs.ofBytes(this.buffer4);
     }
   }
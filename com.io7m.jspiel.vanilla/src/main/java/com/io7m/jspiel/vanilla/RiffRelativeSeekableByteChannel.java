@@ -19,6 +19,7 @@ package com.io7m.jspiel.vanilla;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
 import java.nio.channels.SeekableByteChannel;
 import java.util.Objects;
 
@@ -26,7 +27,8 @@ import java.util.Objects;
  * A byte channel that is offset by a fixed amount.
  */
 
-public final class RiffRelativeSeekableByteChannel implements SeekableByteChannel
+public final class RiffRelativeSeekableByteChannel
+  implements SeekableByteChannel, RiffTransferTargetType
 {
   private final SeekableByteChannel delegate;
   private final long lower;
@@ -95,6 +97,21 @@ public final class RiffRelativeSeekableByteChannel implements SeekableByteChanne
     return r;
   }
 
+  @Override
+  public long transferFrom(
+    final FileChannel source,
+    final long source_position,
+    final long count)
+    throws IOException
+  {
+    this.checkNotClosed();
+
+    this.position(this.position());
+    final var r = RiffTransferTargetType.transfer(source, source_position, count, this.delegate);
+    this.position = Math.addExact(this.position, r);
+    return r;
+  }
+
   @Override
   public long position()
     throws IOException
@@ -21,6 +21,7 @@ import com.io7m.jspiel.api.RiffOutOfBoundsException;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
 import java.nio.channels.SeekableByteChannel;
 import java.util.Objects;
 
@@ -28,7 +29,8 @@ import java.util.Objects;
  * A byte channel that can only access a specified range of a given underlying channel.
  */
 
-public final class RiffRestrictedSeekableByteChannel implements SeekableByteChannel
+public final class RiffRestrictedSeekableByteChannel
+  implements SeekableByteChannel, RiffTransferTargetType
 {
   private final SeekableByteChannel delegate;
   private final long lower;
@@ -123,8 +125,33 @@ public final class RiffRestrictedSeekableByteChannel implements SeekableByteChan
     throws IOException
   {
     this.checkNotClosed();
+    this.checkWriteBounds(Integer.toUnsignedLong(src.remaining()));
 
-    final var count = Integer.toUnsignedLong(src.remaining());
+    this.position(this.position());
+    final var r = this.delegate.write(src);
+    this.position_relative = Math.addExact(this.position_relative, Integer.toUnsignedLong(r));
+    return r;
+  }
+
+  @Override
+  public long transferFrom(
+    final FileChannel source,
+    final long source_position,
+    final long count)
+    throws IOException
+  {
+    this.checkNotClosed();
+    this.checkWriteBounds(count);
+
+    this.position(this.position());
+    final var r = RiffTransferTargetType.transfer(source, source_position, count, this.delegate);
+    this.position_relative = Math.addExact(this.position_relative, r);
+    return r;
+  }
+
+  private void checkWriteBounds(
+    final long count)
+  {
     final var new_upper = Math.addExact(this.position_relative, count);
     if (Long.compareUnsigned(new_upper, this.upper_relative) > 0) {
       final var separator = System.lineSeparator();
@@ -144,11 +171,6 @@ public final class RiffRestrictedSeekableByteChannel implements SeekableByteChan
           .append(separator)
           .toString());
     }
-
-    this.position(this.position());
-    final var r = this.delegate.write(src);
-    this.position_relative = Math.addExact(this.position_relative, Integer.toUnsignedLong(r));
-    return r;
   }
 
   @Override
@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.vanilla;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * A channel that can receive data directly from a file channel. Channels that wrap other
+ * channels implement this interface so that transfers can reach the underlying file channel,
+ * allowing the operating system to copy the data without passing it through the Java heap.
+ */
+
+interface RiffTransferTargetType
+{
+  /**
+   * Transfer data from the given file channel to the current position of this channel.
+   *
+   * @param source   The source channel
+   * @param position The offset in the source channel
+   * @param count    The maximum number of octets to transfer
+   *
+   * @return The number of octets transferred
+   *
+   * @throws IOException On I/O errors
+   */
+
+  long transferFrom(
+    FileChannel source,
+    long position,
+    long count)
+    throws IOException;
+
+  /**
+   * Transfer data from the given file channel to the given target channel.
+   *
+   * @param source   The source channel
+   * @param position The offset in the source channel
+   * @param count    The maximum number of octets to transfer
+   * @param target   The target channel
+   *
+   * @return The number of octets transferred
+   *
+   * @throws IOException On I/O errors
+   */
+
+  static long transfer(
+    final FileChannel source,
+    final long position,
+    final long count,
+    final WritableByteChannel target)
+    throws IOException
+  {
+    if (target instanceof RiffTransferTargetType) {
+      return ((RiffTransferTargetType) target).transferFrom(source, position, count);
+    }
+    return source.transferTo(position, count, target);
+  }
+}
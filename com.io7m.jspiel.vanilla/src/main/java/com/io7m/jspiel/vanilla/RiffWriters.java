@@ -23,10 +23,13 @@ import com.io7m.jspiel.api.RiffFileWriterChunkDescriptionType;
 import com.io7m.jspiel.api.RiffFileWriterDescriptionType;
 import com.io7m.jspiel.api.RiffFileWriterProviderType;
 import com.io7m.jspiel.api.RiffFileWriterType;
+import com.io7m.jspiel.api.RiffMetricsListenerType;
+import com.io7m.jspiel.api.RiffMetricsListeners;
 import com.io7m.jspiel.api.RiffOutOfBoundsException;
 import com.io7m.jspiel.api.RiffSize;
 import com.io7m.jspiel.api.RiffSizes;
 import com.io7m.jspiel.api.RiffWriteException;
+import com.io7m.jspiel.api.RiffWriteMetrics;
 import org.osgi.service.component.annotations.Component;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,7 +39,9 @@ import java.net.URI;
 import java.nio.ByteBuffer;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalLong;
@@ -55,6 +60,17 @@ public final class RiffWriters implements RiffFileWriterProviderType
   private static final long DATA_SIZE_OCTETS = 4L;
   private static final long FORM_OCTETS = 4L;
   private static final long HEADER_SIZE = CHUNK_ID_OCTETS + DATA_SIZE_OCTETS;
+  private static final int SHORT_WRITE_STALLS = 16;
+
+  /**
+   * A shared, never committed event instance used only to check whether chunk data write
+   * events are enabled.
+   */
+
+  private static final RiffChunkDataWriteEvent CHUNK_DATA_WRITE_EVENTS =
+    new RiffChunkDataWriteEvent();
+
+  private final RiffMetricsListenerType listener;
 
   /**
    * Construct a writer provider.
@@ -62,7 +78,19 @@ public final class RiffWriters implements RiffFileWriterProviderType
 
   public RiffWriters()
   {
+    this(RiffMetricsListeners.noop());
+  }
 
+  /**
+   * Construct a writer provider that delivers metrics to the given listener.
+   *
+   * @param in_listener The metrics listener
+   */
+
+  public RiffWriters(
+    final RiffMetricsListenerType in_listener)
+  {
+    this.listener = Objects.requireNonNull(in_listener, "listener");
   }
 
   @Override
@@ -74,7 +102,7 @@ public final class RiffWriters implements RiffFileWriterProviderType
     Objects.requireNonNull(source, "source");
     Objects.requireNonNull(description, "description");
     Objects.requireNonNull(channel, "channel");
-    return new Writer(source, description, channel);
+    return new Writer(source, description, channel, this.listener);
   }
 
   private static final class Writer implements RiffFileWriterType
@@ -84,11 +112,17 @@ public final class RiffWriters implements RiffFileWriterProviderType
     private final SeekableByteChannel root_channel;
     private final HashMap<Long, RiffSize> sizes_written;
     private final HashMap<Long, Long> sizes_offsets;
+    private final RiffMetricsListenerType listener;
+    private long seeks;
+    private long extent;
+    private RiffLogLevel log;
+    private long retries;
 
     Writer(
       final URI in_source,
       final RiffFileWriterDescriptionType in_description,
-      final SeekableByteChannel in_channel)
+      final SeekableByteChannel in_channel,
+      final RiffMetricsListenerType in_listener)
     {
       this.source =
         Objects.requireNonNull(in_source, "source");
@@ -97,8 +131,12 @@ public final class RiffWriters implements RiffFileWriterProviderType
       this.root_channel =
         Objects.requireNonNull(in_channel, "channel");
 
+      this.listener =
+        Objects.requireNonNull(in_listener, "listener");
+
       this.sizes_written = new HashMap<>();
       this.sizes_offsets = new HashMap<>();
+      this.log = RiffLogLevel.OFF;
     }
 
     private static long position(final SeekableByteChannel channel)
@@ -110,13 +148,28 @@ public final class RiffWriters implements RiffFileWriterProviderType
       }
     }
 
-    private static int writeChecked(
+    /**
+     * Write all of the given data, retrying writes that are accepted only partially. The write
+     * fails if the channel repeatedly accepts no data at all.
+     */
+
+    private int writeChecked(
       final SeekableByteChannel channel,
       final ByteBuffer output,
       final int expected)
       throws IOException
     {
-      final var wrote = channel.write(output);
+      var wrote = 0;
+      var stalls = 0;
+      while (output.hasRemaining() && stalls <= SHORT_WRITE_STALLS) {
+        final var count = channel.write(output);
+        wrote += count;
+        if (output.hasRemaining()) {
+          ++this.retries;
+          stalls = count > 0 ? 0 : stalls + 1;
+        }
+      }
+
       if (wrote != expected) {
         throw new IOException(
           new StringBuilder(64)
@@ -137,21 +190,30 @@ public final class RiffWriters implements RiffFileWriterProviderType
       return wrote;
     }
 
-    private static int writeASCII(
+    private int writeASCII(
       final SeekableByteChannel channel,
       final String text)
       throws IOException
     {
       final var data = text.getBytes(StandardCharsets.US_ASCII);
-      return writeChecked(channel, ByteBuffer.wrap(data), data.length);
+      return this.writeChecked(channel, ByteBuffer.wrap(data), data.length);
     }
 
-    private static int writeChunkID(
+    private int writeChunkID(
       final SeekableByteChannel channel,
       final RiffChunkID id)
       throws IOException
     {
-      return writeASCII(channel, id.value());
+      return this.writeASCII(channel, id.value());
+    }
+
+    private void seek(
+      final SeekableByteChannel channel,
+      final long position)
+      throws IOException
+    {
+      ++this.seeks;
+      channel.position(position);
     }
 
     private int writeUnsigned8(
@@ -159,7 +221,7 @@ public final class RiffWriters implements RiffFileWriterProviderType
       final int x)
       throws IOException
     {
-      return writeChecked(
+      return this.writeChecked(
         channel,
         ByteBuffer.allocate(1)
           .order(this.description.byteOrder())
@@ -172,7 +234,7 @@ public final class RiffWriters implements RiffFileWriterProviderType
       final long x)
       throws IOException
     {
-      return writeChecked(
+      return this.writeChecked(
         channel,
         ByteBuffer.allocate(4)
           .order(this.description.byteOrder())
@@ -184,27 +246,95 @@ public final class RiffWriters implements RiffFileWriterProviderType
     public void write()
       throws RiffWriteException
     {
+      final var event = new RiffWriteEvent();
+      event.begin();
+
+      var failed = true;
       try {
-        this.root_channel.position(0L);
+        this.writeChunks();
+        failed = false;
+      } finally {
+        event.end();
+        if (event.shouldCommit()) {
+          event.set(
+            this.source,
+            this.description.byteOrder(),
+            (long) this.sizes_offsets.size(),
+            this.extent,
+            failed);
+          event.commit();
+        }
+      }
+    }
+
+    private void writeChunks()
+      throws RiffWriteException
+    {
+      final var enabled = this.listener.isEnabled();
+      final var time_start = enabled ? System.nanoTime() : 0L;
+      final long time_data;
+      final long octets;
+      final int count;
+
+      this.log = RiffLogLevel.of(LOG);
+      final var trace = this.log.isTraceEnabled();
+
+      try {
+        this.seek(this.root_channel, 0L);
 
         final var chunks =
           this.description.linearizedChunks()
             .collect(Collectors.toList());
 
-        LOG.trace("writing data");
+        if (trace) {
+          LOG.trace("writing data");
+        }
 
         for (final var chunk : chunks) {
           this.writeChunk(this.root_channel, chunk);
         }
 
+        count = chunks.size();
+        this.extent = this.root_channel.position();
+        octets = this.extent + DATA_SIZE_OCTETS * (long) count;
+        time_data = enabled ? System.nanoTime() : 0L;
+
+        this.updateOffsets(chunks, trace);
+      } catch (final Exception e) {
+        throw new RiffWriteException(e, this.source, position(this.root_channel));
+      }
+
+      if (enabled) {
+        final var time_end = System.nanoTime();
+        this.listener.onWriteCompleted(
+          RiffWriteMetrics.builder()
+            .setSource(this.source)
+            .setChunks((long) count)
+            .setOctetsWritten(octets)
+            .setSeeks(this.seeks)
+            .setShortWriteRetries(this.retries)
+            .setDataTime(Duration.ofNanos(time_data - time_start))
+            .setSizeTime(Duration.ofNanos(time_end - time_data))
+            .build());
+      }
+    }
+
+    private void updateOffsets(
+      final List<RiffFileWriterChunkDescriptionType> chunks,
+      final boolean trace)
+      throws IOException
+    {
+      if (trace) {
         LOG.trace("updating offsets");
+      }
 
-        for (final var chunk : chunks) {
-          final var offset =
-            this.sizes_offsets.get(Long.valueOf(chunk.ordinal())).longValue();
-          final var size =
-            this.evaluateDataSizeOfChunk(chunk);
+      for (final var chunk : chunks) {
+        final var offset =
+          this.sizes_offsets.get(Long.valueOf(chunk.ordinal())).longValue();
+        final var size =
+          this.evaluateDataSizeOfChunk(chunk);
 
+        if (trace) {
           LOG.trace(
             "[{}:{}]: offset 0x{}",
             chunk.id().value(),
@@ -215,13 +345,10 @@ public final class RiffWriters implements RiffFileWriterProviderType
             chunk.id().value(),
             Long.valueOf(chunk.ordinal()),
             size);
-
-          this.root_channel.position(offset);
-          this.writeUnsigned32(this.root_channel, size.sizeUnpadded());
         }
 
-      } catch (final Exception e) {
-        throw new RiffWriteException(e, this.source, position(this.root_channel));
+        this.seek(this.root_channel, offset);
+        this.writeUnsigned32(this.root_channel, size.sizeUnpadded());
       }
     }
 
@@ -309,7 +436,7 @@ public final class RiffWriters implements RiffFileWriterProviderType
       throws IOException
     {
       try (var channel = RiffRelativeSeekableByteChannel.create(base, base.position(), false)) {
-        writeChunkID(channel, chunk.id());
+        this.writeChunkID(channel, chunk.id());
 
         this.sizes_offsets.put(
           Long.valueOf(chunk.ordinal()),
@@ -318,7 +445,7 @@ public final class RiffWriters implements RiffFileWriterProviderType
 
         final var form_option = chunk.form();
         if (form_option.isPresent()) {
-          writeASCII(channel, form_option.get());
+          this.writeASCII(channel, form_option.get());
         }
 
         final var data_writer_opt = chunk.dataWriter();
@@ -334,20 +461,83 @@ public final class RiffWriters implements RiffFileWriterProviderType
       throws IOException
     {
       final var position_then = position(this.root_channel);
-      LOG.trace(
-        "[{}]: starting at 0x{}",
-        chunk.id().value(),
-        Long.toUnsignedString(position_then, 16));
+      final var trace = this.log.isTraceEnabled();
+      if (trace) {
+        LOG.trace(
+          "[{}]: starting at 0x{}",
+          chunk.id().value(),
+          Long.toUnsignedString(position_then, 16));
+      }
 
-      final var data_writer = data_writer_opt.get();
       final var declared_size = chunk.declaredSize();
+
+      /*
+       * A chunk data event is only allocated when a recording has enabled the event type,
+       * so that writing a file with many chunks costs nothing per chunk otherwise.
+       */
+
+      final var event =
+        CHUNK_DATA_WRITE_EVENTS.isEnabled() ? new RiffChunkDataWriteEvent() : null;
+
+      var failed = true;
+      try {
+        this.invokeDataWriter(chunk, data_writer_opt.get(), declared_size, event, position_then);
+        failed = false;
+      } finally {
+        if (event != null) {
+          event.end();
+          if (event.shouldCommit()) {
+            event.set(
+              this.source,
+              chunk.id().value(),
+              chunk.ordinal(),
+              position_then,
+              declared_size.orElse(-1L),
+              failed ? -1L : Math.subtractExact(position(this.root_channel), position_then),
+              failed);
+            event.commit();
+          }
+        }
+      }
+
+      final var position_now = position(this.root_channel);
+      final var size = Math.subtractExact(position_now, position_then);
+
+      if (trace) {
+        LOG.trace(
+          "[{}]: wrote {}",
+          chunk.id().value(),
+          Long.valueOf(size));
+      }
+
+      this.sizes_written.put(Long.valueOf(chunk.ordinal()), RiffSizes.padIfNecessary(size));
+
+      if (position_now % 2L != 0L) {
+        this.writeUnsigned8(this.root_channel, 0x00);
+        if (trace) {
+          LOG.trace("[{}]: added padding byte", chunk.id().value());
+        }
+      }
+    }
+
+    private void invokeDataWriter(
+      final RiffFileWriterChunkDescriptionType chunk,
+      final RiffChunkDataWriterType data_writer,
+      final OptionalLong declared_size,
+      final RiffChunkDataWriteEvent event,
+      final long position_then)
+      throws IOException
+    {
       try (var data_channel = this.dataChannelFor(declared_size)) {
         if (declared_size.isPresent()) {
-          data_channel.position(declared_size.getAsLong() - 1L);
+          this.seek(data_channel, declared_size.getAsLong() - 1L);
           this.writeUnsigned8(data_channel, 0x00);
-          data_channel.position(0L);
+          this.seek(data_channel, 0L);
         }
 
+        if (event != null) {
+          event.begin();
+        }
         try {
           data_writer.write(data_channel);
         } catch (final RiffOutOfBoundsException e) {
@@ -366,24 +556,9 @@ public final class RiffWriters implements RiffFileWriterProviderType
         }
 
         if (declared_size.isPresent()) {
-          data_channel.position(declared_size.getAsLong());
+          this.seek(data_channel, declared_size.getAsLong());
         }
       }
-
-      final var position_now = position(this.root_channel);
-      final var size = Math.subtractExact(position_now, position_then);
-
-      LOG.trace(
-        "[{}]: wrote {}",
-        chunk.id().value(),
-        Long.valueOf(size));
-
-      this.sizes_written.put(Long.valueOf(chunk.ordinal()), RiffSizes.padIfNecessary(size));
-
-      if (position_now % 2L != 0L) {
-        this.writeUnsigned8(this.root_channel, 0x00);
-        LOG.trace("[{}]: added padding byte", chunk.id().value());
-      }
     }
 
     private SeekableByteChannel dataChannelFor(
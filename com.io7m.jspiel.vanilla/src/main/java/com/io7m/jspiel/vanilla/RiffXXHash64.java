@@ -0,0 +1,163 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.vanilla;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * A streaming implementation of the xxHash64 hash function.
+ */
+
+final class RiffXXHash64
+{
+  private static final long PRIME64_1 = 0x9E37_79B1_85EB_CA87L;
+  private static final long PRIME64_2 = 0xC2B2_AE3D_27D4_EB4FL;
+  private static final long PRIME64_3 = 0x1656_67B1_9E37_79F9L;
+  private static final long PRIME64_4 = 0x85EB_CA77_C2B2_AE63L;
+  private static final long PRIME64_5 = 0x27D4_EB2F_1656_67C5L;
+  private static final int STRIPE = 32;
+
+  private final long seed;
+  private final ByteBuffer memory;
+  private long v1;
+  private long v2;
+  private long v3;
+  private long v4;
+  private long total;
+
+  RiffXXHash64(
+    final long in_seed)
+  {
+    this.seed = in_seed;
+    this.memory = ByteBuffer.allocate(STRIPE).order(ByteOrder.LITTLE_ENDIAN);
+    this.v1 = in_seed + PRIME64_1 + PRIME64_2;
+    this.v2 = in_seed + PRIME64_2;
+    this.v3 = in_seed;
+    this.v4 = in_seed - PRIME64_1;
+  }
+
+  private static long round(
+    final long accumulator,
+    final long input)
+  {
+    return Long.rotateLeft(accumulator + input * PRIME64_2, 31) * PRIME64_1;
+  }
+
+  private static long merge(
+    final long accumulator,
+    final long value)
+  {
+    return (accumulator ^ round(0L, value)) * PRIME64_1 + PRIME64_4;
+  }
+
+  /**
+   * Consume the remaining octets of the given buffer.
+   *
+   * @param input The input buffer
+   */
+
+  void update(
+    final ByteBuffer input)
+  {
+    final var data = input.slice().order(ByteOrder.LITTLE_ENDIAN);
+    final var length = data.remaining();
+    this.total += (long) length;
+
+    var index = 0;
+    if (this.memory.position() > 0) {
+      final var take = Math.min(this.memory.remaining(), length);
+      this.memory.put(this.memory.position(), data, 0, take);
+      this.memory.position(this.memory.position() + take);
+      index = take;
+      if (this.memory.hasRemaining()) {
+        input.position(input.limit());
+        return;
+      }
+      this.stripe(this.memory, 0);
+      this.memory.clear();
+    }
+
+    while (length - index >= STRIPE) {
+      this.stripe(data, index);
+      index += STRIPE;
+    }
+
+    this.memory.put(0, data, index, length - index);
+    this.memory.position(length - index);
+    input.position(input.limit());
+  }
+
+  private void stripe(
+    final ByteBuffer data,
+    final int index)
+  {
+    this.v1 = round(this.v1, data.getLong(index));
+    this.v2 = round(this.v2, data.getLong(index + 8));
+    this.v3 = round(this.v3, data.getLong(index + 16));
+    this.v4 = round(this.v4, data.getLong(index + 24));
+  }
+
+  /**
+   * @return The hash of all octets consumed so far
+   */
+
+  long digest()
+  {
+    var hash = 0L;
+    if (this.total >= (long) STRIPE) {
+      hash = Long.rotateLeft(this.v1, 1)
+        + Long.rotateLeft(this.v2, 7)
+        + Long.rotateLeft(this.v3, 12)
+        + Long.rotateLeft(this.v4, 18);
+      hash = merge(hash, this.v1);
+      hash = merge(hash, this.v2);
+      hash = merge(hash, this.v3);
+      hash = merge(hash, this.v4);
+    } else {
+      hash = this.seed + PRIME64_5;
+    }
+
+    hash += this.total;
+
+    final var remaining = this.memory.position();
+    var index = 0;
+    while (remaining - index >= 8) {
+      hash ^= round(0L, this.memory.getLong(index));
+      hash = Long.rotateLeft(hash, 27) * PRIME64_1 + PRIME64_4;
+      index += 8;
+    }
+    if (remaining - index >= 4) {
+      hash ^= Integer.toUnsignedLong(this.memory.getInt(index)) * PRIME64_1;
+      hash = Long.rotateLeft(hash, 23) * PRIME64_2 + PRIME64_3;
+      index += 4;
+    }
+    while (index < remaining) {
+      hash ^= Byte.toUnsignedLong(this.memory.get(index)) * PRIME64_5;
+      hash = Long.rotateLeft(hash, 11) * PRIME64_1;
+      ++index;
+    }
+
+    hash ^= hash >>> 33;
+    hash *= PRIME64_2;
+    hash ^= hash >>> 29;
+    hash *= PRIME64_3;
+    hash ^= hash >>> 32;
+    return hash;
+  }
+}
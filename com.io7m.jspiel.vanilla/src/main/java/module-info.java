@@ -26,6 +26,7 @@ module com.io7m.jspiel.vanilla
 
   requires com.io7m.jspiel.api;
 
+  requires jdk.jfr;
   requires org.slf4j;
   requires com.io7m.jaffirm.core;
 
@@ -39,4 +40,10 @@ module com.io7m.jspiel.vanilla
     with com.io7m.jspiel.vanilla.RiffFileBuilders;
   provides com.io7m.jspiel.api.RiffSeekableByteChannelsType
     with com.io7m.jspiel.vanilla.RiffSeekableByteChannels;
+  provides com.io7m.jspiel.api.RiffEditSessionProviderType
+    with com.io7m.jspiel.vanilla.RiffEditSessions;
+  provides com.io7m.jspiel.api.RiffChunkDataCopiersType
+    with com.io7m.jspiel.vanilla.RiffChunkDataCopiers;
+  provides com.io7m.jspiel.api.RiffChunkDigestsType
+    with com.io7m.jspiel.vanilla.RiffChunkDigests;
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.wave;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+/**
+ * The contents of an ACIDized WAVE {@code acid} chunk.
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface WaveAcidType
+{
+  /**
+   * The file is a one-shot rather than a loop.
+   */
+
+  long F_ONE_SHOT = 0x01L;
+
+  /**
+   * The root note is meaningful.
+   */
+
+  long F_ROOT_NOTE_SET = 0x02L;
+
+  /**
+   * The file should be stretched to follow tempo changes.
+   */
+
+  long F_STRETCH = 0x04L;
+
+  /**
+   * The file should be played from disk rather than from memory.
+   */
+
+  long F_DISK_BASED = 0x08L;
+
+  /**
+   * @return The flags ({@link #F_ONE_SHOT}, {@link #F_ROOT_NOTE_SET}, ...)
+   */
+
+  long flags();
+
+  /**
+   * @return The MIDI root note
+   */
+
+  int rootNote();
+
+  /**
+   * @return The number of beats
+   */
+
+  long beats();
+
+  /**
+   * @return The denominator of the meter
+   */
+
+  int meterDenominator();
+
+  /**
+   * @return The numerator of the meter
+   */
+
+  int meterNumerator();
+
+  /**
+   * @return The tempo in beats per minute
+   */
+
+  float tempo();
+
+  /**
+   * @return {@code true} if the file is a one-shot rather than a loop
+   */
+
+  default boolean isOneShot()
+  {
+    return (this.flags() & F_ONE_SHOT) != 0L;
+  }
+
+  /**
+   * @return {@code true} if the root note is meaningful
+   */
+
+  default boolean isRootNoteSet()
+  {
+    return (this.flags() & F_ROOT_NOTE_SET) != 0L;
+  }
+}
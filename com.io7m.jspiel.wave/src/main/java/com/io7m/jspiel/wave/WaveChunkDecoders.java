@@ -0,0 +1,389 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.wave;
+
+import com.io7m.jspiel.api.RiffChunkIDs;
+import com.io7m.jspiel.api.RiffChunkType;
+import com.io7m.jspiel.api.RiffParseException;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.SeekableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Decoders for the contents of the metadata chunks of WAVE files. The decoders are shared between
+ * the parsers, which decode chunks in place in a mapped file or read individually from a channel,
+ * and the header extractors, which decode chunks read individually from a channel.
+ */
+
+final class WaveChunkDecoders
+{
+  static final long FORMAT_SIZE = 16L;
+  static final long FORMAT_EX_SIZE = 18L;
+  static final long FORMAT_EXTENSIBLE_SIZE = 40L;
+  static final long CUE_POINT_SIZE = 24L;
+  static final long SAMPLER_SIZE = 36L;
+  static final long SAMPLE_LOOP_SIZE = 24L;
+  static final long ACID_SIZE = 24L;
+  static final long INSTRUMENT_SIZE = 7L;
+
+  /*
+   * The largest metadata chunk that will be read from a channel. Larger chunks are almost
+   * certainly the result of corrupted headers.
+   */
+
+  private static final long METADATA_SIZE_LIMIT = 16L * 1024L * 1024L;
+
+  private final URI source;
+  private final ByteBuffer view;
+
+  /**
+   * @param in_source The URI of the source, for error messages
+   * @param in_view   A buffer, in the byte order of the file, holding the chunks to be decoded
+   */
+
+  WaveChunkDecoders(
+    final URI in_source,
+    final ByteBuffer in_view)
+  {
+    this.source = Objects.requireNonNull(in_source, "source");
+    this.view = Objects.requireNonNull(in_view, "view");
+  }
+
+  /**
+   * Read the data of the given chunk, excluding any form type, from a channel. Offset {@code 0}
+   * in the returned decoders corresponds to {@link RiffChunkType#dataOffsetAfterForm()}.
+   *
+   * @param source  The URI of the source, for error messages
+   * @param channel The channel from which the chunk was parsed
+   * @param order   The byte order of the file
+   * @param chunk   The chunk
+   *
+   * @return Decoders for the chunk data
+   *
+   * @throws RiffParseException If the chunk is too large, or on I/O errors
+   */
+
+  static WaveChunkDecoders readChunk(
+    final URI source,
+    final SeekableByteChannel channel,
+    final ByteOrder order,
+    final RiffChunkType chunk)
+    throws RiffParseException
+  {
+    final var size = chunk.dataSizeExcludingForm().sizeUnpadded();
+    if (size > METADATA_SIZE_LIMIT) {
+      throw new RiffParseException(
+        new StringBuilder(128)
+          .append("Metadata chunk exceeds the supported size.")
+          .append(System.lineSeparator())
+          .append("  Chunk name: ")
+          .append(chunk.name().value())
+          .append(System.lineSeparator())
+          .append("  Specified size: ")
+          .append(Long.toUnsignedString(size))
+          .append(System.lineSeparator())
+          .toString(),
+        source,
+        chunk.offset());
+    }
+
+    final var buffer = ByteBuffer.allocate((int) size);
+    try {
+      channel.position(chunk.dataOffsetAfterForm());
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer) < 0) {
+          throw new EOFException("Unexpected end of file at offset " + channel.position());
+        }
+      }
+    } catch (final IOException e) {
+      throw new RiffParseException(e.getMessage(), e, source, chunk.offset());
+    }
+    return new WaveChunkDecoders(source, buffer.flip().order(order));
+  }
+
+  private static int u16(
+    final ByteBuffer buffer,
+    final long offset)
+  {
+    return Short.toUnsignedInt(buffer.getShort(Math.toIntExact(offset)));
+  }
+
+  private static long u32(
+    final ByteBuffer buffer,
+    final long offset)
+  {
+    return Integer.toUnsignedLong(buffer.getInt(Math.toIntExact(offset)));
+  }
+
+  private static UUID guid(
+    final ByteBuffer buffer,
+    final long offset)
+  {
+    /*
+     * The first three fields of a GUID are stored in the byte order of the file, and the last
+     * eight octets are always stored as a plain sequence of octets.
+     */
+
+    final var data1 = u32(buffer, offset);
+    final var data2 = (long) u16(buffer, offset + 4L);
+    final var data3 = (long) u16(buffer, offset + 6L);
+
+    var lsb = 0L;
+    for (var index = 0; index < 8; ++index) {
+      final var octet = buffer.get(Math.toIntExact(offset + 8L + (long) index));
+      lsb = (lsb << 8) | Byte.toUnsignedLong(octet);
+    }
+
+    final var msb = (data1 << 32) | (data2 << 16) | data3;
+    return new UUID(msb, lsb);
+  }
+
+  void checkChunkSize(
+    final Region chunk,
+    final long required)
+    throws RiffParseException
+  {
+    final var size = chunk.size;
+    if (Long.compareUnsigned(size, required) < 0) {
+      final var separator = System.lineSeparator();
+      throw new RiffParseException(
+        new StringBuilder(128)
+          .append("Chunk is too small to hold the required structure.")
+          .append(separator)
+          .append("  Chunk name: ")
+          .append(chunk.name)
+          .append(separator)
+          .append("  Chunk offset: 0x")
+          .append(Long.toUnsignedString(chunk.offset, 16))
+          .append(separator)
+          .append("  Expected: At least ")
+          .append(Long.toUnsignedString(required))
+          .append(" octets")
+          .append(separator)
+          .append("  Received: ")
+          .append(Long.toUnsignedString(size))
+          .append(" octets")
+          .append(separator)
+          .toString(),
+        this.source,
+        chunk.offset);
+    }
+  }
+
+  WaveFormat format(
+    final Region chunk)
+    throws RiffParseException
+  {
+    this.checkChunkSize(chunk, FORMAT_SIZE);
+
+    final var base = chunk.base;
+    final var tag = u16(this.view, base);
+    final var builder =
+      WaveFormat.builder()
+        .setFormatTag(tag)
+        .setChannels(u16(this.view, base + 2L))
+        .setSamplesPerSecond(u32(this.view, base + 4L))
+        .setAverageBytesPerSecond(u32(this.view, base + 8L))
+        .setBlockAlign(u16(this.view, base + 12L))
+        .setBitsPerSample(u16(this.view, base + 14L));
+
+    if (tag == WaveFormatTags.WAVE_FORMAT_EXTENSIBLE && chunk.size >= FORMAT_EX_SIZE) {
+      this.checkChunkSize(chunk, FORMAT_EXTENSIBLE_SIZE);
+      builder.setExtensible(
+        WaveFormatExtensible.builder()
+          .setValidBitsPerSample(u16(this.view, base + 18L))
+          .setChannelMask(u32(this.view, base + 20L))
+          .setSubFormat(guid(this.view, base + 24L))
+          .build());
+    }
+
+    return builder.build();
+  }
+
+  WaveFact fact(
+    final Region chunk)
+    throws RiffParseException
+  {
+    this.checkChunkSize(chunk, 4L);
+    return WaveFact.of(u32(this.view, chunk.base));
+  }
+
+  List<WaveCuePoint> cues(
+    final Region chunk)
+    throws RiffParseException
+  {
+    this.checkChunkSize(chunk, 4L);
+
+    final var base = chunk.base;
+    final var count = u32(this.view, base);
+    this.checkChunkSize(chunk, Math.addExact(4L, Math.multiplyExact(count, CUE_POINT_SIZE)));
+
+    final var results = new ArrayList<WaveCuePoint>(Math.toIntExact(count));
+    final var name = new byte[4];
+    for (var index = 0L; index < count; ++index) {
+      final var offset = base + 4L + (index * CUE_POINT_SIZE);
+      this.view.get(Math.toIntExact(offset + 8L), name);
+      results.add(
+        WaveCuePoint.builder()
+          .setIdentifier(u32(this.view, offset))
+          .setPosition(u32(this.view, offset + 4L))
+          .setChunkID(RiffChunkIDs.ofBytes(name))
+          .setChunkStart(u32(this.view, offset + 12L))
+          .setBlockStart(u32(this.view, offset + 16L))
+          .setSampleOffset(u32(this.view, offset + 20L))
+          .build());
+    }
+    return List.copyOf(results);
+  }
+
+  WaveSampler sampler(
+    final Region chunk)
+    throws RiffParseException
+  {
+    this.checkChunkSize(chunk, SAMPLER_SIZE);
+
+    final var base = chunk.base;
+    final var count = u32(this.view, base + 28L);
+    this.checkChunkSize(
+      chunk, Math.addExact(SAMPLER_SIZE, Math.multiplyExact(count, SAMPLE_LOOP_SIZE)));
+
+    final var builder =
+      WaveSampler.builder()
+        .setManufacturer(u32(this.view, base))
+        .setProduct(u32(this.view, base + 4L))
+        .setSamplePeriod(u32(this.view, base + 8L))
+        .setMidiUnityNote(u32(this.view, base + 12L))
+        .setMidiPitchFraction(u32(this.view, base + 16L))
+        .setSmpteFormat(u32(this.view, base + 20L))
+        .setSmpteOffset(u32(this.view, base + 24L))
+        .setSamplerDataSize(u32(this.view, base + 32L));
+
+    for (var index = 0L; index < count; ++index) {
+      final var offset = base + SAMPLER_SIZE + (index * SAMPLE_LOOP_SIZE);
+      builder.addLoops(
+        WaveSampleLoop.builder()
+          .setCuePointIdentifier(u32(this.view, offset))
+          .setType(u32(this.view, offset + 4L))
+          .setStart(u32(this.view, offset + 8L))
+          .setEnd(u32(this.view, offset + 12L))
+          .setFraction(u32(this.view, offset + 16L))
+          .setPlayCount(u32(this.view, offset + 20L))
+          .build());
+    }
+
+    return builder.build();
+  }
+
+  WaveAcid acid(
+    final Region chunk)
+    throws RiffParseException
+  {
+    this.checkChunkSize(chunk, ACID_SIZE);
+
+    final var base = Math.toIntExact(chunk.base);
+    return WaveAcid.builder()
+      .setFlags(u32(this.view, base))
+      .setRootNote(u16(this.view, base + 4L))
+      .setBeats(u32(this.view, base + 12L))
+      .setMeterDenominator(u16(this.view, base + 16L))
+      .setMeterNumerator(u16(this.view, base + 18L))
+      .setTempo(this.view.getFloat(base + 20))
+      .build();
+  }
+
+  WaveInstrument instrument(
+    final Region chunk)
+    throws RiffParseException
+  {
+    this.checkChunkSize(chunk, INSTRUMENT_SIZE);
+
+    final var base = Math.toIntExact(chunk.base);
+    return WaveInstrument.builder()
+      .setUnshiftedNote(Byte.toUnsignedInt(this.view.get(base)))
+      .setFineTune(this.view.get(base + 1))
+      .setGain(this.view.get(base + 2))
+      .setLowNote(Byte.toUnsignedInt(this.view.get(base + 3)))
+      .setHighNote(Byte.toUnsignedInt(this.view.get(base + 4)))
+      .setLowVelocity(Byte.toUnsignedInt(this.view.get(base + 5)))
+      .setHighVelocity(Byte.toUnsignedInt(this.view.get(base + 6)))
+      .build();
+  }
+
+  /**
+   * Decode a string that is terminated by a NUL octet or by the end of the chunk.
+   */
+
+  String string(
+    final Region chunk)
+  {
+    final var offset = Math.toIntExact(chunk.base);
+    final var size = Math.toIntExact(chunk.size);
+
+    var length = 0;
+    while (length < size && this.view.get(offset + length) != 0) {
+      ++length;
+    }
+
+    final var bytes = new byte[length];
+    this.view.get(offset, bytes);
+    // CHECKSTYLE:OFF
+    return new String(bytes, UTF_8);
+    // CHECKSTYLE:ON
+  }
+
+  /**
+   * The location of the data of a chunk.
+   */
+
+  static final class Region
+  {
+    private final String name;
+    private final long offset;
+    private final long base;
+    private final long size;
+
+    /**
+     * @param in_name   The chunk name
+     * @param in_offset The offset of the chunk in the file, for error messages
+     * @param in_base   The offset of the chunk data in the decoder's buffer
+     * @param in_size   The size of the chunk data
+     */
+
+    Region(
+      final String in_name,
+      final long in_offset,
+      final long in_base,
+      final long in_size)
+    {
+      this.name = Objects.requireNonNull(in_name, "name");
+      this.offset = in_offset;
+      this.base = in_base;
+      this.size = in_size;
+    }
+  }
+}
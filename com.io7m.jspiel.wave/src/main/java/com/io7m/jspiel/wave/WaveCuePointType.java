@@ -0,0 +1,67 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.wave;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import com.io7m.jspiel.api.RiffChunkID;
+import org.immutables.value.Value;
+
+/**
+ * A single cue point from a WAVE {@code cue } chunk.
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface WaveCuePointType
+{
+  /**
+   * @return The unique identifier of the cue point
+   */
+
+  long identifier();
+
+  /**
+   * @return The sample position of the cue point in play order
+   */
+
+  long position();
+
+  /**
+   * @return The ID of the chunk containing the cue point (typically {@code data})
+   */
+
+  RiffChunkID chunkID();
+
+  /**
+   * @return The offset of the start of the chunk containing the cue point
+   */
+
+  long chunkStart();
+
+  /**
+   * @return The offset of the start of the block containing the cue point
+   */
+
+  long blockStart();
+
+  /**
+   * @return The sample offset of the cue point relative to the start of the block
+   */
+
+  long sampleOffset();
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.wave;
+
+import java.util.Objects;
+
+/**
+ * The sample encodings supported by the PCM readers and writers.
+ */
+
+enum WaveEncoding
+{
+  UNSIGNED_8(1),
+  SIGNED_16(2),
+  SIGNED_24(3),
+  SIGNED_32(4),
+  FLOAT_32(4),
+  FLOAT_64(8);
+
+  private final int octets;
+
+  WaveEncoding(
+    final int in_octets)
+  {
+    this.octets = in_octets;
+  }
+
+  /**
+   * @return The size in octets of a single sample
+   */
+
+  int octetsPerSample()
+  {
+    return this.octets;
+  }
+
+  /**
+   * @return {@code true} if samples are stored as IEEE floating point values
+   */
+
+  boolean isFloatingPoint()
+  {
+    return this == FLOAT_32 || this == FLOAT_64;
+  }
+
+  /**
+   * Determine the encoding of samples in the given format.
+   *
+   * @param format The format
+   *
+   * @return The sample encoding
+   *
+   * @throws WaveUnsupportedFormatException If the format is not supported
+   */
+
+  static WaveEncoding of(
+    final WaveFormat format)
+    throws WaveUnsupportedFormatException
+  {
+    Objects.requireNonNull(format, "format");
+
+    final var channels = format.channels();
+    final var block_align = format.blockAlign();
+    if (channels > 0 && block_align > 0 && block_align % channels == 0) {
+      final var container = block_align / channels;
+      switch (format.effectiveFormatTag()) {
+        case WaveFormatTags.WAVE_FORMAT_PCM: {
+          final var encoding = ofInteger(container);
+          if (encoding != null) {
+            return encoding;
+          }
+          break;
+        }
+        case WaveFormatTags.WAVE_FORMAT_IEEE_FLOAT: {
+          if (container == 4) {
+            return FLOAT_32;
+          }
+          if (container == 8) {
+            return FLOAT_64;
+          }
+          break;
+        }
+        default: {
+          break;
+        }
+      }
+    }
+
+    final var separator = System.lineSeparator();
+    throw new WaveUnsupportedFormatException(
+      new StringBuilder(128)
+        .append("Unsupported sample format.")
+        .append(separator)
+        .append("  Expected: 8/16/24/32-bit integer PCM, or 32/64-bit IEEE floating point PCM")
+        .append(separator)
+        .append("  Received: Format tag 0x")
+        .append(Integer.toUnsignedString(format.effectiveFormatTag(), 16))
+        .append(", ")
+        .append(channels)
+        .append(" channels, ")
+        .append(format.bitsPerSample())
+        .append(" bits per sample, block align ")
+        .append(block_align)
+        .append(separator)
+        .toString());
+  }
+
+  private static WaveEncoding ofInteger(
+    final int container)
+  {
+    return switch (container) {
+      case 1 -> UNSIGNED_8;
+      case 2 -> SIGNED_16;
+      case 3 -> SIGNED_24;
+      case 4 -> SIGNED_32;
+      default -> null;
+    };
+  }
+}
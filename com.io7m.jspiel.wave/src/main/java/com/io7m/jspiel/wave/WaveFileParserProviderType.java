@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.wave;
+
+import com.io7m.jspiel.api.RiffFileType;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+
+/**
+ * The type of WAVE parser providers.
+ */
+
+public interface WaveFileParserProviderType
+{
+  /**
+   * Create a parser from the data in the given byte buffer.
+   *
+   * @param source The URI of the source
+   * @param data   The input data
+   *
+   * @return A new parser
+   */
+
+  WaveFileParserType createForByteBuffer(
+    URI source,
+    ByteBuffer data);
+
+  /**
+   * Create a parser for a RIFF file that has already been parsed from the given byte buffer.
+   *
+   * @param source The URI of the source
+   * @param file   The parsed RIFF file
+   * @param data   The input data from which {@code file} was parsed
+   *
+   * @return A new parser
+   */
+
+  WaveFileParserType createForRiffFile(
+    URI source,
+    RiffFileType file,
+    ByteBuffer data);
+
+  /**
+   * Create a parser for the file underlying the given channel. Only the chunk headers and the
+   * metadata chunks are read, so files of any size (including RF64 files larger than 4GiB) can be
+   * parsed. The contents of the {@code data} chunk of the resulting file are not available via
+   * {@link WaveFileType#data()}, and must be read via
+   * {@link WaveFileType#dataChannel(com.io7m.jspiel.api.RiffSeekableByteChannelsType,
+   * SeekableByteChannel)}. The file is parsed from the start of the channel, and the channel's
+   * position is unspecified afterwards.
+   *
+   * @param source  The URI of the source
+   * @param channel The input channel
+   *
+   * @return A new parser
+   */
+
+  WaveFileParserType createForChannel(
+    URI source,
+    SeekableByteChannel channel);
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.wave;
+
+import com.io7m.jspiel.api.RiffChunkType;
+import com.io7m.jspiel.api.RiffFileType;
+import com.io7m.jspiel.api.RiffSeekableByteChannelsType;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A parsed WAVE file. Values of this type are effectively immutable.
+ */
+
+public interface WaveFileType
+{
+  /**
+   * @return The underlying RIFF file
+   */
+
+  RiffFileType riff();
+
+  /**
+   * @return The root {@code RIFF(WAVE)} (or {@code RIFX(WAVE)}) chunk
+   */
+
+  RiffChunkType rootChunk();
+
+  /**
+   * @return The decoded {@code fmt } chunk
+   */
+
+  WaveFormat format();
+
+  /**
+   * @return The decoded {@code fact} chunk, if one is present
+   */
+
+  Optional<WaveFact> fact();
+
+  /**
+   * @return The decoded cue points of the {@code cue } chunk, if one is present
+   */
+
+  List<WaveCuePoint> cuePoints();
+
+  /**
+   * @return The decoded {@code smpl} chunk, if one is present
+   */
+
+  Optional<WaveSampler> sampler();
+
+  /**
+   * @return The text values of the {@code LIST(INFO)} chunk, keyed by chunk ID, in file order
+   */
+
+  Map<String, String> info();
+
+  /**
+   * @return The {@code data} chunk
+   */
+
+  RiffChunkType dataChunk();
+
+  /**
+   * Retrieve the contents of the {@code data} chunk. The returned buffer is a read-only view of the
+   * original input buffer (no data is copied), has the byte order of the file, a position of
+   * {@code 0}, and a limit equal to the unpadded size of the {@code data} chunk.
+   *
+   * @return A read-only view of the contents of the {@code data} chunk
+   *
+   * @throws UnsupportedOperationException If the file was parsed from a channel, in which case
+   *                                       the data must be read via
+   *                                       {@link #dataChannel(RiffSeekableByteChannelsType,
+   *                                       SeekableByteChannel)}
+   */
+
+  ByteBuffer data();
+
+  /**
+   * @return The number of complete frames in the {@code data} chunk
+   */
+
+  default long frameCount()
+  {
+    final var block_align = this.format().blockAlign();
+    if (block_align == 0) {
+      return 0L;
+    }
+    return this.dataChunk().dataSizeExcludingForm().sizeUnpadded() / (long) block_align;
+  }
+
+  /**
+   * Create a channel that exposes the contents of the {@code data} chunk of the file underlying
+   * the given channel. The channel is a view of the given channel (no data is copied), and
+   * position {@code 0} in the returned channel corresponds to the first octet of audio data.
+   *
+   * @param channels A provider of seekable byte channels
+   * @param file     A channel that provides access to the file that was parsed
+   *
+   * @return A channel that exposes the contents of the {@code data} chunk
+   */
+
+  default SeekableByteChannel dataChannel(
+    final RiffSeekableByteChannelsType channels,
+    final SeekableByteChannel file)
+  {
+    Objects.requireNonNull(channels, "channels");
+    Objects.requireNonNull(file, "file");
+
+    final var chunk = this.dataChunk();
+    final var lower = chunk.dataOffset();
+    final var upper = Math.addExact(lower, chunk.dataSizeExcludingForm().sizeUnpadded());
+    return channels.createFromChannel(file, lower, upper);
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.wave;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+import java.util.UUID;
+
+/**
+ * The extra fields present in a {@code WAVEFORMATEXTENSIBLE} structure.
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface WaveFormatExtensibleType
+{
+  /**
+   * @return The number of bits of precision in each sample
+   */
+
+  int validBitsPerSample();
+
+  /**
+   * @return The assignment of channels to speaker positions
+   */
+
+  long channelMask();
+
+  /**
+   * @return The subformat GUID
+   */
+
+  UUID subFormat();
+
+  /**
+   * The format tag encoded in the subformat GUID. For the standard {@code KSDATAFORMAT_SUBTYPE_*}
+   * GUIDs, this is one of the values in {@link WaveFormatTags}.
+   *
+   * @return The format tag encoded in the subformat GUID
+   */
+
+  default int subFormatTag()
+  {
+    return (int) ((this.subFormat().getMostSignificantBits() >>> 32) & 0xffffL);
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.wave;
+
+/**
+ * Well-known values of the {@code wFormatTag} field of a WAVE {@code fmt } chunk.
+ */
+
+public final class WaveFormatTags
+{
+  /**
+   * Integer PCM data.
+   */
+
+  public static final int WAVE_FORMAT_PCM = 0x0001;
+
+  /**
+   * IEEE 754 floating point PCM data.
+   */
+
+  public static final int WAVE_FORMAT_IEEE_FLOAT = 0x0003;
+
+  /**
+   * 8-bit ITU-T G.711 A-law data.
+   */
+
+  public static final int WAVE_FORMAT_ALAW = 0x0006;
+
+  /**
+   * 8-bit ITU-T G.711 µ-law data.
+   */
+
+  public static final int WAVE_FORMAT_MULAW = 0x0007;
+
+  /**
+   * The actual format is specified by the subformat GUID of a {@code WAVEFORMATEXTENSIBLE}
+   * structure.
+   */
+
+  public static final int WAVE_FORMAT_EXTENSIBLE = 0xFFFE;
+
+  private WaveFormatTags()
+  {
+
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.wave;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+import java.util.Optional;
+
+/**
+ * The contents of a WAVE {@code fmt } chunk: A {@code WAVEFORMATEX} structure, optionally
+ * extended to a {@code WAVEFORMATEXTENSIBLE} structure.
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface WaveFormatType
+{
+  /**
+   * @return The format tag (see {@link WaveFormatTags})
+   */
+
+  int formatTag();
+
+  /**
+   * @return The number of channels
+   */
+
+  int channels();
+
+  /**
+   * @return The sample rate in frames per second
+   */
+
+  long samplesPerSecond();
+
+  /**
+   * @return The average data rate in octets per second
+   */
+
+  long averageBytesPerSecond();
+
+  /**
+   * @return The size in octets of a single frame (one sample for each channel)
+   */
+
+  int blockAlign();
+
+  /**
+   * @return The number of bits used to store each sample
+   */
+
+  int bitsPerSample();
+
+  /**
+   * @return The extensible format fields, if the format is {@code WAVEFORMATEXTENSIBLE}
+   */
+
+  Optional<WaveFormatExtensible> extensible();
+
+  /**
+   * The effective format tag. If the format is {@code WAVEFORMATEXTENSIBLE}, this is the format tag
+   * encoded in the subformat GUID. Otherwise, it is {@link #formatTag()}.
+   *
+   * @return The effective format tag
+   */
+
+  default int effectiveFormatTag()
+  {
+    if (this.formatTag() == WaveFormatTags.WAVE_FORMAT_EXTENSIBLE) {
+      return this.extensible()
+        .map(WaveFormatExtensible::subFormatTag)
+        .orElse(Integer.valueOf(this.formatTag()))
+        .intValue();
+    }
+    return this.formatTag();
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.wave;
+
+import java.nio.FloatBuffer;
+
+/**
+ * A reader that decodes interleaved PCM frames from the {@code data} chunk of a WAVE file.
+ *
+ * Frames are decoded directly from the (typically memory-mapped) contents of the {@code data}
+ * chunk into caller-provided storage, in blocks, without allocating. Readers are not thread-safe;
+ * use one reader per thread.
+ */
+
+public interface WaveFrameReaderType
+{
+  /**
+   * @return The format of the frames
+   */
+
+  WaveFormat format();
+
+  /**
+   * @return The number of samples in each frame
+   */
+
+  int channels();
+
+  /**
+   * @return The total number of frames available
+   */
+
+  long frameCount();
+
+  /**
+   * @return The index of the next frame that will be read
+   */
+
+  long position();
+
+  /**
+   * Set the index of the next frame that will be read.
+   *
+   * @param frame The frame index in the range {@code [0, frameCount()]}
+   */
+
+  void seek(long frame);
+
+  /**
+   * Decode at most {@code frames} frames into {@code output} starting at {@code offset}. Samples
+   * are interleaved and normalized to the range {@code [-1.0, 1.0]} (integer formats) or copied
+   * as-is (floating point formats).
+   *
+   * @param output The output array
+   * @param offset The offset in samples of the first output sample
+   * @param frames The maximum number of frames to read
+   *
+   * @return The number of frames read, or {@code 0} if no frames remain
+   */
+
+  int read(
+    float[] output,
+    int offset,
+    int frames);
+
+  /**
+   * Decode at most {@code frames} frames into {@code output} starting at {@code offset}. Samples
+   * are interleaved, sign-extended, signed integers at the stored bit depth (so 8-bit unsigned
+   * samples are returned in the range {@code [-128, 127]}). Floating point samples are clamped to
+   * {@code [-1.0, 1.0]} and scaled to the full signed 32-bit range.
+   *
+   * @param output The output array
+   * @param offset The offset in samples of the first output sample
+   * @param frames The maximum number of frames to read
+   *
+   * @return The number of frames read, or {@code 0} if no frames remain
+   */
+
+  int read(
+    int[] output,
+    int offset,
+    int frames);
+
+  /**
+   * Decode as many complete frames as will fit into the remaining space of {@code output}, as
+   * with {@link #read(float[], int, int)}. The position of {@code output} is advanced by the
+   * number of samples written.
+   *
+   * @param output The output buffer
+   *
+   * @return The number of frames read, or {@code 0} if no frames remain
+   */
+
+  int read(FloatBuffer output);
+}
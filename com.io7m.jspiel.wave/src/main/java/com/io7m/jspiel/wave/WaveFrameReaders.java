@@ -0,0 +1,414 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.wave;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+import java.util.Objects;
+
+/**
+ * Functions to create PCM frame readers.
+ */
+
+public final class WaveFrameReaders
+{
+  /**
+   * The number of samples decoded in a single block. Readers allocate scratch space of this size
+   * once, on creation, and never allocate during reads.
+   */
+
+  private static final int BLOCK_SAMPLES = 8192;
+
+  private static final float SCALE_8 = 1.0f / 128.0f;
+  private static final float SCALE_16 = 1.0f / 32768.0f;
+  private static final float SCALE_24 = 1.0f / 8388608.0f;
+  private static final float SCALE_32 = 1.0f / 2147483648.0f;
+
+  private WaveFrameReaders()
+  {
+
+  }
+
+  /**
+   * Create a frame reader for the {@code data} chunk of the given file.
+   *
+   * @param file The WAVE file
+   *
+   * @return A frame reader
+   *
+   * @throws WaveUnsupportedFormatException If the file's sample format is not supported
+   * @throws UnsupportedOperationException  If the file was parsed from a channel
+   */
+
+  public static WaveFrameReaderType create(
+    final WaveFileType file)
+    throws WaveUnsupportedFormatException
+  {
+    Objects.requireNonNull(file, "file");
+    return create(file.format(), file.data());
+  }
+
+  /**
+   * Create a frame reader for the given audio data. The data is read from the buffer's position to
+   * its limit, using the buffer's byte order.
+   *
+   * @param format The format of the data
+   * @param data   The audio data
+   *
+   * @return A frame reader
+   *
+   * @throws WaveUnsupportedFormatException If the sample format is not supported
+   */
+
+  public static WaveFrameReaderType create(
+    final WaveFormat format,
+    final ByteBuffer data)
+    throws WaveUnsupportedFormatException
+  {
+    Objects.requireNonNull(format, "format");
+    Objects.requireNonNull(data, "data");
+
+    final var encoding = WaveEncoding.of(format);
+    return new FrameReader(format, encoding, data.slice().order(data.order()));
+  }
+
+  private static final class FrameReader implements WaveFrameReaderType
+  {
+    private final WaveFormat format;
+    private final WaveEncoding encoding;
+    private final ByteBuffer data;
+    private final int channels;
+    private final long frame_count;
+    private final boolean big_endian;
+    private final ShortBuffer data_shorts;
+    private final IntBuffer data_ints;
+    private final FloatBuffer data_floats;
+    private final DoubleBuffer data_doubles;
+    private final byte[] scratch_bytes;
+    private final short[] scratch_shorts;
+    private final int[] scratch_ints;
+    private final float[] scratch_floats;
+    private final double[] scratch_doubles;
+    private long position;
+
+    FrameReader(
+      final WaveFormat in_format,
+      final WaveEncoding in_encoding,
+      final ByteBuffer in_data)
+    {
+      this.format = Objects.requireNonNull(in_format, "format");
+      this.encoding = Objects.requireNonNull(in_encoding, "encoding");
+      this.data = Objects.requireNonNull(in_data, "data");
+
+      this.channels = this.format.channels();
+      this.frame_count =
+        Integer.toUnsignedLong(this.data.remaining()) / (long) this.format.blockAlign();
+      this.big_endian = this.data.order() == ByteOrder.BIG_ENDIAN;
+
+      this.data_shorts = this.data.asShortBuffer();
+      this.data_ints = this.data.asIntBuffer();
+      this.data_floats = this.data.asFloatBuffer();
+      this.data_doubles = this.data.asDoubleBuffer();
+
+      this.scratch_bytes = new byte[BLOCK_SAMPLES * 3];
+      this.scratch_shorts = new short[BLOCK_SAMPLES];
+      this.scratch_ints = new int[BLOCK_SAMPLES];
+      this.scratch_floats = new float[BLOCK_SAMPLES];
+      this.scratch_doubles = new double[BLOCK_SAMPLES];
+      this.position = 0L;
+    }
+
+    @Override
+    public String toString()
+    {
+      return new StringBuilder(64)
+        .append("[WaveFrameReader ")
+        .append(this.encoding)
+        .append(' ')
+        .append(this.position)
+        .append('/')
+        .append(this.frame_count)
+        .append(']')
+        .toString();
+    }
+
+    @Override
+    public WaveFormat format()
+    {
+      return this.format;
+    }
+
+    @Override
+    public int channels()
+    {
+      return this.channels;
+    }
+
+    @Override
+    public long frameCount()
+    {
+      return this.frame_count;
+    }
+
+    @Override
+    public long position()
+    {
+      return this.position;
+    }
+
+    @Override
+    public void seek(
+      final long frame)
+    {
+      if (frame < 0L || frame > this.frame_count) {
+        throw new IndexOutOfBoundsException(
+          new StringBuilder(64)
+            .append("Frame ")
+            .append(frame)
+            .append(" is out of range [0, ")
+            .append(this.frame_count)
+            .append(']')
+            .toString());
+      }
+      this.position = frame;
+    }
+
+    private int framesAvailable(
+      final int frames)
+    {
+      if (frames < 0) {
+        throw new IllegalArgumentException("Frame count must be non-negative");
+      }
+      return (int) Math.min((long) frames, this.frame_count - this.position);
+    }
+
+    @Override
+    public int read(
+      final float[] output,
+      final int offset,
+      final int frames)
+    {
+      Objects.requireNonNull(output, "output");
+
+      final var count = this.framesAvailable(frames);
+      Objects.checkFromIndexSize(offset, count * this.channels, output.length);
+
+      var sample = Math.toIntExact(this.position * (long) this.channels);
+      var output_index = offset;
+      var remaining = count * this.channels;
+      while (remaining > 0) {
+        final var block = Math.min(remaining, BLOCK_SAMPLES);
+        this.decodeFloats(sample, output, output_index, block);
+        sample += block;
+        output_index += block;
+        remaining -= block;
+      }
+
+      this.position += count;
+      return count;
+    }
+
+    @Override
+    public int read(
+      final int[] output,
+      final int offset,
+      final int frames)
+    {
+      Objects.requireNonNull(output, "output");
+
+      final var count = this.framesAvailable(frames);
+      Objects.checkFromIndexSize(offset, count * this.channels, output.length);
+
+      var sample = Math.toIntExact(this.position * (long) this.channels);
+      var output_index = offset;
+      var remaining = count * this.channels;
+      while (remaining > 0) {
+        final var block = Math.min(remaining, BLOCK_SAMPLES);
+        this.decodeInts(sample, output, output_index, block);
+        sample += block;
+        output_index += block;
+        remaining -= block;
+      }
+
+      this.position += count;
+      return count;
+    }
+
+    @Override
+    public int read(
+      final FloatBuffer output)
+    {
+      Objects.requireNonNull(output, "output");
+
+      final var frames = output.remaining() / this.channels;
+      if (output.hasArray()) {
+        final var count =
+          this.read(output.array(), output.arrayOffset() + output.position(), frames);
+        output.position(output.position() + count * this.channels);
+        return count;
+      }
+
+      final var count = this.framesAvailable(frames);
+      var sample = Math.toIntExact(this.position * (long) this.channels);
+      var remaining = count * this.channels;
+      while (remaining > 0) {
+        final var block = Math.min(remaining, BLOCK_SAMPLES);
+        this.decodeFloats(sample, this.scratch_floats, 0, block);
+        output.put(this.scratch_floats, 0, block);
+        sample += block;
+        remaining -= block;
+      }
+
+      this.position += count;
+      return count;
+    }
+
+    private void decodeFloats(
+      final int sample,
+      final float[] output,
+      final int offset,
+      final int count)
+    {
+      switch (this.encoding) {
+        case UNSIGNED_8 -> {
+          final var bytes = this.scratch_bytes;
+          this.data.get(sample, bytes, 0, count);
+          for (var index = 0; index < count; ++index) {
+            output[offset + index] = (float) ((bytes[index] & 0xff) - 128) * SCALE_8;
+          }
+        }
+        case SIGNED_16 -> {
+          final var shorts = this.scratch_shorts;
+          this.data_shorts.get(sample, shorts, 0, count);
+          for (var index = 0; index < count; ++index) {
+            output[offset + index] = (float) shorts[index] * SCALE_16;
+          }
+        }
+        case SIGNED_24 -> {
+          final var ints = this.scratch_ints;
+          this.decode24(sample, ints, 0, count);
+          for (var index = 0; index < count; ++index) {
+            output[offset + index] = (float) ints[index] * SCALE_24;
+          }
+        }
+        case SIGNED_32 -> {
+          final var ints = this.scratch_ints;
+          this.data_ints.get(sample, ints, 0, count);
+          for (var index = 0; index < count; ++index) {
+            output[offset + index] = (float) ints[index] * SCALE_32;
+          }
+        }
+        case FLOAT_32 -> {
+          this.data_floats.get(sample, output, offset, count);
+        }
+        case FLOAT_64 -> {
+          final var doubles = this.scratch_doubles;
+          this.data_doubles.get(sample, doubles, 0, count);
+          for (var index = 0; index < count; ++index) {
+            output[offset + index] = (float) doubles[index];
+          }
+        }
+      }
+    }
+
+    /**
+     * Scale a floating point sample to the full signed 32-bit range. Out-of-range samples are
+     * clamped (the narrowing conversion saturates), and NaN is converted to zero.
+     */
+
+    private static int floatToInt(
+      final double value)
+    {
+      return (int) Math.rint(value * 2147483648.0);
+    }
+
+    private void decodeInts(
+      final int sample,
+      final int[] output,
+      final int offset,
+      final int count)
+    {
+      switch (this.encoding) {
+        case UNSIGNED_8 -> {
+          final var bytes = this.scratch_bytes;
+          this.data.get(sample, bytes, 0, count);
+          for (var index = 0; index < count; ++index) {
+            output[offset + index] = (bytes[index] & 0xff) - 128;
+          }
+        }
+        case SIGNED_16 -> {
+          final var shorts = this.scratch_shorts;
+          this.data_shorts.get(sample, shorts, 0, count);
+          for (var index = 0; index < count; ++index) {
+            output[offset + index] = shorts[index];
+          }
+        }
+        case SIGNED_24 -> {
+          this.decode24(sample, output, offset, count);
+        }
+        case SIGNED_32 -> {
+          this.data_ints.get(sample, output, offset, count);
+        }
+        case FLOAT_32 -> {
+          final var floats = this.scratch_floats;
+          this.data_floats.get(sample, floats, 0, count);
+          for (var index = 0; index < count; ++index) {
+            output[offset + index] = floatToInt((double) floats[index]);
+          }
+        }
+        case FLOAT_64 -> {
+          final var doubles = this.scratch_doubles;
+          this.data_doubles.get(sample, doubles, 0, count);
+          for (var index = 0; index < count; ++index) {
+            output[offset + index] = floatToInt(doubles[index]);
+          }
+        }
+      }
+    }
+
+    private void decode24(
+      final int sample,
+      final int[] output,
+      final int offset,
+      final int count)
+    {
+      final var bytes = this.scratch_bytes;
+      this.data.get(Math.multiplyExact(sample, 3), bytes, 0, count * 3);
+
+      if (this.big_endian) {
+        for (var index = 0; index < count; ++index) {
+          final var base = index * 3;
+          final var high = bytes[base] << 16;
+          final var low = ((bytes[base + 1] & 0xff) << 8) | (bytes[base + 2] & 0xff);
+          output[offset + index] = high | low;
+        }
+      } else {
+        for (var index = 0; index < count; ++index) {
+          final var base = index * 3;
+          final var high = bytes[base + 2] << 16;
+          final var low = ((bytes[base + 1] & 0xff) << 8) | (bytes[base] & 0xff);
+          output[offset + index] = high | low;
+        }
+      }
+    }
+  }
+}
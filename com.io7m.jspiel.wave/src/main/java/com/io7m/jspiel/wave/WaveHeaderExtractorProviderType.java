@@ -0,0 +1,45 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.wave;
+
+import java.net.URI;
+import java.nio.channels.SeekableByteChannel;
+
+/**
+ * The type of providers of WAVE header extractors.
+ */
+
+public interface WaveHeaderExtractorProviderType
+{
+  /**
+   * Create an extractor for the WAVE file in the given channel. The file is parsed with the
+   * channel path of the RIFF parser, which reads only chunk headers, and then the contents of
+   * the {@code fmt }, {@code fact}, {@code acid}, {@code smpl}, {@code inst}, {@code cue } and
+   * {@code LIST(INFO)} chunks are read; the position of the channel is changed, but no part of
+   * the audio data is read.
+   *
+   * @param source  The URI of the file
+   * @param channel A channel open for reading
+   *
+   * @return A new extractor
+   */
+
+  WaveHeaderExtractorType createForChannel(
+    URI source,
+    SeekableByteChannel channel);
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.wave;
+
+import com.io7m.jspiel.api.RiffChunkType;
+import com.io7m.jspiel.api.RiffFileParserProviderType;
+import com.io7m.jspiel.api.RiffFormatParsing;
+import com.io7m.jspiel.api.RiffParseException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteOrder;
+import java.nio.channels.SeekableByteChannel;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+/**
+ * The default implementation of the {@link WaveHeaderExtractorProviderType} interface.
+ */
+
+public final class WaveHeaderExtractors implements WaveHeaderExtractorProviderType
+{
+  private static final String FORM_WAVE = "WAVE";
+  private static final String FORM_INFO = "INFO";
+
+  private final RiffFileParserProviderType parsers;
+
+  /**
+   * Construct a header extractor provider using the first available RIFF parser provider.
+   */
+
+  public WaveHeaderExtractors()
+  {
+    this(
+      ServiceLoader.load(RiffFileParserProviderType.class)
+        .findFirst()
+        .orElseThrow(() -> new IllegalStateException("No RIFF file parser service available")));
+  }
+
+  /**
+   * Construct a header extractor provider.
+   *
+   * @param in_parsers A provider of RIFF parsers
+   */
+
+  public WaveHeaderExtractors(
+    final RiffFileParserProviderType in_parsers)
+  {
+    this.parsers = Objects.requireNonNull(in_parsers, "parsers");
+  }
+
+  @Override
+  public WaveHeaderExtractorType createForChannel(
+    final URI source,
+    final SeekableByteChannel channel)
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(channel, "channel");
+    return new Extractor(this.parsers, source, channel);
+  }
+
+  private static final class Extractor implements WaveHeaderExtractorType
+  {
+    private final RiffFileParserProviderType parsers;
+    private final URI source;
+    private final SeekableByteChannel channel;
+    private ByteOrder order;
+
+    Extractor(
+      final RiffFileParserProviderType in_parsers,
+      final URI in_source,
+      final SeekableByteChannel in_channel)
+    {
+      this.parsers = Objects.requireNonNull(in_parsers, "parsers");
+      this.source = Objects.requireNonNull(in_source, "source");
+      this.channel = Objects.requireNonNull(in_channel, "channel");
+    }
+
+    private static WaveChunkDecoders.Region region(
+      final RiffChunkType chunk,
+      final long base)
+    {
+      return new WaveChunkDecoders.Region(
+        chunk.name().value(),
+        chunk.offset(),
+        base,
+        chunk.dataSizeExcludingForm().sizeUnpadded());
+    }
+
+    /**
+     * The channel parser reads only the chunk headers, and the data of each metadata chunk is
+     * then read on its own, so no part of the audio data is ever read.
+     */
+
+    @Override
+    public WaveHeader extract()
+      throws RiffParseException
+    {
+      try {
+        this.channel.position(0L);
+      } catch (final IOException e) {
+        throw new RiffParseException(e.getMessage(), e, this.source, 0L);
+      }
+
+      final var file = this.parsers.createForChannel(this.source, this.channel).parse();
+      this.order = file.byteOrder();
+
+      final var root =
+        RiffFormatParsing.findRootWithForm(this.source, file, FORM_WAVE, "a WAVE file");
+      final var format =
+        RiffFormatParsing.requireSubChunk(this.source, root, "fmt ");
+      final var data =
+        RiffFormatParsing.requireSubChunk(this.source, root, "data");
+
+      final var builder =
+        WaveHeader.builder()
+          .setByteOrder(this.order)
+          .setFormat(this.decoders(format).format(region(format, 0L)))
+          .setDataOffset(data.dataOffset())
+          .setDataSize(data.dataSizeExcludingForm().sizeUnpadded());
+
+      for (final var chunk : root.subChunks()) {
+        this.chunk(builder, chunk);
+      }
+      return builder.build();
+    }
+
+    private void chunk(
+      final WaveHeader.Builder builder,
+      final RiffChunkType chunk)
+      throws RiffParseException
+    {
+      switch (chunk.name().value()) {
+        case "fact" -> builder.setFact(this.decoders(chunk).fact(region(chunk, 0L)));
+        case "acid" -> builder.setAcid(this.decoders(chunk).acid(region(chunk, 0L)));
+        case "smpl" -> builder.setSampler(this.decoders(chunk).sampler(region(chunk, 0L)));
+        case "inst" -> builder.setInstrument(this.decoders(chunk).instrument(region(chunk, 0L)));
+        case "cue " -> builder.setCuePoints(this.decoders(chunk).cues(region(chunk, 0L)));
+        case "LIST" -> this.list(builder, chunk);
+        default -> {
+          // Chunks that do not hold metadata are skipped.
+        }
+      }
+    }
+
+    private void list(
+      final WaveHeader.Builder builder,
+      final RiffChunkType chunk)
+      throws RiffParseException
+    {
+      if (!chunk.formType().equals(Optional.of(FORM_INFO))) {
+        return;
+      }
+
+      final var decoders = this.decoders(chunk);
+      final var base = chunk.dataOffsetAfterForm();
+      for (final var sub_chunk : chunk.subChunks()) {
+        builder.putInfo(
+          sub_chunk.name().value(),
+          decoders.string(region(sub_chunk, sub_chunk.dataOffset() - base)));
+      }
+    }
+
+    private WaveChunkDecoders decoders(
+      final RiffChunkType chunk)
+      throws RiffParseException
+    {
+      return WaveChunkDecoders.readChunk(this.source, this.channel, this.order, chunk);
+    }
+  }
+}
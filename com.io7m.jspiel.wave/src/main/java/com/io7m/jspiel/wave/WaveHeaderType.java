@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.wave;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+import java.nio.ByteOrder;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The metadata of a WAVE file, extracted without reading the audio data.
+ *
+ * @see WaveHeaderExtractorType
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface WaveHeaderType
+{
+  /**
+   * @return The byte order of the file
+   */
+
+  ByteOrder byteOrder();
+
+  /**
+   * @return The audio format
+   */
+
+  WaveFormat format();
+
+  /**
+   * @return The contents of the {@code fact} chunk, if one is present
+   */
+
+  Optional<WaveFact> fact();
+
+  /**
+   * @return The contents of the {@code acid} chunk, if one is present
+   */
+
+  Optional<WaveAcid> acid();
+
+  /**
+   * @return The contents of the {@code smpl} chunk, if one is present
+   */
+
+  Optional<WaveSampler> sampler();
+
+  /**
+   * @return The contents of the {@code inst} chunk, if one is present
+   */
+
+  Optional<WaveInstrument> instrument();
+
+  /**
+   * @return The cue points, in file order
+   */
+
+  List<WaveCuePoint> cuePoints();
+
+  /**
+   * @return The textual {@code INFO} entries, in file order, keyed by chunk ID
+   */
+
+  Map<String, String> info();
+
+  /**
+   * @return The offset in the file of the first octet of audio data
+   */
+
+  long dataOffset();
+
+  /**
+   * @return The size in octets of the audio data
+   */
+
+  long dataSize();
+
+  /**
+   * @return The number of frames of audio data
+   */
+
+  default long frameCount()
+  {
+    final var block_align = this.format().blockAlign();
+    if (block_align == 0) {
+      return 0L;
+    }
+    return this.dataSize() / (long) block_align;
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.wave;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+/**
+ * The contents of a WAVE {@code inst} chunk.
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface WaveInstrumentType
+{
+  /**
+   * @return The MIDI note at which the sample plays at its original pitch
+   */
+
+  int unshiftedNote();
+
+  /**
+   * @return The pitch shift in cents to apply when playing the sample
+   */
+
+  int fineTune();
+
+  /**
+   * @return The gain in decibels to apply when playing the sample
+   */
+
+  int gain();
+
+  /**
+   * @return The lowest MIDI note of the suggested key range
+   */
+
+  int lowNote();
+
+  /**
+   * @return The highest MIDI note of the suggested key range
+   */
+
+  int highNote();
+
+  /**
+   * @return The lowest MIDI velocity of the suggested velocity range
+   */
+
+  int lowVelocity();
+
+  /**
+   * @return The highest MIDI velocity of the suggested velocity range
+   */
+
+  int highVelocity();
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.wave;
+
+import java.util.Optional;
+
+/**
+ * The metadata chunks that can be edited in place.
+ *
+ * @see WaveMetadataEditorType
+ */
+
+public enum WaveMetadataChunk
+{
+  /**
+   * The Broadcast WAVE {@code bext} chunk.
+   */
+
+  BEXT("bext", Optional.empty()),
+
+  /**
+   * The {@code iXML} chunk.
+   */
+
+  IXML("iXML", Optional.empty()),
+
+  /**
+   * The {@code axml} chunk.
+   */
+
+  AXML("axml", Optional.empty()),
+
+  /**
+   * The {@code cue } chunk.
+   */
+
+  CUE("cue ", Optional.empty()),
+
+  /**
+   * The {@code LIST(adtl)} associated data list. The contents of this chunk exclude the form
+   * type; they are the concatenated {@code labl}, {@code note} and {@code ltxt} subchunks.
+   */
+
+  ADTL("LIST", Optional.of("adtl"));
+
+  private final String id;
+  private final Optional<String> form;
+
+  WaveMetadataChunk(
+    final String in_id,
+    final Optional<String> in_form)
+  {
+    this.id = in_id;
+    this.form = in_form;
+  }
+
+  /**
+   * @return The chunk ID
+   */
+
+  public String id()
+  {
+    return this.id;
+  }
+
+  /**
+   * @return The form type of the chunk, if the chunk is a {@code LIST} chunk
+   */
+
+  public Optional<String> form()
+  {
+    return this.form;
+  }
+}
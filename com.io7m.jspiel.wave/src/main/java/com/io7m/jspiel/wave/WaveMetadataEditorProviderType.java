@@ -0,0 +1,67 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.wave;
+
+import com.io7m.jspiel.api.RiffParseException;
+
+import java.net.URI;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Path;
+
+/**
+ * The type of providers of WAVE metadata editors.
+ */
+
+public interface WaveMetadataEditorProviderType
+{
+  /**
+   * Create an editor for the WAVE file in the given channel. Only the chunk headers are read,
+   * so files of any size supported by the format can be edited. The editor writes to the
+   * channel only when every edit fits in the existing space of the file; it cannot rewrite the
+   * file, and so {@link WaveMetadataEditorType#commit()} fails without modifying the file if an
+   * edit does not fit.
+   *
+   * @param source  The URI of the file
+   * @param channel A channel open for reading and writing
+   *
+   * @return A new editor
+   *
+   * @throws RiffParseException If the file is not a WAVE file, or on I/O errors
+   */
+
+  WaveMetadataEditorType createForChannel(
+    URI source,
+    SeekableByteChannel channel)
+    throws RiffParseException;
+
+  /**
+   * Create an editor for the given WAVE file. Only the chunk headers are read, so files of any
+   * size supported by the format can be edited. If an edit does not fit in the existing space
+   * of the file, the file is rewritten with an edit session and atomically replaced.
+   *
+   * @param file The file
+   *
+   * @return A new editor
+   *
+   * @throws RiffParseException If the file is not a WAVE file, or on I/O errors
+   */
+
+  WaveMetadataEditorType createForFile(
+    Path file)
+    throws RiffParseException;
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.wave;
+
+import com.io7m.jspiel.api.RiffParseException;
+import com.io7m.jspiel.api.RiffWriteException;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+
+/**
+ * <p>An editor that modifies the metadata chunks of an existing WAVE file without rewriting the
+ * audio data.</p>
+ *
+ * <p>Edits are staged with {@link #set(WaveMetadataChunk, ByteBuffer)} and
+ * {@link #remove(WaveMetadataChunk)}, and applied by {@link #commit()}. A replacement chunk is
+ * written over the existing chunk, using the space of any adjacent {@code JUNK}, {@code PAD } or
+ * {@code FLLR} chunks if it has grown; a new chunk is written into existing padding space. Any
+ * space left over is marked as a {@code JUNK} chunk, and a removed chunk is marked as a
+ * {@code JUNK} chunk.</p>
+ *
+ * <p>All edits are planned before anything is written. If any chunk does not fit, nothing is
+ * written in place; instead, the whole file is rewritten with a
+ * {@link com.io7m.jspiel.api.RiffEditSessionType}, which replaces, appends or deletes the edited
+ * chunks, shifts the data that follows them, and atomically replaces the original file. Only
+ * editors created for a file can rewrite it.</p>
+ */
+
+public interface WaveMetadataEditorType
+{
+  /**
+   * Read the current contents of the given chunk. Staged edits are not reflected until they are
+   * committed.
+   *
+   * @param chunk The chunk
+   *
+   * @return The contents of the chunk, if the chunk is present
+   *
+   * @throws RiffParseException On I/O errors
+   */
+
+  Optional<ByteBuffer> read(WaveMetadataChunk chunk)
+    throws RiffParseException;
+
+  /**
+   * Stage the replacement of the given chunk. The chunk is created if it does not exist.
+   *
+   * @param chunk The chunk
+   * @param data  The new contents of the chunk
+   *
+   * @return this
+   */
+
+  WaveMetadataEditorType set(
+    WaveMetadataChunk chunk,
+    ByteBuffer data);
+
+  /**
+   * Stage the removal of the given chunk. The chunk is marked as a {@code JUNK} chunk, or
+   * deleted if the file is rewritten.
+   *
+   * @param chunk The chunk
+   *
+   * @return this
+   */
+
+  WaveMetadataEditorType remove(WaveMetadataChunk chunk);
+
+  /**
+   * Apply all staged edits, in the order in which they were staged.
+   *
+   * @return The result of applying the edits
+   *
+   * @throws RiffWriteException On I/O errors, or if a chunk does not fit and the file cannot be
+   *                            rewritten
+   */
+
+  WaveMetadataEditResult commit()
+    throws RiffWriteException;
+}
@@ -0,0 +1,696 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.wave;
+
+import com.io7m.jspiel.api.RiffChunkDataWriterType;
+import com.io7m.jspiel.api.RiffChunkID;
+import com.io7m.jspiel.api.RiffChunkType;
+import com.io7m.jspiel.api.RiffEditSessionProviderType;
+import com.io7m.jspiel.api.RiffFileParserProviderType;
+import com.io7m.jspiel.api.RiffFileType;
+import com.io7m.jspiel.api.RiffFormatParsing;
+import com.io7m.jspiel.api.RiffParseException;
+import com.io7m.jspiel.api.RiffWriteException;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * The default implementation of the {@link WaveMetadataEditorProviderType} interface.
+ */
+
+public final class WaveMetadataEditors implements WaveMetadataEditorProviderType
+{
+  private static final String FOURCC_JUNK = "JUNK";
+  private static final String FORM_WAVE = "WAVE";
+  private static final List<String> PADDING = List.of(FOURCC_JUNK, "junk", "PAD ", "FLLR");
+
+  private final RiffFileParserProviderType parsers;
+  private final RiffEditSessionProviderType sessions;
+
+  /**
+   * Construct a metadata editor provider using the first available RIFF parser and edit
+   * session providers.
+   */
+
+  public WaveMetadataEditors()
+  {
+    this(
+      ServiceLoader.load(RiffFileParserProviderType.class)
+        .findFirst()
+        .orElseThrow(() -> new IllegalStateException("No RIFF file parser service available")),
+      ServiceLoader.load(RiffEditSessionProviderType.class)
+        .findFirst()
+        .orElseThrow(() -> new IllegalStateException("No RIFF edit session service available")));
+  }
+
+  /**
+   * Construct a metadata editor provider.
+   *
+   * @param in_parsers  A provider of RIFF parsers
+   * @param in_sessions A provider of RIFF edit sessions
+   */
+
+  public WaveMetadataEditors(
+    final RiffFileParserProviderType in_parsers,
+    final RiffEditSessionProviderType in_sessions)
+  {
+    this.parsers = Objects.requireNonNull(in_parsers, "parsers");
+    this.sessions = Objects.requireNonNull(in_sessions, "sessions");
+  }
+
+  @Override
+  public WaveMetadataEditorType createForChannel(
+    final URI source,
+    final SeekableByteChannel channel)
+    throws RiffParseException
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(channel, "channel");
+
+    final var editor =
+      new Editor(this.parsers, this.sessions, source, Optional.empty(), Optional.of(channel));
+    editor.layout = editor.walk();
+    return editor;
+  }
+
+  @Override
+  public WaveMetadataEditorType createForFile(
+    final Path file)
+    throws RiffParseException
+  {
+    Objects.requireNonNull(file, "file");
+
+    final var editor =
+      new Editor(this.parsers, this.sessions, file.toUri(), Optional.of(file), Optional.empty());
+    editor.layout = editor.walk();
+    return editor;
+  }
+
+  private interface ChannelOperationType<T>
+  {
+    T execute(SeekableByteChannel channel)
+      throws IOException, RiffParseException;
+  }
+
+  private static final class Child
+  {
+    private final String id;
+    private final Optional<String> form;
+    private final long offset;
+    private final long size;
+    private final Optional<RiffChunkType> chunk;
+
+    Child(
+      final String in_id,
+      final Optional<String> in_form,
+      final long in_offset,
+      final long in_size,
+      final Optional<RiffChunkType> in_chunk)
+    {
+      this.id = Objects.requireNonNull(in_id, "id");
+      this.form = Objects.requireNonNull(in_form, "form");
+      this.offset = in_offset;
+      this.size = in_size;
+      this.chunk = Objects.requireNonNull(in_chunk, "chunk");
+    }
+
+    static Child of(
+      final RiffChunkType chunk)
+    {
+      return new Child(
+        chunk.name().value(),
+        chunk.formType(),
+        chunk.offset(),
+        chunk.dataSizeIncludingForm().sizeUnpadded(),
+        Optional.of(chunk));
+    }
+
+    long total()
+    {
+      return 8L + this.size + (this.size & 1L);
+    }
+
+    boolean isPadding()
+    {
+      return PADDING.contains(this.id);
+    }
+
+    boolean is(
+      final WaveMetadataChunk metadata)
+    {
+      return this.id.equals(metadata.id()) && this.form.equals(metadata.form());
+    }
+
+    Child asJunk()
+    {
+      return new Child(FOURCC_JUNK, Optional.empty(), this.offset, this.size, Optional.empty());
+    }
+  }
+
+  private static final class Layout
+  {
+    private final RiffFileType file;
+    private final RiffChunkType root;
+    private final List<Child> children;
+
+    Layout(
+      final RiffFileType in_file,
+      final RiffChunkType in_root)
+    {
+      this.file = Objects.requireNonNull(in_file, "file");
+      this.root = Objects.requireNonNull(in_root, "root");
+      this.children = in_root.subChunks().stream().map(Child::of).toList();
+    }
+
+    ByteOrder order()
+    {
+      return this.file.byteOrder();
+    }
+  }
+
+  /**
+   * A contiguous range of direct subchunks of the root chunk that may be overwritten.
+   */
+
+  private static final class Space
+  {
+    private final int first;
+    private final int last;
+    private final long offset;
+    private final long size;
+
+    Space(
+      final List<Child> children,
+      final int in_first,
+      final int in_last)
+    {
+      this.first = in_first;
+      this.last = in_last;
+      this.offset = children.get(in_first).offset;
+      this.size = children.get(in_last).offset + children.get(in_last).total() - this.offset;
+    }
+
+    /**
+     * A chunk fits if it fills the space exactly, or if the space left over is large enough to
+     * hold the header of a {@code JUNK} chunk.
+     */
+
+    boolean fits(
+      final long required)
+    {
+      return this.size == required || this.size - required >= 8L;
+    }
+  }
+
+  /**
+   * A write of a range of octets at a fixed offset in the file.
+   */
+
+  private static final class Write
+  {
+    private final long offset;
+    private final ByteBuffer data;
+
+    Write(
+      final long in_offset,
+      final ByteBuffer in_data)
+    {
+      this.offset = in_offset;
+      this.data = Objects.requireNonNull(in_data, "data");
+    }
+  }
+
+  /**
+   * The writes that apply a set of edits in place, and the chunks that did not fit in the
+   * existing space of the file.
+   */
+
+  private static final class Plan
+  {
+    private final List<Child> children;
+    private final List<Write> writes;
+    private final List<WaveMetadataChunk> unfitted;
+
+    Plan(
+      final List<Child> in_children)
+    {
+      this.children = new ArrayList<>(in_children);
+      this.writes = new ArrayList<>();
+      this.unfitted = new ArrayList<>();
+    }
+
+    Optional<Integer> find(
+      final WaveMetadataChunk metadata)
+    {
+      for (var index = 0; index < this.children.size(); ++index) {
+        if (this.children.get(index).is(metadata)) {
+          return Optional.of(Integer.valueOf(index));
+        }
+      }
+      return Optional.empty();
+    }
+
+    /**
+     * Find the space occupied by the given chunk and any padding chunks adjacent to it.
+     */
+
+    Space spaceAround(
+      final int index)
+    {
+      var first = index;
+      while (first > 0 && this.children.get(first - 1).isPadding()) {
+        --first;
+      }
+      var last = index;
+      while (last + 1 < this.children.size() && this.children.get(last + 1).isPadding()) {
+        ++last;
+      }
+      return new Space(this.children, first, last);
+    }
+
+    /**
+     * Find the first run of adjacent padding chunks in which a chunk of the given size fits.
+     */
+
+    Optional<Space> findPadding(
+      final long required)
+    {
+      var index = 0;
+      while (index < this.children.size()) {
+        if (!this.children.get(index).isPadding()) {
+          ++index;
+          continue;
+        }
+
+        var last = index;
+        while (last + 1 < this.children.size() && this.children.get(last + 1).isPadding()) {
+          ++last;
+        }
+
+        final var space = new Space(this.children, index, last);
+        if (space.fits(required)) {
+          return Optional.of(space);
+        }
+        index = last + 1;
+      }
+      return Optional.empty();
+    }
+
+    void retagAsJunk(
+      final int index)
+    {
+      final var child = this.children.get(index);
+      this.writes.add(new Write(child.offset, ByteBuffer.wrap(FOURCC_JUNK.getBytes(US_ASCII))));
+      this.children.set(index, child.asJunk());
+    }
+
+    /**
+     * Replace the chunks in the given space with the given chunks.
+     */
+
+    void replace(
+      final Space space,
+      final List<Child> replacements)
+    {
+      for (var index = space.last; index >= space.first; --index) {
+        this.children.remove(index);
+      }
+      this.children.addAll(space.first, replacements);
+    }
+  }
+
+  private static final class Editor implements WaveMetadataEditorType
+  {
+    private final RiffFileParserProviderType parsers;
+    private final RiffEditSessionProviderType sessions;
+    private final URI source;
+    private final Optional<Path> file;
+    private final Optional<SeekableByteChannel> channel;
+    private final Map<WaveMetadataChunk, Optional<ByteBuffer>> pending;
+    private Layout layout;
+
+    Editor(
+      final RiffFileParserProviderType in_parsers,
+      final RiffEditSessionProviderType in_sessions,
+      final URI in_source,
+      final Optional<Path> in_file,
+      final Optional<SeekableByteChannel> in_channel)
+    {
+      this.parsers = Objects.requireNonNull(in_parsers, "parsers");
+      this.sessions = Objects.requireNonNull(in_sessions, "sessions");
+      this.source = Objects.requireNonNull(in_source, "source");
+      this.file = Objects.requireNonNull(in_file, "file");
+      this.channel = Objects.requireNonNull(in_channel, "channel");
+      this.pending = new LinkedHashMap<>();
+    }
+
+    private static long contentSize(
+      final WaveMetadataChunk chunk,
+      final ByteBuffer data)
+    {
+      return (long) data.remaining() + (chunk.form().isPresent() ? 4L : 0L);
+    }
+
+    private static long writeFully(
+      final SeekableByteChannel target,
+      final ByteBuffer buffer)
+      throws IOException
+    {
+      var written = 0L;
+      while (buffer.hasRemaining()) {
+        written += (long) target.write(buffer);
+      }
+      return written;
+    }
+
+    private static void readFully(
+      final SeekableByteChannel target,
+      final long offset,
+      final ByteBuffer buffer)
+      throws IOException
+    {
+      target.position(offset);
+      while (buffer.hasRemaining()) {
+        if (target.read(buffer) < 0) {
+          throw new EOFException("Unexpected end of file at offset " + target.position());
+        }
+      }
+    }
+
+    /**
+     * Produce the data of a chunk as written by an edit session: the form type, if any,
+     * followed by the contents.
+     */
+
+    private static RiffChunkDataWriterType writerFor(
+      final WaveMetadataChunk chunk,
+      final ByteBuffer data)
+    {
+      return target -> {
+        if (chunk.form().isPresent()) {
+          writeFully(target, ByteBuffer.wrap(chunk.form().get().getBytes(US_ASCII)));
+        }
+        writeFully(target, data.duplicate());
+      };
+    }
+
+    private <T> T withChannel(
+      final boolean write,
+      final ChannelOperationType<T> operation)
+      throws IOException, RiffParseException
+    {
+      if (this.file.isPresent()) {
+        final var path = this.file.get();
+        try (var opened = write ? FileChannel.open(path, READ, WRITE) : FileChannel.open(path, READ)) {
+          return operation.execute(opened);
+        }
+      }
+      return operation.execute(this.channel.orElseThrow());
+    }
+
+    @Override
+    public Optional<ByteBuffer> read(
+      final WaveMetadataChunk chunk)
+      throws RiffParseException
+    {
+      Objects.requireNonNull(chunk, "chunk");
+
+      final var child =
+        this.layout.children.stream()
+          .filter(c -> c.is(chunk))
+          .findFirst();
+
+      if (child.isEmpty()) {
+        return Optional.empty();
+      }
+
+      final var found = child.get();
+      final var header = chunk.form().isPresent() ? 12L : 8L;
+      try {
+        final var buffer = ByteBuffer.allocate(Math.toIntExact(found.size + 8L - header));
+        this.withChannel(false, c -> {
+          readFully(c, found.offset + header, buffer);
+          return buffer;
+        });
+        return Optional.of(buffer.flip().asReadOnlyBuffer().order(this.layout.order()));
+      } catch (final IOException e) {
+        throw new RiffParseException(e.getMessage(), e, this.source, found.offset);
+      }
+    }
+
+    @Override
+    public WaveMetadataEditorType set(
+      final WaveMetadataChunk chunk,
+      final ByteBuffer data)
+    {
+      Objects.requireNonNull(chunk, "chunk");
+      Objects.requireNonNull(data, "data");
+
+      final var copy = ByteBuffer.allocate(data.remaining());
+      copy.put(data.duplicate());
+      this.pending.remove(chunk);
+      this.pending.put(chunk, Optional.of(copy.flip()));
+      return this;
+    }
+
+    @Override
+    public WaveMetadataEditorType remove(
+      final WaveMetadataChunk chunk)
+    {
+      Objects.requireNonNull(chunk, "chunk");
+      this.pending.remove(chunk);
+      this.pending.put(chunk, Optional.empty());
+      return this;
+    }
+
+    @Override
+    public WaveMetadataEditResult commit()
+      throws RiffWriteException
+    {
+      final var plan = new Plan(this.layout.children);
+      for (final var entry : this.pending.entrySet()) {
+        final var data = entry.getValue();
+        if (data.isPresent()) {
+          this.planSet(plan, entry.getKey(), data.get());
+        } else {
+          planRemove(plan, entry.getKey());
+        }
+      }
+
+      final WaveMetadataEditResult result;
+      try {
+        if (plan.unfitted.isEmpty()) {
+          result = WaveMetadataEditResult.of(this.writeInPlace(plan), 0);
+        } else {
+          result = WaveMetadataEditResult.of(this.rewrite(plan), plan.unfitted.size());
+        }
+        this.layout = this.walk();
+      } catch (final IOException e) {
+        throw new RiffWriteException(e, this.source, 0L);
+      } catch (final RiffParseException e) {
+        throw new RiffWriteException(e.getMessage(), e, this.source, e.offset());
+      }
+
+      this.pending.clear();
+      return result;
+    }
+
+    private static void planRemove(
+      final Plan plan,
+      final WaveMetadataChunk chunk)
+    {
+      final var index = plan.find(chunk);
+      if (index.isPresent()) {
+        plan.retagAsJunk(index.get().intValue());
+      }
+    }
+
+    private void planSet(
+      final Plan plan,
+      final WaveMetadataChunk chunk,
+      final ByteBuffer data)
+    {
+      final var content_size = contentSize(chunk, data);
+      final var required = 8L + content_size + (content_size & 1L);
+      final var index = plan.find(chunk);
+
+      final Optional<Space> space;
+      if (index.isPresent()) {
+        final var position = index.get().intValue();
+        final var around =
+          plan.children.get(position).total() == required
+            ? new Space(plan.children, position, position)
+            : plan.spaceAround(position);
+        space = around.fits(required) ? Optional.of(around) : Optional.empty();
+      } else {
+        space = plan.findPadding(required);
+      }
+
+      if (space.isEmpty()) {
+        if (index.isPresent()) {
+          plan.retagAsJunk(index.get().intValue());
+        }
+        plan.unfitted.add(chunk);
+        return;
+      }
+
+      final var target = space.get();
+      final var replacements = new ArrayList<Child>(2);
+      plan.writes.add(new Write(target.offset, this.encode(chunk, data, content_size)));
+      replacements.add(
+        new Child(chunk.id(), chunk.form(), target.offset, content_size, Optional.empty()));
+
+      if (target.size > required) {
+        final var junk_offset = target.offset + required;
+        final var junk_size = target.size - required - 8L;
+        plan.writes.add(new Write(junk_offset, this.header(FOURCC_JUNK, junk_size)));
+        replacements.add(
+          new Child(FOURCC_JUNK, Optional.empty(), junk_offset, junk_size, Optional.empty()));
+      }
+      plan.replace(target, replacements);
+    }
+
+    private ByteBuffer header(
+      final String id,
+      final long size)
+    {
+      final var header = ByteBuffer.allocate(8).order(this.layout.order());
+      header.put(id.getBytes(US_ASCII));
+      header.putInt((int) size);
+      return header.flip();
+    }
+
+    private ByteBuffer encode(
+      final WaveMetadataChunk chunk,
+      final ByteBuffer data,
+      final long content_size)
+    {
+      final var buffer =
+        ByteBuffer.allocate(Math.toIntExact(8L + content_size + (content_size & 1L)))
+          .order(this.layout.order());
+      buffer.put(chunk.id().getBytes(US_ASCII));
+      buffer.putInt((int) content_size);
+      chunk.form().ifPresent(form -> buffer.put(form.getBytes(US_ASCII)));
+      buffer.put(data.duplicate());
+      return buffer.position(buffer.capacity()).flip();
+    }
+
+    private long writeInPlace(
+      final Plan plan)
+      throws IOException, RiffParseException
+    {
+      return this.withChannel(true, c -> {
+        var written = 0L;
+        for (final var write : plan.writes) {
+          c.position(write.offset);
+          written += writeFully(c, write.data.duplicate());
+        }
+        return Long.valueOf(written);
+      }).longValue();
+    }
+
+    /**
+     * Rewrite the file with an edit session, replacing, appending or deleting each edited
+     * chunk. Chunks that were edited but not moved are written again, which costs only the
+     * size of the metadata.
+     */
+
+    private long rewrite(
+      final Plan plan)
+      throws RiffWriteException
+    {
+      if (this.file.isEmpty()) {
+        final var separator = System.lineSeparator();
+        throw new RiffWriteException(
+          new StringBuilder(128)
+            .append("Chunks do not fit in the existing space of the file.")
+            .append(separator)
+            .append("  Chunks: ")
+            .append(plan.unfitted.stream().map(WaveMetadataChunk::id).toList())
+            .append(separator)
+            .append("  Note: Rewriting the file requires an editor created for a file.")
+            .append(separator)
+            .toString(),
+          this.source,
+          0L);
+      }
+
+      final var session = this.sessions.createForFile(this.file.get(), this.layout.file);
+      for (final var entry : this.pending.entrySet()) {
+        final var chunk = entry.getKey();
+        final var data = entry.getValue();
+        final var existing =
+          this.layout.children.stream()
+            .filter(c -> c.is(chunk))
+            .findFirst()
+            .flatMap(c -> c.chunk);
+
+        if (data.isPresent()) {
+          final var size = contentSize(chunk, data.get());
+          final var writer = writerFor(chunk, data.get());
+          if (existing.isPresent()) {
+            session.replace(existing.get(), size, writer);
+          } else {
+            session.append(this.layout.root, RiffChunkID.of(chunk.id()), size, writer);
+          }
+        } else if (existing.isPresent()) {
+          session.delete(existing.get());
+        }
+      }
+      return session.commit().octetsWritten();
+    }
+
+    /**
+     * Parse the headers of the file and find the root chunk.
+     */
+
+    Layout walk()
+      throws RiffParseException
+    {
+      try {
+        return this.withChannel(false, c -> {
+          c.position(0L);
+          final var riff = this.parsers.createForChannel(this.source, c).parse();
+          return new Layout(
+            riff,
+            RiffFormatParsing.findRootWithForm(this.source, riff, FORM_WAVE, "a WAVE file"));
+        });
+      } catch (final IOException e) {
+        throw new RiffParseException(e.getMessage(), e, this.source, 0L);
+      }
+    }
+  }
+}
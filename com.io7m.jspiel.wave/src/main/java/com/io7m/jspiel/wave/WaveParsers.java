@@ -0,0 +1,537 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.wave;
+
+import com.io7m.jspiel.api.RiffChunkType;
+import com.io7m.jspiel.api.RiffFileParserProviderType;
+import com.io7m.jspiel.api.RiffFileType;
+import com.io7m.jspiel.api.RiffFormatParsing;
+import com.io7m.jspiel.api.RiffParseException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.SeekableByteChannel;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+/**
+ * The default implementation of the {@link WaveFileParserProviderType} interface.
+ */
+
+public final class WaveParsers implements WaveFileParserProviderType
+{
+  private static final String FORM_WAVE = "WAVE";
+  private static final String FORM_INFO = "INFO";
+
+  private final RiffFileParserProviderType parsers;
+
+  /**
+   * Construct a WAVE parser provider using the first available RIFF parser provider.
+   */
+
+  public WaveParsers()
+  {
+    this(
+      ServiceLoader.load(RiffFileParserProviderType.class)
+        .findFirst()
+        .orElseThrow(() -> new IllegalStateException("No RIFF file parser service available")));
+  }
+
+  /**
+   * Construct a WAVE parser provider.
+   *
+   * @param in_parsers A provider of RIFF parsers
+   */
+
+  public WaveParsers(
+    final RiffFileParserProviderType in_parsers)
+  {
+    this.parsers = Objects.requireNonNull(in_parsers, "parsers");
+  }
+
+  @Override
+  public WaveFileParserType createForByteBuffer(
+    final URI source,
+    final ByteBuffer data)
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(data, "data");
+    return new Parser(this.parsers, source, new BufferInput(Optional.empty(), data));
+  }
+
+  @Override
+  public WaveFileParserType createForRiffFile(
+    final URI source,
+    final RiffFileType file,
+    final ByteBuffer data)
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(file, "file");
+    Objects.requireNonNull(data, "data");
+    return new Parser(this.parsers, source, new BufferInput(Optional.of(file), data));
+  }
+
+  @Override
+  public WaveFileParserType createForChannel(
+    final URI source,
+    final SeekableByteChannel channel)
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(channel, "channel");
+    return new Parser(this.parsers, source, new ChannelInput(channel));
+  }
+
+  /**
+   * The data from which a WAVE file is parsed.
+   */
+
+  private interface InputType
+  {
+    /**
+     * Parse the underlying RIFF file.
+     *
+     * @param parsers The RIFF parser provider
+     * @param source  The URI of the source
+     *
+     * @return The parsed RIFF file
+     *
+     * @throws RiffParseException On errors
+     */
+
+    RiffFileType parse(
+      RiffFileParserProviderType parsers,
+      URI source)
+      throws RiffParseException;
+
+    /**
+     * @param source The URI of the source
+     * @param order  The byte order of the file
+     * @param chunk  The chunk
+     *
+     * @return Decoders that can decode the data of the given chunk
+     *
+     * @throws RiffParseException On errors
+     */
+
+    WaveChunkDecoders decoders(
+      URI source,
+      ByteOrder order,
+      RiffChunkType chunk)
+      throws RiffParseException;
+
+    /**
+     * @param chunk The chunk
+     *
+     * @return The file offset that corresponds to offset {@code 0} in the decoders for the chunk
+     */
+
+    long origin(RiffChunkType chunk);
+
+    /**
+     * @param order The byte order of the file
+     * @param chunk The {@code data} chunk
+     *
+     * @return A view of the contents of the {@code data} chunk, if the input can provide one
+     */
+
+    Optional<ByteBuffer> data(
+      ByteOrder order,
+      RiffChunkType chunk);
+  }
+
+  /**
+   * A byte buffer holding the entire file. Chunks are decoded in place.
+   */
+
+  private static final class BufferInput implements InputType
+  {
+    private final Optional<RiffFileType> file;
+    private final ByteBuffer buffer;
+
+    BufferInput(
+      final Optional<RiffFileType> in_file,
+      final ByteBuffer in_buffer)
+    {
+      this.file = Objects.requireNonNull(in_file, "file");
+      this.buffer = Objects.requireNonNull(in_buffer, "buffer");
+    }
+
+    @Override
+    public RiffFileType parse(
+      final RiffFileParserProviderType parsers,
+      final URI source)
+      throws RiffParseException
+    {
+      if (this.file.isPresent()) {
+        return this.file.get();
+      }
+      return parsers.createForByteBuffer(source, this.buffer.duplicate()).parse();
+    }
+
+    @Override
+    public WaveChunkDecoders decoders(
+      final URI source,
+      final ByteOrder order,
+      final RiffChunkType chunk)
+    {
+      return new WaveChunkDecoders(source, this.buffer.duplicate().order(order));
+    }
+
+    @Override
+    public long origin(
+      final RiffChunkType chunk)
+    {
+      return 0L;
+    }
+
+    /*
+     * The RIFF parser has checked that the chunk lies within the buffer, so the offset and size
+     * of the chunk always fit into an int here.
+     */
+
+    @Override
+    public Optional<ByteBuffer> data(
+      final ByteOrder order,
+      final RiffChunkType chunk)
+    {
+      return Optional.of(
+        this.buffer.slice(
+            (int) chunk.dataOffset(),
+            (int) chunk.dataSizeExcludingForm().sizeUnpadded())
+          .asReadOnlyBuffer()
+          .order(order));
+    }
+  }
+
+  /**
+   * A channel. Only the chunk headers are parsed, and the data of each metadata chunk is then
+   * read on its own, so no part of the audio data is ever read.
+   */
+
+  private static final class ChannelInput implements InputType
+  {
+    private final SeekableByteChannel channel;
+
+    ChannelInput(
+      final SeekableByteChannel in_channel)
+    {
+      this.channel = Objects.requireNonNull(in_channel, "channel");
+    }
+
+    @Override
+    public RiffFileType parse(
+      final RiffFileParserProviderType parsers,
+      final URI source)
+      throws RiffParseException
+    {
+      try {
+        this.channel.position(0L);
+      } catch (final IOException e) {
+        throw new RiffParseException(e.getMessage(), e, source, 0L);
+      }
+      return parsers.createForChannel(source, this.channel).parse();
+    }
+
+    @Override
+    public WaveChunkDecoders decoders(
+      final URI source,
+      final ByteOrder order,
+      final RiffChunkType chunk)
+      throws RiffParseException
+    {
+      return WaveChunkDecoders.readChunk(source, this.channel, order, chunk);
+    }
+
+    @Override
+    public long origin(
+      final RiffChunkType chunk)
+    {
+      return chunk.dataOffsetAfterForm();
+    }
+
+    @Override
+    public Optional<ByteBuffer> data(
+      final ByteOrder order,
+      final RiffChunkType chunk)
+    {
+      return Optional.empty();
+    }
+  }
+
+  private static final class Parser implements WaveFileParserType
+  {
+    private final RiffFileParserProviderType parsers;
+    private final URI source;
+    private final InputType input;
+    private ByteOrder order;
+
+    Parser(
+      final RiffFileParserProviderType in_parsers,
+      final URI in_source,
+      final InputType in_input)
+    {
+      this.parsers = Objects.requireNonNull(in_parsers, "parsers");
+      this.source = Objects.requireNonNull(in_source, "source");
+      this.input = Objects.requireNonNull(in_input, "input");
+    }
+
+    @Override
+    public WaveFileType parse()
+      throws RiffParseException
+    {
+      final var file = this.input.parse(this.parsers, this.source);
+      this.order = file.byteOrder();
+
+      final var root = this.findRoot(file);
+      final var format =
+        this.parseFormat(this.required(root, "fmt "));
+      final var data_chunk =
+        this.required(root, "data");
+      final var fact =
+        this.parseFact(root.findOptionalSubChunk("fact"));
+      final var cues =
+        this.parseCues(root.findOptionalSubChunk("cue "));
+      final var sampler =
+        this.parseSampler(root.findOptionalSubChunk("smpl"));
+      final var info =
+        this.parseInfo(root.findOptionalSubChunkWithForm("LIST", FORM_INFO));
+      final var data =
+        this.input.data(this.order, data_chunk);
+
+      return new WaveFile(
+        file, root, format, fact, cues, sampler, info, data_chunk, data);
+    }
+
+    private RiffChunkType findRoot(
+      final RiffFileType file)
+      throws RiffParseException
+    {
+      return RiffFormatParsing.findRootWithForm(this.source, file, FORM_WAVE, "a WAVE file");
+    }
+
+    private RiffChunkType required(
+      final RiffChunkType root,
+      final String name)
+      throws RiffParseException
+    {
+      return RiffFormatParsing.requireSubChunk(this.source, root, name);
+    }
+
+    private WaveChunkDecoders decoders(
+      final RiffChunkType chunk)
+      throws RiffParseException
+    {
+      return this.input.decoders(this.source, this.order, chunk);
+    }
+
+    /**
+     * @param chunk  The chunk
+     * @param origin The file offset that corresponds to offset {@code 0} in the decoders
+     */
+
+    private static WaveChunkDecoders.Region region(
+      final RiffChunkType chunk,
+      final long origin)
+    {
+      return new WaveChunkDecoders.Region(
+        chunk.name().value(),
+        chunk.offset(),
+        chunk.dataOffset() - origin,
+        chunk.dataSizeExcludingForm().sizeUnpadded());
+    }
+
+    private WaveChunkDecoders.Region region(
+      final RiffChunkType chunk)
+    {
+      return region(chunk, this.input.origin(chunk));
+    }
+
+    private WaveFormat parseFormat(
+      final RiffChunkType chunk)
+      throws RiffParseException
+    {
+      return this.decoders(chunk).format(this.region(chunk));
+    }
+
+    private Optional<WaveFact> parseFact(
+      final Optional<RiffChunkType> chunk_opt)
+      throws RiffParseException
+    {
+      if (chunk_opt.isEmpty()) {
+        return Optional.empty();
+      }
+      final var chunk = chunk_opt.get();
+      return Optional.of(this.decoders(chunk).fact(this.region(chunk)));
+    }
+
+    private List<WaveCuePoint> parseCues(
+      final Optional<RiffChunkType> chunk_opt)
+      throws RiffParseException
+    {
+      if (chunk_opt.isEmpty()) {
+        return List.of();
+      }
+      final var chunk = chunk_opt.get();
+      return this.decoders(chunk).cues(this.region(chunk));
+    }
+
+    private Optional<WaveSampler> parseSampler(
+      final Optional<RiffChunkType> chunk_opt)
+      throws RiffParseException
+    {
+      if (chunk_opt.isEmpty()) {
+        return Optional.empty();
+      }
+      final var chunk = chunk_opt.get();
+      return Optional.of(this.decoders(chunk).sampler(this.region(chunk)));
+    }
+
+    private Map<String, String> parseInfo(
+      final Optional<RiffChunkType> chunk_opt)
+      throws RiffParseException
+    {
+      if (chunk_opt.isEmpty()) {
+        return Map.of();
+      }
+
+      final var chunk = chunk_opt.get();
+      final var decoders = this.decoders(chunk);
+      final var origin = this.input.origin(chunk);
+      final var results = new LinkedHashMap<String, String>();
+      for (final var sub_chunk : chunk.subChunks()) {
+        results.put(sub_chunk.name().value(), decoders.string(region(sub_chunk, origin)));
+      }
+      return Collections.unmodifiableMap(results);
+    }
+  }
+
+  private static final class WaveFile implements WaveFileType
+  {
+    private final RiffFileType riff;
+    private final RiffChunkType root;
+    private final WaveFormat format;
+    private final Optional<WaveFact> fact;
+    private final List<WaveCuePoint> cues;
+    private final Optional<WaveSampler> sampler;
+    private final Map<String, String> info;
+    private final RiffChunkType data_chunk;
+    private final Optional<ByteBuffer> data;
+
+    WaveFile(
+      final RiffFileType in_riff,
+      final RiffChunkType in_root,
+      final WaveFormat in_format,
+      final Optional<WaveFact> in_fact,
+      final List<WaveCuePoint> in_cues,
+      final Optional<WaveSampler> in_sampler,
+      final Map<String, String> in_info,
+      final RiffChunkType in_data_chunk,
+      final Optional<ByteBuffer> in_data)
+    {
+      this.riff = Objects.requireNonNull(in_riff, "riff");
+      this.root = Objects.requireNonNull(in_root, "root");
+      this.format = Objects.requireNonNull(in_format, "format");
+      this.fact = Objects.requireNonNull(in_fact, "fact");
+      this.cues = Objects.requireNonNull(in_cues, "cues");
+      this.sampler = Objects.requireNonNull(in_sampler, "sampler");
+      this.info = Objects.requireNonNull(in_info, "info");
+      this.data_chunk = Objects.requireNonNull(in_data_chunk, "data_chunk");
+      this.data = Objects.requireNonNull(in_data, "data");
+    }
+
+    @Override
+    public String toString()
+    {
+      return new StringBuilder(128)
+        .append("[WaveFile ")
+        .append(this.format.channels())
+        .append(" channels, ")
+        .append(this.format.samplesPerSecond())
+        .append("hz, ")
+        .append(this.format.bitsPerSample())
+        .append(" bits, ")
+        .append(this.frameCount())
+        .append(" frames]")
+        .toString();
+    }
+
+    @Override
+    public RiffFileType riff()
+    {
+      return this.riff;
+    }
+
+    @Override
+    public RiffChunkType rootChunk()
+    {
+      return this.root;
+    }
+
+    @Override
+    public WaveFormat format()
+    {
+      return this.format;
+    }
+
+    @Override
+    public Optional<WaveFact> fact()
+    {
+      return this.fact;
+    }
+
+    @Override
+    public List<WaveCuePoint> cuePoints()
+    {
+      return this.cues;
+    }
+
+    @Override
+    public Optional<WaveSampler> sampler()
+    {
+      return this.sampler;
+    }
+
+    @Override
+    public Map<String, String> info()
+    {
+      return this.info;
+    }
+
+    @Override
+    public RiffChunkType dataChunk()
+    {
+      return this.data_chunk;
+    }
+
+    @Override
+    public ByteBuffer data()
+    {
+      final var buffer =
+        this.data.orElseThrow(() -> new UnsupportedOperationException(
+          "The file was parsed from a channel; use dataChannel() to read the data chunk"));
+      return buffer.duplicate().order(buffer.order());
+    }
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.wave;
+
+/**
+ * The policy used by streaming writers to decide whether to produce an RF64 file.
+ */
+
+public enum WaveRF64Mode
+{
+  /**
+   * Never produce RF64 files. Attempting to write more data than a RIFF file can describe is an
+   * error.
+   */
+
+  NEVER,
+
+  /**
+   * Reserve space for a {@code ds64} chunk and produce an RF64 file only if the written data
+   * exceeds the limits of a RIFF file.
+   */
+
+  AUTOMATIC,
+
+  /**
+   * Always produce RF64 files.
+   */
+
+  ALWAYS
+}
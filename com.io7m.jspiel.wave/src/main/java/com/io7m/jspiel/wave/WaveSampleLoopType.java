@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.wave;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+/**
+ * A single loop from a WAVE {@code smpl} chunk.
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface WaveSampleLoopType
+{
+  /**
+   * @return The identifier of the cue point associated with the loop
+   */
+
+  long cuePointIdentifier();
+
+  /**
+   * @return The loop type ({@code 0} is forward, {@code 1} is alternating, {@code 2} is backward)
+   */
+
+  long type();
+
+  /**
+   * @return The sample frame at which the loop starts
+   */
+
+  long start();
+
+  /**
+   * @return The sample frame at which the loop ends
+   */
+
+  long end();
+
+  /**
+   * @return The fractional sample position at which the loop ends
+   */
+
+  long fraction();
+
+  /**
+   * @return The number of times the loop is played ({@code 0} means infinitely)
+   */
+
+  long playCount();
+}
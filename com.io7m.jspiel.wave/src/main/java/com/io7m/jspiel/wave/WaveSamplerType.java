@@ -0,0 +1,86 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.wave;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+import java.util.List;
+
+/**
+ * The contents of a WAVE {@code smpl} chunk.
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface WaveSamplerType
+{
+  /**
+   * @return The MIDI manufacturer code
+   */
+
+  long manufacturer();
+
+  /**
+   * @return The manufacturer-specific product code
+   */
+
+  long product();
+
+  /**
+   * @return The duration of a single sample in nanoseconds
+   */
+
+  long samplePeriod();
+
+  /**
+   * @return The MIDI note at which the sample plays at its original pitch
+   */
+
+  long midiUnityNote();
+
+  /**
+   * @return The fraction of a semitone by which the unity note is raised
+   */
+
+  long midiPitchFraction();
+
+  /**
+   * @return The SMPTE format
+   */
+
+  long smpteFormat();
+
+  /**
+   * @return The SMPTE offset
+   */
+
+  long smpteOffset();
+
+  /**
+   * @return The sample loops
+   */
+
+  List<WaveSampleLoop> loops();
+
+  /**
+   * @return The size in octets of the vendor-specific data following the loops
+   */
+
+  long samplerDataSize();
+}
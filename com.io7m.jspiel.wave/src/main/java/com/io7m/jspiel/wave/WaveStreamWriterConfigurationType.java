@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.wave;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+/**
+ * The configuration for a streaming WAVE writer.
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface WaveStreamWriterConfigurationType
+{
+  /**
+   * @return The format of the written audio data
+   */
+
+  WaveFormat format();
+
+  /**
+   * @return The policy used to decide whether to produce an RF64 file
+   */
+
+  @Value.Default
+  default WaveRF64Mode rf64Mode()
+  {
+    return WaveRF64Mode.AUTOMATIC;
+  }
+
+  /**
+   * @return The approximate size in octets of the internal write buffer
+   */
+
+  @Value.Default
+  default int bufferSize()
+  {
+    return 65536;
+  }
+
+  /**
+   * Check preconditions for the type.
+   */
+
+  @Value.Check
+  default void checkPreconditions()
+  {
+    if (this.bufferSize() <= 0) {
+      throw new IllegalArgumentException("Buffer size must be positive");
+    }
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.wave;
+
+import com.io7m.jspiel.api.RiffWriteException;
+
+import java.net.URI;
+import java.nio.channels.SeekableByteChannel;
+
+/**
+ * The type of providers of streaming WAVE writers.
+ */
+
+public interface WaveStreamWriterProviderType
+{
+  /**
+   * Create a writer that writes to the given channel. The file header is written to the start of
+   * the channel immediately, and any existing content in the channel is truncated.
+   *
+   * @param target        The URI of the target
+   * @param configuration The writer configuration
+   * @param channel       The output channel
+   *
+   * @return A new writer
+   *
+   * @throws RiffWriteException            On I/O errors
+   * @throws WaveUnsupportedFormatException If the configured format is not supported
+   */
+
+  WaveStreamWriterType createForChannel(
+    URI target,
+    WaveStreamWriterConfiguration configuration,
+    SeekableByteChannel channel)
+    throws RiffWriteException, WaveUnsupportedFormatException;
+}
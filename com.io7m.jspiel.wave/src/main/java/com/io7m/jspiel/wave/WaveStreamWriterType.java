@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.wave;
+
+import com.io7m.jspiel.api.RiffWriteException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <p>A writer that streams audio data into a WAVE file of initially unknown length.</p>
+ *
+ * <p>The file header is written when the writer is created, audio data is appended by each call
+ * to one of the {@code write} methods, and the {@code RIFF} and {@code data} chunk sizes are
+ * patched when the writer is closed. Closing the writer does not close the underlying channel.
+ * A writer that is not closed leaves a file with zero-length chunk sizes.</p>
+ */
+
+public interface WaveStreamWriterType extends AutoCloseable
+{
+  /**
+   * @return The format of the written audio data
+   */
+
+  WaveFormat format();
+
+  /**
+   * @return The number of complete frames written so far
+   */
+
+  long framesWritten();
+
+  /**
+   * @return The number of octets of audio data written so far
+   */
+
+  long dataSize();
+
+  /**
+   * Append the remaining contents of the given buffer to the audio data. The buffer's position
+   * is advanced to its limit. The data must already be encoded in the writer's format, and
+   * should consist of whole frames in total across calls.
+   *
+   * @param data The encoded audio data
+   *
+   * @throws RiffWriteException On I/O errors, or if the data would exceed the limits of the file
+   */
+
+  void write(ByteBuffer data)
+    throws RiffWriteException;
+
+  /**
+   * Append interleaved samples to the audio data, encoding them in the writer's format. Samples
+   * are expected to be in the range {@code [-1, 1]}; integer formats clamp values outside of
+   * this range.
+   *
+   * @param samples The interleaved samples
+   * @param offset  The offset of the first sample in {@code samples}
+   * @param frames  The number of frames to write
+   *
+   * @throws RiffWriteException On I/O errors, or if the data would exceed the limits of the file
+   */
+
+  void write(
+    float[] samples,
+    int offset,
+    int frames)
+    throws RiffWriteException;
+
+  /**
+   * Flush buffered data and patch the chunk sizes in the file header, upgrading the file to
+   * RF64 if required. Closing an already-closed writer has no effect.
+   *
+   * @throws RiffWriteException On I/O errors
+   */
+
+  @Override
+  void close()
+    throws RiffWriteException;
+}
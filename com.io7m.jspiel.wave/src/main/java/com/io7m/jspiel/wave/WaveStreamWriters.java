@@ -0,0 +1,564 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.wave;
+
+import com.io7m.jspiel.api.RiffBuilderException;
+import com.io7m.jspiel.api.RiffChunkID;
+import com.io7m.jspiel.api.RiffFileBuilderProviderType;
+import com.io7m.jspiel.api.RiffFileWriterDescriptionType;
+import com.io7m.jspiel.api.RiffFileWriterProviderType;
+import com.io7m.jspiel.api.RiffWriteException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.util.Objects;
+import java.util.ServiceLoader;
+
+import static java.nio.ByteOrder.BIG_ENDIAN;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+/**
+ * The default implementation of the {@link WaveStreamWriterProviderType} interface.
+ */
+
+public final class WaveStreamWriters implements WaveStreamWriterProviderType
+{
+  private static final RiffChunkID ID_RIFF = RiffChunkID.of("RIFF");
+  private static final RiffChunkID ID_JUNK = RiffChunkID.of("JUNK");
+  private static final RiffChunkID ID_FMT = RiffChunkID.of("fmt ");
+  private static final RiffChunkID ID_DATA = RiffChunkID.of("data");
+  private static final String FORM_WAVE = "WAVE";
+
+  private static final long HEADER_SIZE = 8L;
+  private static final long DS64_SIZE = 28L;
+  private static final long RIFF_SIZE_MAXIMUM = 0xffff_ffffL;
+  private static final int FORMAT_SIZE = 16;
+  private static final int FORMAT_EX_SIZE = 18;
+  private static final int FORMAT_EXTENSIBLE_SIZE = 40;
+
+  private final RiffFileBuilderProviderType builders;
+  private final RiffFileWriterProviderType writers;
+
+  /**
+   * Construct a WAVE writer provider using the first available RIFF builder and writer providers.
+   */
+
+  public WaveStreamWriters()
+  {
+    this(
+      ServiceLoader.load(RiffFileBuilderProviderType.class)
+        .findFirst()
+        .orElseThrow(() -> new IllegalStateException("No RIFF file builder service available")),
+      ServiceLoader.load(RiffFileWriterProviderType.class)
+        .findFirst()
+        .orElseThrow(() -> new IllegalStateException("No RIFF file writer service available")));
+  }
+
+  /**
+   * Construct a WAVE writer provider.
+   *
+   * @param in_builders A provider of RIFF file builders
+   * @param in_writers  A provider of RIFF file writers
+   */
+
+  public WaveStreamWriters(
+    final RiffFileBuilderProviderType in_builders,
+    final RiffFileWriterProviderType in_writers)
+  {
+    this.builders = Objects.requireNonNull(in_builders, "builders");
+    this.writers = Objects.requireNonNull(in_writers, "writers");
+  }
+
+  private static int formatSize(
+    final WaveFormat format)
+  {
+    if (format.extensible().isPresent()) {
+      return FORMAT_EXTENSIBLE_SIZE;
+    }
+    if (format.formatTag() == WaveFormatTags.WAVE_FORMAT_PCM) {
+      return FORMAT_SIZE;
+    }
+    return FORMAT_EX_SIZE;
+  }
+
+  private static ByteBuffer formatData(
+    final WaveFormat format)
+  {
+    final var size = formatSize(format);
+    final var buffer = ByteBuffer.allocate(size).order(LITTLE_ENDIAN);
+    buffer.putShort((short) format.formatTag());
+    buffer.putShort((short) format.channels());
+    buffer.putInt((int) format.samplesPerSecond());
+    buffer.putInt((int) format.averageBytesPerSecond());
+    buffer.putShort((short) format.blockAlign());
+    buffer.putShort((short) format.bitsPerSample());
+
+    if (size > FORMAT_SIZE) {
+      buffer.putShort((short) (size - FORMAT_EX_SIZE));
+    }
+
+    final var extensible_opt = format.extensible();
+    if (extensible_opt.isPresent()) {
+      final var extensible = extensible_opt.get();
+      buffer.putShort((short) extensible.validBitsPerSample());
+      buffer.putInt((int) extensible.channelMask());
+
+      /*
+       * The first three fields of a GUID are stored in the byte order of the file, and the last
+       * eight octets are always stored as a plain sequence of octets.
+       */
+
+      final var uuid = extensible.subFormat();
+      final var msb = uuid.getMostSignificantBits();
+      buffer.putInt((int) (msb >>> 32));
+      buffer.putShort((short) (msb >>> 16));
+      buffer.putShort((short) msb);
+      buffer.order(BIG_ENDIAN);
+      buffer.putLong(uuid.getLeastSignificantBits());
+      buffer.order(LITTLE_ENDIAN);
+    }
+
+    return buffer.flip();
+  }
+
+  @Override
+  public WaveStreamWriterType createForChannel(
+    final URI target,
+    final WaveStreamWriterConfiguration configuration,
+    final SeekableByteChannel channel)
+    throws RiffWriteException, WaveUnsupportedFormatException
+  {
+    Objects.requireNonNull(target, "target");
+    Objects.requireNonNull(configuration, "configuration");
+    Objects.requireNonNull(channel, "channel");
+
+    final var format = configuration.format();
+    final var encoding = WaveEncoding.of(format);
+    final var reserve_ds64 = configuration.rf64Mode() != WaveRF64Mode.NEVER;
+
+    final RiffFileWriterDescriptionType description;
+    try {
+      description = this.headerDescription(format, reserve_ds64);
+    } catch (final RiffBuilderException e) {
+      throw new RiffWriteException(e, target, 0L);
+    }
+
+    this.writers.createForChannel(target, description, channel).write();
+
+    /*
+     * The data chunk is the last chunk in the header, and is written with a size of zero. Audio
+     * data is appended directly after its header.
+     */
+
+    var data_offset = 12L;
+    if (reserve_ds64) {
+      data_offset += HEADER_SIZE + DS64_SIZE;
+    }
+    data_offset += HEADER_SIZE + (long) formatSize(format);
+    data_offset += HEADER_SIZE;
+
+    try {
+      channel.truncate(data_offset);
+      channel.position(data_offset);
+    } catch (final IOException e) {
+      throw new RiffWriteException(e, target, data_offset);
+    }
+
+    return new Writer(target, configuration, encoding, channel, data_offset);
+  }
+
+  private RiffFileWriterDescriptionType headerDescription(
+    final WaveFormat format,
+    final boolean reserve_ds64)
+    throws RiffBuilderException
+  {
+    final var builder = this.builders.create(LITTLE_ENDIAN);
+    try (var root = builder.setRootChunk(ID_RIFF, FORM_WAVE)) {
+      if (reserve_ds64) {
+        try (var junk = root.addSubChunk(ID_JUNK)) {
+          junk.setSize(DS64_SIZE);
+          junk.setDataWriter(data -> {
+
+          });
+        }
+      }
+      try (var fmt = root.addSubChunk(ID_FMT)) {
+        final var fmt_data = formatData(format);
+        fmt.setDataWriter(data -> data.write(fmt_data.duplicate()));
+      }
+      try (var data_chunk = root.addSubChunk(ID_DATA)) {
+        data_chunk.setDataWriter(data -> {
+
+        });
+      }
+    }
+    return builder.build();
+  }
+
+  private static final class Writer implements WaveStreamWriterType
+  {
+    private static final byte[] FOURCC_RF64 = "RF64".getBytes(US_ASCII);
+    private static final byte[] FOURCC_DS64 = "ds64".getBytes(US_ASCII);
+    private static final float SCALE_8 = 128.0f;
+    private static final float SCALE_16 = 32768.0f;
+    private static final float SCALE_24 = 8388608.0f;
+    private static final float SCALE_32 = 2147483648.0f;
+
+    private final URI target;
+    private final WaveStreamWriterConfiguration configuration;
+    private final WaveFormat format;
+    private final WaveEncoding encoding;
+    private final SeekableByteChannel channel;
+    private final ByteBuffer buffer;
+    private final long data_offset;
+    private final int block_align;
+    private final int channels;
+    private final int sample_octets;
+    private long data_size;
+    private boolean closed;
+
+    Writer(
+      final URI in_target,
+      final WaveStreamWriterConfiguration in_configuration,
+      final WaveEncoding in_encoding,
+      final SeekableByteChannel in_channel,
+      final long in_data_offset)
+    {
+      this.target = Objects.requireNonNull(in_target, "target");
+      this.configuration = Objects.requireNonNull(in_configuration, "configuration");
+      this.encoding = Objects.requireNonNull(in_encoding, "encoding");
+      this.channel = Objects.requireNonNull(in_channel, "channel");
+      this.data_offset = in_data_offset;
+
+      this.format = this.configuration.format();
+      this.block_align = this.format.blockAlign();
+      this.channels = this.format.channels();
+      this.sample_octets = this.encoding.octetsPerSample();
+
+      /*
+       * The buffer is also used to patch the header on close, so it must be able to hold
+       * at least a complete ds64 chunk.
+       */
+
+      final var requested = Math.max(64, this.configuration.bufferSize());
+      final var frames = Math.max(1, requested / this.block_align);
+      this.buffer = ByteBuffer.allocate(frames * this.block_align).order(LITTLE_ENDIAN);
+      this.data_size = 0L;
+      this.closed = false;
+    }
+
+    private static int quantize(
+      final float x,
+      final float scale,
+      final int minimum,
+      final int maximum)
+    {
+      return Math.max(minimum, Math.min(maximum, Math.round(x * scale)));
+    }
+
+    @Override
+    public String toString()
+    {
+      return new StringBuilder(64)
+        .append("[WaveStreamWriter ")
+        .append(this.target)
+        .append(' ')
+        .append(this.encoding)
+        .append(' ')
+        .append(this.data_size)
+        .append(']')
+        .toString();
+    }
+
+    @Override
+    public WaveFormat format()
+    {
+      return this.format;
+    }
+
+    @Override
+    public long framesWritten()
+    {
+      return this.data_size / (long) this.block_align;
+    }
+
+    @Override
+    public long dataSize()
+    {
+      return this.data_size;
+    }
+
+    @Override
+    public void write(
+      final ByteBuffer data)
+      throws RiffWriteException
+    {
+      Objects.requireNonNull(data, "data");
+      this.checkNotClosed();
+
+      final var size = data.remaining();
+      this.checkCapacity(size);
+
+      try {
+        if (size >= this.buffer.capacity()) {
+          this.flush();
+          while (data.hasRemaining()) {
+            this.channel.write(data);
+          }
+        } else {
+          while (data.hasRemaining()) {
+            final var count = Math.min(data.remaining(), this.buffer.remaining());
+            this.buffer.put(this.buffer.position(), data, data.position(), count);
+            this.buffer.position(this.buffer.position() + count);
+            data.position(data.position() + count);
+            if (!this.buffer.hasRemaining()) {
+              this.flush();
+            }
+          }
+        }
+      } catch (final IOException e) {
+        throw new RiffWriteException(e, this.target, this.data_offset + this.data_size);
+      }
+
+      this.data_size += size;
+    }
+
+    @Override
+    public void write(
+      final float[] samples,
+      final int offset,
+      final int frames)
+      throws RiffWriteException
+    {
+      Objects.requireNonNull(samples, "samples");
+      this.checkNotClosed();
+
+      final var sample_count = Math.multiplyExact(frames, this.channels);
+      Objects.checkFromIndexSize(offset, sample_count, samples.length);
+
+      final var size = (long) frames * (long) this.block_align;
+      this.checkCapacity(size);
+
+      try {
+        var index = offset;
+        var remaining = sample_count;
+        while (remaining > 0) {
+          final var space = this.buffer.remaining() / this.sample_octets;
+          if (space == 0) {
+            this.flush();
+            continue;
+          }
+          final var count = Math.min(space, remaining);
+          this.encode(samples, index, count);
+          index += count;
+          remaining -= count;
+        }
+      } catch (final IOException e) {
+        throw new RiffWriteException(e, this.target, this.data_offset + this.data_size);
+      }
+
+      this.data_size += size;
+    }
+
+    private void encode(
+      final float[] samples,
+      final int offset,
+      final int count)
+    {
+      final var output = this.buffer;
+      var position = output.position();
+
+      switch (this.encoding) {
+        case UNSIGNED_8 -> {
+          for (var index = 0; index < count; ++index) {
+            final var value = quantize(samples[offset + index], SCALE_8, -128, 127);
+            output.put(position, (byte) (value + 128));
+            position += 1;
+          }
+        }
+        case SIGNED_16 -> {
+          for (var index = 0; index < count; ++index) {
+            final var value = quantize(samples[offset + index], SCALE_16, -32768, 32767);
+            output.putShort(position, (short) value);
+            position += 2;
+          }
+        }
+        case SIGNED_24 -> {
+          for (var index = 0; index < count; ++index) {
+            final var value = quantize(samples[offset + index], SCALE_24, -8388608, 8388607);
+            output.put(position, (byte) value);
+            output.put(position + 1, (byte) (value >> 8));
+            output.put(position + 2, (byte) (value >> 16));
+            position += 3;
+          }
+        }
+        case SIGNED_32 -> {
+          for (var index = 0; index < count; ++index) {
+            output.putInt(position, Math.round(samples[offset + index] * SCALE_32));
+            position += 4;
+          }
+        }
+        case FLOAT_32 -> {
+          for (var index = 0; index < count; ++index) {
+            output.putFloat(position, samples[offset + index]);
+            position += 4;
+          }
+        }
+        case FLOAT_64 -> {
+          for (var index = 0; index < count; ++index) {
+            output.putDouble(position, (double) samples[offset + index]);
+            position += 8;
+          }
+        }
+      }
+
+      output.position(position);
+    }
+
+    private void flush()
+      throws IOException
+    {
+      this.buffer.flip();
+      while (this.buffer.hasRemaining()) {
+        this.channel.write(this.buffer);
+      }
+      this.buffer.clear();
+    }
+
+    private void checkNotClosed()
+    {
+      if (this.closed) {
+        throw new IllegalStateException("Writer has been closed");
+      }
+    }
+
+    private long riffSizeFor(
+      final long size)
+    {
+      final var padded = size + (size & 1L);
+      return (this.data_offset - HEADER_SIZE) + padded;
+    }
+
+    private void checkCapacity(
+      final long size)
+      throws RiffWriteException
+    {
+      if (this.configuration.rf64Mode() != WaveRF64Mode.NEVER) {
+        return;
+      }
+
+      final var size_then = this.riffSizeFor(this.data_size + size);
+      if (Long.compareUnsigned(size_then, RIFF_SIZE_MAXIMUM) > 0) {
+        final var separator = System.lineSeparator();
+        throw new RiffWriteException(
+          new StringBuilder(128)
+            .append("Data would exceed the maximum size of a RIFF file.")
+            .append(separator)
+            .append("  Maximum RIFF size: ")
+            .append(RIFF_SIZE_MAXIMUM)
+            .append(separator)
+            .append("  Resulting RIFF size: ")
+            .append(size_then)
+            .append(separator)
+            .append("  RF64 mode: ")
+            .append(WaveRF64Mode.NEVER)
+            .append(separator)
+            .toString(),
+          this.target,
+          this.data_offset + this.data_size);
+      }
+    }
+
+    @Override
+    public void close()
+      throws RiffWriteException
+    {
+      if (this.closed) {
+        return;
+      }
+      this.closed = true;
+
+      try {
+        this.flush();
+
+        if ((this.data_size & 1L) != 0L) {
+          this.buffer.put((byte) 0);
+          this.flush();
+        }
+
+        final var riff_size = this.riffSizeFor(this.data_size);
+        final var rf64 =
+          switch (this.configuration.rf64Mode()) {
+            case NEVER -> false;
+            case AUTOMATIC -> Long.compareUnsigned(riff_size, RIFF_SIZE_MAXIMUM) > 0
+              || Long.compareUnsigned(this.data_size, RIFF_SIZE_MAXIMUM) > 0;
+            case ALWAYS -> true;
+          };
+
+        final var end = this.channel.position();
+        if (rf64) {
+          this.patchRF64(riff_size);
+        } else {
+          this.patchRIFF(riff_size);
+        }
+        this.channel.position(end);
+      } catch (final IOException e) {
+        throw new RiffWriteException(e, this.target, this.data_offset + this.data_size);
+      }
+    }
+
+    private void patchRIFF(
+      final long riff_size)
+      throws IOException
+    {
+      this.channel.position(4L);
+      this.buffer.putInt((int) riff_size);
+      this.flush();
+
+      this.channel.position(this.data_offset - 4L);
+      this.buffer.putInt((int) this.data_size);
+      this.flush();
+    }
+
+    private void patchRF64(
+      final long riff_size)
+      throws IOException
+    {
+      this.channel.position(0L);
+      this.buffer.put(FOURCC_RF64);
+      this.buffer.putInt(-1);
+      this.flush();
+
+      this.channel.position(12L);
+      this.buffer.put(FOURCC_DS64);
+      this.buffer.putInt((int) DS64_SIZE);
+      this.buffer.putLong(riff_size);
+      this.buffer.putLong(this.data_size);
+      this.buffer.putLong(this.framesWritten());
+      this.buffer.putInt(0);
+      this.flush();
+
+      this.channel.position(this.data_offset - 4L);
+      this.buffer.putInt(-1);
+      this.flush();
+    }
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+/**
+ * RIFF I/O (WAVE)
+ */
+
+module com.io7m.jspiel.wave
+{
+  requires static org.osgi.annotation.bundle;
+  requires static org.osgi.annotation.versioning;
+  requires static org.immutables.value;
+  requires static com.io7m.immutables.style;
+
+  requires com.io7m.jspiel.api;
+
+  uses com.io7m.jspiel.api.RiffEditSessionProviderType;
+  uses com.io7m.jspiel.api.RiffFileBuilderProviderType;
+  uses com.io7m.jspiel.api.RiffFileParserProviderType;
+  uses com.io7m.jspiel.api.RiffFileWriterProviderType;
+
+  exports com.io7m.jspiel.wave;
+
+  provides com.io7m.jspiel.wave.WaveFileParserProviderType
+    with com.io7m.jspiel.wave.WaveParsers;
+  provides com.io7m.jspiel.wave.WaveHeaderExtractorProviderType
+    with com.io7m.jspiel.wave.WaveHeaderExtractors;
+  provides com.io7m.jspiel.wave.WaveMetadataEditorProviderType
+    with com.io7m.jspiel.wave.WaveMetadataEditors;
+  provides com.io7m.jspiel.wave.WaveStreamWriterProviderType
+    with com.io7m.jspiel.wave.WaveStreamWriters;
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.webp;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+/**
+ * The extended header held in a {@code VP8X} chunk.
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface WebPExtendedHeaderType
+{
+  /**
+   * The flag indicating that the file contains an {@code ICCP} chunk.
+   */
+
+  int FLAG_ICC = 0x20;
+
+  /**
+   * The flag indicating that the image has an alpha channel.
+   */
+
+  int FLAG_ALPHA = 0x10;
+
+  /**
+   * The flag indicating that the file contains an {@code EXIF} chunk.
+   */
+
+  int FLAG_EXIF = 0x08;
+
+  /**
+   * The flag indicating that the file contains an {@code XMP } chunk.
+   */
+
+  int FLAG_XMP = 0x04;
+
+  /**
+   * The flag indicating that the image is animated.
+   */
+
+  int FLAG_ANIMATION = 0x02;
+
+  /**
+   * @return The raw feature flags
+   */
+
+  int flags();
+
+  /**
+   * @return The width of the canvas in pixels
+   */
+
+  int canvasWidth();
+
+  /**
+   * @return The height of the canvas in pixels
+   */
+
+  int canvasHeight();
+
+  /**
+   * @return {@code true} if the header declares an ICC profile
+   */
+
+  default boolean hasICCProfile()
+  {
+    return (this.flags() & FLAG_ICC) != 0;
+  }
+
+  /**
+   * @return {@code true} if the header declares an alpha channel
+   */
+
+  default boolean hasAlpha()
+  {
+    return (this.flags() & FLAG_ALPHA) != 0;
+  }
+
+  /**
+   * @return {@code true} if the header declares EXIF metadata
+   */
+
+  default boolean hasEXIF()
+  {
+    return (this.flags() & FLAG_EXIF) != 0;
+  }
+
+  /**
+   * @return {@code true} if the header declares XMP metadata
+   */
+
+  default boolean hasXMP()
+  {
+    return (this.flags() & FLAG_XMP) != 0;
+  }
+
+  /**
+   * @return {@code true} if the header declares an animation
+   */
+
+  default boolean isAnimated()
+  {
+    return (this.flags() & FLAG_ANIMATION) != 0;
+  }
+}
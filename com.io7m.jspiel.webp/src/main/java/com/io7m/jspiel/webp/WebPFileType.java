@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.webp;
+
+import com.io7m.jspiel.api.RiffChunkType;
+import com.io7m.jspiel.api.RiffFileType;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * <p>A parsed WebP file.</p>
+ *
+ * <p>Only the chunk headers and the fixed-size headers of the image bitstreams are read; the
+ * frame and metadata buffers are read-only views over the buffer from which the file was
+ * parsed.</p>
+ */
+
+public interface WebPFileType
+{
+  /**
+   * @return The underlying RIFF file
+   */
+
+  RiffFileType riff();
+
+  /**
+   * @return The root {@code RIFF(WEBP)} chunk
+   */
+
+  RiffChunkType rootChunk();
+
+  /**
+   * @return The extended header from the {@code VP8X} chunk, if the file uses the extended format
+   */
+
+  Optional<WebPExtendedHeader> extendedHeader();
+
+  /**
+   * @return The width of the canvas in pixels
+   */
+
+  int canvasWidth();
+
+  /**
+   * @return The height of the canvas in pixels
+   */
+
+  int canvasHeight();
+
+  /**
+   * @return The animation parameters from the {@code ANIM} chunk, if the image is animated
+   */
+
+  Optional<WebPAnimation> animation();
+
+  /**
+   * @return The frames of the image, in display order
+   */
+
+  List<WebPFrame> frames();
+
+  /**
+   * @return The contents of the {@code ICCP} chunk, if present
+   */
+
+  Optional<ByteBuffer> iccProfile();
+
+  /**
+   * @return The contents of the {@code EXIF} chunk, if present
+   */
+
+  Optional<ByteBuffer> exif();
+
+  /**
+   * @return The contents of the {@code XMP } chunk, if present
+   */
+
+  Optional<ByteBuffer> xmp();
+}
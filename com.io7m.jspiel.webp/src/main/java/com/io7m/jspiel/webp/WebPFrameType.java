@@ -0,0 +1,118 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.webp;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+
+/**
+ * <p>A single frame of a WebP image.</p>
+ *
+ * <p>A still image consists of exactly one frame that covers the whole canvas. The frames of an
+ * animated image are taken from the {@code ANMF} chunks. The bitstream and alpha buffers are
+ * read-only views over the buffer from which the file was parsed; nothing is decoded or
+ * copied.</p>
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface WebPFrameType
+{
+  /**
+   * @return The X offset of the frame on the canvas in pixels
+   */
+
+  @Value.Default
+  default int x()
+  {
+    return 0;
+  }
+
+  /**
+   * @return The Y offset of the frame on the canvas in pixels
+   */
+
+  @Value.Default
+  default int y()
+  {
+    return 0;
+  }
+
+  /**
+   * @return The width of the frame in pixels
+   */
+
+  int width();
+
+  /**
+   * @return The height of the frame in pixels
+   */
+
+  int height();
+
+  /**
+   * @return The duration of the frame in milliseconds
+   */
+
+  @Value.Default
+  default int duration()
+  {
+    return 0;
+  }
+
+  /**
+   * @return {@code true} if the frame is alpha-blended with the previous canvas contents
+   */
+
+  @Value.Default
+  default boolean blend()
+  {
+    return true;
+  }
+
+  /**
+   * @return {@code true} if the frame area is cleared to the background color after display
+   */
+
+  @Value.Default
+  default boolean disposeToBackground()
+  {
+    return false;
+  }
+
+  /**
+   * @return The encoding of the frame bitstream
+   */
+
+  WebPEncoding encoding();
+
+  /**
+   * @return The contents of the {@code VP8 } or {@code VP8L} chunk
+   */
+
+  ByteBuffer bitstream();
+
+  /**
+   * @return The contents of the {@code ALPH} chunk, if the frame has one
+   */
+
+  Optional<ByteBuffer> alpha();
+}
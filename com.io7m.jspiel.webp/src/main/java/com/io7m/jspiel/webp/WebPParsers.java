@@ -0,0 +1,695 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jspiel.webp;
+
+import com.io7m.jspiel.api.RiffChunkType;
+import com.io7m.jspiel.api.RiffFileParserProviderType;
+import com.io7m.jspiel.api.RiffFileType;
+import com.io7m.jspiel.api.RiffFormatParsing;
+import com.io7m.jspiel.api.RiffParseException;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+/**
+ * The default implementation of the {@link WebPFileParserProviderType} interface.
+ */
+
+public final class WebPParsers implements WebPFileParserProviderType
+{
+  private static final String FORM_WEBP = "WEBP";
+  private static final String ID_VP8 = "VP8 ";
+  private static final String ID_VP8L = "VP8L";
+  private static final String ID_VP8X = "VP8X";
+  private static final String ID_ALPH = "ALPH";
+  private static final String ID_ANIM = "ANIM";
+  private static final String ID_ANMF = "ANMF";
+  private static final String ID_ICCP = "ICCP";
+  private static final String ID_EXIF = "EXIF";
+  private static final String ID_XMP = "XMP ";
+
+  private static final int VP8_HEADER_SIZE = 10;
+  private static final int VP8L_HEADER_SIZE = 5;
+  private static final int VP8X_SIZE = 10;
+  private static final int ANIM_SIZE = 6;
+  private static final int ANMF_HEADER_SIZE = 16;
+  private static final int VP8L_SIGNATURE = 0x2f;
+
+  private final RiffFileParserProviderType parsers;
+
+  /**
+   * Construct a WebP parser provider using the first available RIFF parser provider.
+   */
+
+  public WebPParsers()
+  {
+    this(
+      ServiceLoader.load(RiffFileParserProviderType.class)
+        .findFirst()
+        .orElseThrow(() -> new IllegalStateException("No RIFF file parser service available")));
+  }
+
+  /**
+   * Construct a WebP parser provider.
+   *
+   * @param in_parsers A provider of RIFF parsers
+   */
+
+  public WebPParsers(
+    final RiffFileParserProviderType in_parsers)
+  {
+    this.parsers = Objects.requireNonNull(in_parsers, "parsers");
+  }
+
+  @Override
+  public WebPFileParserType createForByteBuffer(
+    final URI source,
+    final ByteBuffer data)
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(data, "data");
+    return new Parser(this.parsers, source, Optional.empty(), data);
+  }
+
+  @Override
+  public WebPFileParserType createForRiffFile(
+    final URI source,
+    final RiffFileType file,
+    final ByteBuffer data)
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(file, "file");
+    Objects.requireNonNull(data, "data");
+    return new Parser(this.parsers, source, Optional.of(file), data);
+  }
+
+  /**
+   * The chunks of interest found in the root chunk, or in an {@code ANMF} chunk.
+   */
+
+  private static final class Chunks
+  {
+    private Optional<RiffChunkType> vp8x = Optional.empty();
+    private Optional<RiffChunkType> anim = Optional.empty();
+    private Optional<RiffChunkType> iccp = Optional.empty();
+    private Optional<RiffChunkType> exif = Optional.empty();
+    private Optional<RiffChunkType> xmp = Optional.empty();
+    private final List<RiffChunkType> anmf = new ArrayList<>();
+
+    Chunks()
+    {
+
+    }
+  }
+
+  private static final class Parser implements WebPFileParserType
+  {
+    private final RiffFileParserProviderType parsers;
+    private final URI source;
+    private final Optional<RiffFileType> file_given;
+    private final ByteBuffer data;
+    private ByteBuffer view;
+
+    Parser(
+      final RiffFileParserProviderType in_parsers,
+      final URI in_source,
+      final Optional<RiffFileType> in_file,
+      final ByteBuffer in_data)
+    {
+      this.parsers = Objects.requireNonNull(in_parsers, "parsers");
+      this.source = Objects.requireNonNull(in_source, "source");
+      this.file_given = Objects.requireNonNull(in_file, "file");
+      this.data = Objects.requireNonNull(in_data, "data");
+    }
+
+    @Override
+    public WebPFileType parse()
+      throws RiffParseException
+    {
+      final RiffFileType file;
+      if (this.file_given.isPresent()) {
+        file = this.file_given.get();
+      } else {
+        file = this.parsers.createForByteBuffer(this.source, this.data.duplicate()).parse();
+      }
+
+      this.view = this.data.duplicate().order(LITTLE_ENDIAN);
+
+      final var root = this.findRoot(file);
+      final var chunks = new Chunks();
+      final var still = new FrameChunks();
+      for (final var chunk : root.subChunks()) {
+        final var name = chunk.name().value();
+        switch (name) {
+          case ID_VP8X -> chunks.vp8x = first(chunks.vp8x, chunk);
+          case ID_ANIM -> chunks.anim = first(chunks.anim, chunk);
+          case ID_ICCP -> chunks.iccp = first(chunks.iccp, chunk);
+          case ID_EXIF -> chunks.exif = first(chunks.exif, chunk);
+          case ID_XMP -> chunks.xmp = first(chunks.xmp, chunk);
+          case ID_ANMF -> chunks.anmf.add(chunk);
+          default -> still.accept(name, chunk.dataOffset(), chunk.dataSizeExcludingForm().sizeUnpadded());
+        }
+      }
+
+      final var extended = this.parseExtendedHeader(chunks.vp8x);
+      final var frames = new ArrayList<WebPFrame>();
+      final Optional<WebPAnimation> animation;
+
+      if (chunks.anmf.isEmpty()) {
+        animation = Optional.empty();
+        frames.add(this.parseStillFrame(root, still));
+      } else {
+        if (chunks.anim.isEmpty()) {
+          throw this.missing(root, ID_ANIM);
+        }
+        animation = Optional.of(this.parseAnimation(chunks.anim.get()));
+        for (final var anmf : chunks.anmf) {
+          frames.add(this.parseAnimationFrame(anmf));
+        }
+      }
+
+      final var canvas_width =
+        extended.map(WebPExtendedHeader::canvasWidth).orElse(frames.get(0).width()).intValue();
+      final var canvas_height =
+        extended.map(WebPExtendedHeader::canvasHeight).orElse(frames.get(0).height()).intValue();
+
+      return new WebPFile(
+        file,
+        root,
+        extended,
+        canvas_width,
+        canvas_height,
+        animation,
+        List.copyOf(frames),
+        chunks.iccp.map(this::slice),
+        chunks.exif.map(this::slice),
+        chunks.xmp.map(this::slice));
+    }
+
+    private static Optional<RiffChunkType> first(
+      final Optional<RiffChunkType> existing,
+      final RiffChunkType chunk)
+    {
+      return existing.isPresent() ? existing : Optional.of(chunk);
+    }
+
+    private Optional<WebPExtendedHeader> parseExtendedHeader(
+      final Optional<RiffChunkType> chunk_opt)
+      throws RiffParseException
+    {
+      if (chunk_opt.isEmpty()) {
+        return Optional.empty();
+      }
+
+      final var chunk = chunk_opt.get();
+      final var size = chunk.dataSizeExcludingForm().sizeUnpadded();
+      if (size < (long) VP8X_SIZE) {
+        throw this.tooSmall(ID_VP8X, chunk.offset(), VP8X_SIZE, size);
+      }
+
+      final var base = Math.toIntExact(chunk.dataOffset());
+      return Optional.of(
+        WebPExtendedHeader.builder()
+          .setFlags(this.u8(base))
+          .setCanvasWidth(this.u24(base + 4) + 1)
+          .setCanvasHeight(this.u24(base + 7) + 1)
+          .build());
+    }
+
+    private WebPAnimation parseAnimation(
+      final RiffChunkType chunk)
+      throws RiffParseException
+    {
+      final var size = chunk.dataSizeExcludingForm().sizeUnpadded();
+      if (size < (long) ANIM_SIZE) {
+        throw this.tooSmall(ID_ANIM, chunk.offset(), ANIM_SIZE, size);
+      }
+
+      final var base = Math.toIntExact(chunk.dataOffset());
+      return WebPAnimation.builder()
+        .setBackgroundColor(Integer.toUnsignedLong(this.view.getInt(base)))
+        .setLoopCount(Short.toUnsignedInt(this.view.getShort(base + 4)))
+        .build();
+    }
+
+    private WebPFrame parseStillFrame(
+      final RiffChunkType root,
+      final FrameChunks chunks)
+      throws RiffParseException
+    {
+      if (chunks.bitstream_name.isEmpty()) {
+        throw this.missing(root, ID_VP8 + "|" + ID_VP8L);
+      }
+
+      final var builder = WebPFrame.builder();
+      this.parseBitstream(chunks, builder, true);
+      return builder.build();
+    }
+
+    /**
+     * Parse an {@code ANMF} chunk. The chunk is not a {@code LIST} chunk, and so the chunks that
+     * it contains after its fixed-size header are not visible to the RIFF parser.
+     */
+
+    private WebPFrame parseAnimationFrame(
+      final RiffChunkType chunk)
+      throws RiffParseException
+    {
+      final var size = chunk.dataSizeExcludingForm().sizeUnpadded();
+      if (size < (long) ANMF_HEADER_SIZE) {
+        throw this.tooSmall(ID_ANMF, chunk.offset(), ANMF_HEADER_SIZE, size);
+      }
+
+      final var base = Math.toIntExact(chunk.dataOffset());
+      final var end = base + Math.toIntExact(size);
+      final var chunks = new FrameChunks();
+
+      var position = base + ANMF_HEADER_SIZE;
+      while (position < end) {
+        final var remaining = end - position;
+        if (remaining < 8) {
+          throw this.tooSmall(ID_ANMF, chunk.offset(), 8L, remaining);
+        }
+
+        final var name = this.fourCC(position);
+        final var sub_size = Integer.toUnsignedLong(this.view.getInt(position + 4));
+        if (sub_size > (long) (remaining - 8)) {
+          throw this.tooSmall(name, (long) position, sub_size, remaining - 8L);
+        }
+
+        chunks.accept(name, (long) position + 8L, sub_size);
+        position = Math.toIntExact(Math.min((long) end, position + 8L + sub_size + (sub_size & 1L)));
+      }
+
+      if (chunks.bitstream_name.isEmpty()) {
+        throw this.missing(chunk, ID_VP8 + "|" + ID_VP8L);
+      }
+
+      final var flags = this.u8(base + 15);
+      final var builder =
+        WebPFrame.builder()
+          .setX(this.u24(base) * 2)
+          .setY(this.u24(base + 3) * 2)
+          .setWidth(this.u24(base + 6) + 1)
+          .setHeight(this.u24(base + 9) + 1)
+          .setDuration(this.u24(base + 12))
+          .setBlend((flags & 0b10) == 0)
+          .setDisposeToBackground((flags & 0b01) != 0);
+
+      this.parseBitstream(chunks, builder, false);
+      return builder.build();
+    }
+
+    /**
+     * Attach the bitstream and alpha data to the given frame builder, reading the dimensions of
+     * the frame from the bitstream header if requested.
+     */
+
+    private void parseBitstream(
+      final FrameChunks chunks,
+      final WebPFrame.Builder builder,
+      final boolean dimensions)
+      throws RiffParseException
+    {
+      final var name = chunks.bitstream_name.get();
+      final var offset = chunks.bitstream_offset;
+      final var size = chunks.bitstream_size;
+      final var base = Math.toIntExact(offset);
+
+      if (ID_VP8.equals(name)) {
+        if (size < (long) VP8_HEADER_SIZE) {
+          throw this.tooSmall(name, offset - 8L, VP8_HEADER_SIZE, size);
+        }
+        if (dimensions) {
+          this.checkVP8Header(base);
+          builder.setWidth(Short.toUnsignedInt(this.view.getShort(base + 6)) & 0x3fff);
+          builder.setHeight(Short.toUnsignedInt(this.view.getShort(base + 8)) & 0x3fff);
+        }
+        builder.setEncoding(WebPEncoding.LOSSY);
+      } else {
+        if (size < (long) VP8L_HEADER_SIZE) {
+          throw this.tooSmall(name, offset - 8L, VP8L_HEADER_SIZE, size);
+        }
+        if (dimensions) {
+          final var bits = this.checkVP8LHeader(base);
+          builder.setWidth((bits & 0x3fff) + 1);
+          builder.setHeight(((bits >>> 14) & 0x3fff) + 1);
+        }
+        builder.setEncoding(WebPEncoding.LOSSLESS);
+      }
+
+      builder.setBitstream(this.slice(offset, size));
+      if (chunks.alpha_size >= 0L) {
+        builder.setAlpha(this.slice(chunks.alpha_offset, chunks.alpha_size));
+      }
+    }
+
+    private void checkVP8Header(
+      final int base)
+      throws RiffParseException
+    {
+      final var key_frame = (this.u8(base) & 1) == 0;
+      final var code0 = this.u8(base + 3) == 0x9d;
+      final var code1 = this.u8(base + 4) == 0x01;
+      final var code2 = this.u8(base + 5) == 0x2a;
+      if (!(key_frame && code0 && code1 && code2)) {
+        throw this.invalid(
+          ID_VP8,
+          base - 8L,
+          "A key frame with start code 9d 01 2a",
+          String.format(
+            "Frame tag %02x, start code %02x %02x %02x",
+            Integer.valueOf(this.u8(base)),
+            Integer.valueOf(this.u8(base + 3)),
+            Integer.valueOf(this.u8(base + 4)),
+            Integer.valueOf(this.u8(base + 5))));
+      }
+    }
+
+    private int checkVP8LHeader(
+      final int base)
+      throws RiffParseException
+    {
+      final var signature = this.u8(base);
+      final var bits = this.view.getInt(base + 1);
+      final var version = bits >>> 29;
+      if (signature != VP8L_SIGNATURE || version != 0) {
+        throw this.invalid(
+          ID_VP8L,
+          base - 8L,
+          "Signature 2f, version 0",
+          String.format(
+            "Signature %02x, version %d",
+            Integer.valueOf(signature),
+            Integer.valueOf(version)));
+      }
+      return bits;
+    }
+
+    private ByteBuffer slice(
+      final RiffChunkType chunk)
+    {
+      return this.slice(chunk.dataOffset(), chunk.dataSizeExcludingForm().sizeUnpadded());
+    }
+
+    private ByteBuffer slice(
+      final long offset,
+      final long size)
+    {
+      return this.view.slice(Math.toIntExact(offset), Math.toIntExact(size))
+        .asReadOnlyBuffer()
+        .order(LITTLE_ENDIAN);
+    }
+
+    private String fourCC(
+      final int offset)
+    {
+      final var bytes = new byte[4];
+      this.view.get(offset, bytes);
+      // CHECKSTYLE:OFF
+      return new String(bytes, US_ASCII);
+      // CHECKSTYLE:ON
+    }
+
+    private int u8(
+      final int offset)
+    {
+      return Byte.toUnsignedInt(this.view.get(offset));
+    }
+
+    private int u24(
+      final int offset)
+    {
+      final var low = this.u8(offset);
+      final var middle = this.u8(offset + 1) << 8;
+      final var high = this.u8(offset + 2) << 16;
+      return high | middle | low;
+    }
+
+    private RiffParseException missing(
+      final RiffChunkType parent,
+      final String name)
+    {
+      final var separator = System.lineSeparator();
+      return new RiffParseException(
+        new StringBuilder(128)
+          .append("Required chunk is missing.")
+          .append(separator)
+          .append("  Parent chunk: ")
+          .append(parent.name().value())
+          .append(separator)
+          .append("  Parent offset: 0x")
+          .append(Long.toUnsignedString(parent.offset(), 16))
+          .append(separator)
+          .append("  Expected: ")
+          .append(name)
+          .append(separator)
+          .toString(),
+        this.source,
+        parent.offset());
+    }
+
+    private RiffParseException invalid(
+      final String name,
+      final long offset,
+      final String expected,
+      final String received)
+    {
+      final var separator = System.lineSeparator();
+      return new RiffParseException(
+        new StringBuilder(128)
+          .append("Chunk contains an invalid bitstream header.")
+          .append(separator)
+          .append("  Chunk name: ")
+          .append(name)
+          .append(separator)
+          .append("  Chunk offset: 0x")
+          .append(Long.toUnsignedString(offset, 16))
+          .append(separator)
+          .append("  Expected: ")
+          .append(expected)
+          .append(separator)
+          .append("  Received: ")
+          .append(received)
+          .append(separator)
+          .toString(),
+        this.source,
+        offset);
+    }
+
+    private RiffParseException tooSmall(
+      final String name,
+      final long offset,
+      final long expected,
+      final long received)
+    {
+            final var separator = System.lineSeparator();
+      return new RiffParseException(
+        new StringBuilder(128)
+          .append("Chunk is too small to hold the required structure.")
+          .append(separator)
+          .append("  Chunk name: ")
+          .append(name)
+          .append(separator)
+          .append("  Chunk offset: 0x")
+          .append(Long.toUnsignedString(offset, 16))
+          .append(separator)
+          .append("  Expected: At least ")
+          .append(Long.toUnsignedString(expected))
+          .append(" octets")
+          .append(separator)
+          .append("  Received: ")
+          .append(Long.toUnsignedString(received))
+          .append(" octets")
+          .append(separator)
+          .toString(),
+        this.source,
+        offset);
+    }
+
+    private RiffChunkType findRoot(
+      final RiffFileType file)
+      throws RiffParseException
+    {
+      return RiffFormatParsing.findRootWithForm(this.source, file, FORM_WEBP, "a WebP file");
+    }
+  }
+
+  /**
+   * The bitstream and alpha chunks of a single frame. Only the first of each is used.
+   */
+
+  private static final class FrameChunks
+  {
+    private Optional<String> bitstream_name = Optional.empty();
+    private long bitstream_offset;
+    private long bitstream_size;
+    private long alpha_offset;
+    private long alpha_size = -1L;
+
+    FrameChunks()
+    {
+
+    }
+
+    void accept(
+      final String name,
+      final long offset,
+      final long size)
+    {
+      switch (name) {
+        case ID_VP8, ID_VP8L -> {
+          if (this.bitstream_name.isEmpty()) {
+            this.bitstream_name = Optional.of(name);
+            this.bitstream_offset = offset;
+            this.bitstream_size = size;
+          }
+        }
+        case ID_ALPH -> {
+          if (this.alpha_size < 0L) {
+            this.alpha_offset = offset;
+            this.alpha_size = size;
+          }
+        }
+        default -> {
+
+        }
+      }
+    }
+  }
+
+  private static final class WebPFile implements WebPFileType
+  {
+    private final RiffFileType riff;
+    private final RiffChunkType root;
+    private final Optional<WebPExtendedHeader> extended;
+    private final int canvas_width;
+    private final int canvas_height;
+    private final Optional<WebPAnimation> animation;
+    private final List<WebPFrame> frames;
+    private final Optional<ByteBuffer> icc;
+    private final Optional<ByteBuffer> exif;
+    private final Optional<ByteBuffer> xmp;
+
+    WebPFile(
+      final RiffFileType in_riff,
+      final RiffChunkType in_root,
+      final Optional<WebPExtendedHeader> in_extended,
+      final int in_canvas_width,
+      final int in_canvas_height,
+      final Optional<WebPAnimation> in_animation,
+      final List<WebPFrame> in_frames,
+      final Optional<ByteBuffer> in_icc,
+      final Optional<ByteBuffer> in_exif,
+      final Optional<ByteBuffer> in_xmp)
+    {
+      this.riff = Objects.requireNonNull(in_riff, "riff");
+      this.root = Objects.requireNonNull(in_root, "root");
+      this.extended = Objects.requireNonNull(in_extended, "extended");
+      this.canvas_width = in_canvas_width;
+      this.canvas_height = in_canvas_height;
+      this.animation = Objects.requireNonNull(in_animation, "animation");
+      this.frames = Objects.requireNonNull(in_frames, "frames");
+      this.icc = Objects.requireNonNull(in_icc, "icc");
+      this.exif = Objects.requireNonNull(in_exif, "exif");
+      this.xmp = Objects.requireNonNull(in_xmp, "xmp");
+    }
+
+    @Override
+    public String toString()
+    {
+      return new StringBuilder(64)
+        .append("[WebPFile ")
+        .append(this.canvas_width)
+        .append("x")
+        .append(this.canvas_height)
+        .append(", ")
+        .append(this.frames.size())
+        .append(" frames]")
+        .toString();
+    }
+
+    @Override
+    public RiffFileType riff()
+    {
+      return this.riff;
+    }
+
+    @Override
+    public RiffChunkType rootChunk()
+    {
+      return this.root;
+    }
+
+    @Override
+    public Optional<WebPExtendedHeader> extendedHeader()
+    {
+      return this.extended;
+    }
+
+    @Override
+    public int canvasWidth()
+    {
+      return this.canvas_width;
+    }
+
+    @Override
+    public int canvasHeight()
+    {
+      return this.canvas_height;
+    }
+
+    @Override
+    public Optional<WebPAnimation> animation()
+    {
+      return this.animation;
+    }
+
+    @Override
+    public List<WebPFrame> frames()
+    {
+      return this.frames;
+    }
+
+    @Override
+    public Optional<ByteBuffer> iccProfile()
+    {
+      return this.icc;
+    }
+
+    @Override
+    public Optional<ByteBuffer> exif()
+    {
+      return this.exif;
+    }
+
+    @Override
+    public Optional<ByteBuffer> xmp()
+    {
+      return this.xmp;
+    }
+  }
+}